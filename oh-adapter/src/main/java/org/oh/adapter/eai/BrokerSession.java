@@ -0,0 +1,113 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.adapter.eai;
+
+import COM.activesw.api.client.BrokerClient;
+import COM.activesw.api.client.BrokerEvent;
+import COM.activesw.api.client.BrokerException;
+import COM.activesw.api.client.BrokerTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * BrokerClient 기반 EAI 브로커 세션
+ */
+@Slf4j
+public class BrokerSession
+		implements EaiSession {
+	private final BrokerClient client;
+	private final Set<String> subscriptions = new HashSet<>();
+
+	public BrokerSession(BrokerClient client) {
+		this.client = client;
+		log.debug("Create a client. [{}]", client.getApiVersionNumber());
+	}
+
+	@Override
+	public BrokerEvent createEvent(String doc) throws BrokerException {
+		return new BrokerEvent(client, doc);
+	}
+
+	@Override
+	public boolean canPublish(String doc) throws BrokerException {
+		return client.canPublish(doc);
+	}
+
+	@Override
+	public boolean canSubscribe(String doc) throws BrokerException {
+		return client.canSubscribe(doc);
+	}
+
+	@Override
+	public void subscribe(String doc) throws BrokerException {
+		if (!subscriptions.contains(doc)) {
+			client.newSubscription(doc, null);
+			subscriptions.add(doc);
+		}
+	}
+
+	@Override
+	public void publish(BrokerEvent event) throws BrokerException {
+		client.publish(event);
+	}
+
+	@Override
+	public int makeTag() {
+		return client.makeTag();
+	}
+
+	@Override
+	public BrokerEvent getEvent(int waitingMs) throws BrokerException {
+		try {
+			return client.getEvent(waitingMs);
+		} catch (BrokerTimeoutException e) {
+			return null;
+		}
+	}
+
+	@Override
+	public boolean isValid() {
+		if (!client.isConnected()) {
+			return false;
+		}
+		try {
+			client.ping();
+			return true;
+		} catch (BrokerException e) {
+			log.debug("Fail ping", e);
+			return false;
+		}
+	}
+
+	@Override
+	public void destroy() {
+		try {
+			if (client.isConnected()) {
+				client.destroy();
+			}
+		} catch (BrokerException e) {
+			log.debug("Error on client destroy", e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return client.toString();
+	}
+}
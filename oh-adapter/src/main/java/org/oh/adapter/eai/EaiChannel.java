@@ -0,0 +1,209 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.adapter.eai;
+
+import COM.activesw.api.client.BrokerEvent;
+import COM.activesw.api.client.BrokerException;
+import lombok.extern.slf4j.Slf4j;
+import org.oh.adapter.exception.AdapterException;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하나의 구독을 공유하는 EAI 요청/응답 다중화 채널
+ * <pre>
+ * - (어플리케이션 이름, 구독 문서) 당 하나의 세션과 구독을 유지
+ * - 요청 이벤트에 태그를 붙여 발행하고, 수신 쓰레드가 응답 이벤트의 태그로 요청별 결과를 완료
+ * - 동시 요청 수는 최대 요청 수(maxInFlight)로 제한하고, 대기 시간을 초과한 요청은 응답 없음(null)으로 완료
+ * - 세션 오류가 나면 대기 중인 요청을 모두 실패 처리하고 다음 요청에서 다시 연결
+ * </pre>
+ */
+@Slf4j
+public class EaiChannel
+		implements Closeable {
+	private final EaiSessionFactory factory;
+	private final String appName;
+	private final String subDoc;
+	private final int pollMs;
+	private final Semaphore inFlight;
+	private final ScheduledExecutorService scheduler;
+	private final Map<Integer, CompletableFuture<BrokerEvent>> pending = new ConcurrentHashMap<>();
+	private final Object publishLock = new Object();
+
+	private volatile EaiSession session;
+	private volatile boolean closed;
+
+	/**
+	 * @param factory     세션 생성기
+	 * @param appName     어플리케이션 이름
+	 * @param subDoc      구독(응답) 문서 유형
+	 * @param maxInFlight 최대 동시 요청 수
+	 * @param pollMs      응답 수신 대기 시간 (밀리초)
+	 * @param scheduler   요청 대기 시간 초과 처리 쓰레드
+	 */
+	public EaiChannel(EaiSessionFactory factory, String appName, String subDoc,
+					  int maxInFlight, int pollMs, ScheduledExecutorService scheduler) {
+		this.factory = factory;
+		this.appName = appName;
+		this.subDoc = subDoc;
+		this.pollMs = pollMs;
+		this.inFlight = new Semaphore(maxInFlight);
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * 구독 중인 세션을 반환 (없으면 연결 후 구독하고 수신 쓰레드를 시작)
+	 *
+	 * @return 세션
+	 */
+	public EaiSession session() throws BrokerException {
+		EaiSession current = session;
+		if (current != null) {
+			return current;
+		}
+		synchronized (this) {
+			if (session == null) {
+				if (closed) {
+					throw new AdapterException(AdapterException.AdapterError.FAIL_EAI, "Channel is closed");
+				}
+				EaiSession created = factory.create(appName);
+				try {
+					created.subscribe(subDoc);
+				} catch (BrokerException | RuntimeException e) {
+					created.destroy();
+					throw e;
+				}
+				session = created;
+				Thread dispatcher = new Thread(() -> dispatch(created), "eai-dispatcher-" + appName + '-' + subDoc);
+				dispatcher.setDaemon(true);
+				dispatcher.start();
+			}
+			return session;
+		}
+	}
+
+	/**
+	 * 요청 이벤트를 발행하고 같은 태그의 응답 이벤트를 기다림
+	 * <pre>
+	 * - 이벤트를 만든 세션으로만 발행하고, 그 사이 세션이 다시 연결되었으면 응답 없음(null)으로 완료
+	 * </pre>
+	 *
+	 * @param session   요청 이벤트를 만든 세션 ({@link #session()})
+	 * @param event     요청 이벤트
+	 * @param timeoutMs 최대 대기 시간 (밀리초)
+	 * @return 응답 이벤트 (대기 시간 초과시 null)
+	 */
+	public CompletableFuture<BrokerEvent> request(EaiSession session, BrokerEvent event, long timeoutMs) {
+		CompletableFuture<BrokerEvent> future = new CompletableFuture<>();
+		if (session != this.session) {
+			log.debug("Session is reset. [{}]", session);
+			future.complete(null);
+			return future;
+		}
+		try {
+			if (!inFlight.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+				future.completeExceptionally(new AdapterException(AdapterException.AdapterError.FAIL_EAI,
+						"Too many requests in flight: " + appName + '|' + subDoc));
+				return future;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.completeExceptionally(new AdapterException(AdapterException.AdapterError.FAIL_EAI,
+					"Interrupted request", e));
+			return future;
+		}
+
+		future.whenComplete((r, e) -> inFlight.release());
+
+		try {
+			int tag = session.makeTag();
+			event.setTag(tag);
+			pending.put(tag, future);
+			ScheduledFuture<?> timeout = scheduler.schedule(() -> future.complete(null),
+					timeoutMs, TimeUnit.MILLISECONDS);
+			future.whenComplete((r, e) -> {
+				pending.remove(tag, future);
+				timeout.cancel(false);
+			});
+
+			synchronized (publishLock) {
+				session.publish(event);
+			}
+			log.debug("client info : [{}], pub message : [{}]", session, event);
+		} catch (BrokerException e) {
+			future.completeExceptionally(new AdapterException(AdapterException.AdapterError.FAIL_EAI,
+					"Fail publish event", e));
+		} catch (RuntimeException e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	/**
+	 * 대기 중인 요청 수
+	 *
+	 * @return 요청 수
+	 */
+	public int getPendingCount() {
+		return pending.size();
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		reset(session, new AdapterException(AdapterException.AdapterError.FAIL_EAI, "Channel is closed"));
+	}
+
+	private void dispatch(EaiSession current) {
+		while (!closed && session == current) {
+			try {
+				BrokerEvent event = current.getEvent(pollMs);
+				if (event == null) {
+					continue;
+				}
+				log.debug("client info : [{}], sub message : [{}]", current, event);
+				CompletableFuture<BrokerEvent> future = pending.get(event.getTag());
+				if (future == null) {
+					log.debug("Unknown or expired reply. [{}]", event.getTag());
+				} else {
+					future.complete(event);
+				}
+			} catch (BrokerException | RuntimeException e) {
+				log.debug("Fail receive event", e);
+				reset(current, new AdapterException(AdapterException.AdapterError.FAIL_EAI, "Fail receive event", e));
+			}
+		}
+	}
+
+	private void reset(EaiSession current, AdapterException cause) {
+		synchronized (this) {
+			if (current == null || session != current) {
+				return;
+			}
+			session = null;
+		}
+		pending.values().forEach(a -> a.completeExceptionally(cause));
+		current.destroy();
+	}
+}
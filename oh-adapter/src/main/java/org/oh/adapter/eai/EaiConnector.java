@@ -19,19 +19,68 @@ package org.oh.adapter.eai;
 import COM.activesw.api.client.BrokerClient;
 import COM.activesw.api.client.BrokerEvent;
 import COM.activesw.api.client.BrokerException;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.oh.AdapterApplication;
 import org.oh.adapter.exception.AdapterException;
+import org.oh.common.util.ThreadLocalUtil;
+import org.oh.common.util.ThreadUtil;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.validation.constraints.Min;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * EAI 커넥터
+ * <pre>
+ * - 브로커 세션은 어플리케이션 이름 별로 풀링해서 재사용 ({@link EaiSessionPool})
+ * - 발행/구독 권한 확인은 (어플리케이션 이름, 발행 문서, 구독 문서) 별로 한번만 수행 (허용된 경우만 기억)
+ * - 요청 마다 태그를 붙이고 같은 태그의 응답만 사용 (재사용한 세션에 남은 이전 응답은 버림)
+ * - 응답이 없으면 요청 쓰레드를 재우지 않고 지수 백오프(repeat-sleep-ms ~ max-repeat-sleep-ms)로 재시도
+ * - 다중화(multiplex-enabled) 사용시 구독 문서 별로 하나의 구독을 공유하고 태그로 응답을 구분 ({@link EaiChannel})
+ * - 요청 처리 시간은 (발행 문서, 구독 문서) 별 히스토그램으로 기록 ({@link #METRIC_REQUEST})
+ *
+ * application.yml
+ *
+ * adapter:
+ *   eai:
+ *     ### 어플리케이션 이름 당 최소/최대 세션 수 (기본값: 0/8)
+ *     min-size: 0
+ *     max-size: 8
+ *     ### 유휴 세션 정리 시간 (밀리초, 0: 미사용, 기본값: 60_000)
+ *     idle-timeout-ms: 60_000
+ *     ### 유휴 세션 재사용 전 연결 확인 시간 (밀리초, 기본값: 2_000)
+ *     validate-after-inactivity-ms: 2_000
+ *     ### 최대 재시도 대기 시간 (밀리초, 기본값: 30_000)
+ *     max-repeat-sleep-ms: 30_000
+ *     ### 요청/응답 다중화 사용 여부 (기본값: false)
+ *     multiplex-enabled: true
+ *     ### 다중화 채널 당 최대 동시 요청 수 (기본값: 100)
+ *     max-in-flight: 100
+ *     ### 다중화 채널 응답 수신 대기 시간 (밀리초, 기본값: 100)
+ *     dispatch-poll-ms: 100
+ * </pre>
  */
 @Slf4j
 @Setter
@@ -43,6 +92,11 @@ import org.springframework.validation.annotation.Validated;
 public class EaiConnector {
 	protected static final String PROPERTY_PREFIX = AdapterApplication.APP_NAME + ".eai";
 
+	/**
+	 * 요청 처리 시간 지표 이름
+	 */
+	public static final String METRIC_REQUEST = "oh.eai.request";
+
 	private String host;
 	private int port;
 	private String name;
@@ -50,74 +104,192 @@ public class EaiConnector {
 	private int waitingMs;
 	private int repeatTimes;
 	private int repeatSleepMs;
+	private int maxRepeatSleepMs = 30_000;
+	@Min(0)
+	private int minSize;
+	@Min(1)
+	private int maxSize = 8;
+	@Min(0)
+	private long idleTimeoutMs = 60_000;
+	@Min(0)
+	private long validateAfterInactivityMs = 2_000;
+	private boolean multiplexEnabled;
+	@Min(1)
+	private int maxInFlight = 100;
+	@Min(1)
+	private int dispatchPollMs = 100;
+
+	/**
+	 * 세션 생성기 (기본값: BrokerClient 연결)
+	 */
+	private EaiSessionFactory sessionFactory;
+
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+	private final Set<String> permissions = ConcurrentHashMap.newKeySet();
+	private final Map<String, EaiChannel> channels = new ConcurrentHashMap<>();
+	private EaiSessionPool pool;
+	private ThreadPoolExecutor threadPool;
+	private Executor executor;
+	private ScheduledExecutorService scheduler;
+
+	@PostConstruct
+	protected void init() {
+		if (sessionFactory == null) {
+			sessionFactory = appName -> new BrokerSession(
+					new BrokerClient(host + ":" + port, name, null, group, appName, null));
+		}
+		pool = new EaiSessionPool(sessionFactory, minSize, maxSize, idleTimeoutMs, validateAfterInactivityMs);
+		threadPool = ThreadUtil.createThreadPool(0, Integer.MAX_VALUE, 60, "eai");
+		executor = ThreadLocalUtil.wrap(threadPool);
+		scheduler = new ScheduledThreadPoolExecutor(1,
+				new ThreadFactoryBuilder().setNameFormat("eai-retry-%d").setDaemon(true).build());
+	}
+
+	@PreDestroy
+	protected void close() {
+		scheduler.shutdownNow();
+		threadPool.shutdown();
+		pool.close();
+		channels.values().forEach(EaiChannel::close);
+		channels.clear();
+	}
 
 	public <T1, T2> T2 execute(String appName, String pubDoc, String subDoc,
 							   T1 params, EaiMapper<T1, T2> mapper) {
-		T2 response;
-		do {
-			BrokerClient client = null;
-			try {
-				client = createBrokerClient(appName);
-				BrokerEvent event = createEvent(client, pubDoc);
-				checkPermission(client, pubDoc, subDoc);
-				mapper.mappingRequestParam(event, params);
-				response = publish(client, event, subDoc, mapper);
-			} catch (BrokerException e) {
-				throw new AdapterException(AdapterException.AdapterError.FAIL_EAI, "Fail execute", e);
-			} finally {
-				try {
-					if (client != null && client.isConnected()) {
-						client.destroy();
-					}
-				} catch (BrokerException e) {
-					log.debug("Error on client destroy", e);
-				}
+		try {
+			return executeAsync(appName, pubDoc, subDoc, params, mapper).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof AdapterException) {
+				throw (AdapterException) e.getCause();
 			}
+			throw new AdapterException(AdapterException.AdapterError.FAIL_EAI, "Fail execute", e.getCause());
+		}
+	}
 
-			if (response != null) {
-				break;
-			}
-			repeatTimes--;
-			try {
-				Thread.sleep(repeatSleepMs);
-			} catch (InterruptedException e) {
-				log.error(e.getMessage(), e);
-				Thread.currentThread().interrupt();
+	/**
+	 * 비동기로 EAI 요청을 발행하고 응답을 수신
+	 *
+	 * @param appName 어플리케이션 이름
+	 * @param pubDoc  발행 문서 유형
+	 * @param subDoc  구독(응답) 문서 유형
+	 * @param params  요청 정보
+	 * @param mapper  요청/응답 매퍼
+	 * @return 응답 정보 (재시도 후에도 응답이 없으면 null)
+	 */
+	public <T1, T2> CompletableFuture<T2> executeAsync(String appName, String pubDoc, String subDoc,
+													   T1 params, EaiMapper<T1, T2> mapper) {
+		CompletableFuture<T2> future = new CompletableFuture<>();
+		meterRegistry.ifAvailable(a -> {
+			Timer.Sample sample = Timer.start(a);
+			future.whenComplete((r, e) -> sample.stop(Timer.builder(METRIC_REQUEST)
+					.tags("pub", pubDoc, "sub", subDoc)
+					.publishPercentileHistogram()
+					.register(a)));
+		});
+		attempt(future, 1, appName, pubDoc, subDoc, params, mapper);
+		return future;
+	}
+
+	private <T1, T2> void attempt(CompletableFuture<T2> future, int attempt, String appName, String pubDoc,
+								  String subDoc, T1 params, EaiMapper<T1, T2> mapper) {
+		CompletableFuture<T2> response = multiplexEnabled
+				? callMultiplexed(appName, pubDoc, subDoc, params, mapper)
+				: CompletableFuture.supplyAsync(() -> call(appName, pubDoc, subDoc, params, mapper), executor);
+		response.whenComplete((r, e) -> {
+			Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+			if (cause == null) {
+				if (r != null || attempt >= repeatTimes) {
+					future.complete(r);
+					return;
+				}
+			} else if (!(cause.getCause() instanceof BrokerException) || attempt >= repeatTimes) {
+				// 권한 오류 등 브로커 오류가 아니면 재시도 하지 않음
+				future.completeExceptionally(cause);
+				return;
+			} else {
+				log.debug("Retry execute. [{}/{}]", attempt, repeatTimes, cause);
 			}
-		} while (repeatTimes > 0);
-		return response;
+
+			long delay = Math.min((long) repeatSleepMs << Math.min(attempt - 1, 16), maxRepeatSleepMs);
+			scheduler.schedule(() -> attempt(future, attempt + 1, appName, pubDoc, subDoc, params, mapper),
+					delay, TimeUnit.MILLISECONDS);
+		});
+	}
+
+	private <T1, T2> CompletableFuture<T2> callMultiplexed(String appName, String pubDoc, String subDoc,
+														   T1 params, EaiMapper<T1, T2> mapper) {
+		EaiChannel channel = channels.computeIfAbsent(appName + '|' + subDoc,
+				a -> new EaiChannel(sessionFactory, appName, subDoc, maxInFlight, dispatchPollMs, scheduler));
+		return CompletableFuture.supplyAsync(() -> {
+					try {
+						EaiSession session = channel.session();
+						checkPermission(session, appName, pubDoc, subDoc);
+						BrokerEvent event = createEvent(session, pubDoc);
+						mapper.mappingRequestParam(event, params);
+						return channel.request(session, event, waitingMs);
+					} catch (BrokerException e) {
+						throw new AdapterException(AdapterException.AdapterError.FAIL_EAI, "Fail execute", e);
+					}
+				}, executor)
+				.thenCompose(a -> a)
+				.thenApplyAsync(a -> {
+					try {
+						return mappingResponse(a, mapper);
+					} catch (BrokerException e) {
+						throw new AdapterException(AdapterException.AdapterError.FAIL_EAI, "Fail execute", e);
+					}
+				}, executor);
 	}
 
-	private BrokerClient createBrokerClient(String appName) {
-		BrokerClient client;
+	private <T1, T2> T2 call(String appName, String pubDoc, String subDoc,
+							 T1 params, EaiMapper<T1, T2> mapper) {
+		EaiSession session;
 		try {
-			client = new BrokerClient(host + ":" + port, name, null, group, appName, null);
+			session = pool.borrow(appName, waitingMs);
 		} catch (BrokerException e) {
 			throw new AdapterException(AdapterException.AdapterError.FAIL_EAI, "Fail create broker client", e);
 		}
-		log.debug("Create a client. [{}]", client.getApiVersionNumber());
-		return client;
+
+		// 응답을 받지 못한 세션은 늦게 도착한 응답이 남아 있을 수 있으므로 재사용 하지 않음
+		boolean broken = true;
+		try {
+			checkPermission(session, appName, pubDoc, subDoc);
+			BrokerEvent event = createEvent(session, pubDoc);
+			mapper.mappingRequestParam(event, params);
+			BrokerEvent subEvent = publish(session, event, subDoc);
+			broken = subEvent == null;
+			return mappingResponse(subEvent, mapper);
+		} catch (BrokerException e) {
+			throw new AdapterException(AdapterException.AdapterError.FAIL_EAI, "Fail execute", e);
+		} finally {
+			pool.release(appName, session, broken);
+		}
 	}
 
-	private BrokerEvent createEvent(BrokerClient client, String pubDoc) {
+	private BrokerEvent createEvent(EaiSession session, String pubDoc) {
 		try {
-			return new BrokerEvent(client, pubDoc);
+			return session.createEvent(pubDoc);
 		} catch (BrokerException e) {
 			throw new AdapterException(AdapterException.AdapterError.FAIL_EAI, "Fail create event", e);
 		}
 	}
 
-	private void checkPermission(BrokerClient client, String pubDoc, String subDoc) {
+	private void checkPermission(EaiSession session, String appName, String pubDoc, String subDoc) {
+		String key = appName + '|' + pubDoc + '|' + subDoc;
+		if (permissions.contains(key)) {
+			return;
+		}
+
 		boolean canPublish;
 		try {
-			canPublish = client.canPublish(pubDoc);
+			canPublish = session.canPublish(pubDoc);
 		} catch (BrokerException e) {
 			throw new AdapterException(AdapterException.AdapterError.FAIL_EAI, "Fail check publish permission", e);
 		}
 
 		boolean canSubscribe;
 		try {
-			canSubscribe = client.canSubscribe(subDoc);
+			canSubscribe = session.canSubscribe(subDoc);
 		} catch (BrokerException e) {
 			throw new AdapterException(AdapterException.AdapterError.FAIL_EAI, "Fail check subscribe permission", e);
 		}
@@ -129,28 +301,51 @@ public class EaiConnector {
 							" Make sure it is loaded in the broker" +
 							" and permission is given to publish or subscribe it in the ...");
 		}
+		permissions.add(key);
 	}
 
-	private <T1, T2> T2 publish(BrokerClient client, BrokerEvent event,
-								String subdoc, EaiMapper<T1, T2> mapper) {
-		T2 response = null;
+	/**
+	 * 태그를 붙여 요청 이벤트를 발행하고 같은 태그의 응답 이벤트를 기다림
+	 * <pre>
+	 * - 풀링된 세션은 이전 요청의 구독이 남아 있으므로, 쉬는 동안 쌓인 늦은 응답이나
+	 *   다른 구독 문서의 응답은 태그가 다르면 버림
+	 * </pre>
+	 */
+	private BrokerEvent publish(EaiSession session, BrokerEvent event, String subdoc) {
 		try {
-			client.publish(event);
-			log.debug("client info : [{}], pub message : [{}]", client, event);
-
-			client.newSubscription(subdoc, null);
-			BrokerEvent subEvent = client.getEvent(waitingMs);
-			log.debug("client info : [{}], sub message : [{}]", client, subEvent);
-			if (subEvent.isNullReply()) {
-				log.debug("Null reply");
-			} else if (subEvent.isErrorReply()) {
-				log.debug("Error reply");
-			} else {
-				response = mapper.mappingResponseParam(subEvent);
+			int tag = session.makeTag();
+			event.setTag(tag);
+			session.subscribe(subdoc);
+			session.publish(event);
+			log.debug("client info : [{}], pub message : [{}]", session, event);
+
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitingMs);
+			long remainingMs = waitingMs;
+			while (remainingMs > 0) {
+				BrokerEvent subEvent = session.getEvent((int) remainingMs);
+				if (subEvent == null || subEvent.getTag() == tag) {
+					log.debug("client info : [{}], sub message : [{}]", session, subEvent);
+					return subEvent;
+				}
+				log.debug("Discard stale reply. [{}] [{}]", subEvent.getTag(), subEvent.getTypeName());
+				remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
 			}
+			return null;
 		} catch (BrokerException e) {
 			throw new AdapterException(AdapterException.AdapterError.FAIL_EAI, "Fail publish event", e);
 		}
-		return response;
+	}
+
+	private <T1, T2> T2 mappingResponse(BrokerEvent subEvent, EaiMapper<T1, T2> mapper) throws BrokerException {
+		if (subEvent == null) {
+			log.debug("No reply");
+		} else if (subEvent.isNullReply()) {
+			log.debug("Null reply");
+		} else if (subEvent.isErrorReply()) {
+			log.debug("Error reply");
+		} else {
+			return mapper.mappingResponseParam(subEvent);
+		}
+		return null;
 	}
 }
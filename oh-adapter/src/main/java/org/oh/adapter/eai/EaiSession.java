@@ -0,0 +1,73 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.adapter.eai;
+
+import COM.activesw.api.client.BrokerEvent;
+import COM.activesw.api.client.BrokerException;
+
+/**
+ * EAI 브로커 세션
+ * <pre>
+ * - 브로커 연결(BrokerClient)을 감싸서 풀링/테스트 시 대체할 수 있도록 분리
+ * </pre>
+ */
+public interface EaiSession {
+	/**
+	 * 발행할 이벤트를 생성
+	 *
+	 * @param doc 이벤트 문서 유형
+	 * @return 이벤트
+	 */
+	BrokerEvent createEvent(String doc) throws BrokerException;
+
+	boolean canPublish(String doc) throws BrokerException;
+
+	boolean canSubscribe(String doc) throws BrokerException;
+
+	/**
+	 * 이벤트 구독 (이미 구독한 문서 유형은 생략)
+	 *
+	 * @param doc 이벤트 문서 유형
+	 */
+	void subscribe(String doc) throws BrokerException;
+
+	void publish(BrokerEvent event) throws BrokerException;
+
+	/**
+	 * 요청/응답 이벤트를 연결할 태그를 생성
+	 *
+	 * @return 태그
+	 */
+	int makeTag();
+
+	/**
+	 * 구독한 이벤트를 수신
+	 *
+	 * @param waitingMs 최대 대기 시간 (밀리초)
+	 * @return 이벤트 (대기 시간 초과시 null)
+	 */
+	BrokerEvent getEvent(int waitingMs) throws BrokerException;
+
+	/**
+	 * 세션 사용 가능 여부 (연결 상태 확인)
+	 *
+	 * @return 사용 가능 여부
+	 */
+	boolean isValid();
+
+	void destroy();
+}
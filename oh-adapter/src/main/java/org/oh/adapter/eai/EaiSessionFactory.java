@@ -0,0 +1,33 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.adapter.eai;
+
+import COM.activesw.api.client.BrokerException;
+
+/**
+ * EAI 브로커 세션 생성기
+ */
+@FunctionalInterface
+public interface EaiSessionFactory {
+	/**
+	 * 브로커에 연결한 세션을 생성
+	 *
+	 * @param appName 어플리케이션 이름
+	 * @return 세션
+	 */
+	EaiSession create(String appName) throws BrokerException;
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.adapter.eai;
+
+import COM.activesw.api.client.BrokerException;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.oh.adapter.exception.AdapterException;
+
+import java.io.Closeable;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 어플리케이션 이름 별 EAI 브로커 세션 풀
+ * <pre>
+ * - 어플리케이션 이름 당 최대 세션 수(maxSize) 까지만 동시에 사용하고 나머지는 대기
+ * - 최근에 반환한 세션부터 재사용(LIFO)하고, 오래 쉰 세션은 재사용 전 연결 확인
+ * - 주기적으로 유휴 시간을 초과한 세션을 정리하고 최소 세션 수(minSize)를 유지
+ * </pre>
+ */
+@Slf4j
+public class EaiSessionPool
+		implements Closeable {
+	private final EaiSessionFactory factory;
+	private final int minSize;
+	private final int maxSize;
+	private final long idleTimeoutNanos;
+	private final long validateAfterInactivityNanos;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService evictor;
+
+	private volatile boolean closed;
+
+	/**
+	 * @param factory                   세션 생성기
+	 * @param minSize                   어플리케이션 이름 당 최소 세션 수
+	 * @param maxSize                   어플리케이션 이름 당 최대 세션 수
+	 * @param idleTimeoutMs             유휴 세션 정리 시간 (밀리초, 0: 미사용)
+	 * @param validateAfterInactivityMs 유휴 세션 재사용 전 연결 확인 시간 (밀리초)
+	 */
+	public EaiSessionPool(EaiSessionFactory factory, int minSize, int maxSize,
+						  long idleTimeoutMs, long validateAfterInactivityMs) {
+		this.factory = factory;
+		this.minSize = Math.min(minSize, maxSize);
+		this.maxSize = maxSize;
+		this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs);
+		this.validateAfterInactivityNanos = TimeUnit.MILLISECONDS.toNanos(validateAfterInactivityMs);
+		if (idleTimeoutMs > 0) {
+			evictor = new ScheduledThreadPoolExecutor(1,
+					new ThreadFactoryBuilder().setNameFormat("eai-evictor-%d").setDaemon(true).build());
+			long period = Math.max(idleTimeoutMs / 2, 1);
+			evictor.scheduleWithFixedDelay(this::evict, period, period, TimeUnit.MILLISECONDS);
+		} else {
+			evictor = null;
+		}
+	}
+
+	/**
+	 * 세션을 대여 (없으면 생성)
+	 *
+	 * @param appName   어플리케이션 이름
+	 * @param timeoutMs 최대 대기 시간 (밀리초)
+	 * @return 세션
+	 */
+	public EaiSession borrow(String appName, long timeoutMs) throws BrokerException {
+		if (closed) {
+			throw new AdapterException(AdapterException.AdapterError.FAIL_EAI, "Session pool is closed");
+		}
+
+		Entry entry = entries.computeIfAbsent(appName, a -> new Entry(maxSize));
+		try {
+			if (!entry.permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+				throw new AdapterException(AdapterException.AdapterError.FAIL_EAI,
+						"Timeout borrow session: " + appName);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AdapterException(AdapterException.AdapterError.FAIL_EAI, "Interrupted borrow session", e);
+		}
+
+		try {
+			Idle idle;
+			while ((idle = entry.idle.pollFirst()) != null) {
+				if (System.nanoTime() - idle.getTime() < validateAfterInactivityNanos
+						|| idle.getSession().isValid()) {
+					return idle.getSession();
+				}
+				log.debug("Invalid session: {}", idle.getSession());
+				idle.getSession().destroy();
+			}
+			return factory.create(appName);
+		} catch (BrokerException | RuntimeException e) {
+			entry.permits.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * 세션을 반환
+	 *
+	 * @param appName 어플리케이션 이름
+	 * @param session 세션
+	 * @param broken  세션 오류 여부 (true: 재사용 하지 않고 종료)
+	 */
+	public void release(String appName, EaiSession session, boolean broken) {
+		Entry entry = entries.get(appName);
+		if (broken || closed || entry == null) {
+			session.destroy();
+		} else {
+			entry.idle.offerFirst(new Idle(session, System.nanoTime()));
+		}
+		if (entry != null) {
+			entry.permits.release();
+		}
+	}
+
+	/**
+	 * 유휴 시간을 초과한 세션을 정리하고 최소 세션 수를 유지
+	 */
+	protected void evict() {
+		long now = System.nanoTime();
+		entries.forEach((appName, entry) -> {
+			Iterator<Idle> iterator = entry.idle.descendingIterator();
+			while (iterator.hasNext() && entry.idle.size() > minSize) {
+				Idle idle = iterator.next();
+				if (now - idle.getTime() > idleTimeoutNanos && entry.idle.removeLastOccurrence(idle)) {
+					log.debug("Evict session: {}", idle.getSession());
+					idle.getSession().destroy();
+				}
+			}
+
+			while (!closed && entry.idle.size() + maxSize - entry.permits.availablePermits() < minSize
+					&& entry.permits.tryAcquire()) {
+				try {
+					entry.idle.offerLast(new Idle(factory.create(appName), now));
+				} catch (BrokerException | RuntimeException e) {
+					log.debug("Fail create session: {}", appName, e);
+					break;
+				} finally {
+					entry.permits.release();
+				}
+			}
+		});
+	}
+
+	/**
+	 * 유휴 세션 수
+	 *
+	 * @param appName 어플리케이션 이름
+	 * @return 유휴 세션 수
+	 */
+	public int getIdleCount(String appName) {
+		Entry entry = entries.get(appName);
+		return entry == null ? 0 : entry.idle.size();
+	}
+
+	/**
+	 * 사용 중인 세션 수
+	 *
+	 * @param appName 어플리케이션 이름
+	 * @return 사용 중인 세션 수
+	 */
+	public int getActiveCount(String appName) {
+		Entry entry = entries.get(appName);
+		return entry == null ? 0 : maxSize - entry.permits.availablePermits();
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		if (evictor != null) {
+			evictor.shutdownNow();
+		}
+		entries.values().forEach(a -> {
+			Idle idle;
+			while ((idle = a.idle.pollFirst()) != null) {
+				idle.getSession().destroy();
+			}
+		});
+	}
+
+	private static class Entry {
+		private final Semaphore permits;
+		private final Deque<Idle> idle = new ConcurrentLinkedDeque<>();
+
+		private Entry(int maxSize) {
+			permits = new Semaphore(maxSize, true);
+		}
+	}
+
+	@Value
+	private static class Idle {
+		EaiSession session;
+		long time;
+	}
+}
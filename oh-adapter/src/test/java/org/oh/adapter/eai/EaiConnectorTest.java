@@ -0,0 +1,300 @@
+package org.oh.adapter.eai;
+
+import COM.activesw.api.client.BrokerEvent;
+import COM.activesw.api.client.BrokerException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.oh.adapter.exception.AdapterException;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+//@Disabled
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class EaiConnectorTest {
+	private static final String APP_NAME = "test";
+	private static final String PUB_DOC = "test::Request";
+	private static final String SUB_DOC = "test::Reply";
+	private static final String FIELD = "value";
+
+	private static final EaiMapper<String, String> MAPPER = new EaiMapper<String, String>() {
+		@Override
+		public void mappingRequestParam(BrokerEvent event, String request) throws BrokerException {
+			event.setStringField(FIELD, request);
+		}
+
+		@Override
+		public String mappingResponseParam(BrokerEvent event) throws BrokerException {
+			return event.getStringField(FIELD);
+		}
+	};
+
+	private final List<FakeSession> sessions = new CopyOnWriteArrayList<>();
+	private final AtomicInteger permissionChecks = new AtomicInteger();
+	private final AtomicInteger missingReplies = new AtomicInteger();
+	private SimpleMeterRegistry registry;
+	private EaiConnector connector;
+
+	@BeforeEach
+	void before() {
+		registry = new SimpleMeterRegistry();
+		connector = new EaiConnector(new StaticListableBeanFactory(Collections.singletonMap("meterRegistry", registry))
+				.getBeanProvider(MeterRegistry.class));
+		connector.setWaitingMs(1_000);
+		connector.setRepeatTimes(3);
+		connector.setRepeatSleepMs(10);
+		connector.setMaxSize(2);
+		connector.setSessionFactory(a -> {
+			FakeSession session = new FakeSession();
+			sessions.add(session);
+			return session;
+		});
+		connector.init();
+	}
+
+	@AfterEach
+	void after() {
+		connector.close();
+	}
+
+	@Test
+	void t01reuse() {
+		for (int i = 0; i < 3; i++) {
+			Assertions.assertEquals("reply-" + i, connector.execute(APP_NAME, PUB_DOC, SUB_DOC, "reply-" + i, MAPPER));
+		}
+		Assertions.assertEquals(1, sessions.size());
+		Assertions.assertEquals(1, permissionChecks.get());
+		Assertions.assertEquals(1, sessions.get(0).subscriptions.size());
+	}
+
+	@Test
+	void t02retry() {
+		missingReplies.set(2);
+		Assertions.assertEquals("retry", connector.executeAsync(APP_NAME, PUB_DOC, SUB_DOC, "retry", MAPPER).join());
+		// 응답이 없었던 세션은 재사용 하지 않음
+		Assertions.assertEquals(3, sessions.size());
+		Assertions.assertTrue(sessions.get(0).destroyed);
+		Assertions.assertTrue(sessions.get(1).destroyed);
+		Assertions.assertFalse(sessions.get(2).destroyed);
+	}
+
+	@Test
+	void t03noReply() {
+		missingReplies.set(Integer.MAX_VALUE);
+		Assertions.assertNull(connector.execute(APP_NAME, PUB_DOC, SUB_DOC, "none", MAPPER));
+		Assertions.assertEquals(3, sessions.size());
+	}
+
+	@Test
+	void t04permission() {
+		AdapterException e = Assertions.assertThrows(AdapterException.class,
+				() -> connector.execute(APP_NAME, "deny::Request", SUB_DOC, "deny", MAPPER));
+		log.debug("error: {}", e.getMessage());
+		// 권한 오류는 재시도 하지 않음
+		Assertions.assertEquals(1, sessions.size());
+	}
+
+	@Test
+	void t05validate() {
+		connector.close();
+		connector.setValidateAfterInactivityMs(0);
+		connector.init();
+
+		connector.execute(APP_NAME, PUB_DOC, SUB_DOC, "first", MAPPER);
+		sessions.get(0).valid = false;
+		Assertions.assertEquals("second", connector.execute(APP_NAME, PUB_DOC, SUB_DOC, "second", MAPPER));
+		Assertions.assertEquals(2, sessions.size());
+		Assertions.assertTrue(sessions.get(0).destroyed);
+	}
+
+	@Test
+	void t06evict() throws BrokerException, InterruptedException {
+		EaiSessionPool pool = new EaiSessionPool(a -> {
+			FakeSession session = new FakeSession();
+			sessions.add(session);
+			return session;
+		}, 1, 2, 1, 0);
+		try {
+			EaiSession first = pool.borrow(APP_NAME, 100);
+			EaiSession second = pool.borrow(APP_NAME, 100);
+			Assertions.assertThrows(AdapterException.class, () -> pool.borrow(APP_NAME, 10));
+			pool.release(APP_NAME, first, false);
+			pool.release(APP_NAME, second, false);
+
+			// 유휴 시간이 지나면 정리하고 최소 세션 수는 유지
+			Thread.sleep(100);
+			Assertions.assertEquals(1, pool.getIdleCount(APP_NAME));
+			Assertions.assertEquals(0, pool.getActiveCount(APP_NAME));
+		} finally {
+			pool.close();
+		}
+	}
+
+	@Test
+	void t07multiplex() {
+		connector.close();
+		connector.setMultiplexEnabled(true);
+		connector.init();
+
+		List<CompletableFuture<String>> futures = IntStream.range(0, 20)
+				.mapToObj(i -> connector.executeAsync(APP_NAME, PUB_DOC, SUB_DOC, "reply-" + i, MAPPER))
+				.collect(Collectors.toList());
+		for (int i = 0; i < futures.size(); i++) {
+			Assertions.assertEquals("reply-" + i, futures.get(i).join());
+		}
+		// 하나의 세션과 구독을 공유
+		Assertions.assertEquals(1, sessions.size());
+		Assertions.assertEquals(1, sessions.get(0).subscriptions.size());
+
+		Timer timer = registry.get(EaiConnector.METRIC_REQUEST).tags("pub", PUB_DOC, "sub", SUB_DOC).timer();
+		log.debug("timer: {}", timer.takeSnapshot());
+		Assertions.assertEquals(futures.size(), timer.count());
+	}
+
+	@Test
+	void t08multiplexTimeout() {
+		connector.close();
+		connector.setMultiplexEnabled(true);
+		connector.setWaitingMs(50);
+		connector.init();
+
+		missingReplies.set(Integer.MAX_VALUE);
+		Assertions.assertNull(connector.execute(APP_NAME, PUB_DOC, SUB_DOC, "none", MAPPER));
+		Assertions.assertEquals(1, sessions.size());
+	}
+
+	@Test
+	void t09staleReply() throws BrokerException {
+		connector.execute(APP_NAME, PUB_DOC, SUB_DOC, "first", MAPPER);
+
+		// 이전 요청에서 늦게 도착한 응답이 재사용 세션에 남아 있어도 버림
+		BrokerEvent stale = new BrokerEvent(null, SUB_DOC);
+		stale.setStringField(FIELD, "stale");
+		stale.setTag(-1);
+		sessions.get(0).events.add(stale);
+		Assertions.assertEquals("second", connector.execute(APP_NAME, PUB_DOC, SUB_DOC, "second", MAPPER));
+		Assertions.assertEquals(1, sessions.size());
+		Assertions.assertTrue(sessions.get(0).events.isEmpty());
+	}
+
+	@Test
+	void t10multiplexReset() throws BrokerException, InterruptedException {
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		EaiChannel channel = new EaiChannel(a -> {
+			FakeSession session = new FakeSession();
+			sessions.add(session);
+			return session;
+		}, APP_NAME, SUB_DOC, 10, 10, scheduler);
+		try {
+			EaiSession first = channel.session();
+			BrokerEvent event = first.createEvent(PUB_DOC);
+			event.setStringField(FIELD, "reset");
+
+			// 이벤트를 만든 뒤 세션이 다시 연결되면 이전 세션으로 발행하지 않고 응답 없음으로 완료
+			sessions.get(0).valid = false;
+			while (!sessions.get(0).destroyed) {
+				Thread.sleep(10);
+			}
+			EaiSession second = channel.session();
+			Assertions.assertNotSame(first, second);
+			Assertions.assertNull(channel.request(first, event, 1_000).join());
+			Assertions.assertEquals(0, channel.getPendingCount());
+
+			Assertions.assertEquals("reset", MAPPER.mappingResponseParam(channel.request(second, event, 1_000).join()));
+		} finally {
+			channel.close();
+			scheduler.shutdown();
+		}
+	}
+
+	private class FakeSession
+			implements EaiSession {
+		private final BlockingQueue<BrokerEvent> events = new LinkedBlockingQueue<>();
+		private final AtomicInteger tags = new AtomicInteger();
+		private final Set<String> subscriptions = ConcurrentHashMap.newKeySet();
+		private volatile boolean valid = true;
+		private volatile boolean destroyed;
+
+		@Override
+		public BrokerEvent createEvent(String doc) throws BrokerException {
+			return new BrokerEvent(null, doc);
+		}
+
+		@Override
+		public boolean canPublish(String doc) {
+			permissionChecks.incrementAndGet();
+			return !doc.startsWith("deny");
+		}
+
+		@Override
+		public boolean canSubscribe(String doc) {
+			return true;
+		}
+
+		@Override
+		public void subscribe(String doc) {
+			subscriptions.add(doc);
+		}
+
+		@Override
+		public void publish(BrokerEvent event) throws BrokerException {
+			if (missingReplies.getAndDecrement() > 0) {
+				return;
+			}
+			BrokerEvent reply = new BrokerEvent(null, SUB_DOC);
+			reply.setStringField(FIELD, event.getStringField(FIELD));
+			reply.setTag(event.getTag());
+			events.add(reply);
+		}
+
+		@Override
+		public int makeTag() {
+			return tags.incrementAndGet();
+		}
+
+		@Override
+		public BrokerEvent getEvent(int waitingMs) {
+			if (!valid) {
+				throw new IllegalStateException("Invalid session");
+			}
+			try {
+				return events.poll(waitingMs, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+		}
+
+		@Override
+		public boolean isValid() {
+			return valid;
+		}
+
+		@Override
+		public void destroy() {
+			destroyed = true;
+		}
+	}
+}
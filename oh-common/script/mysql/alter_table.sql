@@ -0,0 +1,12 @@
+-- 스케쥴 실행 리스 (종류별 1건, 아이디: 종류) 이전 버전 테이블 변경
+-- 노드별로 남긴 행(아이디: 호스트:포트/종류) 삭제
+DELETE
+FROM schedule
+WHERE id <> type;
+
+ALTER TABLE schedule
+    ADD COLUMN checkpoint BIGINT NULL COMMENT '체크포인트' AFTER type,
+    ADD COLUMN token BIGINT DEFAULT 1 NOT NULL COMMENT '펜싱 토큰' AFTER checkpoint,
+    MODIFY COLUMN state ENUM ('ACTIVE', 'START', 'END', 'DELETED') DEFAULT 'ACTIVE' NOT NULL COMMENT '상태(등록, 시작, 종료, 삭제)',
+    DROP KEY idx_schedule_type,
+    ADD UNIQUE KEY idx_schedule_type (type);
@@ -6,10 +6,12 @@ CREATE TABLE schedule
     id       VARCHAR(200) PRIMARY KEY COMMENT '아이디',
     pid      VARCHAR(100)                                         NOT NULL COMMENT '프로세스 아이디',
     type     VARCHAR(100)                                         NOT NULL COMMENT '종류',
-    state    ENUM ('ACTIVE', 'DELETED') DEFAULT 'ACTIVE'          NOT NULL COMMENT '상태(등록, 삭제)',
+    checkpoint BIGINT                                             NULL COMMENT '체크포인트',
+    token    BIGINT                     DEFAULT 1                 NOT NULL COMMENT '펜싱 토큰',
+    state    ENUM ('ACTIVE', 'START', 'END', 'DELETED') DEFAULT 'ACTIVE' NOT NULL COMMENT '상태(등록, 시작, 종료, 삭제)',
     reg_date DATETIME                   DEFAULT CURRENT_TIMESTAMP NOT NULL COMMENT '등록일시',
     mod_date DATETIME                   DEFAULT CURRENT_TIMESTAMP NOT NULL ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
-    KEY idx_schedule_type (type),
+    UNIQUE KEY idx_schedule_type (type),
     KEY idx_schedule_state (state),
     KEY idx_schedule_reg_date (reg_date),
     KEY idx_schedule_mod_date (mod_date)
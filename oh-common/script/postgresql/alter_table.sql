@@ -0,0 +1,15 @@
+# -- 스케쥴 실행 리스 (종류별 1건, 아이디: 종류) 이전 버전 테이블 변경
+# -- 노드별로 남긴 행(아이디: 호스트:포트/종류) 삭제
+# DELETE
+# FROM schedule
+# WHERE id <> type;
+#
+# ALTER TABLE schedule
+#     ADD COLUMN checkpoint BIGINT,
+#     ADD COLUMN token      BIGINT NOT NULL DEFAULT 1;
+#
+# DROP INDEX IF EXISTS idx_schedule_type;
+# CREATE UNIQUE INDEX idx_schedule_type ON schedule (type);
+#
+# COMMENT ON COLUMN schedule.checkpoint IS '체크포인트';
+# COMMENT ON COLUMN schedule.token IS '펜싱 토큰';
@@ -10,13 +10,15 @@
 #     id       VARCHAR(100) NOT NULL,
 #     pid      VARCHAR(100) NOT NULL,
 #     type     VARCHAR(100) NOT NULL,
+#     checkpoint BIGINT,
+#     token    BIGINT       NOT NULL DEFAULT 1,
 #     state    VARCHAR(100) NOT NULL DEFAULT 'ACTIVE',
 #     mod_date TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
 #     reg_date TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
 #     CONSTRAINT schedule_pk PRIMARY KEY (id)
 # );
 #
-# CREATE INDEX idx_schedule_type ON schedule (type);
+# CREATE UNIQUE INDEX idx_schedule_type ON schedule (type);
 # CREATE INDEX idx_schedule_state ON schedule (state);
 # CREATE INDEX idx_schedule_reg_date ON schedule (reg_date);
 # CREATE INDEX idx_schedule_mod_date ON schedule (mod_date);
@@ -25,6 +27,8 @@
 # COMMENT ON COLUMN schedule.id IS '아이디';
 # COMMENT ON COLUMN schedule.pid IS '프로세스 아이디';
 # COMMENT ON COLUMN schedule.type IS '종류';
+# COMMENT ON COLUMN schedule.checkpoint IS '체크포인트';
+# COMMENT ON COLUMN schedule.token IS '펜싱 토큰';
 # COMMENT ON COLUMN schedule.state IS '상태(등록, 삭제)';
 # COMMENT ON COLUMN schedule.reg_date IS '등록일시';
 # COMMENT ON COLUMN schedule.mod_date IS '수정일시';
@@ -22,6 +22,7 @@ import org.oh.common.config.CommonConfig;
 import org.oh.common.model.user.Login;
 import org.oh.common.repository.CrudDbRepository;
 import org.oh.common.repository.CrudRepository;
+import org.oh.common.repository.DataGridCrudRepository;
 import org.oh.sample.mapper.SampleMapper;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -54,7 +55,8 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @EnableJpaRepositories(
 		includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = CrudDbRepository.class))
 @EnableHazelcastRepositories(
-		includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = CrudRepository.class))
+		includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = CrudRepository.class),
+		repositoryBaseClass = DataGridCrudRepository.class)
 @EntityScan(basePackageClasses = Login.class)
 @MapperScan(basePackageClasses = SampleMapper.class)
 @ConditionalOnProperty(value = "enabled", prefix = CommonConfig.COMMON_PREFIX, havingValue = "true")
@@ -16,6 +16,7 @@
 
 package org.oh.common.annotation;
 
+import org.oh.common.cache.CacheKeyGenerator;
 import org.springframework.cache.annotation.CacheEvict;
 
 import java.lang.annotation.Documented;
@@ -26,12 +27,12 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * 파라미터에 해당하는 캐시만 삭제
+ * 파라미터에 해당하는 캐시만 삭제 (키는 {@link CacheGet} 과 같은 방식으로 생성)
  */
 @Documented
 @Target({ElementType.METHOD, ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
 @Inherited
-@CacheEvict(key = CacheGet.KEY_FORMAT)
+@CacheEvict(keyGenerator = CacheKeyGenerator.NAME)
 public @interface CacheEvictKey {
 }
@@ -16,6 +16,7 @@
 
 package org.oh.common.annotation;
 
+import org.oh.common.cache.CacheKeyGenerator;
 import org.springframework.cache.annotation.Cacheable;
 
 import java.lang.annotation.Documented;
@@ -27,13 +28,15 @@ import java.lang.annotation.Target;
 
 /**
  * 파라미터에 해당하는 캐시만 반환
+ * <pre>
+ * - 키는 대상 클래스와 파라미터 필드 값의 해시 ({@link CacheKeyGenerator})
+ * - 같은 키는 한 쓰레드만 원본을 조회 (sync)
+ * </pre>
  */
 @Documented
 @Target({ElementType.METHOD, ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
 @Inherited
-@Cacheable(key = CacheGet.KEY_FORMAT_ARGS)
+@Cacheable(keyGenerator = CacheKeyGenerator.NAME, sync = true)
 public @interface CacheGet {
-	String KEY_FORMAT = "#root.caches[0].name + '_' + #root.targetClass + '_' + ";
-	String KEY_FORMAT_ARGS = KEY_FORMAT + "T(org.oh.common.util.StringUtil).toString(#root.args)";
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.annotation;
+
+import com.hazelcast.config.IndexType;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 데이터 그리드 맵 인덱스 필드 (CrudRepository 모델의 @KeySpace 맵에 시작시 인덱스 추가)
+ * <pre>
+ * - HASH: 같음/IN 조건 (종류, 상태 등)
+ * - SORTED: 범위/정렬 조건 (일시 등)
+ * </pre>
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DataGridIndex {
+	/**
+	 * 인덱스 종류 (기본값: HASH)
+	 */
+	IndexType value() default IndexType.HASH;
+}
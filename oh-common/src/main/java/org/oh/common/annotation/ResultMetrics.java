@@ -0,0 +1,52 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.annotation;
+
+import org.oh.common.config.AopConfig;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 대상 메소드의 소요시간과 에러 건수를 메트릭(Micrometer)으로 기록
+ * <pre>
+ * - 태그: class(클래스명), method(메소드명), error(에러 코드, 성공시 none)
+ * - 에러 건수: 메트릭명 + ".errors"
+ * </pre>
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ResultMetrics {
+	/**
+	 * 메트릭명을 지정 (기본값: oh.method)
+	 */
+	String value() default AopConfig.METRIC_METHOD;
+
+	/**
+	 * 출력할 퍼센타일을 지정 (기본값: 0.5, 0.95, 0.99)
+	 */
+	double[] percentiles() default {0.5, 0.95, 0.99};
+
+	/**
+	 * 퍼센타일 히스토그램(버킷) 출력 여부를 지정 (기본값: false)
+	 */
+	boolean histogram() default false;
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.cache;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.oh.common.exception.CommonError;
+import org.oh.common.exception.CommonException;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 캐시 키 생성기
+ * <pre>
+ * - 대상 클래스와 파라미터의 필드 값으로 128 bit 해시(murmur3)를 만들어 UUID 로 반환
+ * - toString/JSON 변환 없이 필드를 직접 읽으므로 키 생성 비용이 작고, 데이터 그리드에는 16 byte 로 저장
+ * - 같은 대상 클래스와 파라미터 값이면 메소드가 달라도 같은 키 (@CacheGet / @CacheEvictKey 연동)
+ * - 순환 참조는 참조하는 상위 객체의 깊이를 반영
+ * - 최대 깊이(8)를 넘는 파라미터는 값이 다른 키가 충돌할 수 있으므로 예외 발생 (잘못된 값이 캐시되지 않도록)
+ * </pre>
+ */
+@Component(CacheKeyGenerator.NAME)
+public class CacheKeyGenerator
+		implements KeyGenerator {
+	public static final String NAME = "cacheKeyGenerator";
+
+	private static final int MAX_DEPTH = 8;
+
+	private static final ClassValue<Field[]> FIELDS = new ClassValue<Field[]>() {
+		@Override
+		protected Field[] computeValue(Class<?> type) {
+			List<Field> fields = new ArrayList<>();
+			for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+				for (Field field : c.getDeclaredFields()) {
+					if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())
+							&& !field.isSynthetic()) {
+						field.setAccessible(true);
+						fields.add(field);
+					}
+				}
+			}
+			fields.sort(Comparator.comparing((Field a) -> a.getDeclaringClass().getName())
+					.thenComparing(Field::getName));
+			return fields.toArray(new Field[0]);
+		}
+	};
+
+	@Override
+	public Object generate(Object target, Method method, Object... params) {
+		return generate(target.getClass(), params);
+	}
+
+	/**
+	 * 캐시 키 생성
+	 *
+	 * @param targetClass 대상 클래스
+	 * @param params      파라미터
+	 * @return 캐시 키
+	 */
+	public static UUID generate(Class<?> targetClass, Object... params) {
+		Hasher hasher = Hashing.murmur3_128().newHasher();
+		hasher.putString(targetClass.getName(), StandardCharsets.UTF_8);
+		Map<Object, Integer> visited = new IdentityHashMap<>();
+		for (Object param : params) {
+			put(hasher, param, 0, visited);
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(hasher.hash().asBytes());
+		return new UUID(buffer.getLong(), buffer.getLong());
+	}
+
+	private static void put(Hasher hasher, Object value, int depth, Map<Object, Integer> visited) {
+		if (value == null) {
+			hasher.putByte((byte) 0);
+			return;
+		}
+
+		Class<?> type = value.getClass();
+		if (value instanceof CharSequence) {
+			hasher.putByte((byte) 1).putInt(((CharSequence) value).length())
+					.putString((CharSequence) value, StandardCharsets.UTF_8);
+		} else if (value instanceof Number || value instanceof Boolean || value instanceof Character
+				|| value instanceof Enum || value instanceof UUID || value instanceof Class) {
+			String text = value instanceof Class ? ((Class<?>) value).getName() : value.toString();
+			hasher.putByte((byte) 2).putString(type.getName(), StandardCharsets.UTF_8)
+					.putInt(text.length()).putString(text, StandardCharsets.UTF_8);
+		} else if (value instanceof Date) {
+			// toString 은 초 단위이고 기본 시간대에 따라 달라지므로 epoch 밀리초(Timestamp 는 나노초 포함)를 반영
+			hasher.putByte((byte) 9).putString(type.getName(), StandardCharsets.UTF_8)
+					.putLong(((Date) value).getTime());
+			if (value instanceof Timestamp) {
+				hasher.putInt(((Timestamp) value).getNanos());
+			}
+		} else if (value instanceof TemporalAccessor) {
+			putTemporal(hasher, (TemporalAccessor) value, type);
+		} else if (value instanceof byte[]) {
+			hasher.putByte((byte) 3).putInt(((byte[]) value).length).putBytes((byte[]) value);
+		} else if (visited.containsKey(value)) {
+			// 순환 참조는 상위 객체의 값이 이미 반영되었으므로 타입과 상위 객체의 깊이만 반영
+			hasher.putByte((byte) 4).putString(type.getName(), StandardCharsets.UTF_8)
+					.putInt(visited.get(value));
+		} else if (depth >= MAX_DEPTH) {
+			throw new CommonException(CommonError.COM_NOT_SUPPORTED,
+					String.format("cache key depth over %d: %s", MAX_DEPTH, type.getName()));
+		} else {
+			visited.put(value, depth);
+			putObject(hasher, value, type, depth + 1, visited);
+			visited.remove(value);
+		}
+	}
+
+	/**
+	 * 날짜/시간 값을 반영
+	 * <pre>
+	 * - java.time 타입은 ISO-8601 문자열 (시간대 설정과 무관)
+	 * - 그 외 타입은 지원하는 ChronoField 값 (epoch 초를 지원하면 포함)
+	 * </pre>
+	 */
+	private static void putTemporal(Hasher hasher, TemporalAccessor value, Class<?> type) {
+		hasher.putByte((byte) 10).putString(type.getName(), StandardCharsets.UTF_8);
+		if (type.getName().startsWith("java.time.")) {
+			String text = value.toString();
+			hasher.putInt(text.length()).putString(text, StandardCharsets.UTF_8);
+			return;
+		}
+		for (ChronoField field : ChronoField.values()) {
+			if (value.isSupported(field)) {
+				hasher.putInt(field.ordinal()).putLong(value.getLong(field));
+			}
+		}
+	}
+
+	private static void putObject(Hasher hasher, Object value, Class<?> type, int depth,
+								  Map<Object, Integer> visited) {
+		if (type.isArray()) {
+			int length = Array.getLength(value);
+			hasher.putByte((byte) 5).putInt(length);
+			for (int i = 0; i < length; i++) {
+				put(hasher, Array.get(value, i), depth, visited);
+			}
+		} else if (value instanceof Map) {
+			hasher.putByte((byte) 6).putInt(((Map<?, ?>) value).size());
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				put(hasher, entry.getKey(), depth, visited);
+				put(hasher, entry.getValue(), depth, visited);
+			}
+		} else if (value instanceof Iterable) {
+			hasher.putByte((byte) 7);
+			int size = 0;
+			for (Object item : (Iterable<?>) value) {
+				put(hasher, item, depth, visited);
+				size++;
+			}
+			hasher.putInt(size);
+		} else {
+			hasher.putByte((byte) 8).putString(type.getName(), StandardCharsets.UTF_8);
+			for (Field field : FIELDS.get(type)) {
+				try {
+					put(hasher, field.get(value), depth, visited);
+				} catch (IllegalAccessException e) {
+					hasher.putByte((byte) 0);
+				}
+			}
+		}
+	}
+}
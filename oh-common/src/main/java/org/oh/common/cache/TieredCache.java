@@ -0,0 +1,217 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 로컬 캐시(L1, Caffeine) + 데이터 그리드 캐시(L2) 2단계 캐시
+ * <pre>
+ * - 조회: L1 -> L2 -> 원본 (원본 조회는 같은 키 당 한 쓰레드만 수행하고 다른 쓰레드는 결과를 대기)
+ * - 원본 조회는 Caffeine 의 compute 밖에서 수행 (느린 조회가 같은 해시 구간의 다른 키를 막지 않음)
+ * - 저장/삭제: L2 에 반영하고 다른 서버에 L1 삭제 메세지를 전송
+ * - L1 유지 시간은 L2 보다 짧게 설정 (메세지를 놓쳐도 L1 유지 시간 까지만 이전 값 사용)
+ * </pre>
+ */
+public class TieredCache
+		implements org.springframework.cache.Cache {
+	public static final String METRIC_GETS = "oh.cache.gets";
+	public static final String METRIC_LOAD = "oh.cache.load";
+
+	@Getter
+	private final String name;
+	private final Cache<Object, ValueWrapper> local;
+	private final org.springframework.cache.Cache remote;
+	private final Consumer<Object> invalidator;
+	/**
+	 * 원본 조회 중인 키
+	 */
+	private final Map<Object, CompletableFuture<ValueWrapper>> loading = new ConcurrentHashMap<>();
+
+	private final Counter localHit;
+	private final Counter remoteHit;
+	private final Counter miss;
+	private final Timer load;
+
+	/**
+	 * @param name        캐시 이름
+	 * @param local       로컬 캐시
+	 * @param remote      데이터 그리드 캐시
+	 * @param invalidator 다른 서버에 L1 삭제 메세지 전송 (키, 전체 삭제시 null)
+	 * @param registry    지표 저장소
+	 */
+	public TieredCache(String name, Cache<Object, ValueWrapper> local, org.springframework.cache.Cache remote,
+					   Consumer<Object> invalidator, MeterRegistry registry) {
+		this.name = name;
+		this.local = local;
+		this.remote = remote;
+		this.invalidator = invalidator;
+		this.localHit = counter(registry, "l1", "hit");
+		this.remoteHit = counter(registry, "l2", "hit");
+		this.miss = counter(registry, "l2", "miss");
+		this.load = Timer.builder(METRIC_LOAD)
+				.tag("cache", name)
+				.register(registry);
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return remote.getNativeCache();
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		ValueWrapper value = local.getIfPresent(key);
+		if (value != null) {
+			localHit.increment();
+			return value;
+		}
+
+		value = remote.get(key);
+		if (value == null) {
+			miss.increment();
+		} else {
+			remoteHit.increment();
+			local.put(key, value);
+		}
+		return value;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper value = get(key);
+		Object result = value == null ? null : value.get();
+		if (result != null && type != null && !type.isInstance(result)) {
+			throw new IllegalStateException(
+					"Cached value is not of required type [" + type.getName() + "]: " + result);
+		}
+		return (T) result;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		ValueWrapper value = get(key);
+		if (value != null) {
+			return (T) value.get();
+		}
+
+		CompletableFuture<ValueWrapper> future = new CompletableFuture<>();
+		CompletableFuture<ValueWrapper> running = loading.putIfAbsent(key, future);
+		if (running != null) {
+			return (T) await(running).get();
+		}
+
+		try {
+			// 먼저 조회한 쓰레드가 방금 완료했을 수 있음
+			ValueWrapper loaded = local.getIfPresent(key);
+			if (loaded == null) {
+				loaded = remote.get(key);
+				if (loaded == null) {
+					T result = load.record(() -> {
+						try {
+							return valueLoader.call();
+						} catch (Exception e) {
+							throw new ValueRetrievalException(key, valueLoader, e);
+						}
+					});
+					remote.put(key, result);
+					loaded = new SimpleValueWrapper(result);
+				}
+				local.put(key, loaded);
+			}
+			future.complete(loaded);
+			return (T) loaded.get();
+		} catch (Throwable e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			loading.remove(key, future);
+		}
+	}
+
+	/**
+	 * 다른 쓰레드의 원본 조회 결과를 대기 (실패하면 같은 예외 발생)
+	 */
+	private static ValueWrapper await(CompletableFuture<ValueWrapper> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		remote.put(key, value);
+		local.put(key, new SimpleValueWrapper(value));
+		invalidator.accept(key);
+	}
+
+	@Override
+	public void evict(Object key) {
+		remote.evict(key);
+		local.invalidate(key);
+		invalidator.accept(key);
+	}
+
+	@Override
+	public void clear() {
+		remote.clear();
+		local.invalidateAll();
+		invalidator.accept(null);
+	}
+
+	/**
+	 * 다른 서버의 변경으로 L1 만 삭제
+	 *
+	 * @param key 캐시 키 (null: 전체 삭제)
+	 */
+	public void invalidateLocal(Object key) {
+		if (key == null) {
+			local.invalidateAll();
+		} else {
+			local.invalidate(key);
+		}
+	}
+
+	private Counter counter(MeterRegistry registry, String tier, String result) {
+		return Counter.builder(METRIC_GETS)
+				.tags("cache", name, "tier", tier, "result", result)
+				.register(registry);
+	}
+}
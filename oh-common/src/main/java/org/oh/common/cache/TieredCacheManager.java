@@ -0,0 +1,106 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hazelcast.cluster.Member;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2단계 캐시({@link TieredCache}) 관리
+ * <pre>
+ * - 데이터 그리드 캐시 관리자의 캐시마다 로컬 캐시(Caffeine)를 앞에 둠
+ * - 다른 서버에서 저장/삭제한 키는 데이터 그리드 토픽({@link #TOPIC_NAME}) 메세지로 L1 에서 삭제
+ * </pre>
+ */
+public class TieredCacheManager
+		implements CacheManager {
+	public static final String TOPIC_NAME = "cache-invalidation";
+
+	private final CacheManager remote;
+	private final ITopic<Invalidation> topic;
+	private final long maxSize;
+	private final Duration timeToLive;
+	private final MeterRegistry registry;
+	private final Map<String, TieredCache> caches = new ConcurrentHashMap<>();
+
+	/**
+	 * @param hazelcast  데이터 그리드
+	 * @param remote     데이터 그리드 캐시 관리자
+	 * @param maxSize    캐시 당 로컬 캐시 최대 갯수
+	 * @param timeToLive 로컬 캐시 유지 시간
+	 * @param registry   지표 저장소
+	 */
+	public TieredCacheManager(HazelcastInstance hazelcast, CacheManager remote,
+							  long maxSize, Duration timeToLive, MeterRegistry registry) {
+		this.remote = remote;
+		this.maxSize = maxSize;
+		this.timeToLive = timeToLive;
+		this.registry = registry;
+		topic = hazelcast.getTopic(TOPIC_NAME);
+		topic.addMessageListener(m -> {
+			Member member = m.getPublishingMember();
+			if (member == null || !member.localMember()) {
+				Invalidation invalidation = m.getMessageObject();
+				Optional.ofNullable(caches.get(invalidation.getName()))
+						.ifPresent(a -> a.invalidateLocal(invalidation.getKey()));
+			}
+		});
+	}
+
+	@Override
+	public Cache getCache(String name) {
+		return caches.computeIfAbsent(name, n -> Optional.ofNullable(remote.getCache(n))
+				.map(a -> new TieredCache(n, Caffeine.newBuilder()
+						.maximumSize(maxSize)
+						.expireAfterWrite(timeToLive)
+						.build(), a, key -> topic.publish(new Invalidation(n, key)), registry))
+				.orElse(null));
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return remote.getCacheNames();
+	}
+
+	/**
+	 * L1 삭제 메세지
+	 */
+	@Value
+	public static class Invalidation
+			implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		String name;
+		/**
+		 * 캐시 키 (null: 전체 삭제)
+		 */
+		Object key;
+	}
+}
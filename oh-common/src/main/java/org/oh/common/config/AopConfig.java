@@ -18,6 +18,10 @@ package org.oh.common.config;
 
 import com.google.common.base.Defaults;
 import com.google.common.collect.ImmutableMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -32,9 +36,11 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.oh.common.annotation.ExceptionHandling;
 import org.oh.common.annotation.ResultLogging;
+import org.oh.common.annotation.ResultMetrics;
 import org.oh.common.annotation.SqlTransaction;
 import org.oh.common.exception.CommonError;
 import org.oh.common.exception.CommonException;
+import org.oh.common.exception.DefaultException;
 import org.oh.common.util.CommonUtil;
 import org.oh.common.util.ExceptionUtil;
 import org.oh.common.util.Logging;
@@ -43,6 +49,7 @@ import org.oh.common.util.StringUtil;
 import org.springframework.aop.Advisor;
 import org.springframework.aop.aspectj.AspectJExpressionPointcut;
 import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
@@ -57,10 +64,15 @@ import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import javax.sql.DataSource;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -70,6 +82,21 @@ import java.util.stream.Stream;
 @Slf4j
 @Configuration
 public class AopConfig {
+	/**
+	 * 메소드 메트릭명
+	 */
+	public static final String METRIC_METHOD = "oh.method";
+	/**
+	 * CRUD 서비스 메트릭명
+	 */
+	public static final String METRIC_CRUD = "oh.crud";
+
+	private static final String TAG_CLASS = "class";
+	private static final String TAG_METHOD = "method";
+	private static final String TAG_ERROR = "error";
+	private static final String TAG_NONE = "none";
+	private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
 	/**
 	 * 해당 인자 목록 중에 선택한 인자 목록만 반환
 	 *
@@ -119,6 +146,28 @@ public class AopConfig {
 		return logging;
 	}
 
+	/**
+	 * 해당 로그 레벨이 출력 가능한지 여부
+	 *
+	 * @param logLevel 로그 레벨
+	 * @return 출력 가능 여부
+	 */
+	private static boolean isEnabled(AopConfig.LogLevel logLevel) {
+		switch (logLevel) {
+			case TRACE:
+				return log.isTraceEnabled();
+			case INFO:
+				return log.isInfoEnabled();
+			case WARN:
+				return log.isWarnEnabled();
+			case ERROR:
+				return log.isErrorEnabled();
+			case DEBUG:
+			default:
+				return log.isDebugEnabled();
+		}
+	}
+
 	//	@Bean
 	public Advisor transactionAdvisor(TransactionManager transactionManager) {
 		AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
@@ -144,14 +193,26 @@ public class AopConfig {
 	@Order(10) // 낮은 값이 더 높은 우선 순위
 	protected static class ResultLoggingConfig {
 		/**
-		 * 해당 조건으로 로깅 제목을 반환
+		 * 대상 클래스별 메소드의 로깅 제목 캐시
+		 */
+		private static final ClassValue<Map<Method, String>> TITLES = new ClassValue<Map<Method, String>>() {
+			@Override
+			protected Map<Method, String> computeValue(Class<?> type) {
+				return new ConcurrentHashMap<>();
+			}
+		};
+
+		/**
+		 * 해당 조건으로 로깅 제목을 반환 (대상 클래스와 메소드별로 처음 한 번만 생성)
 		 *
 		 * @param joinPoint JoinPoint
 		 * @param value     로깅 제목 접두어
 		 * @return 로깅 제목
 		 */
 		private static String getTitle(JoinPoint joinPoint, String value) {
-			return getTitle(joinPoint, value, ImmutableMap.of());
+			MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+			return TITLES.get(joinPoint.getTarget().getClass())
+					.computeIfAbsent(signature.getMethod(), k -> getTitle(joinPoint, value, ImmutableMap.of()));
 		}
 
 		/**
@@ -189,6 +250,10 @@ public class AopConfig {
 
 		/**
 		 * 결과 로깅 어노테이션으로 메소드의 입/출력을 로깅
+		 * <pre>
+		 * - 로그 레벨이 꺼져 있으면 바로 실행 (제목, 인자, 결과를 변환하지 않음)
+		 * - 인자와 결과는 로그를 출력할 때 문자열로 변환
+		 * </pre>
 		 *
 		 * @param joinPoint ProceedingJoinPoint
 		 * @param anno      결과 로깅 어노테이션
@@ -197,12 +262,14 @@ public class AopConfig {
 		 */
 		@Around("@annotation(anno)")
 		public Object around(ProceedingJoinPoint joinPoint, ResultLogging anno) throws Throwable {
+			if (!isEnabled(anno.logLevel())) {
+				return joinPoint.proceed();
+			}
+
 			log.debug(LoggingConfig.TWO_LINE_100);
 			Object[] args = joinPoint.getArgs();
 
 			String title = "";
-			String time = "";
-			String sResult = "";
 			try {
 				title = getTitle(joinPoint, anno.value());
 			} catch (Exception e) {
@@ -210,28 +277,25 @@ public class AopConfig {
 			}
 
 			String format = "{} is execution {} {} {}";
-			String sArgs = anno.args()
-					? "args: " + StringUtil.toString(getArgs(args, anno.indexesOfArgs()), anno.json())
+			Object sArgs = anno.args()
+					? Logging.lazy(() -> "args: " + StringUtil.toString(getArgs(args, anno.indexesOfArgs()), anno.json()))
 					: "";
-			long startTime = System.currentTimeMillis();
+			long startTime = System.nanoTime();
 			Object result;
 			try {
 				result = joinPoint.proceed();
 			} catch (Exception e) {
-				log.debug(format, title, time, "message: " + ExceptionUtil.getMessageAndType(e), sArgs);
+				log.debug(format, title, "", "message: " + ExceptionUtil.getMessageAndType(e), sArgs);
 				throw e;
 			}
 
-			try {
-				long processTime = System.currentTimeMillis() - startTime;
-				time = "time: " + StringUtil.toStringTime(processTime);
-				sResult = anno.result() ? "result: " + StringUtil.toString(result, anno.json(), anno.jsonView()) : "";
-			} catch (Exception e) {
-				log.warn(ExceptionUtil.getMessageAndType(e), e);
-			} finally {
-				Logging logging = getLogging(anno.logLevel(), log::debug);
-				logging.log(format, title, time, sArgs, sResult);
-			}
+			long processTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+			Object time = Logging.lazy(() -> "time: " + StringUtil.toStringTime(processTime));
+			Object sResult = anno.result()
+					? Logging.lazy(() -> "result: " + StringUtil.toString(result, anno.json(), anno.jsonView()))
+					: "";
+			Logging logging = getLogging(anno.logLevel(), log::debug);
+			logging.log(format, title, time, sArgs, sResult);
 			return result;
 		}
 
@@ -263,6 +327,137 @@ public class AopConfig {
 		}
 	}
 
+	/**
+	 * 메트릭 초기화
+	 * <pre>
+	 * - ResultMetrics 어노테이션 메소드와 CRUD 서비스(CrudService)의 조회/추가/수정/삭제 메소드의 소요시간과 에러 건수를 기록
+	 * - 컬렉션 인자가 있는 CRUD 메소드는 건수를 기록 (oh.crud.batch.size)
+	 * - 같은 서비스 안의 중첩 호출(self)은 바깥 메소드만 기록하여 중복 집계하지 않음
+	 * - 지표는 메소드와 태그 별로 한번만 등록하고 재사용
+	 * - actuator 의 /prometheus 로 노출
+	 * </pre>
+	 */
+	@RequiredArgsConstructor
+	@Aspect
+	@Configuration
+	@Order(5)
+	@ConditionalOnProperty(value = "metrics.enabled", prefix = CommonConfig.COMMON_PREFIX, havingValue = "true",
+			matchIfMissing = true)
+	protected static class MetricsConfig {
+		/**
+		 * 현재 쓰레드에서 지표를 기록 중인 CRUD 서비스 (중첩 호출 판단)
+		 */
+		private static final ThreadLocal<Object> CRUD_TARGET = new ThreadLocal<>();
+
+		private final MeterRegistry registry;
+		private final Map<List<Object>, Timer> timers = new ConcurrentHashMap<>();
+		private final Map<List<Object>, Counter> counters = new ConcurrentHashMap<>();
+		private final Map<List<Object>, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+		/**
+		 * 해당 예외의 에러 코드를 반환 (공통 예외가 아니면 예외 클래스명)
+		 *
+		 * @param e 예외
+		 * @return 에러 코드
+		 */
+		private static String getErrorCode(Throwable e) {
+			return ExceptionUtil.getFirstExceptionOrNull(e, DefaultException.class)
+					.map(a -> a.getError().getCode())
+					.orElseGet(() -> e.getClass().getSimpleName());
+		}
+
+		/**
+		 * 메트릭 어노테이션으로 메소드의 소요시간과 에러 건수를 기록
+		 *
+		 * @param joinPoint ProceedingJoinPoint
+		 * @param anno      메트릭 어노테이션
+		 * @return 메소드 결과
+		 * @throws Throwable
+		 */
+		@Around("@annotation(anno)")
+		public Object around(ProceedingJoinPoint joinPoint, ResultMetrics anno) throws Throwable {
+			return record(joinPoint, anno.value(), anno.percentiles(), anno.histogram());
+		}
+
+		/**
+		 * CRUD 서비스의 조회/추가/수정/삭제 메소드의 소요시간, 에러 건수와 일괄 처리 건수를 기록
+		 *
+		 * @param joinPoint ProceedingJoinPoint
+		 * @return 메소드 결과
+		 * @throws Throwable
+		 */
+		@Around("execution(public * org.oh.common.service.CrudService+.find*(..))"
+				+ " || execution(public * org.oh.common.service.CrudService+.count*(..))"
+				+ " || execution(public * org.oh.common.service.CrudService+.insert*(..))"
+				+ " || execution(public * org.oh.common.service.CrudService+.update*(..))"
+				+ " || execution(public * org.oh.common.service.CrudService+.merge*(..))"
+				+ " || execution(public * org.oh.common.service.CrudService+.delete*(..))")
+		public Object aroundCrud(ProceedingJoinPoint joinPoint) throws Throwable {
+			Object target = joinPoint.getTarget();
+			Object outer = CRUD_TARGET.get();
+			if (outer == target) {
+				return joinPoint.proceed();
+			}
+
+			CRUD_TARGET.set(target);
+			try {
+				Arrays.stream(joinPoint.getArgs())
+						.filter(Collection.class::isInstance)
+						.findFirst()
+						.ifPresent(a -> summaries.computeIfAbsent(
+										Arrays.asList(target.getClass(), joinPoint.getSignature().getName()),
+										k -> DistributionSummary.builder(METRIC_CRUD + ".batch.size")
+												.tags(TAG_CLASS, target.getClass().getSimpleName(),
+														TAG_METHOD, k.get(1).toString())
+												.register(registry))
+								.record(((Collection<?>) a).size()));
+				return record(joinPoint, METRIC_CRUD, PERCENTILES, false);
+			} finally {
+				if (outer == null) {
+					CRUD_TARGET.remove();
+				} else {
+					CRUD_TARGET.set(outer);
+				}
+			}
+		}
+
+		/**
+		 * 메소드를 실행하면서 소요시간을 기록하고, 예외 발생시 에러 건수를 기록
+		 *
+		 * @param joinPoint   ProceedingJoinPoint
+		 * @param name        메트릭명
+		 * @param percentiles 퍼센타일
+		 * @param histogram   히스토그램 출력 여부
+		 * @return 메소드 결과
+		 * @throws Throwable
+		 */
+		private Object record(ProceedingJoinPoint joinPoint, String name, double[] percentiles, boolean histogram)
+				throws Throwable {
+			Class<?> type = joinPoint.getTarget().getClass();
+			String method = joinPoint.getSignature().getName();
+			String error = TAG_NONE;
+			Timer.Sample sample = Timer.start(registry);
+			try {
+				return joinPoint.proceed();
+			} catch (Throwable e) {
+				error = getErrorCode(e);
+				counters.computeIfAbsent(Arrays.asList(name, type, method, error),
+								k -> registry.counter(name + ".errors", TAG_CLASS, type.getSimpleName(),
+										TAG_METHOD, method, TAG_ERROR, k.get(3).toString()))
+						.increment();
+				throw e;
+			} finally {
+				sample.stop(timers.computeIfAbsent(Arrays.asList(name, type, method, error),
+						k -> Timer.builder(name)
+								.tags(TAG_CLASS, type.getSimpleName(), TAG_METHOD, method,
+										TAG_ERROR, k.get(3).toString())
+								.publishPercentiles(percentiles)
+								.publishPercentileHistogram(histogram)
+								.register(registry)));
+			}
+		}
+	}
+
 	/**
 	 * 예외 핸들링 초기화
 	 */
@@ -22,13 +22,36 @@ import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.spi.properties.ClusterProperty;
 import com.hazelcast.spring.transaction.HazelcastTransactionManager;
+import com.hazelcast.spring.cache.HazelcastCacheManager;
 import com.hazelcast.spring.transaction.ManagedTransactionalTaskContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.Setter;
+import org.oh.common.cache.TieredCacheManager;
 import org.oh.common.model.AbstractFiles;
 import org.oh.common.model.schedule.Schedule;
+import org.oh.common.repository.CrudRepository;
+import org.oh.common.util.DataGridUtil;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.RepositoryFactoryInformation;
 import org.springframework.session.hazelcast.config.annotation.web.http.EnableHazelcastHttpSession;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
 /**
  * 데이터 그리드 초기화
@@ -44,6 +67,14 @@ import org.springframework.session.hazelcast.config.annotation.web.http.EnableHa
  *     session:
  *       ### 세션 사용 여부 (기본값: false)
  *       enabled: true
+ *     ### 로컬 캐시(L1) + 데이터 그리드 캐시(L2) 2단계 캐시
+ *     near-cache:
+ *       ### 사용 여부 (기본값: false)
+ *       enabled: true
+ *       ### 캐시 당 로컬 캐시 최대 갯수 (기본값: 10_000)
+ *       max-size: 10_000
+ *       ### 로컬 캐시 유지 시간, 데이터 그리드 캐시(hazelcast.yaml cache*) 보다 짧게 설정 (초, 기본값: 10)
+ *       time-to-live-sec: 10
  * </pre>
  */
 @Configuration
@@ -56,6 +87,7 @@ public class DataGridConfig {
 	public static final String MAP_NAME_CACHE = "cache";
 	public static final String MAP_NAME_SCHEDULE = Schedule.NAME_SPACE;
 	public static final String MAP_NAME_FILES = AbstractFiles.NAME_SPACE;
+	public static final String MAP_NAME_REVOKED_TOKEN = "revoked-token";
 
 	@Bean
 	public HazelcastTransactionManager hazelcastTransactionManager(HazelcastInstance hazelcast) {
@@ -67,6 +99,22 @@ public class DataGridConfig {
 		return new ManagedTransactionalTaskContext(hazelcastTransactionManager(hazelcast));
 	}
 
+	/**
+	 * 데이터 그리드 레파지토리({@link CrudRepository}) 모델의 맵 인덱스 추가 (@DataGridIndex)
+	 */
+	@Bean
+	public SmartInitializingSingleton dataGridIndexInitializer(DataGridUtil dataGridUtil,
+															   ListableBeanFactory beanFactory) {
+		return () -> dataGridUtil.addIndexes(Arrays.stream(BeanFactoryUtils.beanNamesForTypeIncludingAncestors(
+						beanFactory, RepositoryFactoryInformation.class, false, false))
+				.map(a -> beanFactory.getBean(BeanFactory.FACTORY_BEAN_PREFIX + a, RepositoryFactoryInformation.class)
+						.getRepositoryInformation())
+				.filter(a -> CrudRepository.class.isAssignableFrom(a.getRepositoryInterface()))
+				.map(RepositoryMetadata::getDomainType)
+				.distinct()
+				.collect(Collectors.toList()));
+	}
+
 	//	@Bean
 	public HazelcastInstance hazelcastInstance() {
 		Config config = new Config();
@@ -80,4 +128,22 @@ public class DataGridConfig {
 	@ConditionalOnProperty(value = "enabled", prefix = PROPERTY_PREFIX + ".session", havingValue = "true")
 	public static class Session {
 	}
+
+	@Setter
+	@Validated
+	@Configuration
+	@ConfigurationProperties(PROPERTY_PREFIX + ".near-cache")
+	@ConditionalOnProperty(value = "enabled", prefix = PROPERTY_PREFIX + ".near-cache", havingValue = "true")
+	public static class NearCache {
+		@Min(1)
+		private long maxSize = 10_000;
+		@Min(1)
+		private int timeToLiveSec = 10;
+
+		@Bean
+		public CacheManager cacheManager(HazelcastInstance hazelcast, ObjectProvider<MeterRegistry> meterRegistry) {
+			return new TieredCacheManager(hazelcast, new HazelcastCacheManager(hazelcast), maxSize,
+					Duration.ofSeconds(timeToLiveSec), meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+		}
+	}
 }
@@ -16,9 +16,15 @@
 
 package org.oh.common.config;
 
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
 import com.google.common.collect.Streams;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ContextRefreshedEvent;
@@ -30,6 +36,7 @@ import org.springframework.core.env.MutablePropertySources;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
@@ -61,6 +68,45 @@ public class LoggingConfig {
 	public static final String TWO_LINE_50 = StringUtils.repeat('=', 50);
 	public static final String TWO_LINE_100 = StringUtils.repeat('=', 100);
 
+	/**
+	 * 로거에 비동기 Appender 설정 (logback 사용 시)
+	 * <pre>
+	 * - ROOT 로거의 Appender 별로 비동기 Appender 를 생성하여 연결 (ROOT 로거로 전파하지 않음)
+	 * - 큐가 차면 로그를 버리고 호출 스레드를 대기시키지 않음
+	 * </pre>
+	 *
+	 * @param name      로거 이름
+	 * @param queueSize 비동기 큐 크기
+	 */
+	public static void setAsyncAppender(String name, int queueSize) {
+		if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext)) {
+			return;
+		}
+
+		LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+		Logger logger = context.getLogger(name);
+		if (!logger.isAdditive()) {
+			return;
+		}
+
+		Iterator<Appender<ILoggingEvent>> appenders = context.getLogger(Logger.ROOT_LOGGER_NAME)
+				.iteratorForAppenders();
+		while (appenders.hasNext()) {
+			Appender<ILoggingEvent> appender = appenders.next();
+			AsyncAppender async = new AsyncAppender();
+			async.setContext(context);
+			async.setName("ASYNC-" + appender.getName());
+			async.setQueueSize(queueSize);
+			async.setDiscardingThreshold(0);
+			async.setNeverBlock(true);
+			async.addAppender(appender);
+			async.start();
+			logger.addAppender(async);
+		}
+		logger.setAdditive(false);
+		log.info("async appender: {}, queueSize: {}", name, queueSize);
+	}
+
 	/**
 	 * 로깅 초기화
 	 */
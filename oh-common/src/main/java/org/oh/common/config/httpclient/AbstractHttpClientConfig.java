@@ -20,18 +20,36 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.JavaNetCookieJar;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.apache.http.HttpClientConnection;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.ssl.SSLContexts;
 import org.oh.common.config.CommonConfig;
 import org.oh.common.exception.CommonError;
 import org.oh.common.exception.CommonException;
+import org.oh.common.util.HttpClient;
+import org.oh.common.util.ThreadUtil;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.boot.web.client.RestTemplateCustomizer;
@@ -40,7 +58,10 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
 import org.springframework.http.client.OkHttp3ClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.validation.annotation.Validated;
@@ -53,13 +74,18 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.X509TrustManager;
 import javax.validation.constraints.Min;
 
-import java.net.CookieHandler;
+import java.io.IOException;
 import java.net.CookieManager;
+import java.net.HttpURLConnection;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -78,6 +104,22 @@ import java.util.concurrent.TimeUnit;
  *       read-timeout-sec: 10
  *       max-conn-total: ${server.tomcat.threads.max}
  *       max-conn-per-route: ${common.http-client.default.max-conn-total}
+ *       ### 커넥션 풀 대기 시간 (밀리초, 0: connect-timeout-sec)
+ *       lease-timeout-ms: 0
+ *       ### 커넥션 최대 유지 시간 (초)
+ *       connection-time-to-live-sec: 60
+ *       ### 유휴 커넥션 정리 시간 (초)
+ *       idle-timeout-sec: 30
+ *       ### 유휴 커넥션 재사용 전 검증 시간 (밀리초, httpComponents)
+ *       validate-after-inactivity-ms: 2000
+ *       ### HTTP/2 사용 여부 (okHttp, 기본값: true)
+ *       http2-enabled: true
+ *       ### 응답 압축(gzip) 사용 여부 (httpComponents/okHttp, 기본값: true)
+ *       compression-enabled: true
+ *       ### 비동기 요청(requestAsync/requestAll)에 OkHttp 비동기 클라이언트 사용 여부 (기본값: false)
+ *       async-enabled: true
+ *       ### 멱등 GET 요청의 응답이 지연되면 한번 더 요청하는 시간 (밀리초, 0: 미사용)
+ *       hedge-delay-ms: 0
  *     sample:
  *       <<: *http-client-default
  *       max-conn-total: ${server.tomcat.threads.max}
@@ -93,6 +135,30 @@ public abstract class AbstractHttpClientConfig {
 	protected static final int DEFAULT_CORE_THREAD_POOL_SIZE = 5;
 	protected static final String DEFAULT_THREAD_POOL_NAME_PREFIX = "hc-";
 
+	/**
+	 * 커넥션 풀 지표 이름
+	 */
+	public static final String METRIC_POOL_LEASED = "oh.http.client.pool.leased";
+	public static final String METRIC_POOL_AVAILABLE = "oh.http.client.pool.available";
+	public static final String METRIC_POOL_PENDING = "oh.http.client.pool.pending";
+	public static final String METRIC_POOL_MAX = "oh.http.client.pool.max";
+	public static final String METRIC_POOL_LEASE = "oh.http.client.pool.lease";
+
+	protected static final X509TrustManager TRUST_ALL = new X509TrustManager() {
+		@Override
+		public void checkClientTrusted(X509Certificate[] chain, String authType) {
+		} //NOSONAR HTTP 클라이언트 용으로만 사용
+
+		@Override
+		public void checkServerTrusted(X509Certificate[] chain, String authType) {
+		} //NOSONAR HTTP 클라이언트 용으로만 사용
+
+		@Override
+		public X509Certificate[] getAcceptedIssuers() {
+			return new X509Certificate[0]; //NOSONAR HTTP 클라이언트 용으로만 사용
+		}
+	};
+
 	protected String vendor = Vendor.HTTP_COMPONENTS.value;
 	@Min(1)
 	protected int connectTimeoutSec;
@@ -102,6 +168,22 @@ public abstract class AbstractHttpClientConfig {
 	protected int maxConnTotal;
 	@Min(1)
 	protected int maxConnPerRoute;
+	@Min(0)
+	protected long leaseTimeoutMs;
+	@Min(1)
+	protected int connectionTimeToLiveSec = DEFAULT_CONNECTION_TIME_TO_LIVE_SEC;
+	@Min(1)
+	protected int idleTimeoutSec = 30;
+	@Min(0)
+	protected int validateAfterInactivityMs = 2000;
+	protected boolean http2Enabled = true;
+	protected boolean compressionEnabled = true;
+	protected boolean asyncEnabled;
+	@Min(0)
+	protected long hedgeDelayMs;
+
+	private MeteredConnectionManager connectionManager;
+	private ConnectionPool connectionPool;
 
 	protected RestTemplate restTemplate(RestTemplateBuilder builder) {
 		return restTemplate(builder, new RestResponseExceptionHandler());
@@ -117,69 +199,217 @@ public abstract class AbstractHttpClientConfig {
 				.build();
 	}
 
-	protected RestTemplateCustomizer restTemplateCustomizer() {
-		return restTemplate -> {
-			X509TrustManager x509TrustManager = new X509TrustManager() {
-				@Override
-				public void checkClientTrusted(X509Certificate[] chain, String authType) {
-				} //NOSONAR HTTP 클라이언트 용으로만 사용
+	/**
+	 * HTTP 클라이언트를 생성하고 지표를 등록
+	 *
+	 * @param restTemplate     REST 템플릿
+	 * @param threadPoolSize   최대 쓰레드 풀 크기
+	 * @param threadNamePrefix 시작 쓰레드명
+	 * @param meterRegistry    지표 저장소
+	 * @return HTTP 클라이언트
+	 */
+	protected HttpClient httpClient(RestTemplate restTemplate, int threadPoolSize, String threadNamePrefix,
+									ObjectProvider<MeterRegistry> meterRegistry) {
+		HttpClient httpClient = new HttpClient(restTemplate, asyncClient(threadNamePrefix), hedgeDelayMs,
+				DEFAULT_CORE_THREAD_POOL_SIZE, threadPoolSize, threadNamePrefix);
+		meterRegistry.ifAvailable(a -> {
+			httpClient.bindTo(a);
+			bindPoolMetrics(a, threadNamePrefix);
+		});
+		return httpClient;
+	}
 
-				@Override
-				public void checkServerTrusted(X509Certificate[] chain, String authType) {
-				} //NOSONAR HTTP 클라이언트 용으로만 사용
+	/**
+	 * 커넥션 풀 지표를 등록 (임대/유휴/대기/최대 커넥션 수, 커넥션 임대 시간)
+	 *
+	 * @param registry 지표 저장소
+	 * @param name     HTTP 클라이언트 이름
+	 */
+	protected void bindPoolMetrics(MeterRegistry registry, String name) {
+		if (connectionManager != null) {
+			Tags tags = Tags.of("name", name, "vendor", Vendor.HTTP_COMPONENTS.value);
+			Gauge.builder(METRIC_POOL_LEASED, connectionManager, a -> a.getTotalStats().getLeased())
+					.tags(tags)
+					.register(registry);
+			Gauge.builder(METRIC_POOL_AVAILABLE, connectionManager, a -> a.getTotalStats().getAvailable())
+					.tags(tags)
+					.register(registry);
+			Gauge.builder(METRIC_POOL_PENDING, connectionManager, a -> a.getTotalStats().getPending())
+					.tags(tags)
+					.register(registry);
+			Gauge.builder(METRIC_POOL_MAX, connectionManager, a -> a.getTotalStats().getMax())
+					.tags(tags)
+					.register(registry);
+			connectionManager.leaseTimer = Timer.builder(METRIC_POOL_LEASE)
+					.tags(tags)
+					.register(registry);
+		}
+		if (connectionPool != null) {
+			Tags tags = Tags.of("name", name, "vendor", Vendor.OK_HTTP.value);
+			Gauge.builder(METRIC_POOL_LEASED, connectionPool,
+							a -> (double) a.connectionCount() - a.idleConnectionCount())
+					.tags(tags)
+					.register(registry);
+			Gauge.builder(METRIC_POOL_AVAILABLE, connectionPool, ConnectionPool::idleConnectionCount)
+					.tags(tags)
+					.register(registry);
+			Gauge.builder(METRIC_POOL_MAX, connectionPool, a -> maxConnTotal)
+					.tags(tags)
+					.register(registry);
+		}
+	}
 
-				@Override
-				public X509Certificate[] getAcceptedIssuers() {
-					return new X509Certificate[0]; //NOSONAR HTTP 클라이언트 용으로만 사용
-				}
-			};
+	/**
+	 * 비동기 HTTP 클라이언트(OkHttp)를 생성 (async-enabled: true 인 경우만)
+	 * <pre>
+	 * - 요청은 디스패처 대기열에 쌓이고 호출 쓰레드는 대기하지 않음
+	 * - 전체 동시 요청 수: max-conn-total, 호스트(경로) 당 동시 요청 수: max-conn-per-route
+	 * - 디스패처 쓰레드 풀도 max-conn-total 로 제한 (완료 직후 다음 요청이 들어올 수 있으므로 같은 크기의 대기 큐 사용)
+	 * </pre>
+	 *
+	 * @param name 쓰레드명
+	 * @return 비동기 HTTP 클라이언트 (사용하지 않으면 null)
+	 */
+	protected OkHttpClient asyncClient(String name) {
+		if (!asyncEnabled) {
+			return null;
+		}
 
-			SSLContext sslContext;
-			try {
-				sslContext = SSLContexts.custom()
-						.loadTrustMaterial(null, new TrustSelfSignedStrategy())
-						.build();
-			} catch (NoSuchAlgorithmException | KeyStoreException | KeyManagementException e) {
-				throw new CommonException(CommonError.COM_HTTP_CLIENT_ERROR, e);
-			}
+		ThreadPoolExecutor executor = ThreadUtil.createThreadPool(maxConnTotal, maxConnTotal,
+				DEFAULT_CONNECTION_TIME_TO_LIVE_SEC, maxConnTotal, name + "-async");
+		executor.allowCoreThreadTimeOut(true);
+		Dispatcher dispatcher = new Dispatcher(executor);
+		dispatcher.setMaxRequests(maxConnTotal);
+		dispatcher.setMaxRequestsPerHost(maxConnPerRoute);
+		return okHttpClientBuilder(sslContext())
+				.dispatcher(dispatcher)
+				.build();
+	}
+
+	/**
+	 * OkHttp 클라이언트 설정 (동기/비동기 클라이언트가 커넥션 풀을 공유)
+	 *
+	 * @param sslContext SSL 설정
+	 * @return OkHttp 클라이언트 빌더
+	 */
+	protected OkHttpClient.Builder okHttpClientBuilder(SSLContext sslContext) {
+		if (connectionPool == null) {
+			connectionPool = new ConnectionPool(maxConnTotal, idleTimeoutSec, TimeUnit.SECONDS);
+		}
+		OkHttpClient.Builder builder = new OkHttpClient.Builder()
+				.connectTimeout(Duration.ofSeconds(connectTimeoutSec))
+				.readTimeout(Duration.ofSeconds(readTimeoutSec))
+				.connectionPool(connectionPool)
+				.protocols(http2Enabled
+						? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+						: Collections.singletonList(Protocol.HTTP_1_1))
+				.sslSocketFactory(sslContext.getSocketFactory(), TRUST_ALL)
+				.hostnameVerifier((hostname, session) -> true)
+				.retryOnConnectionFailure(false);
+		if (!compressionEnabled) {
+			builder.addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+					.header(HttpHeaders.ACCEPT_ENCODING, "identity")
+					.build()));
+		}
+		return builder;
+	}
+
+	protected SSLContext sslContext() {
+		try {
+			return SSLContexts.custom()
+					.loadTrustMaterial(null, new TrustSelfSignedStrategy())
+					.build();
+		} catch (NoSuchAlgorithmException | KeyStoreException | KeyManagementException e) {
+			throw new CommonException(CommonError.COM_HTTP_CLIENT_ERROR, e);
+		}
+	}
+
+	protected RestTemplateCustomizer restTemplateCustomizer() {
+		return restTemplate -> {
+			SSLContext sslContext = sslContext();
 
 			ClientHttpRequestFactory factory;
 			if (Vendor.HTTP_COMPONENTS.value.equalsIgnoreCase(vendor)) {
-				SSLConnectionSocketFactory scsf = new SSLConnectionSocketFactory(sslContext,
-						NoopHostnameVerifier.INSTANCE);
-				org.apache.http.client.HttpClient client = HttpClientBuilder.create()
-						.setDefaultRequestConfig(RequestConfig.custom()
-								.setConnectTimeout((int) Duration.ofSeconds(connectTimeoutSec).toMillis())
-								.setSocketTimeout((int) Duration.ofSeconds(readTimeoutSec).toMillis())
-								.build())
-						.setMaxConnPerRoute(maxConnPerRoute)
-						.setConnectionTimeToLive(DEFAULT_CONNECTION_TIME_TO_LIVE_SEC, TimeUnit.SECONDS)
-						.setSSLSocketFactory(scsf)
-						.build();
-				factory = new HttpComponentsClientHttpRequestFactory(client);
+				factory = new HttpComponentsClientHttpRequestFactory(httpComponentsClient(sslContext));
 			} else if (Vendor.OK_HTTP.value.equalsIgnoreCase(vendor)) {
-				ConnectionPool okHttpConnectionPool = new ConnectionPool(maxConnTotal,
-						DEFAULT_CONNECTION_TIME_TO_LIVE_SEC, TimeUnit.SECONDS);
-				OkHttpClient client = new OkHttpClient.Builder()
-						.connectTimeout(Duration.ofSeconds(connectTimeoutSec))
-						.readTimeout(Duration.ofSeconds(readTimeoutSec))
+				factory = new OkHttp3ClientHttpRequestFactory(okHttpClientBuilder(sslContext)
 						.cookieJar(new JavaNetCookieJar(new CookieManager()))
-						.connectionPool(okHttpConnectionPool)
-						.sslSocketFactory(sslContext.getSocketFactory(), x509TrustManager)
-						.hostnameVerifier((hostname, session) -> true)
-						.retryOnConnectionFailure(false)
-						.build();
-				factory = new OkHttp3ClientHttpRequestFactory(client);
+						.build());
 			} else {
-				CookieHandler.setDefault(new CookieManager());
-				HttpsURLConnection.setDefaultSSLSocketFactory(sslContext.getSocketFactory());
-				HttpsURLConnection.setDefaultHostnameVerifier((hostname, session) -> true);
-				factory = new SimpleClientHttpRequestFactory();
+				ClientHttpRequestFactory simpleFactory = new SimpleClientHttpRequestFactory() {
+					@Override
+					protected void prepareConnection(HttpURLConnection connection, String httpMethod)
+							throws IOException {
+						if (connection instanceof HttpsURLConnection) {
+							((HttpsURLConnection) connection).setSSLSocketFactory(sslContext.getSocketFactory());
+							((HttpsURLConnection) connection).setHostnameVerifier((hostname, session) -> true);
+						}
+						super.prepareConnection(connection, httpMethod);
+					}
+				};
+				factory = new InterceptingClientHttpRequestFactory(simpleFactory,
+						Collections.singletonList(cookieInterceptor(new CookieManager())));
 			}
 			restTemplate.setRequestFactory(factory);
 		};
 	}
 
+	/**
+	 * 쿠키 관리 인터셉터 (simple 벤더, JVM 전역 CookieHandler 대신 팩토리 별 쿠키 저장소 사용)
+	 *
+	 * @param cookieManager 쿠키 저장소
+	 * @return 요청에 쿠키를 추가하고 응답 쿠키를 저장하는 인터셉터
+	 */
+	protected ClientHttpRequestInterceptor cookieInterceptor(CookieManager cookieManager) {
+		return (request, body, execution) -> {
+			cookieManager.get(request.getURI(), request.getHeaders())
+					.forEach((k, v) -> {
+						if (!v.isEmpty()) {
+							request.getHeaders().put(k, v);
+						}
+					});
+			ClientHttpResponse response = execution.execute(request, body);
+			cookieManager.put(request.getURI(), response.getHeaders());
+			return response;
+		};
+	}
+
+	/**
+	 * Apache HTTP 클라이언트 생성
+	 * <pre>
+	 * - 전체(max-conn-total)/경로 당(max-conn-per-route) 커넥션 수 제한
+	 * - 유휴 커넥션 정리(idle-timeout-sec), 오래된 커넥션 재사용 전 검증(validate-after-inactivity-ms)
+	 * </pre>
+	 *
+	 * @param sslContext SSL 설정
+	 * @return Apache HTTP 클라이언트
+	 */
+	protected org.apache.http.client.HttpClient httpComponentsClient(SSLContext sslContext) {
+		connectionManager = new MeteredConnectionManager(RegistryBuilder.<ConnectionSocketFactory>create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory())
+				.register("https", new SSLConnectionSocketFactory(sslContext, NoopHostnameVerifier.INSTANCE))
+				.build(), connectionTimeToLiveSec);
+		connectionManager.setMaxTotal(maxConnTotal);
+		connectionManager.setDefaultMaxPerRoute(maxConnPerRoute);
+		connectionManager.setValidateAfterInactivity(validateAfterInactivityMs);
+
+		HttpClientBuilder builder = HttpClientBuilder.create()
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectTimeout((int) Duration.ofSeconds(connectTimeoutSec).toMillis())
+						.setSocketTimeout((int) Duration.ofSeconds(readTimeoutSec).toMillis())
+						.setConnectionRequestTimeout(leaseTimeoutMs > 0
+								? (int) leaseTimeoutMs
+								: (int) Duration.ofSeconds(connectTimeoutSec).toMillis())
+						.build())
+				.setConnectionManager(connectionManager)
+				.evictExpiredConnections()
+				.evictIdleConnections(idleTimeoutSec, TimeUnit.SECONDS);
+		if (!compressionEnabled) {
+			builder.disableContentCompression();
+		}
+		return builder.build();
+	}
+
 	protected RestTemplateRequestCustomizer<ClientHttpRequest> restTemplateRequestCustomizers() {
 		return request -> {
 			HttpHeaders httpHeaders = request.getHeaders();
@@ -196,6 +426,44 @@ public abstract class AbstractHttpClientConfig {
 //		}
 	}
 
+	/**
+	 * 커넥션 임대 대기 시간을 측정하는 커넥션 풀
+	 */
+	private static class MeteredConnectionManager
+			extends PoolingHttpClientConnectionManager {
+		private volatile Timer leaseTimer;
+
+		private MeteredConnectionManager(Registry<ConnectionSocketFactory> registry, int timeToLiveSec) {
+			super(registry, null, null, null, timeToLiveSec, TimeUnit.SECONDS);
+		}
+
+		@Override
+		public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+			ConnectionRequest request = super.requestConnection(route, state);
+			Timer timer = leaseTimer;
+			if (timer == null) {
+				return request;
+			}
+			return new ConnectionRequest() {
+				@Override
+				public HttpClientConnection get(long timeout, TimeUnit timeUnit)
+						throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+					long start = System.nanoTime();
+					try {
+						return request.get(timeout, timeUnit);
+					} finally {
+						timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+					}
+				}
+
+				@Override
+				public boolean cancel() {
+					return request.cancel();
+				}
+			};
+		}
+	}
+
 	/**
 	 * HTTP 클라이언트 벤더
 	 */
@@ -16,7 +16,9 @@
 
 package org.oh.common.config.httpclient;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.oh.common.util.HttpClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.web.client.RestTemplateBuilder;
@@ -41,9 +43,9 @@ public class HttpClientConfig
 	@Bean
 	public HttpClient httpClient(
 			RestTemplate restTemplate,
-			@Value("${" + PROPERTY_FULL_PREFIX + ".max-conn-total}") int threadPoolSize) {
-		return new HttpClient(restTemplate, DEFAULT_CORE_THREAD_POOL_SIZE, threadPoolSize,
-				DEFAULT_THREAD_POOL_NAME_PREFIX + PROPERTY_NAME);
+			@Value("${" + PROPERTY_FULL_PREFIX + ".max-conn-total}") int threadPoolSize,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		return httpClient(restTemplate, threadPoolSize, DEFAULT_THREAD_POOL_NAME_PREFIX + PROPERTY_NAME, meterRegistry);
 	}
 
 	@Primary
@@ -29,10 +29,12 @@ import org.oh.common.model.data.Sorting;
 import org.oh.common.model.validate.ValidList;
 import org.oh.common.model.validate.ValidationGroup;
 import org.oh.common.service.CrudService;
+import org.oh.common.util.CsvStreamWriter;
 import org.oh.common.util.JsonUtil;
 import org.springframework.beans.propertyeditors.StringArrayPropertyEditor;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -44,12 +46,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 
 import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * 기본 CRUD 컨트롤러
@@ -58,6 +62,11 @@ import java.util.List;
 @Validated(ValidationGroup.Api.class)
 public abstract class AbstractCrudController<T extends Model<ID>, ID>
 		implements DefaultController {
+	/**
+	 * CVS 스트리밍 출력시 flush 건수
+	 */
+	protected static final int CVS_FLUSH_SIZE = 1_000;
+
 	protected final CrudService<T, ID> service;
 
 	/**
@@ -218,4 +227,27 @@ public abstract class AbstractCrudController<T extends Model<ID>, ID>
 		return DefaultController.getResponseEntity(new ByteArrayResource(bytes),
 				MediaType.APPLICATION_OCTET_STREAM, fileName, bytes.length);
 	}
+
+	/**
+	 * 해당 조건으로 조회한 객체를 한 건씩 CVS 로 변환하여 응답 스트림에 바로 출력
+	 *
+	 * @param cvs         CVS 조건
+	 * @param finder      객체별 처리를 받아 조회하는 함수
+	 * @param charsetName 문자 인코딩
+	 * @return HTTP 응답 정보
+	 */
+	protected ResponseEntity<StreamingResponseBody> cvs(Cvs cvs, Consumer<Consumer<T>> finder, String charsetName) {
+		Charset charset = charsetName == null ? Charset.defaultCharset() : Charset.forName(charsetName);
+		String fileName = service.getTypeName().toLowerCase() + ".csv";
+		StreamingResponseBody body = out -> {
+			CsvStreamWriter writer = new CsvStreamWriter(out, charset, cvs.getFieldNames(), cvs.getHeader(),
+					CommonModel.Csv.class, CVS_FLUSH_SIZE);
+			finder.accept(writer::accept);
+			writer.flush();
+		};
+		return ResponseEntity.ok()
+				.header(HttpHeaders.CONTENT_DISPOSITION, "filename=" + fileName)
+				.contentType(MediaType.APPLICATION_OCTET_STREAM)
+				.body(body);
+	}
 }
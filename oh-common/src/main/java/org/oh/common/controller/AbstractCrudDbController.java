@@ -23,6 +23,8 @@ import org.oh.common.model.CommonModel;
 import org.oh.common.model.Model;
 import org.oh.common.model.data.Cvs;
 import org.oh.common.model.data.Paging;
+import org.oh.common.model.data.SeekPage;
+import org.oh.common.model.data.Seeking;
 import org.oh.common.model.data.Sorting;
 import org.oh.common.service.CrudDbService;
 import org.springframework.core.io.Resource;
@@ -33,6 +35,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -104,6 +107,28 @@ public abstract class AbstractCrudDbController<T extends Model<ID>, ID>
 		return entities;
 	}
 
+	/**
+	 * 해당 조건으로 커서 페이징 목록을 조회 (cursor 파라미터가 있는 경우, 빈값이면 첫 페이지)
+	 *
+	 * @param entity 검색 조건
+	 * @param page   커서 페이징 조건
+	 * @return 커서 페이징 목록
+	 */
+	@Operation(summary = "커서 페이지별 항목 조회")
+	@JsonView(CommonModel.Default.class)
+	@GetMapping(value = "page", params = Seeking.PARAM_CURSOR)
+	public SeekPage<T> findPage(T entity, Seeking page) {
+		entity.convert();
+		entity.encrypt();
+		SeekPage<T> entities = service.findPageOrEmpty(entity, page);
+		entities.getContent()
+				.forEach(e -> {
+					e.sum();
+					e.decrypt();
+				});
+		return entities;
+	}
+
 	/**
 	 * 해당 조건으로 검색 목록을 조회
 	 *
@@ -165,6 +190,23 @@ public abstract class AbstractCrudDbController<T extends Model<ID>, ID>
 		return cvs(cvs, entities, charsetName);
 	}
 
+	/**
+	 * 해당 조건으로 검색 목록을 한 건씩 조회하여 CVS 파일로 스트리밍 다운로드 (stream=true 인 경우)
+	 *
+	 * @param cvs         CVS 조건
+	 * @param entity      검색 조건
+	 * @param sort        정렬 조건
+	 * @param charsetName 캐릿터셋명
+	 * @return CVS 파일
+	 */
+	@Operation(summary = "CVS 스트리밍 다운로드")
+	@GetMapping(value = "cvs", params = Cvs.PARAM_STREAM + "=true")
+	public ResponseEntity<StreamingResponseBody> cvsStream(Cvs cvs, T entity, Sorting sort,
+														   @Parameter(description = "캐릿터셋명", example = "UTF-8")
+														   @RequestParam(required = false) String charsetName) {
+		return cvs(cvs, action -> service.findAllStream(entity, sort, action), charsetName);
+	}
+
 	/**
 	 * 해당 조건으로 데이터의 존재 여부
 	 *
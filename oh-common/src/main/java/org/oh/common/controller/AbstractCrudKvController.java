@@ -23,6 +23,8 @@ import org.oh.common.model.CommonModel;
 import org.oh.common.model.Model;
 import org.oh.common.model.data.Cvs;
 import org.oh.common.model.data.Paging;
+import org.oh.common.model.data.SeekPage;
+import org.oh.common.model.data.Seeking;
 import org.oh.common.model.data.Sorting;
 import org.oh.common.service.CrudService;
 import org.springframework.core.io.Resource;
@@ -31,6 +33,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.Serializable;
 import java.util.List;
@@ -61,6 +64,19 @@ public abstract class AbstractCrudKvController<T extends Model<ID>, ID extends S
 		return service.findPageOrEmpty(page);
 	}
 
+	/**
+	 * 해당 조건으로 커서 페이징 목록을 조회 (cursor 파라미터가 있는 경우, 빈값이면 첫 페이지)
+	 *
+	 * @param page 커서 페이징 조건
+	 * @return 커서 페이징 목록
+	 */
+	@Operation(summary = "커서 페이지별 항목 조회")
+	@JsonView(CommonModel.Default.class)
+	@GetMapping(value = "page", params = Seeking.PARAM_CURSOR)
+	public SeekPage<T> findPage(Seeking page) {
+		return service.findPageOrEmpty(page);
+	}
+
 	/**
 	 * 해당 조건으로 검색 목록을 조회
 	 *
@@ -108,4 +124,20 @@ public abstract class AbstractCrudKvController<T extends Model<ID>, ID extends S
 		List<T> entities = service.findAllOrEmpty(sort);
 		return cvs(cvs, entities, charsetName);
 	}
+
+	/**
+	 * 해당 조건으로 검색 목록을 한 건씩 조회하여 CVS 파일로 스트리밍 다운로드 (stream=true 인 경우)
+	 *
+	 * @param cvs         CVS 조건
+	 * @param sort        정렬 조건
+	 * @param charsetName 캐릿터셋명
+	 * @return CVS 파일
+	 */
+	@Operation(summary = "CVS 스트리밍 다운로드")
+	@GetMapping(value = "cvs", params = Cvs.PARAM_STREAM + "=true")
+	public ResponseEntity<StreamingResponseBody> cvsStream(Cvs cvs, Sorting sort,
+														   @Parameter(description = "캐릿터셋명", example = "UTF-8")
+														   @RequestParam(required = false) String charsetName) {
+		return cvs(cvs, action -> service.findAllStream(sort, action), charsetName);
+	}
 }
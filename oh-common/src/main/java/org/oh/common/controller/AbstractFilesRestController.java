@@ -23,18 +23,21 @@ import org.oh.common.exception.CommonException;
 import org.oh.common.model.AbstractFiles;
 import org.oh.common.service.file.AbstractFilesDbService;
 import org.oh.common.util.WebUtil;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.MediaTypeFactory;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.ResponseBody;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import java.io.File;
+import java.time.Duration;
+import java.util.Date;
 import java.util.Optional;
 
 /**
@@ -44,8 +47,21 @@ public abstract class AbstractFilesRestController<T extends AbstractFiles>
 		extends AbstractCrudDbController<T, Long> {
 	public static final String PATH = VERSION_1 + "/" + AbstractFiles.NAME_SPACE;
 
+	/**
+	 * 썸네일 이미지 캐시 기간 (썸네일은 아이디별로 변경되지 않음)
+	 */
+	public static final Duration THUMB_MAX_AGE = Duration.ofDays(365);
+
+	/**
+	 * 썸네일 이미지 생성중일 때 재요청 대기 시간 (초)
+	 */
+	public static final int THUMB_RETRY_AFTER = 1;
+
+	protected final AbstractFilesDbService<T> filesService;
+
 	protected AbstractFilesRestController(AbstractFilesDbService<T> service) {
 		super(service);
+		this.filesService = service;
 	}
 
 	/**
@@ -54,19 +70,19 @@ public abstract class AbstractFilesRestController<T extends AbstractFiles>
 	 * @param id       아이디
 	 * @param sizeType 이미지 크기 종류
 	 * @param request  HTTP 요청 정보
-	 * @return HTTP 응답 정보
+	 * @param response HTTP 응답 정보
 	 */
 	@ResponseBody
 	@Operation(summary = "파일 미리보기")
 //	@ResultLogging
 	@GetMapping({"view/{id}", "view/{id}/{sizeType}"})
-	public ResponseEntity<Resource> view(@Parameter(description = "아이디")
-										 @PathVariable Long id,
-										 @Parameter(description = "크기 종류")
-										 @PathVariable(required = false)
-										 AbstractFiles.SizeType sizeType,
-										 HttpServletRequest request) {
-		return getResponseEntity(id, sizeType, false, request);
+	public void view(@Parameter(description = "아이디")
+					 @PathVariable Long id,
+					 @Parameter(description = "크기 종류")
+					 @PathVariable(required = false)
+					 AbstractFiles.SizeType sizeType,
+					 HttpServletRequest request, HttpServletResponse response) {
+		writeFile(id, sizeType, false, request, response);
 	}
 
 	/**
@@ -75,63 +91,88 @@ public abstract class AbstractFilesRestController<T extends AbstractFiles>
 	 * @param id       아이디
 	 * @param sizeType 이미지 크기 종류
 	 * @param request  HTTP 요청 정보
-	 * @return HTTP 응답 정보
+	 * @param response HTTP 응답 정보
 	 */
 	@ResponseBody
 	@Operation(summary = "파일 다운로드")
 //	@ResultLogging
 	@GetMapping({"down/{id}", "down/{id}/{sizeType}"})
-	public ResponseEntity<Resource> down(@Parameter(description = "아이디")
-										 @PathVariable Long id,
-										 @Parameter(description = "크기 종류")
-										 @PathVariable(required = false)
-										 AbstractFiles.SizeType sizeType,
-										 HttpServletRequest request) {
-		return getResponseEntity(id, sizeType, true, request);
+	public void down(@Parameter(description = "아이디")
+					 @PathVariable Long id,
+					 @Parameter(description = "크기 종류")
+					 @PathVariable(required = false)
+					 AbstractFiles.SizeType sizeType,
+					 HttpServletRequest request, HttpServletResponse response) {
+		writeFile(id, sizeType, true, request, response);
 	}
 
 	/**
 	 * 해당 크기의 파일을 미리보기 또는 다운로드
+	 * <pre>
+	 * - 썸네일 이미지가 생성중(PENDING)이면 미리보기는 원본으로 대체하고, 다운로드는 202(Accepted)를 반환
+	 * - 생성 완료(READY)된 썸네일은 클러스터 복사로 모든 노드에 저장되므로 그 외 상태에서 파일이 없으면 404(Not Found)
+	 * </pre>
 	 *
 	 * @param id       아이디
 	 * @param sizeType 이미지 크기 종류
 	 * @param download 다운로드 여부 (true: 다운로드, false: 미리보기)
 	 * @param request  HTTP 요청 정보
-	 * @return HTTP 응답 정보
+	 * @param response HTTP 응답 정보
 	 */
-	protected ResponseEntity<Resource> getResponseEntity(Long id, AbstractFiles.SizeType sizeType,
-														 boolean download, HttpServletRequest request) {
+	protected void writeFile(Long id, AbstractFiles.SizeType sizeType, boolean download,
+							 HttpServletRequest request, HttpServletResponse response) {
 		T entity = findById(id);
 
 		AbstractFiles.SizeType sizeTypeTemp = Optional.ofNullable(sizeType)
 				.orElse(AbstractFiles.SizeType.ORIGIN);
-		File file = sizeTypeTemp == AbstractFiles.SizeType.ORIGIN ? entity.getOriginAttach().getFile() :
-				entity.getThumbAttach().getFile();
+		File file = filesService.getAttachment(entity, sizeTypeTemp).getFile();
+		if (!file.exists() && sizeTypeTemp != AbstractFiles.SizeType.ORIGIN
+				&& entity.getThumbState() == AbstractFiles.ThumbState.PENDING) {
+			if (download) {
+				response.setStatus(HttpStatus.ACCEPTED.value());
+				response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(THUMB_RETRY_AFTER));
+				return;
+			}
+			sizeTypeTemp = AbstractFiles.SizeType.ORIGIN;
+			file = entity.getOriginAttach().getFile();
+		}
 		if (!file.exists()) {
 			throw new CommonException(CommonError.COM_NOT_FOUND, "file: " + file.getAbsolutePath());
 		}
 
-		String fileNameTemp = sizeTypeTemp == AbstractFiles.SizeType.ORIGIN ? entity.getName() :
-				entity.getThumbAttach().getFile().getName();
+		String fileNameTemp = sizeTypeTemp == AbstractFiles.SizeType.ORIGIN ? entity.getName() : file.getName();
 		final String fileName = WebUtil.getEncodedFileName(fileNameTemp, request.getHeader("User-Agent"));
 		MediaType mediaType = download ? MediaType.APPLICATION_OCTET_STREAM :
 				MediaTypeFactory.getMediaType(fileName)
 						.orElseThrow(() ->
 								new CommonException(CommonError.COM_NOT_SUPPORTED, "fileName: " + fileName));
 
-		return getResponseEntity(entity, file, fileName, mediaType);
+		writeFile(entity, file, sizeTypeTemp, fileName, mediaType, request, response);
 	}
 
 	/**
 	 * 해당 조건의 파일을 미리보기 또는 다운로드
+	 * <pre>
+	 * - ETag 는 아이디, 크기 종류, 파일 크기, 수정일시로 생성
+	 * - 썸네일 이미지는 장기 캐시 (원본은 매번 ETag 로 재검증)
+	 * </pre>
 	 *
 	 * @param entity    파일 객체
 	 * @param file      실제 파일
+	 * @param sizeType  이미지 크기 종류
 	 * @param fileName  파일명
 	 * @param mediaType 미디어 타입
-	 * @return HTTP 응답 정보
+	 * @param request   HTTP 요청 정보
+	 * @param response  HTTP 응답 정보
 	 */
-	protected ResponseEntity<Resource> getResponseEntity(T entity, File file, String fileName, MediaType mediaType) {
-		return DefaultController.getResponseEntity(new FileSystemResource(file), mediaType, fileName, file.length());
+	protected void writeFile(T entity, File file, AbstractFiles.SizeType sizeType, String fileName,
+							 MediaType mediaType, HttpServletRequest request, HttpServletResponse response) {
+		long lastModified = Optional.ofNullable(entity.getModDate())
+				.map(Date::getTime)
+				.orElseGet(file::lastModified);
+		String etag = "\"" + entity.getId() + sizeType.getValue() + '-' + file.length() + '-' + lastModified + '"';
+		CacheControl cacheControl = sizeType == AbstractFiles.SizeType.ORIGIN ? CacheControl.noCache() :
+				CacheControl.maxAge(THUMB_MAX_AGE).cachePublic();
+		WebUtil.writeFile(request, response, file, mediaType, fileName, etag, lastModified, cacheControl);
 	}
 }
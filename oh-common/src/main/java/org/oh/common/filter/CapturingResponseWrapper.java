@@ -0,0 +1,181 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.filter;
+
+import lombok.Getter;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 응답 본문을 그대로 출력하면서 앞부분(최대 크기)만 복사해 두는 응답 래퍼
+ * <pre>
+ * - ContentCachingResponseWrapper 와 달리 전체 본문을 메모리에 적재하지 않음 (스트리밍 유지)
+ * - 복사 버퍼는 본문을 처음 출력할 때 한 번만 생성
+ * </pre>
+ */
+public class CapturingResponseWrapper
+		extends HttpServletResponseWrapper {
+	private final int maxSize;
+	private byte[] buffer;
+	private int length;
+
+	/**
+	 * 전체 출력 크기
+	 */
+	@Getter
+	private long total;
+
+	private ServletOutputStream outputStream;
+	private PrintWriter writer;
+
+	/**
+	 * @param response HTTP 응답 정보
+	 * @param maxSize  복사할 최대 크기
+	 */
+	public CapturingResponseWrapper(HttpServletResponse response, int maxSize) {
+		super(response);
+		this.maxSize = maxSize;
+	}
+
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if (writer != null) {
+			throw new IllegalStateException("getWriter() has already been called on this response.");
+		}
+		if (outputStream == null) {
+			outputStream = new CapturingOutputStream(getResponse().getOutputStream());
+		}
+		return outputStream;
+	}
+
+	@Override
+	public PrintWriter getWriter() throws IOException {
+		if (outputStream != null) {
+			throw new IllegalStateException("getOutputStream() has already been called on this response.");
+		}
+		if (writer == null) {
+			writer = new PrintWriter(new OutputStreamWriter(
+					new CapturingOutputStream(getResponse().getOutputStream()), getCharacterEncoding()));
+		}
+		return writer;
+	}
+
+	@Override
+	public void flushBuffer() throws IOException {
+		if (writer != null) {
+			writer.flush();
+		}
+		super.flushBuffer();
+	}
+
+	/**
+	 * 출력 버퍼에 남은 내용을 응답으로 출력
+	 */
+	public void flush() {
+		if (writer != null) {
+			writer.flush();
+		}
+	}
+
+	/**
+	 * 복사한 응답 본문을 문자열로 반환
+	 *
+	 * @return 응답 본문 (최대 크기 까지)
+	 */
+	public String getContent() {
+		if (length == 0) {
+			return null;
+		}
+		try {
+			return new String(buffer, 0, length, getCharacterEncoding());
+		} catch (UnsupportedEncodingException e) {
+			return new String(buffer, 0, length, StandardCharsets.UTF_8);
+		}
+	}
+
+	private void capture(int b) {
+		if (length < maxSize) {
+			if (buffer == null) {
+				buffer = new byte[maxSize];
+			}
+			buffer[length++] = (byte) b;
+		}
+		total++;
+	}
+
+	private void capture(byte[] b, int off, int len) {
+		int size = Math.min(len, maxSize - length);
+		if (size > 0) {
+			if (buffer == null) {
+				buffer = new byte[maxSize];
+			}
+			System.arraycopy(b, off, buffer, length, size);
+			length += size;
+		}
+		total += len;
+	}
+
+	private class CapturingOutputStream
+			extends ServletOutputStream {
+		private final ServletOutputStream out;
+
+		private CapturingOutputStream(ServletOutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			capture(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			capture(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			out.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			out.close();
+		}
+
+		@Override
+		public boolean isReady() {
+			return out.isReady();
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			out.setWriteListener(writeListener);
+		}
+	}
+}
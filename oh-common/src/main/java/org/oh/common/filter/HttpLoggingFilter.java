@@ -1,10 +1,13 @@
 package org.oh.common.filter;
 
 import lombok.Setter;
-import lombok.SneakyThrows;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.oh.common.config.CommonConfig;
 import org.oh.common.config.LoggingConfig;
 import org.oh.common.controller.DefaultController;
+import org.oh.common.util.JsonUtil;
 import org.oh.common.util.SpringUtil;
 import org.oh.common.util.StringUtil;
 import org.oh.common.util.ThreadLocalKey;
@@ -12,10 +15,11 @@ import org.oh.common.util.ThreadLocalUtil;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.filter.CommonsRequestLoggingFilter;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 import org.springframework.web.util.WebUtils;
 
 import javax.annotation.PostConstruct;
@@ -26,18 +30,62 @@ import javax.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * HTTP 로깅 필터
+ * <pre>
+ * - 포함/제외 경로와 샘플링 비율로 로깅 대상 요청을 선택
+ * - 응답 본문은 최대 크기 까지만 복사하고 나머지는 바로 출력 ({@link CapturingResponseWrapper})
+ * - 접근 로그는 JSON 형식으로 {@link #ACCESS_LOGGER} 로거에 비동기 출력 (큐가 차면 버림)
+ *
+ * application.yml
+ *
+ * ##### 공통 관리
+ * common:
+ *   logs:
+ *     api:
+ *       ### 로깅 대상 경로 (기본값: /v1/**)
+ *       include-paths: /v1/**
+ *       ### 로깅 제외 경로
+ *       exclude-paths: /v1/files/**
+ *       ### 샘플링 비율 (0.0 ~ 1.0, 기본값: 1.0)
+ *       sample-rate: 0.1
+ *       ### JSON 접근 로그 사용 여부 (기본값: false)
+ *       access-enabled: true
+ *       ### JSON 접근 로그 비동기 큐 크기 (기본값: 1024)
+ *       access-queue-size: 1024
+ * </pre>
  */
 @Setter
 @Component
 @ConfigurationProperties(CommonConfig.COMMON_PREFIX + ".logs.api")
 public class HttpLoggingFilter extends CommonsRequestLoggingFilter {
+	/**
+	 * JSON 접근 로그 로거 이름
+	 */
+	public static final String ACCESS_LOGGER = "org.oh.access";
+
+	private static final String SAMPLED_ATTRIBUTE = HttpLoggingFilter.class.getName() + ".SAMPLED";
+
+	private final Log accessLogger = LogFactory.getLog(ACCESS_LOGGER);
+	private final PathMatcher pathMatcher = new AntPathMatcher();
+
 	private int maxSize;
 	private boolean requestEnabled;
 	private boolean responseEnabled;
+	private double sampleRate = 1.0;
+	private List<String> includePaths = Collections.singletonList(DefaultController.VERSION_1 + "/**");
+	private List<String> excludePaths = Collections.emptyList();
+	private boolean accessEnabled;
+	private int accessQueueSize = 1024;
 
 	protected HttpLoggingFilter() {
 		setIncludeClientInfo(true);
@@ -53,45 +101,69 @@ public class HttpLoggingFilter extends CommonsRequestLoggingFilter {
 		if (requestEnabled) {
 			setIncludePayload(true);
 		}
+		if (accessEnabled) {
+			LoggingConfig.setAsyncAppender(ACCESS_LOGGER, accessQueueSize);
+		}
 	}
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 			throws ServletException, IOException {
-		String uri = request.getRequestURI();
-		if (uri.startsWith(DefaultController.VERSION_1)) {
-			boolean isFirstRequest = !isAsyncDispatch(request);
+		boolean isFirstRequest = !isAsyncDispatch(request);
+		if (isFirstRequest) {
+			request.setAttribute(SAMPLED_ATTRIBUTE, isSampled(request));
+		}
+
+		if (Boolean.TRUE.equals(request.getAttribute(SAMPLED_ATTRIBUTE))) {
 			HttpServletResponse responseToUse = response;
 
-			if (responseEnabled && isFirstRequest && !(response instanceof ContentCachingResponseWrapper)) {
-				responseToUse = new ContentCachingResponseWrapper(response);
+			if (responseEnabled && isFirstRequest
+					&& WebUtils.getNativeResponse(response, CapturingResponseWrapper.class) == null) {
+				responseToUse = new CapturingResponseWrapper(response, getMaxPayloadLength());
 				RequestContextHolder.setRequestAttributes(new ServletWebRequest(request, responseToUse));
 			}
 
-			ThreadLocalUtil.set(ThreadLocalKey.FILTER_START_TIME, System.currentTimeMillis());
+			ThreadLocalUtil.set(ThreadLocalKey.FILTER_START_TIME, System.nanoTime());
 			super.doFilterInternal(request, responseToUse, filterChain);
 		} else {
 			filterChain.doFilter(request, response);
 		}
 	}
 
-	@SneakyThrows
+	/**
+	 * 로깅 대상 요청 여부 (경로 포함/제외, 샘플링)
+	 *
+	 * @param request HTTP 요청 정보
+	 * @return 로깅 대상 여부
+	 */
+	protected boolean isSampled(HttpServletRequest request) {
+		String uri = request.getRequestURI();
+		return includePaths.stream().anyMatch(a -> pathMatcher.match(a, uri))
+				&& excludePaths.stream().noneMatch(a -> pathMatcher.match(a, uri))
+				&& (sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+	}
+
+	@Override
+	protected boolean shouldLog(HttpServletRequest request) {
+		return accessEnabled || super.shouldLog(request);
+	}
+
 	@Override
 	protected String createMessage(HttpServletRequest request, String prefix, String suffix) {
 		StringBuilder msg = new StringBuilder();
-		if (DEFAULT_AFTER_MESSAGE_PREFIX.equals(prefix)) {
+		if (DEFAULT_AFTER_MESSAGE_PREFIX.equals(prefix) && logger.isDebugEnabled()) {
 			msg.append("[");
 			msg.append(String.format("method={%s}", request.getMethod()));
 			msg.append(super.createMessage(request, ";", ""));
-			msg.append(String.format(", params={%s}", request.getParameterMap().entrySet().stream()
+			msg.append(String.format(", params={%s}", StringUtils.truncate(request.getParameterMap().entrySet()
+					.stream()
 					.map(e -> e.getKey() + "=" + Arrays.toString(e.getValue()))
-					.collect(Collectors.joining(","))));
+					.collect(Collectors.joining(",")), getMaxPayloadLength())));
 			SpringUtil.getResponse()
 					.map(this::getMessageResponse)
 					.ifPresent(b -> msg.append(", response=").append(b));
-			ThreadLocalUtil.get(ThreadLocalKey.FILTER_START_TIME, Long.class)
-					.ifPresent(a -> msg.append(String.format(", time={%s}",
-							StringUtil.toStringTime(System.currentTimeMillis() - a))));
+			getElapsedTime()
+					.ifPresent(a -> msg.append(String.format(", time={%s}", StringUtil.toStringTime(a))));
 			msg.append(DEFAULT_AFTER_MESSAGE_SUFFIX);
 		}
 		return msg.toString();
@@ -104,24 +176,59 @@ public class HttpLoggingFilter extends CommonsRequestLoggingFilter {
 
 	@Override
 	protected void afterRequest(HttpServletRequest request, String message) {
-		super.afterRequest(request, message);
-		logger.debug(LoggingConfig.TWO_LINE_50);
+		if (accessEnabled && accessLogger.isInfoEnabled()) {
+			accessLogger.info(JsonUtil.toString(createAccessRecord(request)));
+		}
+		if (logger.isDebugEnabled()) {
+			super.afterRequest(request, message);
+			logger.debug(LoggingConfig.TWO_LINE_50);
+		}
 		ThreadLocalUtil.remove(ThreadLocalKey.FILTER_START_TIME);
 	}
 
-	@SneakyThrows
+	/**
+	 * JSON 접근 로그 정보 생성
+	 *
+	 * @param request HTTP 요청 정보
+	 * @return 접근 로그 정보
+	 */
+	protected Map<String, Object> createAccessRecord(HttpServletRequest request) {
+		Map<String, Object> record = new LinkedHashMap<>();
+		record.put("method", request.getMethod());
+		record.put("uri", request.getRequestURI());
+		record.put("query", request.getQueryString());
+		record.put("ip", request.getRemoteAddr());
+		SpringUtil.getResponse().ifPresent(a -> {
+			record.put("status", a.getStatus());
+			CapturingResponseWrapper wrapper = WebUtils.getNativeResponse(a, CapturingResponseWrapper.class);
+			if (wrapper != null) {
+				record.put("bytes", wrapper.getTotal());
+			}
+		});
+		getElapsedTime().ifPresent(a -> record.put("time", a));
+		if (requestEnabled) {
+			record.put("request", getMessagePayload(request));
+		}
+		if (responseEnabled) {
+			record.put("response", SpringUtil.getResponse()
+					.map(this::getMessageResponse)
+					.orElse(null));
+		}
+		return record;
+	}
+
 	@Nullable
 	protected String getMessageResponse(HttpServletResponse response) {
-		ContentCachingResponseWrapper wrapper =
-				WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+		CapturingResponseWrapper wrapper = WebUtils.getNativeResponse(response, CapturingResponseWrapper.class);
 		if (wrapper != null) {
-			byte[] buf = wrapper.getContentAsByteArray();
-			wrapper.copyBodyToResponse();
-			if (buf.length > 0) {
-				int length = Math.min(buf.length, getMaxPayloadLength());
-				return new String(buf, 0, length);
-			}
+			wrapper.flush();
+			return wrapper.getContent();
 		}
 		return null;
 	}
+
+	private Optional<Long> getElapsedTime() {
+		return ThreadLocalUtil.get(ThreadLocalKey.FILTER_START_TIME, Long.class)
+				.map(a -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - a));
+	}
 }
@@ -16,20 +16,32 @@
 
 package org.oh.common.filter;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.map.listener.EntryAddedListener;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.DecodingException;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.time.DateUtils;
+import org.oh.common.config.DataGridConfig;
 import org.oh.common.config.SecurityConfig;
 import org.oh.common.exception.CommonError;
 import org.oh.common.exception.CommonException;
@@ -38,6 +50,7 @@ import org.oh.common.model.user.Login;
 import org.oh.common.security.PropertyUserDetailsService;
 import org.oh.common.util.JsonUtil;
 import org.oh.common.util.SecurityUtil;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.security.core.Authentication;
@@ -58,9 +71,19 @@ import java.security.Key;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 보안 필터
+ * <pre>
+ * - 검증한 토큰(JWT 토큰 정보, AES256 로그인 정보)은 토큰 해시를 키로 만료 시간 까지 캐시 (cache-size: 0 이면 미사용)
+ * - JWT 인증 정보는 요청 마다 새로 만들어 반환 (캐시한 객체를 여러 요청이 공유하지 않음)
+ * - 폐기한 토큰은 {@link #revokeToken(String)} 으로 캐시에서 제거하고 토큰의 만료 시간 까지 이후 요청을 거부
+ *   (cache-size 와 무관, 갯수 제한 없음)
+ * - 폐기 목록은 데이터 그리드가 있으면 맵({@link DataGridConfig#MAP_NAME_REVOKED_TOKEN})으로 노드간 공유하고
+ *   각 노드는 맵 추가 이벤트로 받은 로컬 사본으로 확인 (없으면 노드별로만 유지)
+ * - 캐시 지표: oh.security.token.jwt / oh.security.token.login (cache.gets, cache.evictions, ...)
+ * </pre>
  */
 @Slf4j
 @Data
@@ -73,13 +96,29 @@ import java.util.Optional;
 public class SecurityFilter
 		extends OncePerRequestFilter {
 	public static final int DEFAULT_EXPIRE_TIME = 60 * 4;
+	public static final String METRIC_TOKEN = "oh.security.token";
 
 	protected final PropertyUserDetailsService userDetailsService;
 	protected final TextEncryptor textEncryptor;
+	protected final ObjectProvider<MeterRegistry> meterRegistry;
+	protected final ObjectProvider<HazelcastInstance> hazelcast;
 
 	private String secret;
 	private Integer expireTimeMin;
 	private Key key;
+	private JwtParser parser;
+
+	/**
+	 * 검증한 토큰 캐시 최대 갯수 (기본값: 10,000, 0 이면 미사용)
+	 */
+	private int cacheSize = 10_000;
+	private Cache<String, Verified<Jws<Claims>>> jwtCache;
+	private Cache<String, Verified<Login>> loginCache;
+	/**
+	 * 폐기한 토큰 해시와 토큰 만료 시간 (토큰 별 만료 시간 까지 유지)
+	 */
+	private com.github.benmanes.caffeine.cache.Cache<String, Long> revokedCache;
+	private IMap<String, Long> revokedMap;
 
 	private static CommonException handleException(Error error, String token, Exception e) {
 //		log.error(ExceptionUtil.getMessageAndType(e), e);
@@ -101,8 +140,7 @@ public class SecurityFilter
 			SecurityUtil.getToken(request)
 					.map(SecurityUtil::substringAfterBearer)
 					.ifPresent(a -> {
-						Jws<Claims> jwt = validateToken(a);
-						Authentication auth = SecurityUtil.getAuthentication(jwt, a);
+						Authentication auth = getAuthentication(a);
 //						log.debug("'{}' save authentication info. {}", auth.getName(), WebUtil.getRequestInfo(request));
 						SecurityContextHolder.getContext().setAuthentication(auth);
 					});
@@ -116,7 +154,125 @@ public class SecurityFilter
 	@PostConstruct
 	private void init() {
 		Optional.ofNullable(secret)
-				.ifPresent(a -> key = SecurityUtil.createKey(a));
+				.ifPresent(a -> {
+					key = SecurityUtil.createKey(a);
+					parser = SecurityUtil.createParser(key);
+				});
+
+		revokedCache = Caffeine.newBuilder()
+				.expireAfter(new RevokedExpiry())
+				.build();
+		hazelcast.ifAvailable(a -> {
+			revokedMap = a.getMap(DataGridConfig.MAP_NAME_REVOKED_TOKEN);
+			revokedMap.addEntryListener((EntryAddedListener<String, Long>) e ->
+					revokedCache.put(e.getKey(), e.getValue()), true);
+			revokedCache.putAll(revokedMap);
+		});
+
+		if (cacheSize > 0) {
+			int maxTimeMin = ObjectUtils.defaultIfNull(expireTimeMin, DEFAULT_EXPIRE_TIME);
+			jwtCache = createCache(maxTimeMin);
+			loginCache = createCache(maxTimeMin);
+			meterRegistry.ifAvailable(a -> {
+				GuavaCacheMetrics.monitor(a, jwtCache, METRIC_TOKEN + ".jwt");
+				GuavaCacheMetrics.monitor(a, loginCache, METRIC_TOKEN + ".login");
+			});
+		}
+	}
+
+	private <V> Cache<String, V> createCache(int maxTimeMin) {
+		return CacheBuilder.newBuilder()
+				.maximumSize(cacheSize)
+				.expireAfterWrite(maxTimeMin, TimeUnit.MINUTES)
+				.recordStats()
+				.build();
+	}
+
+	/**
+	 * 해당 문자열 토큰을 폐기 (캐시에서 제거하고 토큰의 만료 시간 까지 이후 요청을 거부)
+	 *
+	 * @param token 문자열 토큰
+	 */
+	public void revokeToken(String token) {
+		String tokenTemp = SecurityUtil.substringAfterBearer(token);
+		String hash = SecurityUtil.getHex(tokenTemp);
+		long expireTime = getExpireTime(tokenTemp);
+		long ttl = expireTime - System.currentTimeMillis();
+		if (ttl <= 0) {
+			return;
+		}
+
+		revokedCache.put(hash, expireTime);
+		if (revokedMap != null) {
+			// 만료 시간이 없는 토큰은 영구 보관 (ttl 0)
+			revokedMap.set(hash, expireTime, expireTime == Long.MAX_VALUE ? 0 : ttl, TimeUnit.MILLISECONDS);
+		}
+		Optional.ofNullable(jwtCache)
+				.ifPresent(a -> a.invalidate(hash));
+		Optional.ofNullable(loginCache)
+				.ifPresent(a -> a.invalidate(hash));
+	}
+
+	/**
+	 * 토큰 폐기 여부 (다른 저장소를 사용하는 경우 재정의)
+	 *
+	 * @param hash 토큰 해시
+	 * @return 폐기 여부
+	 */
+	protected boolean isRevoked(String hash) {
+		return revokedCache.getIfPresent(hash) != null;
+	}
+
+	/**
+	 * 해당 문자열 토큰의 만료 시간을 반환 (알 수 없으면 지금부터 기본 토큰 만료 시간)
+	 *
+	 * @param token 문자열 토큰
+	 * @return 만료 시간 (밀리초, 이미 만료되었으면 0, 만료 시간이 없으면 Long.MAX_VALUE)
+	 */
+	protected long getExpireTime(String token) {
+		try {
+			if (userDetailsService.isEnabled()) {
+				return Optional.ofNullable(validateToken(token).getBody().getExpiration())
+						.map(Date::getTime)
+						.orElse(Long.MAX_VALUE);
+			}
+			return Optional.ofNullable(decryptLogin(token).getExpireDate())
+					.map(Date::getTime)
+					.orElse(Long.MAX_VALUE);
+		} catch (CommonException e) {
+			if (e.getError() == CommonError.COM_EXPIRED_TOKEN) {
+				return 0;
+			}
+			log.debug("Unknown token expire time: {}", e.getMessage());
+			return DateUtils.addMinutes(new Date(), ObjectUtils.defaultIfNull(expireTimeMin, DEFAULT_EXPIRE_TIME))
+					.getTime();
+		}
+	}
+
+	/**
+	 * 해당 문자열 토큰으로 인증 정보를 반환 (검증한 토큰은 만료 시간 까지 캐시, 인증 정보는 요청 마다 생성)
+	 *
+	 * @param token 문자열 토큰
+	 * @return 인증 정보
+	 */
+	protected Authentication getAuthentication(String token) {
+		String hash = SecurityUtil.getHex(token);
+		if (isRevoked(hash)) {
+			throw new CommonException(CommonError.COM_INVALID_TOKEN, "revoked token: " + token);
+		}
+		if (jwtCache == null) {
+			return SecurityUtil.getAuthentication(validateToken(token), token);
+		}
+
+		Verified<Jws<Claims>> verified = jwtCache.getIfPresent(hash);
+		if (verified == null || verified.isExpired()) {
+			Jws<Claims> jwt = validateToken(token);
+			verified = new Verified<>(jwt, Optional.ofNullable(jwt.getBody().getExpiration())
+					.map(Date::getTime)
+					.orElse(Long.MAX_VALUE));
+			jwtCache.put(hash, verified);
+		}
+		return SecurityUtil.getAuthentication(verified.getValue(), token);
 	}
 
 	/**
@@ -155,7 +311,7 @@ public class SecurityFilter
 	 */
 	protected Jws<Claims> validateToken(String token) {
 		try {
-			return SecurityUtil.getJws(key, token);
+			return (parser == null ? SecurityUtil.createParser(key) : parser).parseClaimsJws(token);
 
 //			Claims claims = SecurityUtil.getJws(key, token).getBody();
 //			String claimsTemp = String.format("expireTime: %s, %s: %s, %s: %s", claims.getExpiration(),
@@ -191,15 +347,7 @@ public class SecurityFilter
 			String token = SecurityUtil.getToken(request)
 					.orElseThrow(() -> new CommonException(CommonError.COM_NO_VALID_TOKEN));
 
-			String userJson;
-			try {
-//				userJson = AESEncryptUtil.decrypt(token);
-				userJson = textEncryptor.decrypt(token);
-			} catch (IllegalArgumentException | IllegalStateException e) {
-				throw handleException(CommonError.COM_INVALID_TOKEN, token, e);
-			}
-			Login login = JsonUtil.readValue(userJson, Login.class);
-//			log.debug("user: {} {}", userJson, WebUtil.getRequestInfo(request));
+			Login login = getLogin(token);
 
 			Date currentDate = new Date();
 			if (login.getExpireDate() == null || login.getExpireDate().compareTo(currentDate) < 0) {
@@ -216,4 +364,85 @@ public class SecurityFilter
 			}
 		}
 	}
+
+	/**
+	 * 해당 문자열 토큰(AES256)을 복호화한 로그인 정보를 반환 (만료 시간 까지 캐시)
+	 *
+	 * @param token 문자열 토큰
+	 * @return 로그인 정보
+	 */
+	private Login getLogin(String token) {
+		String hash = SecurityUtil.getHex(token);
+		if (isRevoked(hash)) {
+			throw new CommonException(CommonError.COM_INVALID_TOKEN, "revoked token: " + token);
+		}
+		if (loginCache != null) {
+			Verified<Login> verified = loginCache.getIfPresent(hash);
+			if (verified != null && !verified.isExpired()) {
+				return verified.getValue();
+			}
+		}
+
+		Login login = decryptLogin(token);
+		if (loginCache != null && login.getExpireDate() != null) {
+			loginCache.put(hash, new Verified<>(login, login.getExpireDate().getTime()));
+		}
+		return login;
+	}
+
+	/**
+	 * 해당 문자열 토큰(AES256)을 복호화한 로그인 정보를 반환
+	 *
+	 * @param token 문자열 토큰
+	 * @return 로그인 정보
+	 */
+	private Login decryptLogin(String token) {
+		String userJson;
+		try {
+//			userJson = AESEncryptUtil.decrypt(token);
+			userJson = textEncryptor.decrypt(token);
+		} catch (IllegalArgumentException | IllegalStateException e) {
+			throw handleException(CommonError.COM_INVALID_TOKEN, token, e);
+		}
+		return JsonUtil.readValue(userJson, Login.class);
+//		log.debug("user: {}", userJson);
+	}
+
+	/**
+	 * 검증한 토큰 정보
+	 *
+	 * @param <V> 값 유형
+	 */
+	@Value
+	private static class Verified<V> {
+		V value;
+		long expireTime;
+
+		boolean isExpired() {
+			return expireTime <= System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * 폐기한 토큰의 만료 시간 까지 유지
+	 */
+	private static class RevokedExpiry
+			implements Expiry<String, Long> {
+		@Override
+		public long expireAfterCreate(String key, Long value, long currentTime) {
+			long remainMs = value - System.currentTimeMillis();
+			return remainMs >= TimeUnit.NANOSECONDS.toMillis(Long.MAX_VALUE) ? Long.MAX_VALUE :
+					TimeUnit.MILLISECONDS.toNanos(Math.max(remainMs, 0));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Long value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Long value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
 }
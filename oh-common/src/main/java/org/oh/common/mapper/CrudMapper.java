@@ -19,10 +19,13 @@ package org.oh.common.mapper;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.apache.ibatis.cursor.Cursor;
 import org.oh.common.model.Model;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 기본 CRUD 매퍼 인터페이스
@@ -37,6 +40,19 @@ public interface CrudMapper<T extends Model<ID>, ID> {
 //	@ResultLogging
 	boolean insert(T entity);
 
+	/**
+	 * 해당 객체 목록을 한번에 추가 (다중 행 INSERT)
+	 * <pre>
+	 * - 첫번째 객체에 값이 있는 컬럼만 포함하므로 값이 있는 컬럼이 같은 객체 목록으로 호출 (null 컬럼은 DB 기본값 사용)
+	 * - Oracle/Tibero 는 생성된 아이디를 반환하지 않음
+	 * </pre>
+	 *
+	 * @param entities 객체 목록
+	 * @return 추가 건수
+	 */
+//	@ResultLogging
+	int insertAll(List<T> entities);
+
 	/**
 	 * 해당 조건으로 검색 목록을 조회
 	 *
@@ -46,6 +62,23 @@ public interface CrudMapper<T extends Model<ID>, ID> {
 //	@ResultLogging
 	List<T> find(Map<String, Object> params);
 
+	/**
+	 * 해당 조건으로 검색 목록을 커서로 조회 (세션이 열려 있는 동안만 사용 가능)
+	 *
+	 * @param params 파라미터
+	 * @return 객체 커서
+	 */
+	Cursor<T> findCursor(Map<String, Object> params);
+
+	/**
+	 * 아이디 목록 중에 존재하는 아이디 목록을 조회 (아이디만 조회)
+	 *
+	 * @param ids 아이디 목록
+	 * @return 존재하는 아이디 목록
+	 */
+//	@ResultLogging
+	List<ID> findIds(List<ID> ids);
+
 	/**
 	 * 검색 건수를 조회
 	 *
@@ -64,6 +97,15 @@ public interface CrudMapper<T extends Model<ID>, ID> {
 //	@ResultLogging
 	boolean update(Map<String, Object> params);
 
+	/**
+	 * 아이디에 해당하는 객체 목록을 한번에 수정 (null 항목은 수정 안함)
+	 *
+	 * @param entities 객체 목록 (아이디 필수, 중복 불가)
+	 * @return 수정 건수
+	 */
+//	@ResultLogging
+	int updateAll(List<T> entities);
+
 	/**
 	 * 해당 조건으로 검색 목록을 삭제
 	 *
@@ -73,19 +115,44 @@ public interface CrudMapper<T extends Model<ID>, ID> {
 //	@ResultLogging
 	boolean delete(Map<String, Object> params);
 
+	/**
+	 * 아이디 목록에 해당하는 객체 목록을 한번에 삭제 (아이디 외의 조건이 없는 경우만 사용)
+	 *
+	 * @param ids 아이디 목록
+	 * @return 삭제 건수
+	 */
+//	@ResultLogging
+	int deleteAll(List<ID> ids);
+
 	/**
 	 * DB 벤더
 	 */
 	@Getter
 	@AllArgsConstructor(access = AccessLevel.PRIVATE)
 	enum Vendor {
-		H2("h2"),
-		MYSQL("mysql"),
-		POSTGRESQL("postgresql"),
-		ORACLE("oracle"),
-		TIBERO("tibero"),
-		MSSQL("mssql");
+		H2("h2", true),
+		MYSQL("mysql", true),
+		POSTGRESQL("postgresql", true),
+		ORACLE("oracle", false),
+		TIBERO("tibero", false),
+		MSSQL("mssql", true);
 
 		private final String value;
+		/**
+		 * 다중 행 VALUES 구문 지원 여부 (미지원시 INSERT ... SELECT ... UNION ALL 사용)
+		 */
+		private final boolean multiValues;
+
+		/**
+		 * 값에 해당하는 열거명을 반환
+		 *
+		 * @param value 열거 값
+		 * @return 열거명
+		 */
+		public static Optional<Vendor> findOrEmpty(String value) {
+			return Arrays.stream(values())
+					.filter(e -> e.getValue().equalsIgnoreCase(value))
+					.findFirst();
+		}
 	}
 }
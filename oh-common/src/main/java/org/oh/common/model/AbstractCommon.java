@@ -25,6 +25,7 @@ import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
+import org.oh.common.annotation.DataGridIndex;
 import org.oh.common.model.enume.State;
 
 import javax.persistence.Column;
@@ -66,6 +67,7 @@ public abstract class AbstractCommon
 	@Column(length = 20, nullable = false, columnDefinition = State.ENUM)
 	@ColumnDefault(State.DEFAULT)
 	@Comment(State.DESC)
+	@DataGridIndex
 	protected State state;
 
 	@Override
@@ -26,12 +26,16 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.Comment;
 import org.oh.common.annotation.ExcludeLogging;
 import org.oh.common.model.enume.State;
+import org.oh.common.util.ImageUtil;
 
 import javax.persistence.Column;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
 import javax.persistence.MappedSuperclass;
 import javax.persistence.Transient;
 import javax.validation.constraints.Min;
@@ -84,6 +88,16 @@ public abstract class AbstractFiles
 	@Comment("크기")
 	protected Long size;
 
+	/**
+	 * 썸네일 이미지 상태
+	 */
+	@JsonProperty(index = 740)
+	@Schema(description = ThumbState.DESC)
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)
+	@Comment(ThumbState.DESC)
+	protected ThumbState thumbState;
+
 	/**
 	 * 원본 파일
 	 */
@@ -100,6 +114,14 @@ public abstract class AbstractFiles
 	@Transient
 	protected Attachment thumbAttach;
 
+	/**
+	 * 중 크기 썸네일 이미지
+	 */
+	@JsonIgnore
+	@ExcludeLogging
+	@Transient
+	protected Attachment mediumAttach;
+
 	/**
 	 * 썸네일 이미지 생성 여부
 	 */
@@ -121,7 +143,7 @@ public abstract class AbstractFiles
 	}
 
 	/**
-	 * 첨부 파일
+	 * 첨부 파일 (파일 경로, 크기, 해시만 보관하고 내용은 필요할 때 파일에서 읽음)
 	 */
 	@Data
 	@SuperBuilder
@@ -134,8 +156,19 @@ public abstract class AbstractFiles
 		protected File file;
 
 		/**
-		 * 파일 내용
+		 * 파일 크기
 		 */
+		protected Long size;
+
+		/**
+		 * 파일 내용의 SHA-256 해시 (중복 확인용)
+		 */
+		protected String hash;
+
+		/**
+		 * 파일 내용 (클러스터 복사 사용시에만 설정)
+		 */
+		@ToString.Exclude
 		protected byte[] bytes;
 	}
 
@@ -148,11 +181,48 @@ public abstract class AbstractFiles
 		/**
 		 * 원본 크기
 		 */
-		ORIGIN(""),
+		ORIGIN("", ImageUtil.RATIO),
+		/**
+		 * 중 크기
+		 */
+		MEDIUM("m", ImageUtil.THUMB_WIDTH * 2),
 		/**
 		 * 소 크기
 		 */
-		SMALL("s");
+		SMALL("s", ImageUtil.THUMB_WIDTH);
+
+		private final String value;
+
+		/**
+		 * 썸네일 가로 크기 (원본은 RATIO)
+		 */
+		private final int width;
+	}
+
+	/**
+	 * 썸네일 이미지 상태
+	 */
+	@Getter
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	public enum ThumbState {
+		/**
+		 * 생성 안함
+		 */
+		NONE("생성 안함"),
+		/**
+		 * 생성중
+		 */
+		PENDING("생성중"),
+		/**
+		 * 생성 완료
+		 */
+		READY("생성 완료"),
+		/**
+		 * 생성 실패
+		 */
+		FAILED("생성 실패");
+
+		public static final String DESC = "썸네일 상태 (NONE:생성 안함, PENDING:생성중, READY:생성 완료, FAILED:생성 실패)";
 
 		private final String value;
 	}
@@ -20,12 +20,14 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonView;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.hazelcast.config.IndexType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
+import org.oh.common.annotation.DataGridIndex;
 import org.oh.common.converter.DateTimeFormatConverter;
 import org.oh.common.model.data.Condition;
 import org.oh.common.util.JsonUtil;
@@ -84,6 +86,7 @@ public abstract class AbstractModel<ID>
 	@ColumnDefault(DEFAULT_DATE)
 	@Comment("등록일시")
 //	@Temporal(TemporalType.TIMESTAMP)
+	@DataGridIndex(IndexType.SORTED)
 	protected Date regDate;
 
 	/**
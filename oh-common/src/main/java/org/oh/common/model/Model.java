@@ -19,13 +19,9 @@ package org.oh.common.model;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import org.apache.commons.lang3.reflect.FieldUtils;
-import org.oh.common.exception.CommonError;
-import org.oh.common.exception.CommonException;
-
-import javax.persistence.Id;
+import org.oh.common.util.ClassMetadata;
 
 import java.io.Serializable;
-import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
@@ -135,20 +131,9 @@ public interface Model<ID>
 	 */
 	@SuppressWarnings("unchecked")
 	default ID id() {
-		List<Field> fields = FieldUtils.getFieldsListWithAnnotation(getClass(), Id.class);
-		if (fields.isEmpty()) {
-			fields = FieldUtils.getFieldsListWithAnnotation(getClass(),
-					org.springframework.data.annotation.Id.class);
-			if (fields.isEmpty()) {
-				throw new CommonException(CommonError.COM_NO_ID_FIELD);
-			}
-		}
-
-		try {
-			return (ID) FieldUtils.readField(fields.get(0), this, true);
-		} catch (IllegalAccessException e) {
-			throw new CommonException(e);
-		}
+		return (ID) ClassMetadata.of(getClass())
+				.getRequiredId()
+				.get(this);
 	}
 
 	/**
@@ -25,9 +25,17 @@ import lombok.Data;
 @Schema(description = "CVS")
 @Data
 public class Cvs {
+	/**
+	 * 스트리밍 다운로드 파라미터명
+	 */
+	public static final String PARAM_STREAM = "stream";
+
 	@Schema(description = "필드명 리스트", example = "id,state,regDate,modDate")
 	protected String fieldNames;
 
 	@Schema(description = "헤더", example = "아이디,상태,등록일시,수정일시")
 	protected String header;
+
+	@Schema(description = "스트리밍 다운로드 여부 (전체 목록을 메모리에 적재하지 않음)", example = "false")
+	protected boolean stream;
 }
@@ -26,6 +26,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.Comment;
+import org.oh.common.annotation.DataGridIndex;
 import org.oh.common.config.DataGridConfig;
 import org.oh.common.converter.JsonDataConverter;
 import org.oh.common.model.AbstractCommon;
@@ -61,6 +62,7 @@ public class Data
 	@Schema(description = "종류")
 	@Column(length = 100)
 	@Comment("종류")
+	@DataGridIndex
 	protected String type;
 
 	/**
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.model.data;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 커서(키셋) 페이징 목록
+ */
+@Schema(description = "커서 페이지 목록")
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SeekPage<T> {
+	/**
+	 * 조회 결과로 커서 페이징 목록을 생성
+	 *
+	 * @param rows  조회 목록 (페이지 당 항목 수 + 1 건까지 조회한 결과)
+	 * @param page  커서 페이징 정보
+	 * @param sort  조회용 정렬 기준 ({@link Seeking#seekable(String)})
+	 * @param total 전체 건수 (조회 안한 경우 null)
+	 * @return 커서 페이징 목록
+	 */
+	public static <T> SeekPage<T> of(List<T> rows, Seeking page, Sort sort, Long total) {
+		boolean prev = page.isPrev();
+		boolean more = rows.size() > page.getPsize();
+		List<T> content = new ArrayList<>(more ? rows.subList(0, page.getPsize()) : rows);
+		if (prev) {
+			Collections.reverse(content);
+		}
+
+		// 커서는 다음 페이지 방향의 정렬 기준으로 생성
+		Sort forward = prev ? Seeking.reverse(sort) : sort;
+		String next = null;
+		String previous = null;
+		if (!content.isEmpty()) {
+			if (prev || more) {
+				next = Seeking.toCursor(content.get(content.size() - 1), forward, false);
+			}
+			if (prev ? more : StringUtils.isNotEmpty(page.getCursor())) {
+				previous = Seeking.toCursor(content.get(0), forward, true);
+			}
+		}
+		return new SeekPage<>(content, page.getPsize(), next, previous, total);
+	}
+
+	/**
+	 * 목록
+	 */
+	@Schema(description = "목록")
+	private final List<T> content;
+
+	/**
+	 * 페이지 당 항목 수
+	 */
+	@Schema(description = "페이지 당 항목 수")
+	private final int psize;
+
+	/**
+	 * 다음 페이지 커서 (없으면 마지막 페이지)
+	 */
+	@Schema(description = "다음 페이지 커서 (없으면 마지막 페이지)")
+	private final String next;
+
+	/**
+	 * 이전 페이지 커서 (없으면 첫 페이지)
+	 */
+	@Schema(description = "이전 페이지 커서 (없으면 첫 페이지)")
+	private final String prev;
+
+	/**
+	 * 전체 건수 (조회 안한 경우 null)
+	 */
+	@Schema(description = "전체 건수 (조회 안한 경우 null)")
+	private final Long total;
+
+	/**
+	 * 목록이 비었는지 여부
+	 *
+	 * @return 공백 여부
+	 */
+	public boolean isEmpty() {
+		return content.isEmpty();
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.model.data;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+import org.apache.commons.lang3.StringUtils;
+import org.oh.common.exception.CommonError;
+import org.oh.common.exception.CommonException;
+import org.oh.common.util.ClassMetadata;
+import org.oh.common.util.JsonUtil;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 커서(키셋) 페이징 정보
+ * <pre>
+ * - 정렬 기준 컬럼과 아이디 값으로 다음/이전 페이지를 조회 (OFFSET 사용 안함)
+ * - 커서는 이전 조회 결과(SeekPage)의 next 또는 prev 값을 그대로 사용
+ * - 커서는 생성할 때의 정렬 기준에 묶이므로 정렬 기준을 바꾸면 첫 페이지부터 다시 조회
+ * - 정렬 기준 컬럼은 null 이 없어야 함
+ * </pre>
+ */
+@Schema(description = "커서 페이지")
+@Getter
+@Setter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@SuperBuilder
+@NoArgsConstructor
+public class Seeking
+		extends Sorting {
+	/**
+	 * 커서 파라미터명
+	 */
+	public static final String PARAM_CURSOR = "cursor";
+
+	private static final String NEXT = "n";
+	private static final String PREV = "p";
+
+	/**
+	 * 커서 (없으면 첫 페이지)
+	 */
+	@Schema(description = "커서 (이전 조회 결과의 next 또는 prev, 없으면 첫 페이지)")
+	protected String cursor;
+
+	/**
+	 * 페이지 당 항목 수
+	 */
+	@Schema(description = "페이지 당 항목 수", example = "20")
+	@Builder.Default
+	protected int psize = 20;
+
+	/**
+	 * 전체 건수 조회 여부
+	 */
+	@Schema(description = "전체 건수 조회 여부", example = "false")
+	protected boolean count;
+
+	/**
+	 * 객체의 정렬 기준 컬럼 값으로 커서를 생성 (정렬 기준의 서명을 함께 저장)
+	 *
+	 * @param entity 대상 객체
+	 * @param sort   정렬 기준 (아이디 포함, 다음 페이지 방향)
+	 * @param prev   이전 페이지 여부
+	 * @return 커서
+	 */
+	public static String toCursor(Object entity, Sort sort, boolean prev) {
+		ClassMetadata metadata = ClassMetadata.of(entity.getClass());
+		List<Object> values = new ArrayList<>();
+		values.add(prev ? PREV : NEXT);
+		values.add(toSignature(sort));
+		sort.forEach(e -> values.add(getField(metadata, e.getProperty()).get(entity)));
+		return Base64.getUrlEncoder()
+				.withoutPadding()
+				.encodeToString(JsonUtil.toString(values).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 이전 페이지 조회 여부
+	 *
+	 * @return 이전 페이지 여부
+	 */
+	public boolean isPrev() {
+		return decode().map(a -> PREV.equals(a.get(0)))
+				.orElse(false);
+	}
+
+	/**
+	 * 정렬 기준에 아이디를 추가한 조회용 정렬 기준 (이전 페이지 조회시 역순)
+	 *
+	 * @param idName 아이디 필드명
+	 * @return 조회용 정렬 기준
+	 */
+	public Sort seekable(String idName) {
+		Sort sort = sortable();
+		if (sort.getOrderFor(idName) == null) {
+			Sort.Direction direction = sort.stream()
+					.reduce((a, b) -> b)
+					.map(Sort.Order::getDirection)
+					.orElse(Sort.Direction.ASC);
+			sort = sort.and(Sort.by(direction, idName));
+		}
+		return isPrev() ? reverse(sort) : sort;
+	}
+
+	/**
+	 * 정렬 기준의 방향을 반대로 변경
+	 *
+	 * @param sort 정렬 기준
+	 * @return 반대 방향 정렬 기준
+	 */
+	public static Sort reverse(Sort sort) {
+		List<Sort.Order> orders = new ArrayList<>();
+		sort.forEach(e -> orders.add(e.with(e.getDirection().isAscending() ?
+				Sort.Direction.DESC : Sort.Direction.ASC)));
+		return Sort.by(orders);
+	}
+
+	/**
+	 * 커서의 정렬 기준 컬럼 값을 필드 타입으로 변환하여 반환 (커서가 없으면 빈값)
+	 * <pre>
+	 * - 커서를 만든 정렬 기준과 다르면 예외 발생
+	 * </pre>
+	 *
+	 * @param type 대상 클래스
+	 * @param sort 조회용 정렬 기준
+	 * @return 정렬 기준 컬럼 값
+	 */
+	public List<Object> values(Class<?> type, Sort sort) {
+		Optional<List<Object>> values = decode();
+		if (!values.isPresent()) {
+			return Collections.emptyList();
+		}
+
+		List<Sort.Order> orders = sort.toList();
+		if (values.get().size() != orders.size() + 2
+				|| !toSignature(isPrev() ? reverse(sort) : sort).equals(values.get().get(1))) {
+			throw new CommonException(CommonError.COM_INVALID_ARGUMENT, "[\"" + PARAM_CURSOR + "\",\"" + cursor + "\"]");
+		}
+		ClassMetadata metadata = ClassMetadata.of(type);
+		List<Object> result = new ArrayList<>();
+		for (int i = 0; i < orders.size(); i++) {
+			Object value = values.get().get(i + 2);
+			result.add(metadata.getField(orders.get(i).getProperty())
+					.<Object>map(a -> JsonUtil.convertValue(value, a.getField().getType()))
+					.orElse(value));
+		}
+		return result;
+	}
+
+	/**
+	 * 정렬 기준의 서명 (컬럼과 방향으로 만든 해시)
+	 *
+	 * @param sort 정렬 기준 (다음 페이지 방향)
+	 * @return 서명
+	 */
+	private static String toSignature(Sort sort) {
+		String orders = sort.stream()
+				.map(e -> e.getProperty() + ':' + e.getDirection())
+				.collect(Collectors.joining(","));
+		return Integer.toHexString(orders.hashCode());
+	}
+
+	private Optional<List<Object>> decode() {
+		if (StringUtils.isEmpty(cursor)) {
+			return Optional.empty();
+		}
+		try {
+			String json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			return Optional.of(JsonUtil.OBJECT_MAPPER.readValue(json, new TypeReference<List<Object>>() {
+			}));
+		} catch (Exception e) {
+			throw new CommonException(CommonError.COM_INVALID_ARGUMENT, "[\"" + PARAM_CURSOR + "\",\"" + cursor + "\"]", e);
+		}
+	}
+
+	private static ClassMetadata.Accessor getField(ClassMetadata metadata, String name) {
+		return metadata.getField(name)
+				.orElseThrow(() -> new CommonException(CommonError.COM_INVALID_ARGUMENT,
+						"[\"" + metadata.getType().getSimpleName() + "\",{\"sort\":\"" + name + "\"}]"));
+	}
+}
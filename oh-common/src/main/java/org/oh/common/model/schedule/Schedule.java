@@ -24,6 +24,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.Comment;
+import org.oh.common.annotation.DataGridIndex;
 import org.oh.common.config.DataGridConfig;
 import org.oh.common.model.AbstractCommon;
 import org.springframework.data.keyvalue.annotation.KeySpace;
@@ -56,6 +57,7 @@ public class Schedule
 	@NotBlank
 	@Column(length = 100, nullable = false)
 	@Comment("종류")
+	@DataGridIndex
 	protected String type;
 
 	/**
@@ -67,4 +69,12 @@ public class Schedule
 	@Column(length = 100, nullable = false)
 	@Comment("프로세스 아이디")
 	protected String pid;
+
+	/**
+	 * 체크포인트 (분할 처리시 다음에 처리할 페이지 번호, null: 처리할 페이지 없음)
+	 */
+	@JsonProperty(index = 30)
+	@Schema(description = "체크포인트")
+	@Comment("체크포인트")
+	protected Long checkpoint;
 }
@@ -16,15 +16,18 @@
 
 package org.oh.common.model.schedule;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Comment;
 import org.hibernate.annotations.DynamicInsert;
 import org.hibernate.annotations.DynamicUpdate;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Index;
 import javax.persistence.Table;
@@ -49,4 +52,12 @@ import javax.persistence.Table;
 @org.hibernate.annotations.Table(appliesTo = Schedule.NAME_SPACE, comment = Schedule.TABLE_DESC)
 public class ScheduleDb
 		extends Schedule {
+	/**
+	 * 펜싱 토큰 (리스를 다른 소유자가 가져갈 때마다 1씩 증가)
+	 */
+	@JsonProperty(index = 40)
+	@Schema(description = "펜싱 토큰")
+	@Column(nullable = false)
+	@Comment("펜싱 토큰")
+	protected Long token;
 }
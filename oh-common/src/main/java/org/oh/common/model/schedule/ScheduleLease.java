@@ -0,0 +1,70 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.model.schedule;
+
+import lombok.Value;
+
+import java.io.Serializable;
+
+/**
+ * 스케쥴 실행 리스 (종류별로 하나의 소유자만 유효한 리스를 가짐)
+ * <pre>
+ * - 리스 만료 전까지 소유자가 갱신하지 않으면 다른 소유자가 획득
+ * - 펜싱 토큰은 소유자가 바뀔 때마다 증가하므로 이전 소유자의 늦은 처리를 구분할 수 있음
+ * </pre>
+ */
+@Value
+public class ScheduleLease
+		implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 스케쥴 종류
+	 */
+	String type;
+
+	/**
+	 * 소유자 (호스트:포트:프로세스 아이디)
+	 */
+	String owner;
+
+	/**
+	 * 펜싱 토큰
+	 */
+	long token;
+
+	/**
+	 * 만료 시각 (밀리초)
+	 */
+	long expireTime;
+
+	/**
+	 * 체크포인트 (소유자가 바뀌어도 유지하여 이어서 처리)
+	 */
+	Long checkpoint;
+
+	/**
+	 * 해당 소유자의 유효한 리스 여부
+	 *
+	 * @param owner 소유자
+	 * @param now   현재 시각 (밀리초)
+	 * @return 유효 여부
+	 */
+	public boolean isOwnedBy(String owner, long now) {
+		return this.owner != null && this.owner.equals(owner) && expireTime >= now;
+	}
+}
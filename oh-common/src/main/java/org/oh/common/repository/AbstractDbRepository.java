@@ -17,10 +17,17 @@
 package org.oh.common.repository;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.oh.common.exception.CommonError;
+import org.oh.common.exception.DefaultException;
 import org.oh.common.model.data.Query;
+import org.oh.common.model.data.SeekPage;
+import org.oh.common.model.data.Seeking;
+import org.oh.common.util.ClassMetadata;
 import org.oh.common.util.QueryUtil;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.data.support.PageableExecutionUtils;
 
@@ -29,8 +36,10 @@ import javax.persistence.PersistenceContext;
 import javax.persistence.TypedQuery;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 기본 DB 레파지토리
@@ -100,6 +109,40 @@ public abstract class AbstractDbRepository
 		return findPage(query.toString(), query.getParameters(), countProjection, pageable, resultType);
 	}
 
+	@Override
+	public <T> SeekPage<T> findPage(Query query, Seeking page, Class<T> resultType) {
+		DefaultException.assertTrue(StringUtils.isEmpty(query.getGroupBy()), CommonError.COM_INVALID_ARGUMENT,
+				"GroupBy is not supported", null);
+		Sort sort = page.seekable(ClassMetadata.of(resultType).getRequiredId().getName());
+		List<Object> values = page.values(resultType, sort);
+
+		Query seekQuery = Query.builder()
+				.select(query.getSelect())
+				.from(query.getFrom())
+				.where(query.getWhere())
+				.parameters(new HashMap<>(Optional.ofNullable(query.getParameters())
+						.orElseGet(HashMap::new)))
+				.build();
+		if (!values.isEmpty()) {
+			String alias = QueryUtils.detectAlias(seekQuery.toString());
+			String where = QueryUtil.createSeekWhere(seekQuery.getParameters(), alias, sort, values);
+			seekQuery.setWhere(StringUtils.defaultString(seekQuery.getWhere()) + " AND (" + where + ")");
+		}
+		String qlString = QueryUtils.applySorting(seekQuery.toString(), sort);
+		TypedQuery<T> typedQuery = getTypeQuery(qlString, resultType);
+		List<T> content = getResultList(typedQuery, seekQuery.getParameters(), page.getPsize() + 1);
+
+		Long total = null;
+		if (page.isCount()) {
+			seekQuery.setWhere(query.getWhere());
+			String countQuery = QueryUtils.createCountQueryFor(seekQuery.toString())
+					.replace(" FETCH", "");
+			List<Long> result = getResultList(getTypeQuery(countQuery, Long.class), query.getParameters());
+			total = result.size() == 1 ? result.get(0) : (long) result.size();
+		}
+		return SeekPage.of(content, page, sort, total);
+	}
+
 	///////////////////////////////////
 
 	@Override
@@ -131,7 +174,7 @@ public abstract class AbstractDbRepository
 	protected <T> Page<T> getResultPage(TypedQuery<T> query, Map<String, Object> parameters,
 										TypedQuery<Long> countQuery, Pageable pageable) {
 		List<Long> result = getResultList(countQuery, parameters);
-		long total = result.size() == 1 ? result.get(0) : result.size();
+		long total = result.size() == 1 ? result.get(0) : (long) result.size();
 
 		query.setFirstResult((int) pageable.getOffset());
 		query.setMaxResults(pageable.getPageSize());
@@ -16,16 +16,113 @@
 
 package org.oh.common.repository;
 
+import com.hazelcast.query.Predicate;
 import org.oh.common.model.Model;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.keyvalue.repository.KeyValueRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
 import java.io.Serializable;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * 데이터 그리드 CRUD 레파지토리
+ * <pre>
+ * - 예제/조건 조회는 Hazelcast 조건({@link DataGridPredicateBuilder})으로 각 멤버에서 실행 ({@link DataGridCrudRepository})
+ * - 예제 조회는 지원하는 메소드만 제공 (QueryByExampleExecutor 의 fluent 조회(findBy)는 미지원)
+ * - 사용시 @EnableHazelcastRepositories(repositoryBaseClass = DataGridCrudRepository.class) 설정 필요
+ * </pre>
  */
 @NoRepositoryBean
 public interface CrudRepository<T extends Model<ID>, ID extends Serializable>
 		extends KeyValueRepository<T, ID>, CommonCrudRepository<T, ID> {
+	/**
+	 * 해당 예제에 맞는 1건을 조회
+	 *
+	 * @param example 예제
+	 * @return 대상 객체 (2건 이상이면 IncorrectResultSizeDataAccessException 발생)
+	 */
+	<S extends T> Optional<S> findOne(Example<S> example);
+
+	/**
+	 * 해당 예제에 맞는 목록을 조회
+	 *
+	 * @param example 예제
+	 * @return 목록
+	 */
+	<S extends T> List<S> findAll(Example<S> example);
+
+	/**
+	 * 해당 예제에 맞는 정렬된 목록을 조회
+	 *
+	 * @param example 예제
+	 * @param sort    정렬 기준
+	 * @return 목록
+	 */
+	<S extends T> List<S> findAll(Example<S> example, Sort sort);
+
+	/**
+	 * 해당 예제에 맞는 페이징 목록을 조회
+	 *
+	 * @param example  예제
+	 * @param pageable 페이징 조건
+	 * @return 페이징 목록
+	 */
+	<S extends T> Page<S> findAll(Example<S> example, Pageable pageable);
+
+	/**
+	 * 해당 예제에 맞는 건수를 조회
+	 *
+	 * @param example 예제
+	 * @return 건수
+	 */
+	<S extends T> long count(Example<S> example);
+
+	/**
+	 * 해당 예제에 맞는 대상이 있는지 확인
+	 *
+	 * @param example 예제
+	 * @return 존재 여부
+	 */
+	<S extends T> boolean exists(Example<S> example);
+
+	/**
+	 * 해당 조건으로 정렬된 목록을 조회
+	 *
+	 * @param predicate 조회 조건
+	 * @param sort      정렬 기준
+	 * @return 목록
+	 */
+	List<T> findAll(Predicate<ID, T> predicate, Sort sort);
+
+	/**
+	 * 해당 조건으로 정렬된 목록을 최대 건수 만큼 조회
+	 *
+	 * @param predicate 조회 조건
+	 * @param sort      정렬 기준
+	 * @param limit     최대 건수
+	 * @return 목록
+	 */
+	List<T> findAll(Predicate<ID, T> predicate, Sort sort, int limit);
+
+	/**
+	 * 해당 조건으로 페이징 목록을 조회
+	 *
+	 * @param predicate 조회 조건
+	 * @param pageable  페이징 조건
+	 * @return 페이징 목록
+	 */
+	Page<T> findAll(Predicate<ID, T> predicate, Pageable pageable);
+
+	/**
+	 * 해당 조건의 건수를 조회
+	 *
+	 * @param predicate 조회 조건
+	 * @return 건수
+	 */
+	long count(Predicate<ID, T> predicate);
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.repository;
+
+import com.google.common.collect.Lists;
+import com.hazelcast.query.Predicate;
+import org.oh.common.model.Model;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.keyvalue.core.KeyValueOperations;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.keyvalue.repository.support.SimpleKeyValueRepository;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 데이터 그리드 CRUD 레파지토리 구현 (예제/조건 조회를 Hazelcast 조건으로 각 멤버에서 실행)
+ * <pre>
+ * - 정렬/페이징은 Hazelcast PagingPredicate 로 처리 (HazelcastQueryEngine)
+ * - 전체 맵을 가져와서 필터링하지 않으므로 @DataGridIndex 필드 조건은 인덱스를 사용
+ * </pre>
+ */
+public class DataGridCrudRepository<T extends Model<ID>, ID extends Serializable>
+		extends SimpleKeyValueRepository<T, ID>
+		implements CrudRepository<T, ID> {
+	private final KeyValueOperations operations;
+	private final Class<T> type;
+
+	public DataGridCrudRepository(EntityInformation<T, ID> metadata, KeyValueOperations operations) {
+		super(metadata, operations);
+		this.operations = operations;
+		this.type = metadata.getJavaType();
+	}
+
+	@Override
+	public List<T> findAll(Predicate<ID, T> predicate, Sort sort) {
+		return find(predicate, sort, 0, 0, type);
+	}
+
+	@Override
+	public List<T> findAll(Predicate<ID, T> predicate, Sort sort, int limit) {
+		return find(predicate, sort, 0, limit, type);
+	}
+
+	@Override
+	public Page<T> findAll(Predicate<ID, T> predicate, Pageable pageable) {
+		return findPage(predicate, pageable, type);
+	}
+
+	@Override
+	public long count(Predicate<ID, T> predicate) {
+		return operations.count(new KeyValueQuery<>(predicate), type);
+	}
+
+	@Override
+	public <S extends T> Optional<S> findOne(Example<S> example) {
+		List<S> result = find(toPredicate(example), Sort.unsorted(), 0, 2, example.getProbeType());
+		if (result.size() > 1) {
+			throw new IncorrectResultSizeDataAccessException(1, result.size());
+		}
+		return result.stream().findFirst();
+	}
+
+	@Override
+	public <S extends T> List<S> findAll(Example<S> example) {
+		return findAll(example, Sort.unsorted());
+	}
+
+	@Override
+	public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+		return find(toPredicate(example), sort, 0, 0, example.getProbeType());
+	}
+
+	@Override
+	public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+		return findPage(toPredicate(example), pageable, example.getProbeType());
+	}
+
+	@Override
+	public <S extends T> long count(Example<S> example) {
+		return operations.count(new KeyValueQuery<>(toPredicate(example)), example.getProbeType());
+	}
+
+	@Override
+	public <S extends T> boolean exists(Example<S> example) {
+		return !find(toPredicate(example), Sort.unsorted(), 0, 1, example.getProbeType()).isEmpty();
+	}
+
+	private <S> Predicate<ID, T> toPredicate(Example<S> example) {
+		return DataGridPredicateBuilder.getPredicate(example.getProbeType(), example);
+	}
+
+	private <S> List<S> find(Predicate<ID, T> predicate, Sort sort, long offset, int rows, Class<S> resultType) {
+		KeyValueQuery<Predicate<ID, T>> query = new KeyValueQuery<>(predicate, sort);
+		if (rows > 0) {
+			query.setOffset(offset);
+			query.setRows(rows);
+		}
+		return Lists.newArrayList(operations.find(query, resultType));
+	}
+
+	private <S> Page<S> findPage(Predicate<ID, T> predicate, Pageable pageable, Class<S> resultType) {
+		if (pageable.isUnpaged()) {
+			List<S> result = find(predicate, pageable.getSort(), 0, 0, resultType);
+			return new PageImpl<>(result, pageable, result.size());
+		}
+
+		List<S> content = find(predicate, pageable.getSort(), pageable.getOffset(), pageable.getPageSize(),
+				resultType);
+		return PageableExecutionUtils.getPage(content, pageable,
+				() -> operations.count(new KeyValueQuery<>(predicate), resultType));
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.repository;
+
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.oh.common.util.ClassMetadata;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 데이터 그리드(Hazelcast) 조회 조건 생성 (조건은 각 멤버에서 실행)
+ * <pre>
+ * - 예제 조회: 예제 객체의 null 이 아닌 단순 타입 필드를 같음/LIKE/정규식 조건으로 변환 (@Transient 필드 제외)
+ * - 같은 맵에 여러 모델이 저장되므로 조회 대상 타입 조건을 먼저 적용
+ * </pre>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataGridPredicateBuilder {
+	private static final char LIKE_ESCAPE = '\\';
+
+	/**
+	 * 조회 대상 타입의 예제 조회 조건을 반환
+	 *
+	 * @param type    조회 대상 타입
+	 * @param example 예제
+	 * @return 조회 조건
+	 */
+	public static <K, V> Predicate<K, V> getPredicate(Class<?> type, Example<?> example) {
+		ExampleMatcher matcher = example.getMatcher();
+		Object probe = example.getProbe();
+
+		List<Predicate<K, V>> predicates = new ArrayList<>();
+		for (ClassMetadata.Accessor field : ClassMetadata.of(probe.getClass()).getPersistentFields()) {
+			String path = field.getName();
+			if (matcher.isIgnoredPath(path)) {
+				continue;
+			}
+
+			ExampleMatcher.PropertySpecifier specifier = matcher.getPropertySpecifiers().getForPath(path);
+			Optional<Object> value = Optional.ofNullable(field.get(probe));
+			if (specifier != null) {
+				value = specifier.transformValue(value);
+			}
+			if (!value.isPresent()) {
+				if (matcher.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE
+						&& BeanUtils.isSimpleValueType(field.getField().getType())) {
+					predicates.add(Predicates.equal(path, null));
+				}
+				continue;
+			}
+			if (!(value.get() instanceof Comparable) || !BeanUtils.isSimpleValueType(value.get().getClass())) {
+				continue;
+			}
+			predicates.add(getPredicate(path, (Comparable<?>) value.get(), matcher, specifier));
+		}
+
+		Predicate<K, V> condition = predicates.isEmpty() ? Predicates.alwaysTrue()
+				: matcher.isAllMatching() ? Predicates.and(toArray(predicates))
+				: Predicates.or(toArray(predicates));
+		return Predicates.and(Predicates.instanceOf(type), condition);
+	}
+
+	/**
+	 * 조회 대상 타입의 커서(키셋) 페이징 조건을 반환 (정렬 기준 순서대로 마지막 값 이후)
+	 * <pre>
+	 * 예) (state > ?) OR (state = ? AND id < ?)
+	 * </pre>
+	 *
+	 * @param type   조회 대상 타입
+	 * @param sort   조회용 정렬 기준
+	 * @param values 정렬 기준 필드 값
+	 * @return 조회 조건
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static <K, V> Predicate<K, V> getSeekPredicate(Class<?> type, Sort sort, List<Object> values) {
+		if (values.isEmpty()) {
+			return Predicates.instanceOf(type);
+		}
+
+		List<Sort.Order> orders = sort.toList();
+		List<Predicate<K, V>> ors = new ArrayList<>();
+		for (int i = 0; i < orders.size(); i++) {
+			List<Predicate<K, V>> ands = new ArrayList<>();
+			for (int j = 0; j < i; j++) {
+				ands.add(Predicates.equal(orders.get(j).getProperty(), (Comparable) values.get(j)));
+			}
+			Comparable value = (Comparable) values.get(i);
+			ands.add(orders.get(i).isAscending() ? Predicates.greaterThan(orders.get(i).getProperty(), value)
+					: Predicates.lessThan(orders.get(i).getProperty(), value));
+			ors.add(Predicates.and(toArray(ands)));
+		}
+		return Predicates.and(Predicates.instanceOf(type), Predicates.or(toArray(ors)));
+	}
+
+	private static <K, V> Predicate<K, V> getPredicate(String path, Comparable<?> value, ExampleMatcher matcher,
+													   ExampleMatcher.PropertySpecifier specifier) {
+		if (!(value instanceof String)) {
+			return Predicates.equal(path, value);
+		}
+
+		ExampleMatcher.StringMatcher stringMatcher = Optional.ofNullable(specifier)
+				.map(ExampleMatcher.PropertySpecifier::getStringMatcher)
+				.orElse(matcher.getDefaultStringMatcher());
+		boolean ignoreCase = Optional.ofNullable(specifier)
+				.map(ExampleMatcher.PropertySpecifier::getIgnoreCase)
+				.orElse(matcher.isIgnoreCaseEnabled());
+		String string = (String) value;
+		switch (stringMatcher) {
+			case STARTING:
+				return like(path, escape(string) + '%', ignoreCase);
+			case ENDING:
+				return like(path, '%' + escape(string), ignoreCase);
+			case CONTAINING:
+				return like(path, '%' + escape(string) + '%', ignoreCase);
+			case REGEX:
+				return Predicates.regex(path, ignoreCase ? "(?i)" + string : string);
+			default:
+				return ignoreCase ? like(path, escape(string), true) : Predicates.equal(path, string);
+		}
+	}
+
+	private static <K, V> Predicate<K, V> like(String path, String expression, boolean ignoreCase) {
+		return ignoreCase ? Predicates.ilike(path, expression) : Predicates.like(path, expression);
+	}
+
+	private static String escape(String value) {
+		StringBuilder sb = new StringBuilder(value.length() + 8);
+		for (char c : value.toCharArray()) {
+			if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+				sb.append(LIKE_ESCAPE);
+			}
+			sb.append(c);
+		}
+		return sb.toString();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K, V> Predicate<K, V>[] toArray(List<Predicate<K, V>> predicates) {
+		return predicates.toArray((Predicate<K, V>[]) new Predicate<?, ?>[0]);
+	}
+}
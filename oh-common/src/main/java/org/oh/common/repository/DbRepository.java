@@ -17,6 +17,8 @@
 package org.oh.common.repository;
 
 import org.oh.common.model.data.Query;
+import org.oh.common.model.data.SeekPage;
+import org.oh.common.model.data.Seeking;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -121,6 +123,19 @@ public interface DbRepository {
 	 */
 	<T> Page<T> findPage(Query query, String countProjection, Pageable pageable, Class<T> resultType);
 
+	/**
+	 * 해당 조건으로 커서 페이징 목록을 조회 (결과 타입의 아이디 필드를 정렬 기준에 추가)
+	 * <pre>
+	 * - 쿼리의 GROUP BY, ORDER BY 절은 사용할 수 없음 (정렬은 커서 페이징 조건의 정렬 기준 사용)
+	 * </pre>
+	 *
+	 * @param query      쿼리
+	 * @param page       커서 페이징 조건
+	 * @param resultType 결과 타입
+	 * @return 커서 페이징 목록
+	 */
+	<T> SeekPage<T> findPage(Query query, Seeking page, Class<T> resultType);
+
 	/**
 	 * 해당 조건으로 데이터를 수정
 	 *
@@ -17,16 +17,108 @@
 package org.oh.common.repository.schedule;
 
 import org.oh.common.config.EntityConfig;
+import org.oh.common.model.enume.State;
 import org.oh.common.model.schedule.ScheduleDb;
 import org.oh.common.repository.CrudDbRepository;
 import org.oh.common.service.schedule.ScheduleService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
 
 /**
  * DB 스케쥴 레파지토리
+ * <pre>
+ * - 종류별로 1건의 행(아이디: 종류)을 실행 리스로 사용 (소유자: pid, 펜싱 토큰: token, 갱신 시각: mod_date, 체크포인트: checkpoint)
+ * - 갱신 시각은 DB 의 CURRENT_TIMESTAMP 로 기록하고 만료 기준 시각도 DB 시각으로 계산하여 노드 시계와 무관
+ * - 펜싱 토큰은 시각이 아닌 증가 값을 사용 (DATETIME 의 초 단위 정밀도로는 같은 초에 넘겨받은 리스를 구분할 수 없음)
+ * - 리스 갱신/획득은 조건부 UPDATE 1건으로 처리하여 노드간 경쟁에도 하나만 성공
+ * </pre>
  */
 @ConditionalOnProperty(value = "save-to", prefix = ScheduleService.PROPERTY_PREFIX,
 		havingValue = EntityConfig.DATA_BASE)
 public interface ScheduleDbRepository
 		extends CrudDbRepository<ScheduleDb, String> {
+	/**
+	 * DB 의 현재 시각을 조회
+	 *
+	 * @return 현재 시각
+	 */
+	@Query(value = "SELECT LOCALTIMESTAMP", nativeQuery = true)
+	Date findCurrentTime();
+
+	/**
+	 * 내가 소유한 유효한 리스의 갱신 시각을 DB 현재 시각으로 연장
+	 *
+	 * @param type    종류
+	 * @param owner   소유자
+	 * @param expired 만료 기준 시각 (DB 현재 시각 - 리스 시간)
+	 * @return 수정 건수
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE ScheduleDb s SET s.modDate = CURRENT_TIMESTAMP" +
+			" WHERE s.id = :type AND s.pid = :owner AND s.modDate >= :expired")
+	int renewLease(@Param("type") String type, @Param("owner") String owner, @Param("expired") Date expired);
+
+	/**
+	 * 만료된 리스를 획득 (펜싱 토큰을 1 증가, 갱신 시각은 DB 현재 시각)
+	 *
+	 * @param type    종류
+	 * @param owner   소유자
+	 * @param state   상태
+	 * @param expired 만료 기준 시각 (DB 현재 시각 - 리스 시간)
+	 * @return 수정 건수
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE ScheduleDb s SET s.pid = :owner, s.state = :state, s.token = s.token + 1," +
+			" s.modDate = CURRENT_TIMESTAMP WHERE s.id = :type AND s.modDate < :expired")
+	int takeOverLease(@Param("type") String type, @Param("owner") String owner, @Param("state") State state,
+					  @Param("expired") Date expired);
+
+	/**
+	 * 내가 소유한 리스를 만료 처리
+	 *
+	 * @param type    종류
+	 * @param owner   소유자
+	 * @param state   상태
+	 * @param expired 만료 시각
+	 * @return 수정 건수
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE ScheduleDb s SET s.state = :state, s.modDate = :expired WHERE s.id = :type AND s.pid = :owner")
+	int releaseLease(@Param("type") String type, @Param("owner") String owner, @Param("state") State state,
+					 @Param("expired") Date expired);
+
+	/**
+	 * 내가 소유한 리스의 체크포인트를 저장 (펜싱 토큰이 같을 때만)
+	 *
+	 * @param type       종류
+	 * @param owner      소유자
+	 * @param token      펜싱 토큰
+	 * @param checkpoint 체크포인트
+	 * @return 수정 건수
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE ScheduleDb s SET s.checkpoint = :checkpoint" +
+			" WHERE s.id = :type AND s.pid = :owner AND s.token = :token")
+	int saveCheckpoint(@Param("type") String type, @Param("owner") String owner, @Param("token") long token,
+					   @Param("checkpoint") Long checkpoint);
+
+	/**
+	 * 이전 버전에서 노드별로 남긴 스케쥴 행(아이디: 호스트:포트/종류)을 삭제
+	 *
+	 * @param type 종류
+	 * @return 삭제 건수
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("DELETE FROM ScheduleDb s WHERE s.type = :type AND s.id <> :type")
+	int deleteLegacy(@Param("type") String type);
 }
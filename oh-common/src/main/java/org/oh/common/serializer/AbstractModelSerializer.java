@@ -0,0 +1,128 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.serializer;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.StreamSerializer;
+import org.apache.commons.lang3.SerializationUtils;
+import org.oh.common.model.AbstractCommon;
+import org.oh.common.model.enume.State;
+
+import java.io.IOException;
+import java.util.Date;
+
+/**
+ * 데이터 그리드 저장 모델의 직렬화 (Java 직렬화 대체)
+ * <pre>
+ * - 필드를 순서대로 직접 기록하므로 클래스 정보와 필드명이 저장되지 않음
+ * - 공통 필드(아이디, 상태, 등록/수정일시)만 기록하고 검색용 필드(condition 등)는 제외
+ * - 하위 클래스도 상위 타입의 직렬화를 사용하므로 대상 클래스가 아니면 Java 직렬화로 저장
+ *
+ * hazelcast.yaml
+ *
+ * hazelcast:
+ *   serialization:
+ *     serializers:
+ *       - type-class: org.oh.common.model.data.Data
+ *         class-name: org.oh.common.serializer.DataSerializer
+ * </pre>
+ *
+ * @param <T> 모델 타입
+ */
+public abstract class AbstractModelSerializer<T extends AbstractCommon>
+		implements StreamSerializer<T> {
+	/**
+	 * 직렬화 타입 아이디 (양수, 클러스터 내 유일)
+	 */
+	public static final int TYPE_ID_DATA = 1_001;
+	public static final int TYPE_ID_SCHEDULE = 1_002;
+
+	private static final long NULL_DATE = Long.MIN_VALUE;
+
+	private final Class<T> type;
+
+	protected AbstractModelSerializer(Class<T> type) {
+		this.type = type;
+	}
+
+	@Override
+	public void write(ObjectDataOutput out, T object) throws IOException {
+		boolean exact = object.getClass() == type;
+		out.writeBoolean(exact);
+		if (!exact) {
+			out.writeByteArray(SerializationUtils.serialize(object));
+			return;
+		}
+
+		out.writeString(object.getId());
+		out.writeString(object.getState() == null ? null : object.getState().name());
+		writeDate(out, object.getRegDate());
+		writeDate(out, object.getModDate());
+		writeFields(out, object);
+	}
+
+	@Override
+	public T read(ObjectDataInput in) throws IOException {
+		if (!in.readBoolean()) {
+			return SerializationUtils.deserialize(in.readByteArray());
+		}
+
+		T object = create();
+		object.setId(in.readString());
+		String state = in.readString();
+		object.setState(state == null ? null : State.valueOf(state));
+		object.setRegDate(readDate(in));
+		object.setModDate(readDate(in));
+		readFields(in, object);
+		return object;
+	}
+
+	/**
+	 * 빈 모델 생성
+	 *
+	 * @return 모델
+	 */
+	protected abstract T create();
+
+	/**
+	 * 모델별 필드 기록
+	 *
+	 * @param out    출력
+	 * @param object 모델
+	 * @throws IOException 입출력 오류
+	 */
+	protected abstract void writeFields(ObjectDataOutput out, T object) throws IOException;
+
+	/**
+	 * 모델별 필드 읽기 ({@link #writeFields} 와 같은 순서)
+	 *
+	 * @param in     입력
+	 * @param object 모델
+	 * @throws IOException 입출력 오류
+	 */
+	protected abstract void readFields(ObjectDataInput in, T object) throws IOException;
+
+	protected static void writeDate(ObjectDataOutput out, Date date) throws IOException {
+		out.writeLong(date == null ? NULL_DATE : date.getTime());
+	}
+
+	protected static Date readDate(ObjectDataInput in) throws IOException {
+		long time = in.readLong();
+		return time == NULL_DATE ? null : new Date(time);
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.serializer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import org.oh.common.model.data.Data;
+
+import java.io.IOException;
+
+/**
+ * 메모리 데이터({@link Data}) 직렬화
+ * <pre>
+ * - 속성들(JsonNode)은 Smile(이진 JSON) 형식으로 저장
+ * </pre>
+ */
+public class DataSerializer
+		extends AbstractModelSerializer<Data> {
+	private static final ObjectMapper SMILE_MAPPER = new SmileMapper();
+
+	public DataSerializer() {
+		super(Data.class);
+	}
+
+	@Override
+	public int getTypeId() {
+		return TYPE_ID_DATA;
+	}
+
+	@Override
+	protected Data create() {
+		return new Data();
+	}
+
+	@Override
+	protected void writeFields(ObjectDataOutput out, Data object) throws IOException {
+		out.writeString(object.getType());
+		out.writeByteArray(object.getAttributes() == null ? null
+				: SMILE_MAPPER.writeValueAsBytes(object.getAttributes()));
+	}
+
+	@Override
+	protected void readFields(ObjectDataInput in, Data object) throws IOException {
+		object.setType(in.readString());
+		byte[] attributes = in.readByteArray();
+		object.setAttributes(attributes == null ? null : SMILE_MAPPER.readTree(attributes));
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.serializer;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import org.oh.common.model.schedule.Schedule;
+
+import java.io.IOException;
+
+/**
+ * 메모리 스케쥴({@link Schedule}) 직렬화
+ */
+public class ScheduleSerializer
+		extends AbstractModelSerializer<Schedule> {
+	public ScheduleSerializer() {
+		super(Schedule.class);
+	}
+
+	@Override
+	public int getTypeId() {
+		return TYPE_ID_SCHEDULE;
+	}
+
+	@Override
+	protected Schedule create() {
+		return new Schedule();
+	}
+
+	@Override
+	protected void writeFields(ObjectDataOutput out, Schedule object) throws IOException {
+		out.writeString(object.getType());
+		out.writeString(object.getPid());
+		out.writeObject(object.getCheckpoint());
+	}
+
+	@Override
+	protected void readFields(ObjectDataInput in, Schedule object) throws IOException {
+		object.setType(in.readString());
+		object.setPid(in.readString());
+		object.setCheckpoint(in.readObject());
+	}
+}
@@ -16,21 +16,45 @@
 
 package org.oh.common.service;
 
+import com.google.common.collect.Iterables;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.QueryHints;
+import org.oh.common.exception.CommonError;
+import org.oh.common.exception.CommonException;
 import org.oh.common.model.Model;
 import org.oh.common.model.data.Paging;
+import org.oh.common.model.data.SeekPage;
+import org.oh.common.model.data.Seeking;
 import org.oh.common.model.data.Sorting;
 import org.oh.common.repository.CrudDbRepository;
 import org.oh.common.util.QueryUtil;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.convert.QueryByExamplePredicateBuilder;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.validation.Valid;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 기본 CRUD DB 서비스
@@ -38,12 +62,19 @@ import java.util.Optional;
 public abstract class AbstractCrudDbService<T extends Model<ID>, ID>
 		extends AbstractCrudService<T, ID>
 		implements CrudDbService<T, ID> {
+	/**
+	 * IN 절 최대 항목 수 (DB 벤더에 제한이 없을 경우 사용)
+	 */
+	public static final int IN_EXPRESSION_COUNT_LIMIT = 1_000;
+
 	@PersistenceContext
 	protected EntityManager entityManager;
 
 	protected final AbstractCrudDbService<T, ID> self;
 	protected final CrudDbRepository<T, ID> repository;
 
+	private JpaEntityInformation<T, ?> entityInformation;
+
 	protected AbstractCrudDbService(AbstractCrudDbService<T, ID> self,
 									CrudDbRepository<T, ID> repository) {
 		super(self, repository);
@@ -61,6 +92,32 @@ public abstract class AbstractCrudDbService<T extends Model<ID>, ID>
 		entityManager.flush();
 	}
 
+	/**
+	 * 해당 객체 목록을 일괄 처리 건수 단위로 persist 후 flush/clear 하여 JDBC 배치로 추가
+	 * <pre>
+	 * - 영속성 컨텍스트가 일괄 처리 건수 단위로 초기화됨
+	 * - 아이디 생성 전략이 IDENTITY 이면 Hibernate 가 JDBC 배치를 사용하지 않음
+	 * </pre>
+	 */
+	@Override
+	@Transactional
+	public Collection<T> insertBatch(@Valid Collection<T> entities, int batchSize) {
+		return super.insertBatch(entities, batchSize);
+	}
+
+	/**
+	 * 해당 객체 목록을 일괄 처리 건수 단위로 조회/반영 후 flush/clear 하여 JDBC 배치로 수정
+	 * <pre>
+	 * - 영속성 컨텍스트가 일괄 처리 건수 단위로 초기화됨
+	 * - DynamicUpdate 모델은 수정 컬럼이 같은 행끼리만 JDBC 배치로 묶임
+	 * </pre>
+	 */
+	@Override
+	@Transactional
+	public List<T> updateBatch(Collection<T> entities, int batchSize) {
+		return super.updateBatch(entities, batchSize);
+	}
+
 	@Override
 	public void deleteAll(Collection<T> entities) {
 		repository.deleteAllInBatch(entities);
@@ -141,6 +198,45 @@ public abstract class AbstractCrudDbService<T extends Model<ID>, ID>
 		return self.findPageOrEmpty(entity, page).getContent();
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public void findAllStream(Sorting sort, Consumer<T> action) {
+		self.findAllStream((T) null, sort, action);
+	}
+
+	/**
+	 * 해당 조건으로 검색 목록을 fetch 건수 단위로 스트리밍 조회하여 한 건씩 처리
+	 * <pre>
+	 * - 읽기 전용 트랜잭션 안에서 커서를 유지하며, 처리한 객체는 영속성 컨텍스트에서 분리(detach)
+	 * </pre>
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public void findAllStream(T entity, Sorting sort, Consumer<T> action) {
+		Class<T> type = getEntityInformation().getJavaType();
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<T> query = cb.createQuery(type);
+		Root<T> root = query.from(type);
+		if (entity != null) {
+			Example<T> example = Example.of(entity, QueryUtil.getMatcher(entity));
+			Optional.ofNullable(QueryByExamplePredicateBuilder.getPredicate(root, cb, example, EscapeCharacter.DEFAULT))
+					.ifPresent(query::where);
+		}
+		query.select(root)
+				.orderBy(QueryUtils.toOrders(sort.sortable(), root, cb));
+
+		try (Stream<T> stream = entityManager.createQuery(query)
+				.setHint(QueryHints.HINT_FETCH_SIZE, FETCH_SIZE)
+				.setHint(QueryHints.HINT_READONLY, true)
+				.getResultStream()) {
+			stream.forEach(e -> {
+				e.sort();
+				action.accept(e);
+				entityManager.detach(e);
+			});
+		}
+	}
+
 	@Override
 	public Page<T> findPage(T entity, Paging page) {
 		Page<T> result = self.findPageOrEmpty(entity, page);
@@ -156,6 +252,57 @@ public abstract class AbstractCrudDbService<T extends Model<ID>, ID>
 		return result;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public SeekPage<T> findPageOrEmpty(Seeking page) {
+		return self.findPageOrEmpty((T) null, page);
+	}
+
+	@Override
+	public SeekPage<T> findPage(T entity, Seeking page) {
+		SeekPage<T> result = self.findPageOrEmpty(entity, page);
+		return throwNotFound(result, entity);
+	}
+
+	/**
+	 * 해당 조건으로 커서 페이징 목록을 조회 (OFFSET 없이 커서 이후 페이지 당 항목 수 + 1 건만 조회)
+	 */
+	@Override
+	public SeekPage<T> findPageOrEmpty(T entity, Seeking page) {
+		JpaEntityInformation<T, ?> information = getEntityInformation();
+		Class<T> type = information.getJavaType();
+		Sort sort = page.seekable(information.getRequiredIdAttribute().getName());
+		List<Object> values = page.values(type, sort);
+
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<T> query = cb.createQuery(type);
+		Root<T> root = query.from(type);
+		List<Predicate> predicates = new ArrayList<>();
+		Example<T> example = null;
+		if (entity != null) {
+			example = Example.of(entity, QueryUtil.getMatcher(entity));
+			Optional.ofNullable(QueryByExamplePredicateBuilder.getPredicate(root, cb, example, EscapeCharacter.DEFAULT))
+					.ifPresent(predicates::add);
+		}
+		if (!values.isEmpty()) {
+			predicates.add(QueryUtil.createSeekPredicate(root, cb, sort, values));
+		}
+		query.select(root)
+				.where(predicates.toArray(new Predicate[0]))
+				.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+		List<T> result = entityManager.createQuery(query)
+				.setMaxResults(page.getPsize() + 1)
+				.getResultList();
+		result.forEach(Model::sort);
+
+		Long total = null;
+		if (page.isCount()) {
+			total = example == null ? repository.count() : repository.count(example);
+		}
+		return SeekPage.of(result, page, sort, total);
+	}
+
 	@Override
 	public long count(T entity) {
 		ExampleMatcher matcher = QueryUtil.getMatcher(entity);
@@ -182,4 +329,93 @@ public abstract class AbstractCrudDbService<T extends Model<ID>, ID>
 
 		self.deleteAll(self.findAll(entity));
 	}
+
+	///////////////////////////////////////////////////////////////////////////
+
+	@Override
+	protected List<T> insertBatchInternal(List<T> entities) {
+		preInsert(entities);
+		preSave(entities);
+
+		entities.forEach(entityManager::persist);
+		entityManager.flush();
+		entityManager.clear();
+		return entities;
+	}
+
+	@Override
+	protected List<T> updateBatchInternal(List<T> entities) {
+		List<T> result = mergeUpdateValues(entities);
+
+		entityManager.flush();
+		entityManager.clear();
+		return result;
+	}
+
+	/**
+	 * 아이디 목록에 해당하는 대상 목록을 아이디별로 반환 (IN 절 최대 항목 수 단위로 조회)
+	 *
+	 * @param ids 아이디 목록
+	 * @return 아이디별 대상 객체
+	 */
+	@Override
+	protected Map<ID, T> findAllByIdMap(Collection<ID> ids) {
+		Map<ID, T> result = new HashMap<>();
+		for (List<ID> chunk : Iterables.partition(ids, getInExpressionCountLimit())) {
+			repository.findAllById(chunk)
+					.forEach(e -> result.put(e.id(), e));
+		}
+		return result;
+	}
+
+	/**
+	 * 아이디 목록 중에 존재하는 아이디 목록을 반환 (아이디만 조회, IN 절 최대 항목 수 단위로 조회)
+	 *
+	 * @param ids 아이디 목록
+	 * @return 존재하는 아이디 목록
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	protected List<ID> findExistIds(Collection<ID> ids) {
+		JpaEntityInformation<T, ?> information = getEntityInformation();
+		String idName = information.getRequiredIdAttribute().getName();
+		String query = String.format("SELECT e.%s FROM %s e WHERE e.%s IN :ids",
+				idName, information.getEntityName(), idName);
+
+		List<ID> result = new ArrayList<>();
+		for (List<ID> chunk : Iterables.partition(ids, getInExpressionCountLimit())) {
+			result.addAll(entityManager.createQuery(query) //NOSONAR 파라미터로 바인딩 함
+					.setParameter("ids", chunk)
+					.getResultList());
+		}
+		return result;
+	}
+
+	/**
+	 * 해당 모델의 JPA 엔티티 정보를 반환
+	 *
+	 * @return JPA 엔티티 정보
+	 */
+	@SuppressWarnings("unchecked")
+	protected JpaEntityInformation<T, ?> getEntityInformation() {
+		if (entityInformation == null) {
+			Class<T> type = (Class<T>) getRequiredType();
+			entityInformation = JpaEntityInformationSupport.getEntityInformation(type, entityManager);
+		}
+		return entityInformation;
+	}
+
+	/**
+	 * DB 벤더의 IN 절 최대 항목 수를 반환
+	 *
+	 * @return IN 절 최대 항목 수
+	 */
+	protected int getInExpressionCountLimit() {
+		int limit = entityManager.getEntityManagerFactory()
+				.unwrap(SessionFactoryImplementor.class)
+				.getJdbcServices()
+				.getDialect()
+				.getInExpressionCountLimit();
+		return limit > 0 ? limit : IN_EXPRESSION_COUNT_LIMIT;
+	}
 }
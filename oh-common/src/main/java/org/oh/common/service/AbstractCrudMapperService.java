@@ -18,6 +18,7 @@ package org.oh.common.service;
 
 import com.google.common.base.CaseFormat;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
 import com.samskivert.mustache.Mustache;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -25,22 +26,33 @@ import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.oh.common.config.CommonConfig;
 import org.oh.common.exception.CommonError;
 import org.oh.common.exception.CommonException;
 import org.oh.common.mapper.CrudMapper;
 import org.oh.common.model.Model;
 import org.oh.common.model.data.Paging;
+import org.oh.common.model.data.SeekPage;
+import org.oh.common.model.data.Seeking;
 import org.oh.common.model.data.Sorting;
+import org.oh.common.util.ClassMetadata;
 import org.oh.common.util.FileUtil;
 import org.oh.common.util.JsonUtil;
 import org.oh.common.util.QueryUtil;
 import org.oh.common.util.SpringUtil;
 import org.oh.common.util.WebUtil;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.mustache.MustacheResourceTemplateLoader;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
 
 import javax.persistence.Column;
 import javax.persistence.Id;
@@ -53,14 +65,20 @@ import java.io.InputStreamReader;
 import java.io.Reader;
 import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -75,6 +93,15 @@ public abstract class AbstractCrudMapperService<T extends Model<ID>, ID>
 	private MustacheResourceTemplateLoader templateLoader;
 	@Autowired
 	private Mustache.Compiler compiler;
+	@Autowired
+	private SqlSessionFactory sqlSessionFactory;
+	@Value("${" + CommonConfig.APP_PREFIX + ".mapper.vendor:h2}")
+	private String vendor;
+
+	/**
+	 * 모델의 아이디와 컬럼 필드 목록 (처음 사용할 때 생성)
+	 */
+	private volatile List<Field> columnFields;
 
 	/**
 	 * 해당 조건과 파라미터를 병합
@@ -187,9 +214,13 @@ public abstract class AbstractCrudMapperService<T extends Model<ID>, ID>
 
 	@Override
 	public Collection<T> insert(@Valid Collection<T> entities) {
-		return entities.stream()
-				.map(self::insert)
-				.collect(Collectors.toList());
+		preInsert(entities);
+		preSave(entities);
+
+		for (List<T> chunk : Iterables.partition(entities, BATCH_SIZE)) {
+			insertAll(chunk);
+		}
+		return entities;
 	}
 
 	@Override
@@ -201,11 +232,15 @@ public abstract class AbstractCrudMapperService<T extends Model<ID>, ID>
 		}
 	}
 
+	/**
+	 * 해당 목록을 배치 세션으로 수정 (단건 수정과 같이 없는 항목은 무시, 없는 아이디 확인은 updateBatch 사용)
+	 */
 	@Override
 	public List<T> update(Collection<T> entities) {
-		return entities.stream()
-				.map(self::update)
-				.collect(Collectors.toList());
+		preSave(entities);
+
+		executeBatch(entities, BATCH_SIZE, (m, e) -> m.update(JsonUtil.convertValueMap(e)));
+		return new ArrayList<>(entities);
 	}
 
 	@Override
@@ -223,9 +258,20 @@ public abstract class AbstractCrudMapperService<T extends Model<ID>, ID>
 		mapper.delete(map);
 	}
 
+	/**
+	 * 해당 목록을 삭제 (아이디만 있는 항목은 IN 절로 한번에, 다른 조건이 있는 항목은 단건 삭제와 같이 모든 조건으로 배치 삭제)
+	 */
 	@Override
 	public void deleteAll(Collection<T> entities) {
-		entities.forEach(self::delete);
+		Map<Boolean, List<T>> idOnly = entities.stream()
+				.collect(Collectors.partitioningBy(this::isIdOnly));
+		List<ID> ids = toIds(idOnly.get(true));
+		for (List<ID> chunk : Iterables.partition(ids, getInExpressionCountLimit())) {
+			mapper.deleteAll(chunk);
+		}
+		if (!idOnly.get(false).isEmpty()) {
+			executeBatch(idOnly.get(false), BATCH_SIZE, (m, e) -> m.delete(JsonUtil.convertValueMap(e)));
+		}
 	}
 
 	@Override
@@ -255,11 +301,60 @@ public abstract class AbstractCrudMapperService<T extends Model<ID>, ID>
 		return mapper.find(map);
 	}
 
+	/**
+	 * 해당 조건으로 검색 목록을 MyBatis 커서(findCursor)로 조회하여 한 건씩 처리
+	 * <pre>
+	 * - 별도 세션을 열어 처리가 끝날 때까지 커서를 유지 (진행 중인 트랜잭션의 미반영 데이터는 조회 안됨)
+	 * </pre>
+	 */
+	@Override
+	public void findAllStream(T entity, Sorting sort, Consumer<T> action) {
+		Map<String, Object> map = Optional.ofNullable(entity)
+				.map(JsonUtil::convertValueMap)
+				.orElseGet(HashMap::new);
+
+		Optional.ofNullable(sort)
+				.filter(Sorting::isNotEmpty)
+				.ifPresent(a -> map.put(QueryUtil.KEY_ORDER_BY, a.toString()));
+
+		try (SqlSession session = sqlSessionFactory.openSession();
+			 Cursor<T> cursor = session.getMapper(getMapperInterface()).findCursor(map)) {
+			cursor.forEach(action);
+		} catch (IOException e) {
+			throw new CommonException(CommonError.COM_DB_ERROR, e);
+		}
+	}
+
 	@Override
 	public Page<T> findPageOrEmpty(T entity, Paging page) {
 		return self.findPageOrEmpty(entity, null, page);
 	}
 
+	/**
+	 * 해당 조건으로 커서 페이징 목록을 조회 (CommonMapper.seek 조건과 페이지 당 항목 수 + 1 건만 조회)
+	 */
+	@Override
+	public SeekPage<T> findPageOrEmpty(T entity, Seeking page) {
+		Class<?> type = getRequiredType();
+		Sort sort = page.seekable(ClassMetadata.of(type).getRequiredId().getName());
+		List<Object> values = page.values(type, sort);
+
+		Map<String, Object> map = Optional.ofNullable(entity)
+				.map(JsonUtil::convertValueMap)
+				.orElseGet(HashMap::new);
+		Long total = page.isCount() ? mapper.count(map) : null;
+
+		if (!values.isEmpty()) {
+			map.put(QueryUtil.KEY_SEEK, QueryUtil.createSeekParams(sort, values));
+		}
+		map.put(QueryUtil.KEY_ORDER_BY, QueryUtil.toOrderBy(sort));
+		map.put("page", 1);
+		map.put("psize", page.getPsize() + 1);
+		map.put("offset", 0);
+		List<T> result = mapper.find(map);
+		return SeekPage.of(result, page, sort, total);
+	}
+
 	@Override
 	public long count(T entity) {
 		Map<String, Object> map = Optional.ofNullable(entity)
@@ -333,10 +428,12 @@ public abstract class AbstractCrudMapperService<T extends Model<ID>, ID>
 		allColumns.putAll(columns);
 
 		Mapper mapper = Mapper.builder()
+				.multiValues(getVendor().isMultiValues())
 				.namespace(namespace)
 				.className(modelClazz.getName())
 				.tableName(tableName)
 				.idColumn(idColumn.entrySet())
+				.idType(idField.getType().getName())
 				.columns(columns.entrySet())
 				.allColumns(allColumns.entrySet())
 				.build();
@@ -364,6 +461,188 @@ public abstract class AbstractCrudMapperService<T extends Model<ID>, ID>
 		return result;
 	}
 
+	@Override
+	protected List<T> insertBatchInternal(List<T> entities) {
+		preInsert(entities);
+		preSave(entities);
+
+		insertAll(entities);
+		return entities;
+	}
+
+	/**
+	 * 수정 항목 목록을 조회 없이 한번에 수정 (수정 건수가 부족하면 없는 아이디를 모아서 예외 발생)
+	 * <pre>
+	 * - 같은 아이디가 여러 번 있으면 차례대로 나눠서 수정 (단건 수정을 차례대로 호출한 것과 같은 결과)
+	 * </pre>
+	 */
+	@Override
+	protected List<T> updateBatchInternal(List<T> entities) {
+		preSave(entities);
+
+		for (List<T> round : splitDuplicateIds(entities)) {
+			Set<ID> ids = new LinkedHashSet<>(toIds(round));
+			int count = mapper.updateAll(round);
+			if (count < ids.size()) {
+				ids.removeAll(findExistIds(ids));
+				throwAnyNotFound(ids);
+			}
+		}
+		return entities;
+	}
+
+	/**
+	 * 해당 목록을 값이 있는 컬럼이 같은 항목끼리 한번에 추가 (단건 추가와 같이 null 컬럼은 제외하여 DB 기본값 사용)
+	 *
+	 * @param entities 객체 목록
+	 */
+	protected void insertAll(List<T> entities) {
+		entities.stream()
+				.collect(Collectors.groupingBy(this::getNonNullColumns, LinkedHashMap::new, Collectors.toList()))
+				.values()
+				.forEach(mapper::insertAll);
+	}
+
+	/**
+	 * 해당 목록을 아이디가 중복되지 않는 목록들로 나눔 (아이디가 n 번째로 나온 항목은 n 번째 목록)
+	 *
+	 * @param entities 객체 목록
+	 * @return 나눈 목록들
+	 */
+	protected List<List<T>> splitDuplicateIds(List<T> entities) {
+		List<List<T>> result = new ArrayList<>();
+		Map<ID, Integer> counts = new HashMap<>();
+		for (T entity : entities) {
+			int index = counts.merge(entity.id(), 1, Integer::sum) - 1;
+			if (index == result.size()) {
+				result.add(new ArrayList<>());
+			}
+			result.get(index).add(entity);
+		}
+		return result;
+	}
+
+	/**
+	 * 해당 객체에서 값이 있는 컬럼(아이디 포함) 필드 이름 목록을 반환 (매퍼의 null 조건과 같은 기준)
+	 *
+	 * @param entity 객체
+	 * @return 필드 이름 목록
+	 */
+	protected List<String> getNonNullColumns(T entity) {
+		return getColumnFields().stream()
+				.filter(a -> {
+					try {
+						return a.get(entity) != null;
+					} catch (IllegalAccessException e) {
+						throw new CommonException(e);
+					}
+				})
+				.map(Field::getName)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * 해당 객체가 아이디 외의 컬럼 값이 없는지 여부
+	 *
+	 * @param entity 객체
+	 * @return 아이디만 있는지 여부
+	 */
+	private boolean isIdOnly(T entity) {
+		return entity.id() != null && getNonNullColumns(entity).size() == 1;
+	}
+
+	/**
+	 * 모델의 아이디와 컬럼 필드 목록 (매퍼 템플릿의 allColumns 와 같은 필드)
+	 *
+	 * @return 필드 목록
+	 */
+	private List<Field> getColumnFields() {
+		if (columnFields == null) {
+			Class<?> type = getRequiredType();
+			List<Field> fields = new ArrayList<>(FieldUtils.getFieldsListWithAnnotation(type, Id.class));
+			FieldUtils.getFieldsListWithAnnotation(type, Column.class).stream()
+					.filter(a -> !fields.contains(a))
+					.forEach(fields::add);
+			fields.forEach(a -> a.setAccessible(true));
+			columnFields = fields;
+		}
+		return columnFields;
+	}
+
+	/**
+	 * 아이디 목록 중에 존재하는 아이디 목록을 반환 (아이디만 조회, IN 절 최대 항목 수 단위로 조회)
+	 *
+	 * @param ids 아이디 목록
+	 * @return 존재하는 아이디 목록 (요청 순서 유지)
+	 */
+	@Override
+	protected List<ID> findExistIds(Collection<ID> ids) {
+		Set<ID> existIds = new HashSet<>();
+		for (List<ID> chunk : Iterables.partition(ids, getInExpressionCountLimit())) {
+			existIds.addAll(mapper.findIds(chunk));
+		}
+		return ids.stream()
+				.filter(existIds::contains)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * 배치 세션(ExecutorType.BATCH)으로 해당 목록을 처리 (일괄 처리 건수마다 flush)
+	 * <pre>
+	 * - 트랜잭션이 있으면 같은 커넥션으로 참여
+	 * - 배치 세션의 매퍼 반환값은 의미가 없으므로 flush 결과의 건수를 사용
+	 * </pre>
+	 *
+	 * @param entities  객체 목록
+	 * @param batchSize 일괄 처리 건수
+	 * @param action    매퍼 호출
+	 * @return 처리 건수
+	 */
+	protected int executeBatch(Collection<T> entities, int batchSize, BiConsumer<CrudMapper<T, ID>, T> action) {
+		int count = 0;
+		try (SqlSession session = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+			CrudMapper<T, ID> batchMapper = session.getMapper(getMapperInterface());
+			int size = 0;
+			for (T entity : entities) {
+				action.accept(batchMapper, entity);
+				if (++size % batchSize == 0) {
+					count += getUpdateCount(session.flushStatements());
+				}
+			}
+			count += getUpdateCount(session.flushStatements());
+			session.commit();
+		}
+		log.debug("executeBatch: {}/{}", count, entities.size());
+		return count;
+	}
+
+	/**
+	 * SQL 매퍼 벤더를 반환
+	 *
+	 * @return SQL 매퍼 벤더
+	 */
+	protected CrudMapper.Vendor getVendor() {
+		return CrudMapper.Vendor.findOrEmpty(vendor)
+				.orElseThrow(() -> new CommonException(CommonError.COM_NOT_SUPPORTED,
+						"[\"" + CommonConfig.APP_PREFIX + ".mapper.vendor\",\"" + vendor + "\"]"));
+	}
+
+	@SuppressWarnings("unchecked")
+	private Class<CrudMapper<T, ID>> getMapperInterface() {
+		return (Class<CrudMapper<T, ID>>) Arrays.stream(mapper.getClass().getInterfaces())
+				.filter(CrudMapper.class::isAssignableFrom)
+				.findFirst()
+				.orElseThrow(() -> new CommonException(CommonError.COM_NOT_SUPPORTED,
+						"[\"" + mapper.getClass().getName() + "\"]"));
+	}
+
+	private static int getUpdateCount(List<BatchResult> results) {
+		return results.stream()
+				.flatMapToInt(e -> Arrays.stream(e.getUpdateCounts()))
+				.filter(e -> e > 0)
+				.sum();
+	}
+
 	/**
 	 * 해당 조건으로 페이징 목록을 조회
 	 *
@@ -386,6 +665,10 @@ public abstract class AbstractCrudMapperService<T extends Model<ID>, ID>
 	@SuperBuilder
 	@NoArgsConstructor
 	protected static class Mapper {
+		/**
+		 * 다중 행 VALUES 구문 지원 여부
+		 */
+		private boolean multiValues;
 		/**
 		 * 네임 스페이스
 		 */
@@ -402,6 +685,10 @@ public abstract class AbstractCrudMapperService<T extends Model<ID>, ID>
 		 * 아이디 컬럼
 		 */
 		private Set<Map.Entry<String, String>> idColumn;
+		/**
+		 * 아이디 클래스명
+		 */
+		private String idType;
 		/**
 		 * 아이디를 제외한 컬럼들
 		 */
@@ -16,47 +16,55 @@
 
 package org.oh.common.service;
 
-import com.google.common.collect.Iterators;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.beanutils.PropertyUtils;
-import org.apache.commons.lang3.reflect.FieldUtils;
 import org.oh.common.config.LoggingConfig;
 import org.oh.common.exception.CommonError;
 import org.oh.common.exception.CommonException;
+import org.oh.common.exception.DefaultException;
 import org.oh.common.model.AbstractUserCommon;
 import org.oh.common.model.Model;
 import org.oh.common.model.data.Paging;
+import org.oh.common.model.data.SeekPage;
+import org.oh.common.model.data.Seeking;
 import org.oh.common.model.data.Sorting;
 import org.oh.common.model.validate.ValidationGroup;
 import org.oh.common.repository.CommonCrudRepository;
+import org.oh.common.repository.CrudRepository;
+import org.oh.common.repository.DataGridPredicateBuilder;
+import org.oh.common.util.ClassMetadata;
 import org.oh.common.util.CommonUtil;
 import org.oh.common.util.ExceptionUtil;
 import org.oh.common.util.JsonUtil;
 import org.oh.common.util.SpringUtil;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.StopWatch;
 import org.springframework.validation.annotation.Validated;
 
-import javax.persistence.Transient;
 import javax.validation.Valid;
 
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 /**
  * 기본 CRUD 서비스
@@ -271,6 +279,12 @@ public abstract class AbstractCrudService<T extends Model<ID>, ID>
 		return self.findPageOrEmpty(page).getContent();
 	}
 
+	@Override
+	public void findAllStream(Sorting sort, Consumer<T> action) {
+		self.findAllOrEmpty(sort)
+				.forEach(action);
+	}
+
 	@Override
 	public Page<T> findPage(Paging page) {
 		Page<T> result = self.findPageOrEmpty(page);
@@ -285,6 +299,42 @@ public abstract class AbstractCrudService<T extends Model<ID>, ID>
 		return result;
 	}
 
+	@Override
+	public SeekPage<T> findPage(Seeking page) {
+		SeekPage<T> result = self.findPageOrEmpty(page);
+		throwNotFound(result, null);
+		return result;
+	}
+
+	/**
+	 * 해당 조건으로 커서 페이징 목록을 조회
+	 * <pre>
+	 * - 데이터 그리드 레파지토리는 커서 이후 조건과 건수 제한을 각 멤버에서 실행
+	 * - 그 외(커서 값에 null 포함 등)는 전체 목록을 정렬 조회 후 커서 이후 항목을 선택
+	 * </pre>
+	 */
+	@Override
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public SeekPage<T> findPageOrEmpty(Seeking page) {
+		Class<?> type = getRequiredType();
+		ClassMetadata metadata = ClassMetadata.of(type);
+		Sort sort = page.seekable(metadata.getRequiredId().getName());
+		List<Object> values = page.values(type, sort);
+
+		List<T> result;
+		if (repository instanceof CrudRepository && values.stream().allMatch(Objects::nonNull)) {
+			result = ((CrudRepository) repository).findAll(DataGridPredicateBuilder.getSeekPredicate(type, sort, values),
+					sort, page.getPsize() + 1);
+		} else {
+			result = StreamSupport.stream(repository.findAll(sort).spliterator(), false)
+					.filter(e -> values.isEmpty() || compareSeek(metadata, sort, e, values) > 0)
+					.limit(page.getPsize() + 1L)
+					.collect(Collectors.toList());
+		}
+		result.forEach(Model::sort);
+		return SeekPage.of(result, page, sort, page.isCount() ? repository.count() : null);
+	}
+
 	@Override
 	public long count() {
 		return repository.count();
@@ -309,6 +359,30 @@ public abstract class AbstractCrudService<T extends Model<ID>, ID>
 		return self.insertInternal(entities);
 	}
 
+	@Override
+	public Collection<T> insertBatch(@Valid Collection<T> entities) {
+		return self.insertBatch(entities, BATCH_SIZE);
+	}
+
+	@Override
+	public Collection<T> insertBatch(@Valid Collection<T> entities, int batchSize) {
+		DefaultException.assertTrue(batchSize > 0, CommonError.COM_INVALID_ARGUMENT,
+				"BatchSize must be greater than 0", null);
+		throwAnyExists(entities);
+
+		StopWatch sw = CommonUtil.initWatch(getTypeName() + ".insertBatch");
+		List<T> result = new ArrayList<>(entities.size());
+		for (List<T> chunk : Iterables.partition(entities, batchSize)) {
+			CommonUtil.startWatch(sw, "size: " + chunk.size());
+			result.addAll(self.insertBatchInternal(chunk));
+			CommonUtil.stopWatch(sw);
+			log.debug("insertBatch: {}/{} time: {}", result.size(), entities.size(),
+					sw.getLastTaskTimeMillis());
+		}
+		CommonUtil.printWatch(sw);
+		return result;
+	}
+
 	@Override
 	public Optional<T> insertOrIgnore(@Valid T entity) {
 		try {
@@ -362,6 +436,30 @@ public abstract class AbstractCrudService<T extends Model<ID>, ID>
 				.collect(Collectors.toList());
 	}
 
+	@Override
+	public List<T> updateBatch(Collection<T> entities) {
+		return self.updateBatch(entities, BATCH_SIZE);
+	}
+
+	@Override
+	public List<T> updateBatch(Collection<T> entities, int batchSize) {
+		DefaultException.assertTrue(batchSize > 0, CommonError.COM_INVALID_ARGUMENT,
+				"BatchSize must be greater than 0", null);
+		entities.forEach(this::throwIdNull);
+
+		StopWatch sw = CommonUtil.initWatch(getTypeName() + ".updateBatch");
+		List<T> result = new ArrayList<>(entities.size());
+		for (List<T> chunk : Iterables.partition(entities, batchSize)) {
+			CommonUtil.startWatch(sw, "size: " + chunk.size());
+			result.addAll(self.updateBatchInternal(chunk));
+			CommonUtil.stopWatch(sw);
+			log.debug("updateBatch: {}/{} time: {}", result.size(), entities.size(),
+					sw.getLastTaskTimeMillis());
+		}
+		CommonUtil.printWatch(sw);
+		return result;
+	}
+
 	@Override
 	public T update(T entity) {
 		throwIdNull(entity);
@@ -432,6 +530,83 @@ public abstract class AbstractCrudService<T extends Model<ID>, ID>
 		return (List<T>) repository.saveAll(entities);
 	}
 
+	/**
+	 * 해당 객체 목록을 일괄 추가 (일괄 처리 건수 단위로 호출)
+	 *
+	 * @param entities 객체 목록
+	 * @return 저장 목록
+	 */
+	protected List<T> insertBatchInternal(List<T> entities) {
+		preInsert(entities);
+		preSave(entities);
+
+		return (List<T>) repository.saveAll(entities);
+	}
+
+	/**
+	 * 아이디 목록 중에 존재하는 아이디 목록을 반환
+	 *
+	 * @param ids 아이디 목록
+	 * @return 존재하는 아이디 목록
+	 */
+	protected List<ID> findExistIds(Collection<ID> ids) {
+		List<ID> result = new ArrayList<>();
+		repository.findAllById(ids)
+				.forEach(e -> result.add(e.id()));
+		return result;
+	}
+
+	/**
+	 * 해당 객체 목록을 일괄 수정 (일괄 처리 건수 단위로 호출)
+	 * <pre>
+	 * - 대상 목록을 한번에 조회 후 메모리에서 수정 항목을 반영하여 일괄 저장
+	 * - 없는 아이디가 있으면 저장 전에 모아서 예외 발생
+	 * </pre>
+	 *
+	 * @param entities 수정 항목 목록 (아이디 필수)
+	 * @return 저장 목록
+	 */
+	protected List<T> updateBatchInternal(List<T> entities) {
+		List<T> result = mergeUpdateValues(entities);
+
+		return (List<T>) repository.saveAll(result);
+	}
+
+	/**
+	 * 아이디 목록에 해당하는 대상 목록을 아이디별로 반환
+	 *
+	 * @param ids 아이디 목록
+	 * @return 아이디별 대상 객체
+	 */
+	protected Map<ID, T> findAllByIdMap(Collection<ID> ids) {
+		Map<ID, T> result = new HashMap<>();
+		repository.findAllById(ids)
+				.forEach(e -> result.put(e.id(), e));
+		return result;
+	}
+
+	/**
+	 * 수정 항목 목록의 대상 목록을 조회 후 수정 항목을 반영 (저장하지 않음)
+	 *
+	 * @param entities 수정 항목 목록 (아이디 필수)
+	 * @return 수정 항목이 반영된 대상 목록
+	 */
+	protected List<T> mergeUpdateValues(List<T> entities) {
+		Map<ID, T> targets = findAllByIdMap(toIds(entities));
+		throwAnyNotFound(entities.stream()
+				.map(Model::id)
+				.filter(e -> !targets.containsKey(e))
+				.distinct()
+				.collect(Collectors.toList()));
+
+		return entities.stream()
+				.map(e -> {
+					preSave(e);
+					return setUpdateValue(e, targets.get(e.id()));
+				})
+				.collect(Collectors.toList());
+	}
+
 	/**
 	 * 대상 객체의 수정 항목을 수정
 	 *
@@ -439,43 +614,32 @@ public abstract class AbstractCrudService<T extends Model<ID>, ID>
 	 * @param des    대상 객체
 	 * @return 저장 객체
 	 */
-	@SuppressWarnings("unchecked")
 	protected T updateInternal(T entity, T des) {
-		FieldUtils.getAllFieldsList(entity.getClass()).stream()
-				.filter(e -> !Modifier.isStatic(e.getModifiers()))
-				.filter(e -> !CommonUtil.existAnnotation(e, Transient.class))
-				.forEach(e -> {
-					e.setAccessible(true);
-					try {
-//						Optional.ofNullable(PropertyUtils.getProperty(entity, e.getName()))
-						Optional.ofNullable(e.get(entity))
-								.ifPresent(a -> {
-									try {
-//										PropertyUtils.setProperty(des, e.getName(), a);
-										e.set(des, a);
-									} catch (ReflectiveOperationException ex) {
-										throw new CommonException(ex);
-									}
-								});
-					} catch (ReflectiveOperationException ex) {
-						throw new CommonException(ex);
-					}
-				});
-
-		try {
-			Optional.ofNullable(PropertyUtils.getProperty(entity, "nulls"))
-					.ifPresent(a -> ((List<String>) a).forEach(e -> {
-						try {
-							PropertyUtils.setProperty(des, e, null);
-						} catch (ReflectiveOperationException ex) {
-							throw new CommonException(ex);
-						}
-					}));
-		} catch (ReflectiveOperationException e) {
-			throw new CommonException(e);
-		}
+		return self.saveRep(setUpdateValue(entity, des));
+	}
 
-		return self.saveRep(des);
+	/**
+	 * 대상 객체에 수정 항목을 반영 (null 이 아닌 항목과 nulls 에 지정된 항목)
+	 *
+	 * @param entity 수정 항목
+	 * @param des    대상 객체
+	 * @return 대상 객체
+	 */
+	@SuppressWarnings("unchecked")
+	protected T setUpdateValue(T entity, T des) {
+		ClassMetadata metadata = ClassMetadata.of(entity.getClass());
+		metadata.getPersistentFields()
+				.forEach(e -> Optional.ofNullable(e.get(entity))
+						.ifPresent(a -> e.set(des, a)));
+
+		ClassMetadata desMetadata = ClassMetadata.of(des.getClass());
+		metadata.getNulls()
+				.map(a -> (List<String>) a.get(entity))
+				.ifPresent(a -> a.forEach(e -> desMetadata.getField(e)
+						.orElseThrow(() -> new CommonException(CommonError.COM_INVALID_ARGUMENT,
+								"[\"" + getTypeName() + "\",{\"nulls\":\"" + e + "\"}]"))
+						.set(des, null)));
+		return des;
 	}
 
 	/**
@@ -488,6 +652,16 @@ public abstract class AbstractCrudService<T extends Model<ID>, ID>
 				.map(a -> (Class<?>) a.getActualTypeArguments()[0]);
 	}
 
+	/**
+	 * 수퍼(제네릭) 타입을 반환 (없으면 예외 발생)
+	 *
+	 * @return 수퍼 타입
+	 */
+	protected Class<?> getRequiredType() {
+		return getType().orElseThrow(() ->
+				new CommonException(CommonError.COM_NOT_SUPPORTED, "[\"" + getClass().getName() + "\"]"));
+	}
+
 	/**
 	 * 해당 객체 목록을 추가 전 처리 (필요시 재정의)
 	 *
@@ -536,6 +710,22 @@ public abstract class AbstractCrudService<T extends Model<ID>, ID>
 		return repository.save(entity);
 	}
 
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static int compareSeek(ClassMetadata metadata, Sort sort, Object entity, List<Object> values) {
+		int i = 0;
+		for (Sort.Order order : sort) {
+			Comparable value = (Comparable) metadata.getField(order.getProperty())
+					.map(a -> a.get(entity))
+					.orElse(null);
+			Comparable seek = (Comparable) values.get(i++);
+			int result = Comparator.nullsFirst(Comparator.<Comparable>naturalOrder()).compare(value, seek);
+			if (result != 0) {
+				return order.isAscending() ? result : -result;
+			}
+		}
+		return 0;
+	}
+
 	private void setUser(Collection<T> entities) {
 		SpringUtil.getLoginUserOrEmpty()
 				.ifPresent(u ->
@@ -561,6 +751,13 @@ public abstract class AbstractCrudService<T extends Model<ID>, ID>
 		return (Page<T>) throwNotFoundInternal(result, entity);
 	}
 
+	protected SeekPage<T> throwNotFound(SeekPage<T> result, T entity) {
+		if (result.isEmpty()) {
+			throw throwNotFound(entity).get();
+		}
+		return result;
+	}
+
 	protected Iterable<T> throwNotFoundInternal(Iterable<T> result, T entity) {
 		return Optional.ofNullable(result)
 				.filter(r -> r.iterator().hasNext())
@@ -593,6 +790,13 @@ public abstract class AbstractCrudService<T extends Model<ID>, ID>
 		}
 	}
 
+	protected void throwAnyNotFound(Collection<ID> ids) {
+		if (!ids.isEmpty()) {
+			throw new CommonException(CommonError.COM_NOT_FOUND,
+					"[\"" + getTypeName() + "\"," + JsonUtil.GSON.toJson(ids) + ']');
+		}
+	}
+
 	protected void throwExists(T entity) {
 		throwExists(Collections.singletonList(entity));
 	}
@@ -603,12 +807,25 @@ public abstract class AbstractCrudService<T extends Model<ID>, ID>
 			return;
 		}
 
-		Iterable<T> entitiesTemp = repository.findAllById(ids);
-		int size = Iterators.size(entitiesTemp.iterator());
+		int size = findExistIds(ids).size();
 		log.debug("entities.size: {} size: {}", entities.size(), size);
 		if (entities.size() == size) {
 			throw new CommonException(CommonError.COM_ALREADY_EXISTS,
 					"[\"" + getTypeName() + "\"," + JsonUtil.GSON.toJson(ids) + ']');
 		}
 	}
+
+	protected void throwAnyExists(Collection<T> entities) {
+		List<ID> ids = toIds(entities);
+		if (ids.isEmpty()) {
+			return;
+		}
+
+		List<ID> existIds = findExistIds(ids);
+		log.debug("entities.size: {} exists.size: {}", entities.size(), existIds.size());
+		if (!existIds.isEmpty()) {
+			throw new CommonException(CommonError.COM_ALREADY_EXISTS,
+					"[\"" + getTypeName() + "\"," + JsonUtil.GSON.toJson(existIds) + ']');
+		}
+	}
 }
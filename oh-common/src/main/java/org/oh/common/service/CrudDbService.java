@@ -18,11 +18,14 @@ package org.oh.common.service;
 
 import org.oh.common.model.Model;
 import org.oh.common.model.data.Paging;
+import org.oh.common.model.data.SeekPage;
+import org.oh.common.model.data.Seeking;
 import org.oh.common.model.data.Sorting;
 import org.springframework.data.domain.Page;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * 기본 CRUD DB 서비스 인터페이스 (데이터 베이스 사용)
@@ -120,6 +123,15 @@ public interface CrudDbService<T extends Model<ID>, ID>
 	 */
 	List<T> findAllOrEmpty(T entity, int lsize, Sorting sort);
 
+	/**
+	 * 해당 조건으로 검색 목록을 한 건씩 조회하여 처리 (전체 목록을 메모리에 적재하지 않음)
+	 *
+	 * @param entity 검색 조건
+	 * @param sort   정렬 조건
+	 * @param action 객체별 처리
+	 */
+	void findAllStream(T entity, Sorting sort, Consumer<T> action);
+
 	/**
 	 * 해당 조건으로 페이징 목록을 조회 (1건도 없으면 예외 발생)
 	 *
@@ -138,6 +150,24 @@ public interface CrudDbService<T extends Model<ID>, ID>
 	 */
 	Page<T> findPageOrEmpty(T entity, Paging page);
 
+	/**
+	 * 해당 조건으로 커서 페이징 목록을 조회 (1건도 없으면 예외 발생)
+	 *
+	 * @param entity 검색 조건
+	 * @param page   커서 페이징 조건
+	 * @return 커서 페이징 목록
+	 */
+	SeekPage<T> findPage(T entity, Seeking page);
+
+	/**
+	 * 해당 조건으로 커서 페이징 목록을 조회
+	 *
+	 * @param entity 검색 조건
+	 * @param page   커서 페이징 조건
+	 * @return 커서 페이징 목록
+	 */
+	SeekPage<T> findPageOrEmpty(T entity, Seeking page);
+
 	/**
 	 * 검색 건수를 조회
 	 *
@@ -18,6 +18,8 @@ package org.oh.common.service;
 
 import org.oh.common.model.Model;
 import org.oh.common.model.data.Paging;
+import org.oh.common.model.data.SeekPage;
+import org.oh.common.model.data.Seeking;
 import org.oh.common.model.data.Sorting;
 import org.springframework.data.domain.Page;
 
@@ -26,11 +28,22 @@ import javax.validation.Valid;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * 기본 CRUD 서비스 인터페이스 (데이터 그리드 사용)
  */
 public interface CrudService<T extends Model<ID>, ID> {
+	/**
+	 * 일괄 처리 기본 건수 (spring.jpa.properties.hibernate.jdbc.batch_size 와 동일하게 설정 권장)
+	 */
+	int BATCH_SIZE = 500;
+
+	/**
+	 * 스트리밍 조회시 기본 fetch 건수
+	 */
+	int FETCH_SIZE = 1_000;
+
 	/**
 	 * 아이디에 해당하는 1건을 조회 (없거나 2건 이상 조회시 예외 발생)
 	 *
@@ -95,6 +108,14 @@ public interface CrudService<T extends Model<ID>, ID> {
 	 */
 	List<T> findAllOrEmpty(int lsize, Sorting sort);
 
+	/**
+	 * 해당 조건으로 전체 목록을 한 건씩 조회하여 처리 (전체 목록을 메모리에 적재하지 않음)
+	 *
+	 * @param sort   정렬 조건
+	 * @param action 객체별 처리
+	 */
+	void findAllStream(Sorting sort, Consumer<T> action);
+
 	/**
 	 * 해당 조건으로 페이징 목록을 조회 (1건도 없으면 예외 발생)
 	 *
@@ -111,6 +132,22 @@ public interface CrudService<T extends Model<ID>, ID> {
 	 */
 	Page<T> findPageOrEmpty(Paging page);
 
+	/**
+	 * 해당 조건으로 커서 페이징 목록을 조회 (1건도 없으면 예외 발생)
+	 *
+	 * @param page 커서 페이징 조건
+	 * @return 커서 페이징 목록
+	 */
+	SeekPage<T> findPage(Seeking page);
+
+	/**
+	 * 해당 조건으로 커서 페이징 목록을 조회
+	 *
+	 * @param page 커서 페이징 조건
+	 * @return 커서 페이징 목록
+	 */
+	SeekPage<T> findPageOrEmpty(Seeking page);
+
 	/**
 	 * 전체 건수를 조회
 	 *
@@ -142,6 +179,23 @@ public interface CrudService<T extends Model<ID>, ID> {
 	 */
 	Collection<T> insert(@Valid Collection<T> entities);
 
+	/**
+	 * 해당 객체 목록을 기본 건수 단위로 일괄 추가 (대용량 추가시 사용, 하나라도 존재하면 예외 발생)
+	 *
+	 * @param entities 객체 목록
+	 * @return 저장 목록
+	 */
+	Collection<T> insertBatch(@Valid Collection<T> entities);
+
+	/**
+	 * 해당 객체 목록을 일괄 처리 건수 단위로 일괄 추가 (대용량 추가시 사용, 하나라도 존재하면 예외 발생)
+	 *
+	 * @param entities  객체 목록
+	 * @param batchSize 일괄 처리 건수
+	 * @return 저장 목록
+	 */
+	Collection<T> insertBatch(@Valid Collection<T> entities, int batchSize);
+
 	/**
 	 * 해당 객체가 있으면 무시, 없으면 추가
 	 *
@@ -174,6 +228,23 @@ public interface CrudService<T extends Model<ID>, ID> {
 	 */
 	List<T> update(Collection<T> entities);
 
+	/**
+	 * 해당 객체 목록을 기본 건수 단위로 일괄 수정 (대용량 수정시 사용, 건수 단위로 없는 아이디를 모아서 예외 발생)
+	 *
+	 * @param entities 객체 목록 (아이디 필수)
+	 * @return 저장 목록
+	 */
+	List<T> updateBatch(Collection<T> entities);
+
+	/**
+	 * 해당 객체 목록을 일괄 처리 건수 단위로 일괄 수정 (대용량 수정시 사용, 건수 단위로 없는 아이디를 모아서 예외 발생)
+	 *
+	 * @param entities  객체 목록 (아이디 필수)
+	 * @param batchSize 일괄 처리 건수
+	 * @return 저장 목록
+	 */
+	List<T> updateBatch(Collection<T> entities, int batchSize);
+
 	/**
 	 * 아이디에 해당하는 객체를 수정
 	 *
@@ -27,8 +27,10 @@ import org.oh.common.model.AbstractFiles;
 import org.oh.common.repository.CrudDbRepository;
 import org.oh.common.service.AbstractCrudDbService;
 import org.oh.common.util.DateUtil;
+import org.oh.common.util.ExceptionUtil;
 import org.oh.common.util.FileUtil;
 import org.oh.common.util.ImageUtil;
+import org.oh.common.util.ThreadUtil;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.cache.annotation.CacheConfig;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,13 +38,22 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Root;
 
+import java.awt.Dimension;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
 /**
@@ -59,8 +70,17 @@ public abstract class AbstractFilesDbService<T extends AbstractFiles>
 
 	protected String rootPath;
 	protected boolean thumbnail;
+	/**
+	 * 썸네일 생성 쓰레드 수
+	 */
+	protected int thumbThreads = 2;
+	/**
+	 * 썸네일 생성 대기 큐 크기 (가득 차면 업로드 요청 쓰레드에서 직접 생성)
+	 */
+	protected int thumbQueueCapacity = 100;
 
 	protected File rootFile;
+	protected ThreadPoolExecutor thumbExecutor;
 
 	protected final AbstractFilesDbService<T> self;
 
@@ -86,33 +106,22 @@ public abstract class AbstractFilesDbService<T extends AbstractFiles>
 		return rootFile;
 	}
 
-	/**
-	 * 해당 이미지 파일로 썸네일 이미지를 생성
-	 *
-	 * @param imageFile 이미지 파일
-	 * @return 첨부 파일
-	 * @throws IOException
-	 */
-	protected static AbstractFiles.Attachment createThumb(File imageFile) throws IOException {
-		String filePathName = FilenameUtils.getBaseName(imageFile.getName()) + AbstractFiles.SizeType.SMALL.getValue()
-				+ '.' + ImageUtil.THUMB_EXTENSION;
-		File thumbFile = FileUtil.createFile(filePathName);
-		AbstractFiles.Attachment thumbAttach = AbstractFiles.Attachment.builder()
-				.file(thumbFile)
-				.build();
-
-		ImageUtil.createScalrThumb(imageFile, thumbFile, ImageUtil.THUMB_WIDTH, ImageUtil.RATIO);
-		log.debug("thumbFile: {}", thumbFile.getAbsolutePath());
-		thumbAttach.setBytes(java.nio.file.Files.readAllBytes(thumbFile.toPath()));
-
-		return thumbAttach;
-	}
-
 	@PostConstruct
 	private void init() throws IOException {
 		if (rootPath != null) {
 			rootFile = createPath(rootPath);
 		}
+		if (thumbnail) {
+			thumbExecutor = ThreadUtil.createThreadPool(thumbThreads, thumbThreads,
+					60, thumbQueueCapacity, AbstractFiles.NAME_SPACE + "-thumb");
+		}
+	}
+
+	@PreDestroy
+	private void destroy() {
+		if (thumbExecutor != null) {
+			thumbExecutor.shutdown();
+		}
 	}
 
 	@Override
@@ -164,7 +173,46 @@ public abstract class AbstractFilesDbService<T extends AbstractFiles>
 	}
 
 	/**
-	 * 해당 디렉토리 하위에 파일과 썸네일 이미지(선택)를 저장
+	 * 해당 파일 정보의 썸네일 이미지 상태를 변경
+	 *
+	 * @param id         아이디
+	 * @param thumbState 썸네일 이미지 상태
+	 */
+	@Transactional
+	public void updateThumbState(Long id, AbstractFiles.ThumbState thumbState) {
+		Class<T> type = getEntityInformation().getJavaType();
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaUpdate<T> update = cb.createCriteriaUpdate(type);
+		Root<T> root = update.from(type);
+		update.set(root.get("thumbState"), thumbState)
+				.where(cb.equal(root.get("id"), id));
+		entityManager.createQuery(update)
+				.executeUpdate();
+	}
+
+	/**
+	 * 해당 파일 정보에 크기 종류에 따른 첨부파일을 반환
+	 *
+	 * @param files 파일 정보
+	 * @param type  크기 종류
+	 * @return 첨부파일
+	 */
+	public AbstractFiles.Attachment getAttachment(T files, AbstractFiles.SizeType type) {
+		String extension = type == AbstractFiles.SizeType.ORIGIN ? FilenameUtils.getExtension(files.getName()) :
+				ImageUtil.THUMB_EXTENSION;
+		File file = FileUtil.createFile(files.getPath() +
+				"/" + files.getId() + type.getValue() + '.' + extension);
+		return AbstractFiles.Attachment.builder()
+				.file(file)
+				.build();
+	}
+
+	/**
+	 * 해당 디렉토리 하위에 파일을 저장하고 썸네일 이미지(선택) 생성을 요청
+	 * <pre>
+	 * - 업로드 파일은 버퍼 단위로 저장하면서 해시를 계산 (내용 전체를 메모리에 적재하지 않음)
+	 * - 썸네일 이미지는 별도 쓰레드 풀에서 생성하고 상태(thumbState)를 갱신
+	 * </pre>
 	 *
 	 * @param path  대상 디렉토리
 	 * @param file  업로드 파일
@@ -173,31 +221,70 @@ public abstract class AbstractFilesDbService<T extends AbstractFiles>
 	 */
 	@ResultLogging(result = true)
 	protected T create(File path, MultipartFile file, T files) {
+		boolean createThumb = thumbnail && files.createThumbnail();
+		files.setThumbState(createThumb ? AbstractFiles.ThumbState.PENDING : AbstractFiles.ThumbState.NONE);
 		T filesTemp = self.insert(files);
 		String filePath = path.getAbsolutePath() + "/" + filesTemp.getId();
 		String extension = FilenameUtils.getExtension(file.getOriginalFilename());
 
 		File originFile = FileUtil.createFile(filePath + '.' + extension);
-		AbstractFiles.Attachment originAttach = AbstractFiles.Attachment.builder()
-				.file(originFile)
-				.build();
+		try (InputStream in = file.getInputStream()) {
+			String hash = FileUtil.write(in, originFile);
+			log.debug("originFile: {} hash: {}", originFile.getAbsolutePath(), hash);
+			filesTemp.setOriginAttach(AbstractFiles.Attachment.builder()
+					.file(originFile)
+					.size(originFile.length())
+					.hash(hash)
+					.build());
 
-		try {
-			file.transferTo(originFile);
-			log.debug("originFile: {}", originFile.getAbsolutePath());
-			originAttach.setBytes(java.nio.file.Files.readAllBytes(originFile.toPath()));
-
-			if (thumbnail && files.createThumbnail()) {
-				AbstractFiles.Attachment thumbAttach = createThumb(originFile);
-				filesTemp.setThumbAttach(thumbAttach);
-			}
 		} catch (IOException e) {
 			throw new CommonException(CommonError.COM_FILES_ERROR, "file: " + originFile.getAbsolutePath(), e);
 		}
-		filesTemp.setOriginAttach(originAttach);
+
+		if (createThumb) {
+			filesTemp.setThumbAttach(getAttachment(filesTemp, AbstractFiles.SizeType.SMALL));
+			filesTemp.setMediumAttach(getAttachment(filesTemp, AbstractFiles.SizeType.MEDIUM));
+			thumbExecutor.execute(() -> createThumbs(filesTemp.getId(), originFile,
+					filesTemp.getMediumAttach().getFile(), filesTemp.getThumbAttach().getFile()));
+		}
 		return filesTemp;
 	}
 
+	/**
+	 * 원본 이미지를 한 번만 읽어서 중/소 크기의 썸네일 이미지를 생성하고 상태를 갱신
+	 * (생성에 성공하면 {@link #thumbsCreated(Long, File, File)} 후에 READY 로 변경)
+	 *
+	 * @param id         아이디
+	 * @param originFile 원본 이미지 파일
+	 * @param mediumFile 중 크기 썸네일 이미지 파일
+	 * @param smallFile  소 크기 썸네일 이미지 파일
+	 */
+	protected void createThumbs(Long id, File originFile, File mediumFile, File smallFile) {
+		AbstractFiles.ThumbState thumbState = AbstractFiles.ThumbState.READY;
+		try {
+			Map<File, Dimension> dests = new LinkedHashMap<>();
+			dests.put(mediumFile, new Dimension(AbstractFiles.SizeType.MEDIUM.getWidth(), ImageUtil.RATIO));
+			dests.put(smallFile, new Dimension(AbstractFiles.SizeType.SMALL.getWidth(), ImageUtil.RATIO));
+			ImageUtil.createScalrThumbs(originFile, dests);
+			log.debug("thumbFile: {}", smallFile.getAbsolutePath());
+			thumbsCreated(id, mediumFile, smallFile);
+		} catch (RuntimeException e) {
+			log.warn(ExceptionUtil.getMessageAndType(e), e);
+			thumbState = AbstractFiles.ThumbState.FAILED;
+		}
+		self.updateThumbState(id, thumbState);
+	}
+
+	/**
+	 * 썸네일 이미지를 생성한 후 상태를 READY 로 변경하기 전에 호출 (클러스터 복사 등 필요시 재정의)
+	 *
+	 * @param id         아이디
+	 * @param mediumFile 중 크기 썸네일 이미지 파일
+	 * @param smallFile  소 크기 썸네일 이미지 파일
+	 */
+	protected void thumbsCreated(Long id, File mediumFile, File smallFile) {
+	}
+
 	/**
 	 * 해당 파일 정보에 원본과 썸네일 이미지 파일을 설정
 	 *
@@ -211,24 +298,10 @@ public abstract class AbstractFilesDbService<T extends AbstractFiles>
 		AbstractFiles.Attachment thumbAttach = getAttachment(files, AbstractFiles.SizeType.SMALL);
 		files.setThumbAttach(thumbAttach);
 
-		return files;
-	}
+		AbstractFiles.Attachment mediumAttach = getAttachment(files, AbstractFiles.SizeType.MEDIUM);
+		files.setMediumAttach(mediumAttach);
 
-	/**
-	 * 해당 파일 정보에 크기 종류에 따른 첨부파일을 반환
-	 *
-	 * @param files 파일 정보
-	 * @param type  크기 종류
-	 * @return 첨부파일
-	 */
-	private AbstractFiles.Attachment getAttachment(T files, AbstractFiles.SizeType type) {
-		String extension = type == AbstractFiles.SizeType.ORIGIN ? FilenameUtils.getExtension(files.getName()) :
-				ImageUtil.THUMB_EXTENSION;
-		File file = FileUtil.createFile(files.getPath() +
-				"/" + files.getId() + type.getValue() + '.' + extension);
-		return AbstractFiles.Attachment.builder()
-				.file(file)
-				.build();
+		return files;
 	}
 
 	/**
@@ -241,16 +314,13 @@ public abstract class AbstractFilesDbService<T extends AbstractFiles>
 	}
 
 	/**
-	 * 파일 정보로 원본과 썸네일 이미지 파일을 삭제
+	 * 파일 정보로 원본과 모든 크기의 썸네일 이미지 파일을 삭제
 	 *
 	 * @param entity 파일 정보
 	 */
 	private void deleteFile(T entity) {
-		Optional.ofNullable(entity.getOriginAttach())
-				.map(AbstractFiles.Attachment::getFile)
-				.ifPresent(File::delete);
-		Optional.ofNullable(entity.getThumbAttach())
-				.map(AbstractFiles.Attachment::getFile)
-				.ifPresent(File::delete);
+		Arrays.stream(AbstractFiles.SizeType.values())
+				.map(a -> getAttachment(entity, a).getFile())
+				.forEach(File::delete);
 	}
 }
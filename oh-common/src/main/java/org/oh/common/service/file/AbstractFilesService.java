@@ -20,6 +20,7 @@ import com.hazelcast.core.EntryEvent;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
 import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryUpdatedListener;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.oh.common.annotation.ResultLogging;
@@ -34,6 +35,8 @@ import org.oh.common.util.FileUtil;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import javax.validation.Valid;
+
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -48,43 +51,123 @@ import java.util.Optional;
 @ConfigurationProperties(AbstractFilesService.PROPERTY_NAME)
 public abstract class AbstractFilesService<T extends AbstractFiles>
 		extends AbstractCrudService<T, Long>
-		implements EntryAddedListener<Long, T> {
+		implements EntryAddedListener<Long, T>, EntryUpdatedListener<Long, T> {
 	public static final String PROPERTY_NAME = CommonConfig.COMMON_PREFIX + ".files";
 
 	protected boolean copyToCluster;
 
+	protected final IMap<Long, T> iMap;
+
 	protected AbstractFilesService(AbstractFilesService<T> self,
 								   CrudRepository<T, Long> repository,
 								   HazelcastInstance hazelcast) {
 		super(self, repository);
-		IMap<Long, Files> iMap = hazelcast.getMap(DataGridConfig.MAP_NAME_FILES);
+		iMap = hazelcast.getMap(DataGridConfig.MAP_NAME_FILES);
 		iMap.addEntryListener(this, true);
 	}
 
+	/**
+	 * 파일 정보를 추가 (클러스터 복사 사용시에만 파일 내용을 함께 저장)
+	 * <pre>
+	 * - 썸네일 이미지는 비동기로 생성되므로 이미 생성된 경우에만 저장
+	 *   (생성 후에 추가된 경우는 {@link #copyThumbs(Long, File, File)} 로 복사)
+	 * </pre>
+	 */
 	@Override
-	@ResultLogging
-	public void entryAdded(EntryEvent<Long, T> event) {
+	public T insert(@Valid T entity) {
+		if (copyToCluster) {
+			Optional.ofNullable(entity.getOriginAttach())
+					.ifPresent(a -> a.setBytes(FileUtil.read(a.getFile())));
+			Optional.ofNullable(entity.getThumbAttach())
+					.filter(a -> a.getFile().exists())
+					.ifPresent(a -> a.setBytes(FileUtil.read(a.getFile())));
+			Optional.ofNullable(entity.getMediumAttach())
+					.filter(a -> a.getFile().exists())
+					.ifPresent(a -> a.setBytes(FileUtil.read(a.getFile())));
+		}
+		return super.insert(entity);
+	}
+
+	/**
+	 * 생성된 썸네일 이미지 내용을 파일 정보에 저장하여 다른 노드에 복사 (클러스터 복사 사용시)
+	 * <pre>
+	 * - 파일 정보가 아직 추가되지 않았으면 추가할 때 이미 생성된 썸네일 이미지를 함께 저장
+	 * </pre>
+	 *
+	 * @param id         아이디
+	 * @param mediumFile 중 크기 썸네일 이미지 파일
+	 * @param smallFile  소 크기 썸네일 이미지 파일
+	 */
+	public void copyThumbs(Long id, File mediumFile, File smallFile) {
 		if (!copyToCluster) {
 			return;
 		}
 
-		T files = event.getValue();
+		T files = iMap.get(id);
+		if (files == null) {
+			return;
+		}
+		files.setThumbState(AbstractFiles.ThumbState.READY);
+		files.setMediumAttach(AbstractFiles.Attachment.builder()
+				.file(mediumFile)
+				.bytes(FileUtil.read(mediumFile))
+				.build());
+		files.setThumbAttach(AbstractFiles.Attachment.builder()
+				.file(smallFile)
+				.bytes(FileUtil.read(smallFile))
+				.build());
+		iMap.set(id, files);
+	}
+
+	@Override
+	@ResultLogging
+	public void entryAdded(EntryEvent<Long, T> event) {
+		if (copyToCluster) {
+			writeFiles(event.getValue());
+		}
+	}
+
+	/**
+	 * 썸네일 이미지가 복사된 경우 이 노드에 없는 썸네일 이미지 파일을 저장
+	 */
+	@Override
+	@ResultLogging
+	public void entryUpdated(EntryEvent<Long, T> event) {
+		if (copyToCluster) {
+			writeFiles(event.getValue());
+		}
+	}
+
+	/**
+	 * 파일 정보에 저장된 내용 중 이 노드에 없는 파일을 저장
+	 *
+	 * @param files 파일 정보
+	 */
+	protected void writeFiles(T files) {
 		File originFile = files.getOriginAttach().getFile();
-		File thumbFile = Optional.ofNullable(files.getThumbAttach())
-				.map(AbstractFiles.Attachment::getFile)
-				.orElse(null);
 		try {
 			Files.createDirectories(FileUtil.getPaths(files.getPath()));
-			if (!originFile.exists()) {
+			if (!originFile.exists() && files.getOriginAttach().getBytes() != null) {
 				log.debug("originFile: {}", originFile.getAbsolutePath());
 				Files.write(FileUtil.getPaths(originFile.getAbsolutePath() + "!"), files.getOriginAttach().getBytes());
 			}
-			if (thumbFile != null && !thumbFile.exists()) {
-				log.debug("thumbFile: {}", thumbFile.getAbsolutePath());
-				Files.write(FileUtil.getPaths(thumbFile.getAbsolutePath()), files.getThumbAttach().getBytes());
-			}
+			writeFile(files.getThumbAttach());
+			writeFile(files.getMediumAttach());
 		} catch (IOException e) {
 			throw new CommonException(CommonError.COM_FILES_ERROR, "file: " + originFile.getAbsolutePath(), e);
 		}
 	}
+
+	/**
+	 * 첨부 파일 내용이 있고 이 노드에 파일이 없으면 저장
+	 *
+	 * @param attach 첨부 파일
+	 * @throws IOException
+	 */
+	private void writeFile(AbstractFiles.Attachment attach) throws IOException {
+		if (attach != null && attach.getBytes() != null && !attach.getFile().exists()) {
+			log.debug("thumbFile: {}", attach.getFile().getAbsolutePath());
+			Files.write(FileUtil.getPaths(attach.getFile().getAbsolutePath()), attach.getBytes());
+		}
+	}
 }
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.service.schedule;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.hazelcast.core.ExecutionCallback;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.HazelcastInstanceAware;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.oh.common.exception.CommonError;
+import org.oh.common.exception.CommonException;
+import org.oh.common.model.schedule.Schedule;
+import org.oh.common.model.schedule.ScheduleLease;
+import org.oh.common.util.SpringUtil;
+import org.oh.common.util.StringUtil;
+
+import javax.annotation.PostConstruct;
+
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분할 처리 스케쥴 (전체 대상을 페이지로 나누어 병렬 처리)
+ * <pre>
+ * - 리스를 가진 노드가 전체 건수를 페이지 크기(page-size)로 나누어 쓰레드 수(thread-size) 만큼 동시에 처리
+ * - distributed 이면 데이터 그리드 실행 서비스(IExecutorService)로 클러스터 멤버에 분산 실행
+ *   (모든 멤버에 같은 스케쥴 빈이 있어야 하고, 동시 실행 수는 thread-size 로 제한)
+ * - 앞에서부터 연속으로 끝난 페이지까지 체크포인트로 저장하고, 리스 소유자가 바뀌면 체크포인트부터 이어서 처리
+ *   (체크포인트 이후에 끝난 페이지는 다시 처리될 수 있으므로 페이지 처리는 멱등이어야 함)
+ * - 페이지 처리에 실패해도 나머지 페이지는 계속 처리하고, 체크포인트는 실패한 페이지 앞까지만 저장
+ *   (다음 실행에서 실패한 페이지부터 다시 처리)
+ * - 리스를 잃거나 종료 중이면 새 페이지를 시작하지 않음
+ * - 실행 별 처리 건수, 페이지 처리 시간, 초당 처리 건수를 메트릭으로 기록
+ *
+ * - application.yml
+ * app:
+ *   schedule:
+ *     schedule-name:
+ *       cron: "0/10 * * * * * *"
+ *       health-check-time-sec: 15
+ *       page-size: 1000
+ *       thread-size: 4
+ *       ### 클러스터 멤버에 분산 실행 여부 (기본값: false)
+ *       distributed: false
+ * </pre>
+ */
+@Slf4j
+public abstract class AbstractPartitionScheduleService<T extends Schedule>
+		extends AbstractScheduleService<T> {
+	public static final String METRIC_PAGE = "oh.schedule.page";
+	public static final String METRIC_ITEMS = "oh.schedule.items";
+	public static final String METRIC_THROUGHPUT = "oh.schedule.throughput";
+
+	private MeterRegistry meterRegistry;
+	private HazelcastInstance hazelcast;
+
+	protected AbstractPartitionScheduleService(SpringUtil springUtil,
+											   IScheduleService<T> service) {
+		super(springUtil, service);
+	}
+
+	/**
+	 * 분할 처리 초기화 (분산 실행이면 다른 멤버에서 찾을 수 있도록 데이터 그리드에 등록)
+	 */
+	@PostConstruct
+	private void initPartition() {
+		if (!prop.isEnabled()) {
+			return;
+		}
+
+		meterRegistry = springUtil.getBeanOrEmpty(MeterRegistry.class)
+				.orElse(null);
+		if (prop.isDistributed()) {
+			hazelcast = springUtil.getBean(HazelcastInstance.class);
+			hazelcast.getUserContext().put(getType(), this);
+		}
+	}
+
+	///////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * 처리 대상 전체 건수
+	 *
+	 * @param active 실행 중인 스케쥴 정보
+	 * @return 전체 건수
+	 */
+	protected abstract long count(T active);
+
+	/**
+	 * 1 페이지를 처리 (다른 쓰레드나 다른 멤버에서 실행될 수 있음)
+	 *
+	 * @param active   실행 중인 스케쥴 정보
+	 * @param page     페이지 번호 (0부터 시작)
+	 * @param pageSize 페이지 크기
+	 * @return 처리 건수
+	 */
+	protected abstract int processPage(T active, long page, int pageSize);
+
+	/**
+	 * 체크포인트부터 남은 페이지를 병렬 처리
+	 *
+	 * @param active 실행 중인 스케쥴 정보
+	 */
+	@Override
+	public void process(T active) {
+		Optional<ScheduleLease> lease = renewLease();
+		if (!lease.isPresent()) {
+			log.warn("Schedule lease lost: {}", getType());
+			return;
+		}
+
+		int pageSize = prop.getPageSize();
+		long pages = (count(active) + pageSize - 1) / pageSize;
+		long checkpoint = Optional.ofNullable(lease.get().getCheckpoint())
+				.filter(a -> a < pages)
+				.orElse(0L);
+		log.info("Schedule partition starting: {} pages: {} checkpoint: {}", getType(), pages, checkpoint);
+
+		long start = System.nanoTime();
+		Run run = new Run(active, lease.get(), pageSize, pages, checkpoint);
+		ExecutorService executor = prop.isDistributed() ? null : Executors.newFixedThreadPool(prop.getThreadSize(),
+				new ThreadFactoryBuilder().setNameFormat(getClass().getSimpleName() + "-partition-%d")
+						.setDaemon(true).build());
+		try {
+			run.execute(executor);
+		} finally {
+			if (executor != null) {
+				executor.shutdown();
+			}
+		}
+		record(run, System.nanoTime() - start);
+	}
+
+	/**
+	 * 실행 결과를 메트릭으로 기록
+	 *
+	 * @param run     실행 정보
+	 * @param elapsed 실행 시간 (나노초)
+	 */
+	private void record(Run run, long elapsed) {
+		double throughput = run.items * (double) TimeUnit.SECONDS.toNanos(1) / Math.max(elapsed, 1);
+		log.info("Schedule partition {}: {} pages: {}/{} items: {} time: {} throughput: {}/s",
+				run.completed ? "finished" : "stopped", getType(), run.done, run.pages - run.first, run.items,
+				StringUtil.toStringTime(TimeUnit.NANOSECONDS.toMillis(elapsed)), String.format("%.1f", throughput));
+		if (meterRegistry != null) {
+			meterRegistry.counter(METRIC_ITEMS, "type", getType())
+					.increment(run.items);
+			DistributionSummary.builder(METRIC_THROUGHPUT)
+					.tag("type", getType())
+					.baseUnit("items/s")
+					.register(meterRegistry)
+					.record(throughput);
+		}
+	}
+
+	/**
+	 * 1 페이지를 로컬 쓰레드 또는 데이터 그리드 멤버에서 처리
+	 *
+	 * @param executor 로컬 쓰레드 풀 (null: 분산 실행)
+	 * @param active   실행 중인 스케쥴 정보
+	 * @param page     페이지 번호
+	 * @param pageSize 페이지 크기
+	 * @return 처리 건수
+	 */
+	private CompletableFuture<Integer> submit(ExecutorService executor, T active, long page, int pageSize) {
+		if (executor != null) {
+			return CompletableFuture.supplyAsync(() -> processPageWithMetric(active, page, pageSize), executor);
+		}
+
+		CompletableFuture<Integer> future = new CompletableFuture<>();
+		hazelcast.getExecutorService(Schedule.NAME_SPACE).submit(new PageTask<>(getType(), active, page, pageSize),
+				new ExecutionCallback<Integer>() {
+					@Override
+					public void onResponse(Integer response) {
+						future.complete(response);
+					}
+
+					@Override
+					public void onFailure(Throwable t) {
+						future.completeExceptionally(t);
+					}
+				});
+		return future;
+	}
+
+	private int processPageWithMetric(T active, long page, int pageSize) {
+		long start = System.nanoTime();
+		try {
+			return processPage(active, page, pageSize);
+		} finally {
+			if (meterRegistry != null) {
+				Timer.builder(METRIC_PAGE)
+						.tag("type", getType())
+						.register(meterRegistry)
+						.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+
+	/**
+	 * 1회 실행 정보 (실행 쓰레드에서만 변경)
+	 */
+	@RequiredArgsConstructor
+	private class Run {
+		private final BlockingQueue<Result> results = new LinkedBlockingQueue<>();
+		private final Set<Long> finished = new HashSet<>();
+		private final T active;
+		private final ScheduleLease lease;
+		private final int pageSize;
+		private final long pages;
+		private final long first;
+		private long done;
+		private long items;
+		private boolean completed;
+
+		/**
+		 * 최대 쓰레드 수 만큼 페이지를 실행하고, 끝난 페이지에 따라 체크포인트 저장
+		 *
+		 * @param executor 로컬 쓰레드 풀 (null: 분산 실행)
+		 */
+		private void execute(ExecutorService executor) {
+			long next = first;
+			long checkpoint = first;
+			int running = 0;
+			boolean failed = false;
+			boolean lost = false;
+			while (true) {
+				while (!lost && !closed && running < prop.getThreadSize() && next < pages) {
+					long page = next++;
+					submit(executor, active, page, pageSize)
+							.whenComplete((r, e) -> results.add(new Result(page, r, e)));
+					running++;
+				}
+				if (running == 0) {
+					break;
+				}
+
+				Result result;
+				try {
+					result = results.take();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					log.warn("Schedule partition interrupted: {}", getType());
+					return;
+				}
+				running--;
+				if (result.error != null) {
+					// 실패한 페이지 앞까지만 체크포인트가 진행되고, 다음 실행에서 실패한 페이지부터 다시 처리
+					log.error("Schedule partition page failed: {} page: {}", getType(), result.page, result.error);
+					failed = true;
+				} else {
+					done++;
+					items += result.items;
+					finished.add(result.page);
+				}
+
+				long previous = checkpoint;
+				while (finished.remove(checkpoint)) {
+					checkpoint++;
+				}
+				if (checkpoint != previous && !lost) {
+					lost = !saveCheckpoint(checkpoint < pages ? checkpoint : null);
+				}
+				lost |= !getLease().isPresent();
+			}
+			if (!failed && !lost && checkpoint == first && lease.getCheckpoint() != null) {
+				// 처리할 페이지가 없으면 이전 체크포인트 삭제
+				lost = !saveCheckpoint(null);
+			}
+			completed = !failed && !lost && checkpoint >= pages;
+		}
+
+		private boolean saveCheckpoint(Long checkpoint) {
+			if (service.saveCheckpoint(getType(), activeId, lease.getToken(), checkpoint)) {
+				return true;
+			}
+			log.warn("Schedule lease lost: {} checkpoint: {}", getType(), checkpoint);
+			return false;
+		}
+	}
+
+	/**
+	 * 페이지 처리 결과
+	 */
+	@RequiredArgsConstructor
+	private static class Result {
+		private final long page;
+		private final Integer items;
+		private final Throwable error;
+	}
+
+	/**
+	 * 분산 실행 페이지 작업 (실행 멤버에 등록된 같은 종류의 스케쥴 빈으로 처리)
+	 */
+	@RequiredArgsConstructor
+	private static class PageTask<T extends Schedule>
+			implements Callable<Integer>, Serializable, HazelcastInstanceAware {
+		private static final long serialVersionUID = 1L;
+
+		private final String type;
+		private final T active;
+		private final long page;
+		private final int pageSize;
+		private transient HazelcastInstance hazelcast;
+
+		@Override
+		public void setHazelcastInstance(HazelcastInstance hazelcast) {
+			this.hazelcast = hazelcast;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Integer call() {
+			AbstractPartitionScheduleService<T> target =
+					(AbstractPartitionScheduleService<T>) hazelcast.getUserContext().get(type);
+			if (target == null) {
+				throw new CommonException(CommonError.COM_NOT_ACTIVATED, type);
+			}
+			return target.processPageWithMetric(active, page, pageSize);
+		}
+	}
+}
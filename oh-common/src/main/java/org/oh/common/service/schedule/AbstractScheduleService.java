@@ -16,38 +16,52 @@
 
 package org.oh.common.service.schedule;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.time.DateUtils;
 import org.oh.common.config.CommonConfig;
 import org.oh.common.config.LoggingConfig;
 import org.oh.common.model.enume.State;
 import org.oh.common.model.schedule.Schedule;
 import org.oh.common.model.schedule.ScheduleDb;
+import org.oh.common.model.schedule.ScheduleLease;
 import org.oh.common.util.CommonUtil;
-import org.oh.common.util.DateUtil;
 import org.oh.common.util.SpringUtil;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.context.event.ContextClosedEvent;
 import org.springframework.context.event.EventListener;
 
 import javax.annotation.PostConstruct;
 
 import java.util.Date;
-import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 스케쥴 별로 이 클래스를 상속 받아 하나씩 만든다.
+ * <pre>
+ * - 이중화된 노드 중 스케쥴 실행 리스를 가진 하나의 노드만 실행 ({@link IScheduleService#acquireLease})
+ * - 리스는 별도 쓰레드에서 주기적으로 (리스 시간의 1/3) 비동기 갱신/획득하므로 스케쥴 실행시 저장소 조회 없음
+ * - 리스 갱신에 실패한 채로 리스 시간이 지나면 스스로 실행을 멈춤 (로컬 단조 시계 기준)
+ * - 리스 소유가 바뀌면 {@link ScheduleLeaderEvent} 발행
+ * </pre>
  */
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
-public abstract class AbstractScheduleService<T extends Schedule> {
+public abstract class AbstractScheduleService<T extends Schedule>
+		implements ApplicationEventPublisherAware {
 	public static final String SCHEDULE_PROPERTY_PREFIX = CommonConfig.APP_PREFIX + '.' + Schedule.NAME_SPACE;
+	/**
+	 * 리스 시간 기본값 (health-check-time-sec 미설정시)
+	 */
+	public static final int DEFAULT_HEALTH_CHECK_TIME_SEC = 30;
 
 	protected final SpringUtil springUtil;
 	protected final IScheduleService<T> service;
@@ -58,10 +72,21 @@ public abstract class AbstractScheduleService<T extends Schedule> {
 
 	protected Properties prop;
 	protected String activeId;
-	protected boolean closed;
+	protected volatile boolean closed;
+
+	private ApplicationEventPublisher publisher;
+	private ScheduledExecutorService heartbeat;
+	private long leaseMs;
+	private volatile ScheduleLease lease;
+	private volatile long renewedNanos;
+
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
+		this.publisher = publisher;
+	}
 
 	/**
-	 * 스케쥴 종료
+	 * 스케쥴 종료 (리스 반납)
 	 *
 	 * @param event 종료 이벤트
 	 */
@@ -72,12 +97,20 @@ public abstract class AbstractScheduleService<T extends Schedule> {
 			return;
 		}
 
-		deleteById(activeId);
+		heartbeat.shutdownNow();
+		if (lease != null) {
+			try {
+				service.releaseLease(getType(), activeId);
+			} catch (RuntimeException e) {
+				log.warn("Schedule lease release failed: {}", e.getMessage());
+			}
+			changeLease(null);
+		}
 		log.debug(LoggingConfig.TWO_LINE_50 + " Schedule Closed. " + LoggingConfig.TWO_LINE_50);
 	}
 
 	/**
-	 * 스케쥴 초기화
+	 * 스케쥴 초기화 (리스 갱신 쓰레드 시작)
 	 */
 	@PostConstruct
 	private void init() {
@@ -88,10 +121,15 @@ public abstract class AbstractScheduleService<T extends Schedule> {
 
 		log.info(LoggingConfig.TWO_LINE_50 + " Schedule Initializing ... " + LoggingConfig.TWO_LINE_50);
 		activeId = CommonUtil.getHostName() + ":" +
-				springUtil.getServerPort() + "/" + getType();
+				springUtil.getServerPort() + ":" + CommonUtil.getPid();
 		log.info("Schedule activeId: {}", activeId);
 
-		deleteById(activeId);
+		leaseMs = TimeUnit.SECONDS.toMillis(prop.getHealthCheckTimeSec() > 0 ? prop.getHealthCheckTimeSec()
+				: DEFAULT_HEALTH_CHECK_TIME_SEC);
+		heartbeat = new ScheduledThreadPoolExecutor(1,
+				new ThreadFactoryBuilder().setNameFormat(getClass().getSimpleName() + "-lease-%d")
+						.setDaemon(true).build());
+		heartbeat.scheduleWithFixedDelay(this::renew, 0, Math.max(leaseMs / 3, 100), TimeUnit.MILLISECONDS);
 	}
 
 	///////////////////////////////////////////////////////////////////////////
@@ -124,7 +162,7 @@ public abstract class AbstractScheduleService<T extends Schedule> {
 	 * app:
 	 *   schedule:
 	 *     schedule-name:
-	 *       # 예) 10초마다 실행, 15초마다 실행 여부 체크
+	 *       # 예) 10초마다 실행, 리스 시간 15초 (5초마다 리스 갱신)
 	 *       cron: "0/10 * * * * * *"
 	 *       health-check-time-sec: 15
 	 * </pre>
@@ -140,8 +178,7 @@ public abstract class AbstractScheduleService<T extends Schedule> {
 				log.debug(LoggingConfig.TWO_LINE_10 + " Schedule Starting ... " + LoggingConfig.TWO_LINE_10);
 				process(a);
 			} finally {
-				log.debug(LoggingConfig.TWO_LINE_10 + " Schedule Ending ... " + LoggingConfig.TWO_LINE_10);
-				update(a, State.END);
+				a.setState(State.END);
 				log.debug(LoggingConfig.TWO_LINE_30 + " Schedule Finished. " + LoggingConfig.TWO_LINE_30);
 			}
 		});
@@ -157,98 +194,90 @@ public abstract class AbstractScheduleService<T extends Schedule> {
 	///////////////////////////////////////////////////////////////////////////
 
 	/**
-	 * 실행 중인 스케줄 정보를 반환
+	 * 현재 유효한 스케쥴 실행 리스를 반환
+	 * <pre>
+	 * - 마지막 갱신 요청 시작 후 리스 시간이 지났으면 empty (저장소에서는 이미 만료되었을 수 있음)
+	 * - 외부 자원에 반영할 때 펜싱 토큰을 함께 전달하면 이전 소유자의 늦은 반영을 막을 수 있음
+	 * </pre>
 	 *
-	 * @return 스케줄 정보
+	 * @return 스케쥴 실행 리스
 	 */
-	private Optional<T> getActive() {
-		List<T> activeList = service.findAllOrEmpty(type);
-		log.debug("Schedule activeList: {}", activeList);
-		if (!activeList.isEmpty() && activeList.get(0).getState() == State.START) {
+	protected Optional<ScheduleLease> getLease() {
+		ScheduleLease current = lease;
+		if (current == null || System.nanoTime() - renewedNanos >= TimeUnit.MILLISECONDS.toNanos(leaseMs)) {
 			return Optional.empty();
 		}
-
-		log.debug(LoggingConfig.TWO_LINE_30 + " Schedule Preparing ... " + LoggingConfig.TWO_LINE_30);
-		activeList = delete(activeList);
-
-		Optional<T> active;
-		if (activeList.isEmpty()) {
-			T entity = insert();
-			active = service.findByIdOrEmpty(entity.getId());
-		} else {
-			active = activeList.stream()
-					.filter(e -> activeId.equals(e.getId()))
-					.findFirst();
-			active.ifPresent(a -> update(a, State.START));
-		}
-		return active;
+		return Optional.of(current);
 	}
 
 	/**
-	 * 1건의 스케쥴 정보를 등록
+	 * 실행 중인 스케줄 정보를 반환 (리스를 소유한 경우만)
 	 *
-	 * @return 스케쥴 정보
+	 * @return 스케줄 정보
 	 */
 	@SuppressWarnings("unchecked")
-	private T insert() {
-		T entity = (T) ScheduleDb.builder()
-				.id(activeId)
-				.state(State.START)
-				.type(getType())
-				.pid(CommonUtil.getPid())
-				.build();
-		T result = service.insertSchedule(entity);
-		log.debug("Schedule inserted: {}", result);
-		return result;
+	private Optional<T> getActive() {
+		return getLease()
+				.map(a -> (T) ScheduleDb.builder()
+						.id(activeId)
+						.state(State.START)
+						.type(getType())
+						.pid(activeId)
+						.token(a.getToken())
+						.regDate(new Date())
+						.build());
 	}
 
 	/**
-	 * 1건의 스케쥴 정보를 수정
+	 * 스케쥴 실행 리스를 바로 갱신/획득 (저장소의 최신 체크포인트가 필요할 때 사용)
 	 *
-	 * @param active 스케쥴 정보
-	 * @param state  스케쥴 상태 정보
+	 * @return 스케쥴 실행 리스
 	 */
-	private void update(T active, State state) {
-		active.setState(state);
-		service.updateSchedule(active);
-		log.debug("Schedule updated: {}", active);
+	protected Optional<ScheduleLease> renewLease() {
+		long start = System.nanoTime();
+		Optional<ScheduleLease> acquired = service.acquireLease(getType(), activeId, leaseMs);
+		renewedNanos = start;
+		changeLease(acquired.orElse(null));
+		return acquired;
 	}
 
 	/**
-	 * 스케쥴 정보를 삭제
-	 *
-	 * @param list 삭제 대상 스케쥴 목록
-	 * @return 실행 중인 스케줄 목록
+	 * 스케쥴 실행 리스를 갱신/획득 (리스 갱신 쓰레드에서 실행)
 	 */
-	private List<T> delete(List<T> list) {
-		AtomicBoolean deleted = new AtomicBoolean();
-		if (prop.getHealthCheckTimeSec() > 0) {
-			list.forEach(e -> {
-				Date current = new Date();
-				Date modify = DateUtils.addSeconds(e.getModDate(), prop.getHealthCheckTimeSec());
-				log.debug("Schedule modify: {} current: {}", DateUtil.formatDateTimeMs(modify),
-						DateUtil.formatDateTimeMs(current));
-				if (modify.before(current)) {
-					deleteById(e.getId());
-					deleted.set(true);
-				}
-			});
+	private void renew() {
+		if (closed) {
+			return;
 		}
-		if (deleted.get()) {
-			list = service.findAllOrEmpty(type);
-			log.debug("Schedule deletelist: {}", list);
+
+		try {
+			renewLease();
+		} catch (RuntimeException e) {
+			log.warn("Schedule lease renew failed: {}", e.getMessage());
+			if (lease != null && !getLease().isPresent()) {
+				changeLease(null);
+			}
 		}
-		return list;
 	}
 
 	/**
-	 * 1건의 스케쥴 정보를 삭제
+	 * 리스 소유가 바뀌었으면 이벤트 발행
 	 *
-	 * @param id 삭제 대상 아이디
+	 * @param acquired 획득한 리스 (실패시 null)
 	 */
-	private void deleteById(String id) {
-		service.deleteByIdOrIgnore(id);
-		log.debug("Schedule deleted: {}", id);
+	private synchronized void changeLease(ScheduleLease acquired) {
+		ScheduleLease previous = lease;
+		lease = acquired;
+		if (previous == null && acquired == null
+				|| previous != null && acquired != null && previous.getToken() == acquired.getToken()) {
+			return;
+		}
+
+		boolean leader = acquired != null;
+		long token = leader ? acquired.getToken() : previous.getToken();
+		log.info("Schedule leader changed: {} leader: {} token: {}", getType(), leader, token);
+		if (publisher != null) {
+			publisher.publishEvent(new ScheduleLeaderEvent(this, getType(), activeId, leader, token));
+		}
 	}
 
 	/**
@@ -256,7 +285,7 @@ public abstract class AbstractScheduleService<T extends Schedule> {
 	 *
 	 * @return 스케쥴 종류
 	 */
-	private String getType() {
+	protected String getType() {
 		return getClass().getName();
 	}
 
@@ -273,5 +302,9 @@ public abstract class AbstractScheduleService<T extends Schedule> {
 		protected int pageSize = 1_000;
 		@Builder.Default
 		protected int threadSize = 1;
+		/**
+		 * 분할 처리를 데이터 그리드 멤버에 분산 실행 여부 ({@link AbstractPartitionScheduleService})
+		 */
+		protected boolean distributed;
 	}
 }
@@ -17,6 +17,7 @@
 package org.oh.common.service.schedule;
 
 import org.oh.common.model.schedule.Schedule;
+import org.oh.common.model.schedule.ScheduleLease;
 
 import javax.validation.Valid;
 
@@ -65,4 +66,38 @@ public interface IScheduleService<T extends Schedule> {
 	 * @param id 아이디
 	 */
 	void deleteByIdOrIgnore(String id);
+
+	/**
+	 * 해당 종류의 스케쥴 실행 리스를 획득 또는 갱신 (비교 후 변경을 한 번에 처리)
+	 * <pre>
+	 * - 내가 소유한 유효한 리스는 만료 시각만 연장 (펜싱 토큰 유지)
+	 * - 리스가 없거나 만료되었으면 새 펜싱 토큰으로 획득
+	 * - 다른 소유자의 리스가 유효하면 획득 실패
+	 * </pre>
+	 *
+	 * @param type    스케쥴 종류
+	 * @param owner   소유자
+	 * @param leaseMs 리스 시간 (밀리초)
+	 * @return 획득한 리스 (실패시 empty)
+	 */
+	Optional<ScheduleLease> acquireLease(String type, String owner, long leaseMs);
+
+	/**
+	 * 해당 소유자의 스케쥴 실행 리스를 반납 (다른 소유자의 리스는 무시)
+	 *
+	 * @param type  스케쥴 종류
+	 * @param owner 소유자
+	 */
+	void releaseLease(String type, String owner);
+
+	/**
+	 * 리스를 소유하고 있으면 체크포인트를 저장 (소유자가 바뀌어 펜싱 토큰이 다르면 무시)
+	 *
+	 * @param type       스케쥴 종류
+	 * @param owner      소유자
+	 * @param token      펜싱 토큰
+	 * @param checkpoint 체크포인트 (null: 처리 완료)
+	 * @return 저장 여부
+	 */
+	boolean saveCheckpoint(String type, String owner, long token, Long checkpoint);
 }
@@ -16,19 +16,34 @@
 
 package org.oh.common.service.schedule;
 
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.time.DateUtils;
 import org.oh.common.config.EntityConfig;
+import org.oh.common.exception.CommonException;
+import org.oh.common.model.enume.State;
 import org.oh.common.model.schedule.ScheduleDb;
+import org.oh.common.model.schedule.ScheduleLease;
 import org.oh.common.repository.schedule.ScheduleDbRepository;
 import org.oh.common.service.AbstractCrudDbService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
 import javax.validation.Valid;
 
+import java.util.Date;
+import java.util.Optional;
+
 /**
  * 스케쥴 DB 서비스
+ * <pre>
+ * - 실행 리스는 종류별 1건의 행(아이디: 종류)을 조건부 UPDATE 로 갱신/획득 (행이 없을 때만 INSERT)
+ * - 갱신 시각과 만료 기준 시각은 DB 시각을 사용하므로 노드간 시계 차이와 무관
+ * - 리스 행이 없으면 이전 버전에서 노드별로 남긴 같은 종류의 행을 삭제하고 추가
+ * </pre>
  */
+@Slf4j
 @Service
 @ConditionalOnProperty(value = "save-to", prefix = ScheduleService.PROPERTY_PREFIX,
 		havingValue = EntityConfig.DATA_BASE)
@@ -36,11 +51,13 @@ public class ScheduleDbService
 		extends AbstractCrudDbService<ScheduleDb, String>
 		implements IScheduleService<ScheduleDb> {
 	protected final ScheduleDbService self;
+	protected final ScheduleDbRepository scheduleRepository;
 
 	protected ScheduleDbService(@Lazy ScheduleDbService self,
 								ScheduleDbRepository repository) {
 		super(self, repository);
 		this.self = self;
+		this.scheduleRepository = repository;
 	}
 
 	@Override
@@ -52,4 +69,65 @@ public class ScheduleDbService
 	public ScheduleDb updateSchedule(@Valid ScheduleDb entity) {
 		return self.update(entity);
 	}
+
+	@Override
+	public Optional<ScheduleLease> acquireLease(String type, String owner, long leaseMs) {
+		Date now = scheduleRepository.findCurrentTime();
+		Date expired = new Date(now.getTime() - leaseMs);
+		if (scheduleRepository.renewLease(type, owner, expired) == 0
+				&& scheduleRepository.takeOverLease(type, owner, State.START, expired) == 0
+				&& !insertLease(type, owner, now)) {
+			return Optional.empty();
+		}
+		// 만료 시각은 DB 시각 기준의 남은 시간을 노드 시각으로 환산
+		long offset = System.currentTimeMillis() - now.getTime();
+		return scheduleRepository.findById(type)
+				.filter(a -> owner.equals(a.getPid()))
+				.map(a -> new ScheduleLease(type, owner, a.getToken(),
+						a.getModDate().getTime() + leaseMs + offset, a.getCheckpoint()));
+	}
+
+	@Override
+	public void releaseLease(String type, String owner) {
+		scheduleRepository.releaseLease(type, owner, State.END, DateUtils.addDays(new Date(), -1));
+	}
+
+	@Override
+	public boolean saveCheckpoint(String type, String owner, long token, Long checkpoint) {
+		return scheduleRepository.saveCheckpoint(type, owner, token, checkpoint) > 0;
+	}
+
+	/**
+	 * 리스 행이 없으면 추가 (동시에 추가하면 아이디/종류 유일 제약으로 하나만 성공)
+	 *
+	 * @param type  종류
+	 * @param owner 소유자
+	 * @param now   DB 현재 시각
+	 * @return 추가 여부
+	 */
+	private boolean insertLease(String type, String owner, Date now) {
+		if (scheduleRepository.existsById(type)) {
+			return false;
+		}
+
+		int deleted = scheduleRepository.deleteLegacy(type);
+		if (deleted > 0) {
+			log.info("Schedule legacy rows deleted: {} {}", type, deleted);
+		}
+		try {
+			self.insert(ScheduleDb.builder()
+					.id(type)
+					.type(type)
+					.pid(owner)
+					.state(State.START)
+					.token(1L)
+					.regDate(now)
+					.build());
+			// 추가 시 수정일시는 노드 시각이므로 DB 시각으로 다시 기록
+			return scheduleRepository.renewLease(type, owner, new Date(0)) > 0;
+		} catch (CommonException | DataAccessException e) {
+			log.debug("Schedule lease insert failed: {}", e.getMessage());
+			return false;
+		}
+	}
 }
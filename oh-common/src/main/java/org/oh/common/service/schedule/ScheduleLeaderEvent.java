@@ -0,0 +1,57 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.service.schedule;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 스케쥴 실행 리스 소유 변경 이벤트 (리스를 획득하거나 잃었을 때 발행)
+ */
+@Getter
+public class ScheduleLeaderEvent
+		extends ApplicationEvent {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 스케쥴 종류
+	 */
+	private final String type;
+
+	/**
+	 * 소유자
+	 */
+	private final String owner;
+
+	/**
+	 * 리스 소유 여부
+	 */
+	private final boolean leader;
+
+	/**
+	 * 펜싱 토큰 (리스를 잃었으면 마지막 토큰)
+	 */
+	private final long token;
+
+	public ScheduleLeaderEvent(Object source, String type, String owner, boolean leader, long token) {
+		super(source);
+		this.type = type;
+		this.owner = owner;
+		this.leader = leader;
+		this.token = token;
+	}
+}
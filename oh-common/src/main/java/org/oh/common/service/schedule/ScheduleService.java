@@ -16,22 +16,36 @@
 
 package org.oh.common.service.schedule;
 
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IFunction;
+import lombok.RequiredArgsConstructor;
 import org.oh.common.config.CommonConfig;
 import org.oh.common.config.EntityConfig;
+import org.oh.common.model.Model;
+import org.oh.common.model.data.Sorting;
 import org.oh.common.model.schedule.Schedule;
+import org.oh.common.model.schedule.ScheduleLease;
 import org.oh.common.repository.schedule.ScheduleRepository;
 import org.oh.common.service.AbstractCrudService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Example;
 import org.springframework.stereotype.Service;
 
 import javax.validation.Valid;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * 스케쥴 서비스
+ * <pre>
+ * - 실행 리스는 CP 서브시스템의 IAtomicReference 에 보관하고 비교/변경 함수를 그리드에서 실행
+ * - 함수는 Raft 로그를 다시 적용해도 같은 결과가 나와야 하므로 함수 안에서 시계를 읽지 않고
+ *   호출한 노드의 클러스터 시각(마스터 기준으로 보정한 시각)을 넘김 (노드 시계와 무관)
+ * - CP 멤버 수가 0 이면 비안전(UNSAFE) 모드로 파티션에 보관
+ * </pre>
  */
 @Service
 @ConditionalOnProperty(value = "save-to", prefix = ScheduleService.PROPERTY_PREFIX,
@@ -42,18 +56,29 @@ public class ScheduleService
 	public static final String PROPERTY_PREFIX = CommonConfig.COMMON_PREFIX + '.' + Schedule.NAME_SPACE;
 
 	protected final ScheduleService self;
+	protected final ScheduleRepository scheduleRepository;
+	protected final HazelcastInstance hazelcast;
 
 	protected ScheduleService(@Lazy ScheduleService self,
-							  ScheduleRepository repository) {
+							  ScheduleRepository repository,
+							  HazelcastInstance hazelcast) {
 		super(self, repository);
 		this.self = self;
+		this.scheduleRepository = repository;
+		this.hazelcast = hazelcast;
 	}
 
+	/**
+	 * 종류가 같은 스케쥴 목록을 조회 (종류 인덱스 조건으로 각 멤버에서 조회)
+	 */
 	@Override
 	public List<Schedule> findAllOrEmpty(Schedule entity) {
-		return self.findAllOrEmpty().stream()
-				.filter(e -> entity.getType().equals(e.getType()))
-				.collect(Collectors.toList());
+		Schedule probe = Schedule.builder()
+				.type(entity.getType())
+				.build();
+		List<Schedule> result = scheduleRepository.findAll(Example.of(probe), new Sorting().sortable());
+		result.forEach(Model::sort);
+		return result;
 	}
 
 	@Override
@@ -65,4 +90,99 @@ public class ScheduleService
 	public Schedule updateSchedule(@Valid Schedule entity) {
 		return self.update(entity);
 	}
+
+	@Override
+	public Optional<ScheduleLease> acquireLease(String type, String owner, long leaseMs) {
+		ScheduleLease lease = hazelcast.getCPSubsystem().<ScheduleLease>getAtomicReference(getLeaseName(type))
+				.alterAndGet(new AcquireFunction(type, owner, hazelcast.getCluster().getClusterTime(), leaseMs));
+		return Optional.ofNullable(lease)
+				.filter(a -> owner.equals(a.getOwner()));
+	}
+
+	@Override
+	public void releaseLease(String type, String owner) {
+		hazelcast.getCPSubsystem().<ScheduleLease>getAtomicReference(getLeaseName(type))
+				.alter(new ReleaseFunction(owner));
+	}
+
+	@Override
+	public boolean saveCheckpoint(String type, String owner, long token, Long checkpoint) {
+		ScheduleLease lease = hazelcast.getCPSubsystem().<ScheduleLease>getAtomicReference(getLeaseName(type))
+				.alterAndGet(new CheckpointFunction(owner, token, checkpoint));
+		return lease != null && owner.equals(lease.getOwner()) && lease.getToken() == token
+				&& Objects.equals(lease.getCheckpoint(), checkpoint);
+	}
+
+	private String getLeaseName(String type) {
+		return Schedule.NAME_SPACE + ':' + type;
+	}
+
+	/**
+	 * 리스 획득/갱신 함수 (리스를 보관하는 CP 그룹에서 실행, 기준 시각은 클러스터 시각)
+	 */
+	@RequiredArgsConstructor
+	private static class AcquireFunction
+			implements IFunction<ScheduleLease, ScheduleLease> {
+		private static final long serialVersionUID = 1L;
+
+		private final String type;
+		private final String owner;
+		private final long now;
+		private final long leaseMs;
+
+		@Override
+		public ScheduleLease apply(ScheduleLease current) {
+			if (current == null) {
+				return new ScheduleLease(type, owner, 1, now + leaseMs, null);
+			}
+			if (current.isOwnedBy(owner, now)) {
+				return new ScheduleLease(type, owner, current.getToken(), now + leaseMs, current.getCheckpoint());
+			}
+			if (current.getExpireTime() < now) {
+				return new ScheduleLease(type, owner, current.getToken() + 1, now + leaseMs,
+						current.getCheckpoint());
+			}
+			return current;
+		}
+	}
+
+	/**
+	 * 리스 반납 함수 (펜싱 토큰 유지를 위해 삭제하지 않고 만료 처리)
+	 */
+	@RequiredArgsConstructor
+	private static class ReleaseFunction
+			implements IFunction<ScheduleLease, ScheduleLease> {
+		private static final long serialVersionUID = 1L;
+
+		private final String owner;
+
+		@Override
+		public ScheduleLease apply(ScheduleLease current) {
+			if (current == null || !owner.equals(current.getOwner())) {
+				return current;
+			}
+			return new ScheduleLease(current.getType(), owner, current.getToken(), 0, current.getCheckpoint());
+		}
+	}
+
+	/**
+	 * 체크포인트 저장 함수 (소유자와 펜싱 토큰이 같을 때만 저장)
+	 */
+	@RequiredArgsConstructor
+	private static class CheckpointFunction
+			implements IFunction<ScheduleLease, ScheduleLease> {
+		private static final long serialVersionUID = 1L;
+
+		private final String owner;
+		private final long token;
+		private final Long checkpoint;
+
+		@Override
+		public ScheduleLease apply(ScheduleLease current) {
+			if (current == null || !owner.equals(current.getOwner()) || current.getToken() != token) {
+				return current;
+			}
+			return new ScheduleLease(current.getType(), owner, token, current.getExpireTime(), checkpoint);
+		}
+	}
 }
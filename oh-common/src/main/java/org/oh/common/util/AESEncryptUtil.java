@@ -20,10 +20,13 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.oh.common.exception.CommonError;
 import org.oh.common.exception.CommonException;
 
+import javax.crypto.AEADBadTagException;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
@@ -31,13 +34,30 @@ import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
 
 /**
  * 암/복호화 유틸리티
+ * <pre>
+ * - 스레드별 Cipher 를 사용하므로 동기화 없이 동시에 암/복호화
+ * - 메세지 마다 임의의 IV(12 byte)를 생성하여 암호문 앞에 붙임 (IV + 암호문 + 인증 태그)
+ * - IV 가 없는 이전 암호문(고정 IV)도 복호화
+ * - 파일은 64KB 세그먼트 단위로 암/복호화 (세그먼트 마다 IV + 암호문 + 인증 태그, 메모리는 세그먼트 크기로 제한)
+ * - 세그먼트 순번과 마지막 여부를 추가 인증 데이터(AAD)로 사용하여 순서 변경과 잘림을 검출
+ * </pre>
  */
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -47,21 +67,45 @@ public final class AESEncryptUtil {
 	public static final String SALT = "1234567890123456";//KeyGenerators.string().generateKey();
 	private static final String KEY_REVERSE = new StringBuilder(PASSWORD.substring(0, 16)).reverse().toString();
 	private static final byte[] KEY_BYTES = KEY_REVERSE.getBytes();
+	private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+	private static final int IV_SIZE = 12;
+	private static final int TAG_BITS = 128;
+	/**
+	 * IV 형식 암호문의 최소 크기 (IV + 인증 태그), 더 짧으면 이전 형식
+	 */
+	private static final int MIN_SIZE = IV_SIZE + TAG_BITS / Byte.SIZE;
+	private static final int TAG_SIZE = TAG_BITS / Byte.SIZE;
+	/**
+	 * 스트림 암/복호화 세그먼트 크기 (평문 기준)
+	 */
+	private static final int SEGMENT_SIZE = 64 * 1024;
 	//	private static final IvParameterSpec IV_SPEC = new IvParameterSpec(KEY_BYTES);
-	private static final GCMParameterSpec IV_SPEC = new GCMParameterSpec(128, KEY_BYTES);
+	private static final GCMParameterSpec LEGACY_IV_SPEC = new GCMParameterSpec(TAG_BITS, KEY_BYTES);
 	private static final SecretKeySpec SECRET_KEY_SPEC = new SecretKeySpec(KEY_BYTES, "AES");
-	private static final Cipher CIPHER;
+	private static final ThreadLocal<Cipher> CIPHER = ThreadLocal.withInitial(AESEncryptUtil::createCipher);
+	private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(AESEncryptUtil::createRandom);
 
-	static {
+	private static Cipher createCipher() {
 //		log.debug("salt: {}", SALT);
 		try {
-//			CIPHER = Cipher.getInstance("AES/CBC/PKCS5Padding");
-			CIPHER = Cipher.getInstance("AES/GCM/NoPadding");
+//			return Cipher.getInstance("AES/CBC/PKCS5Padding");
+			return Cipher.getInstance(TRANSFORMATION);
 		} catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
 			throw new CommonException(CommonError.COM_ENCRYPTION_ERROR, "Failed cipher instantiation", e);
 		}
 	}
 
+	/**
+	 * 스레드별 난수 생성기 (기본 NativePRNG 는 전역 잠금을 사용하므로 SHA1PRNG 사용)
+	 */
+	private static SecureRandom createRandom() {
+		try {
+			return SecureRandom.getInstance("SHA1PRNG");
+		} catch (NoSuchAlgorithmException e) {
+			return new SecureRandom();
+		}
+	}
+
 	/**
 	 * 한번만 문자열 암호화
 	 *
@@ -91,7 +135,7 @@ public final class AESEncryptUtil {
 	}
 
 	/**
-	 * 파일 암호화
+	 * 파일 암호화 (스트림 단위)
 	 *
 	 * @param src  원본 파일
 	 * @param desc 암호화된 대상 파일
@@ -101,27 +145,63 @@ public final class AESEncryptUtil {
 			throw new CommonException(CommonError.COM_NOT_FOUND, "file: " + src.getAbsolutePath());
 		}
 
-		byte[] bytes = FileUtil.read(src);
-		bytes = encrypt(bytes);
-		FileUtil.write(desc, bytes);
+		try (InputStream in = Files.newInputStream(src.toPath());
+			 OutputStream out = Files.newOutputStream(desc.toPath())) {
+			encrypt(in, out);
+		} catch (IOException e) {
+			throw new CommonException(CommonError.COM_ENCRYPTION_ERROR, "file: " + src.getAbsolutePath(), e);
+		}
+	}
+
+	/**
+	 * 입력 스트림을 세그먼트 단위로 암호화하여 출력 스트림에 출력 (세그먼트 마다 IV + 암호문 + 인증 태그)
+	 * <pre>
+	 * - 빈 스트림도 마지막 세그먼트 하나를 출력
+	 * </pre>
+	 *
+	 * @param in  입력 스트림 (닫지 않음)
+	 * @param out 출력 스트림 (닫지 않음)
+	 * @throws IOException 입출력 예외
+	 */
+	public static void encrypt(InputStream in, OutputStream out) throws IOException {
+		PushbackInputStream input = new PushbackInputStream(in, 1);
+		byte[] buffer = new byte[SEGMENT_SIZE];
+		byte[] result = new byte[SEGMENT_SIZE + TAG_SIZE];
+		boolean last = false;
+		for (long index = 0; !last; index++) {
+			int length = IOUtils.read(input, buffer);
+			last = length < buffer.length || isEnd(input);
+			byte[] iv = createIv();
+			Cipher cipher = init(Cipher.ENCRYPT_MODE, new GCMParameterSpec(TAG_BITS, iv), length);
+			try {
+				cipher.updateAAD(createAad(index, last));
+				int size = cipher.doFinal(buffer, 0, length, result, 0);
+				out.write(iv);
+				out.write(result, 0, size);
+			} catch (GeneralSecurityException e) {
+				throw new CommonException(CommonError.COM_ENCRYPTION_ERROR, "segment: " + index, e);
+			}
+		}
 	}
 
 	/**
 	 * byte 배열을 AES256 알고리즘으로 암호화
 	 *
 	 * @param value byte 배열 암호화
-	 * @return 암호화된 byte 배열 암호화
+	 * @return 암호화된 byte 배열 암호화 (IV + 암호문)
 	 */
-	public static synchronized byte[] encrypt(byte[] value) {
+	public static byte[] encrypt(byte[] value) {
 		if (value.length == 0) {
 			return value;
 		}
 
+		byte[] iv = createIv();
+		Cipher cipher = init(Cipher.ENCRYPT_MODE, new GCMParameterSpec(TAG_BITS, iv), value.length);
 		try {
-			CIPHER.init(Cipher.ENCRYPT_MODE, SECRET_KEY_SPEC, IV_SPEC);
-			return CIPHER.doFinal(value);
-		} catch (InvalidKeyException | InvalidAlgorithmParameterException
-				 | BadPaddingException | IllegalBlockSizeException e) {
+			byte[] result = Arrays.copyOf(iv, IV_SIZE + cipher.getOutputSize(value.length));
+			int length = cipher.doFinal(value, 0, value.length, result, IV_SIZE);
+			return length + IV_SIZE == result.length ? result : Arrays.copyOf(result, length + IV_SIZE);
+		} catch (GeneralSecurityException e) {
 			throw new CommonException(CommonError.COM_ENCRYPTION_ERROR, "length: " + value.length, e);
 		}
 	}
@@ -155,18 +235,33 @@ public final class AESEncryptUtil {
 	}
 
 	/**
-	 * 파일 복호화
+	 * 파일 복호화 (세그먼트 단위, 인증 태그가 맞지 않으면 이전 형식(단일 IV, 고정 IV)으로 복호화)
+	 * <pre>
+	 * - 이전 형식은 하나의 암호문이므로 파일 전체를 읽어서 복호화
+	 * </pre>
 	 *
 	 * @param src  원본 파일
 	 * @param desc 복호화 대상 파일
 	 */
 	public static void decrypt(File src, File desc) {
-		byte[] bytes = decrypt(src);
-		FileUtil.write(desc, bytes);
+		if (!src.exists()) {
+			throw new CommonException(CommonError.COM_NOT_FOUND, "file: " + src.getAbsolutePath());
+		}
+
+		if (src.length() >= MIN_SIZE) {
+			try (InputStream in = Files.newInputStream(src.toPath());
+				 OutputStream out = Files.newOutputStream(desc.toPath())) {
+				decrypt(in, out);
+				return;
+			} catch (IOException e) {
+				throwIfNotLegacy(src, e);
+			}
+		}
+		FileUtil.write(desc, decrypt(FileUtil.read(src), false));
 	}
 
 	/**
-	 * 파일 복호화
+	 * 파일 복호화 (인증 태그가 맞지 않으면 이전 형식(단일 IV, 고정 IV)으로 복호화)
 	 *
 	 * @param src 원본 파일
 	 * @return 복호화 대상 파일
@@ -176,24 +271,141 @@ public final class AESEncryptUtil {
 			throw new CommonException(CommonError.COM_NOT_FOUND, "file: " + src.getAbsolutePath());
 		}
 
-		byte[] bytes = FileUtil.read(src);
-		return decrypt(bytes, false);
+		if (src.length() >= MIN_SIZE) {
+			try (InputStream in = Files.newInputStream(src.toPath())) {
+				ByteArrayOutputStream out = new ByteArrayOutputStream((int) src.length());
+				decrypt(in, out);
+				return out.toByteArray();
+			} catch (IOException e) {
+				throwIfNotLegacy(src, e);
+			}
+		}
+		return decrypt(FileUtil.read(src), false);
+	}
+
+	/**
+	 * 인증 태그 불일치(이전 형식 파일)가 아니면 예외 발생
+	 *
+	 * @param src 원본 파일
+	 * @param e   입출력 예외
+	 */
+	private static void throwIfNotLegacy(File src, IOException e) {
+		if (ExceptionUtils.indexOfType(e, AEADBadTagException.class) < 0) {
+			throw new CommonException(CommonError.COM_ENCRYPTION_ERROR, "file: " + src.getAbsolutePath(), e);
+		}
+		log.trace("legacy file: {} {}", src.getName(), e.getMessage());
+	}
+
+	/**
+	 * 입력 스트림(세그먼트 마다 IV + 암호문 + 인증 태그)을 복호화하여 출력 스트림에 출력
+	 * <pre>
+	 * - 세그먼트는 인증 후에 출력하므로 실패한 세그먼트의 평문은 출력하지 않음
+	 * </pre>
+	 *
+	 * @param in  입력 스트림 (닫지 않음)
+	 * @param out 출력 스트림 (닫지 않음)
+	 * @throws IOException 입출력 예외 (인증 태그 불일치, 잘린 스트림 포함)
+	 */
+	public static void decrypt(InputStream in, OutputStream out) throws IOException {
+		PushbackInputStream input = new PushbackInputStream(in, 1);
+		byte[] iv = new byte[IV_SIZE];
+		byte[] buffer = new byte[SEGMENT_SIZE + TAG_SIZE];
+		byte[] result = new byte[SEGMENT_SIZE + TAG_SIZE];
+		boolean last = false;
+		for (long index = 0; !last; index++) {
+			IOUtils.readFully(input, iv);
+			int length = IOUtils.read(input, buffer);
+			last = length < buffer.length || isEnd(input);
+			Cipher cipher = init(Cipher.DECRYPT_MODE, new GCMParameterSpec(TAG_BITS, iv), length);
+			try {
+				cipher.updateAAD(createAad(index, last));
+				int size = cipher.doFinal(buffer, 0, length, result, 0);
+				out.write(result, 0, size);
+			} catch (GeneralSecurityException e) {
+				// 인증에 실패한 Cipher 는 다시 사용하지 않음
+				CIPHER.remove();
+				throw new IOException("segment: " + index, e);
+			}
+		}
+	}
+
+	/**
+	 * 스트림의 끝인지 확인 (읽은 1 byte 는 되돌림)
+	 */
+	private static boolean isEnd(PushbackInputStream in) throws IOException {
+		int b = in.read();
+		if (b < 0) {
+			return true;
+		}
+		in.unread(b);
+		return false;
+	}
+
+	/**
+	 * 세그먼트 추가 인증 데이터 (순번 8 byte + 마지막 여부 1 byte)
+	 */
+	private static byte[] createAad(long index, boolean last) {
+		return ByteBuffer.allocate(Long.BYTES + 1)
+				.putLong(index)
+				.put((byte) (last ? 1 : 0))
+				.array();
 	}
 
 	/**
 	 * byte 배열을 AES256 알고리즘으로 복호화
 	 */
-	public static synchronized byte[] decrypt(byte[] value, boolean base64) {
+	public static byte[] decrypt(byte[] value, boolean base64) {
 		if (value.length == 0) {
 			return value;
 		}
 
+		byte[] bytes = base64 ? Base64.decodeBase64(value) : value;
+		if (bytes.length >= MIN_SIZE) {
+			try {
+				Cipher cipher = init(Cipher.DECRYPT_MODE, new GCMParameterSpec(TAG_BITS, bytes, 0, IV_SIZE),
+						value.length);
+				return cipher.doFinal(bytes, IV_SIZE, bytes.length - IV_SIZE);
+			} catch (AEADBadTagException e) {
+				log.trace("legacy iv: {}", e.getMessage());
+			} catch (BadPaddingException | IllegalBlockSizeException e) {
+				throw new CommonException(CommonError.COM_ENCRYPTION_ERROR, "length: " + value.length, e);
+			}
+		}
+		return decryptLegacy(bytes);
+	}
+
+	/**
+	 * 이전 형식(고정 IV) 암호문을 복호화
+	 * <pre>
+	 * - 인증에 실패한 스레드별 Cipher 는 JDK 에 따라 다시 초기화해도 사용할 수 없으므로 새 Cipher 사용
+	 * </pre>
+	 *
+	 * @param bytes 암호문
+	 * @return 복호화된 byte 배열
+	 */
+	private static byte[] decryptLegacy(byte[] bytes) {
+		try {
+			Cipher cipher = createCipher();
+			cipher.init(Cipher.DECRYPT_MODE, SECRET_KEY_SPEC, LEGACY_IV_SPEC);
+			return cipher.doFinal(bytes);
+		} catch (GeneralSecurityException e) {
+			throw new CommonException(CommonError.COM_ENCRYPTION_ERROR, "length: " + bytes.length, e);
+		}
+	}
+
+	private static byte[] createIv() {
+		byte[] iv = new byte[IV_SIZE];
+		RANDOM.get().nextBytes(iv);
+		return iv;
+	}
+
+	private static Cipher init(int mode, GCMParameterSpec spec, int length) {
+		Cipher cipher = CIPHER.get();
 		try {
-			CIPHER.init(Cipher.DECRYPT_MODE, SECRET_KEY_SPEC, IV_SPEC);
-			return CIPHER.doFinal(base64 ? Base64.decodeBase64(value) : value);
-		} catch (InvalidKeyException | InvalidAlgorithmParameterException
-				 | BadPaddingException | IllegalBlockSizeException e) {
-			throw new CommonException(CommonError.COM_ENCRYPTION_ERROR, "length: " + value.length, e);
+			cipher.init(mode, SECRET_KEY_SPEC, spec);
+			return cipher;
+		} catch (InvalidKeyException | InvalidAlgorithmParameterException e) {
+			throw new CommonException(CommonError.COM_ENCRYPTION_ERROR, "length: " + length, e);
 		}
 	}
 }
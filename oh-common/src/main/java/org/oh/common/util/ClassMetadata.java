@@ -0,0 +1,244 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.util;
+
+import lombok.Getter;
+import org.oh.common.exception.CommonError;
+import org.oh.common.exception.CommonException;
+
+import javax.persistence.Id;
+import javax.persistence.Transient;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 클래스별 필드 메타 정보 (최초 1회 생성 후 캐시)
+ * <pre>
+ * - 필드 목록과 어노테이션 검사 결과를 클래스별로 캐시
+ * - 필드 읽기/쓰기는 미리 생성한 MethodHandle 로 처리
+ * </pre>
+ */
+public final class ClassMetadata {
+	/**
+	 * null 필드들 (null 값으로 수정시 사용) 필드명
+	 */
+	public static final String FIELD_NAME_NULLS = "nulls";
+
+	private static final ClassValue<ClassMetadata> CACHE = new ClassValue<ClassMetadata>() {
+		@Override
+		protected ClassMetadata computeValue(Class<?> type) {
+			return new ClassMetadata(type);
+		}
+	};
+
+	/**
+	 * 해당 클래스의 메타 정보를 반환
+	 *
+	 * @param type 대상 클래스
+	 * @return 메타 정보
+	 */
+	public static ClassMetadata of(Class<?> type) {
+		return CACHE.get(type);
+	}
+
+	///////////////////////////////////////////////////////////////////////////
+
+	/**
+	 * 대상 클래스
+	 */
+	@Getter
+	private final Class<?> type;
+
+	/**
+	 * static 을 제외한 전체 필드 (하위 클래스 필드부터 순서대로)
+	 */
+	@Getter
+	private final List<Accessor> fields;
+
+	/**
+	 * static 과 {@link Transient} 를 제외한 필드 (수정시 복사 대상)
+	 */
+	@Getter
+	private final List<Accessor> persistentFields;
+
+	private final Map<String, Accessor> fieldMap;
+	private final Accessor id;
+	private final Map<Class<? extends Annotation>, List<Accessor>> annotationFields = new ConcurrentHashMap<>();
+
+	private ClassMetadata(Class<?> type) {
+		this.type = type;
+
+		List<Accessor> list = new ArrayList<>();
+		Map<String, Accessor> map = new LinkedHashMap<>();
+		Class<?> clazz = type;
+		while (clazz != null) {
+			for (Field field : clazz.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers())) {
+					continue;
+				}
+				Accessor accessor = new Accessor(field);
+				list.add(accessor);
+				map.putIfAbsent(accessor.getName(), accessor);
+			}
+			clazz = clazz.getSuperclass();
+		}
+
+		this.fields = Collections.unmodifiableList(list);
+		this.persistentFields = Collections.unmodifiableList(list.stream()
+				.filter(e -> !CommonUtil.existAnnotation(e.getField(), Transient.class))
+				.collect(Collectors.toList()));
+		this.fieldMap = Collections.unmodifiableMap(map);
+
+		Accessor idAccessor = findFirst(list, Id.class);
+		if (idAccessor == null) {
+			idAccessor = findFirst(list, org.springframework.data.annotation.Id.class);
+		}
+		this.id = idAccessor;
+	}
+
+	/**
+	 * 아이디 필드 (javax.persistence.Id 또는 org.springframework.data.annotation.Id 로 설정된 필드)
+	 *
+	 * @return 아이디 필드
+	 */
+	public Optional<Accessor> getId() {
+		return Optional.ofNullable(id);
+	}
+
+	/**
+	 * 아이디 필드 (없으면 예외 발생)
+	 *
+	 * @return 아이디 필드
+	 */
+	public Accessor getRequiredId() {
+		if (id == null) {
+			throw new CommonException(CommonError.COM_NO_ID_FIELD, "[\"" + type.getName() + "\"]");
+		}
+		return id;
+	}
+
+	/**
+	 * null 필드들 (null 값으로 수정시 사용) 필드
+	 *
+	 * @return null 필드들 필드
+	 */
+	public Optional<Accessor> getNulls() {
+		return getField(FIELD_NAME_NULLS);
+	}
+
+	/**
+	 * 필드명에 해당하는 필드
+	 *
+	 * @param name 필드명
+	 * @return 필드
+	 */
+	public Optional<Accessor> getField(String name) {
+		return Optional.ofNullable(fieldMap.get(name));
+	}
+
+	/**
+	 * 특정 Annotation 이 있는 필드 목록
+	 *
+	 * @param anno 대상 Annotation
+	 * @return 필드 목록
+	 */
+	public List<Accessor> getFields(Class<? extends Annotation> anno) {
+		return annotationFields.computeIfAbsent(anno, a -> Collections.unmodifiableList(fields.stream()
+				.filter(e -> e.getField().isAnnotationPresent(a))
+				.collect(Collectors.toList())));
+	}
+
+	private static Accessor findFirst(List<Accessor> list, Class<? extends Annotation> anno) {
+		return list.stream()
+				.filter(e -> e.getField().isAnnotationPresent(anno))
+				.findFirst()
+				.orElse(null);
+	}
+
+	/**
+	 * 필드 접근자 (MethodHandle 사용)
+	 */
+	@Getter
+	public static final class Accessor {
+		private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+		private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+		private final Field field;
+		private final String name;
+		private final MethodHandle getter;
+		private final MethodHandle setter;
+
+		private Accessor(Field field) {
+			this.field = field;
+			this.name = field.getName();
+			field.setAccessible(true);
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+				this.setter = Modifier.isFinal(field.getModifiers()) ? null :
+						lookup.unreflectSetter(field).asType(SETTER_TYPE);
+			} catch (IllegalAccessException e) {
+				throw new CommonException(e);
+			}
+		}
+
+		/**
+		 * 필드값을 반환
+		 *
+		 * @param target 대상 객체
+		 * @return 필드값
+		 */
+		public Object get(Object target) {
+			try {
+				return getter.invokeExact(target);
+			} catch (Throwable e) { //NOSONAR MethodHandle 은 Throwable 을 던짐
+				throw new CommonException(e);
+			}
+		}
+
+		/**
+		 * 필드값을 설정
+		 *
+		 * @param target 대상 객체
+		 * @param value  필드값
+		 */
+		public void set(Object target, Object value) {
+			if (setter == null) {
+				throw new CommonException(CommonError.COM_INVALID_ARGUMENT,
+						"Final field can not be set: " + field);
+			}
+			try {
+				setter.invokeExact(target, value);
+			} catch (Throwable e) { //NOSONAR MethodHandle 은 Throwable 을 던짐
+				throw new CommonException(e);
+			}
+		}
+	}
+}
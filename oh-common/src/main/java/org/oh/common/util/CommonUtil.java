@@ -26,12 +26,10 @@ import org.apache.commons.exec.DefaultExecutor;
 import org.apache.commons.exec.Executor;
 import org.apache.commons.exec.PumpStreamHandler;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.oh.common.exception.CommonError;
 import org.oh.common.exception.CommonException;
 import org.oh.common.exception.DefaultException;
-import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StopWatch;
 
 import java.io.ByteArrayOutputStream;
@@ -209,11 +207,9 @@ public final class CommonUtil {
 				CommonError.COM_INVALID_ARGUMENT,
 				String.format("The source type(%s) and the destination type(%s) must be the same",
 						src.getClass().getName(), des.getClass().getName()), null);
-		FieldUtils.getFieldsListWithAnnotation(src.getClass(), anno)
-				.forEach(e -> {
-					e.setAccessible(true);
-					ReflectionUtils.setField(e, des, ReflectionUtils.getField(e, src));
-				});
+		ClassMetadata.of(src.getClass())
+				.getFields(anno)
+				.forEach(e -> e.set(des, e.get(src)));
 		return des;
 	}
 
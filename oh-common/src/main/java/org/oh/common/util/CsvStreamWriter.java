@@ -0,0 +1,112 @@
+/*
+ * Copyright 2002-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.oh.common.util;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.oh.common.exception.CommonError;
+import org.oh.common.exception.CommonException;
+import org.oh.common.model.CommonModel;
+
+import java.io.BufferedWriter;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 객체를 한 건씩 CVS 로 변환하여 출력 스트림에 바로 출력 (전체 목록을 메모리에 적재하지 않음)
+ * <pre>
+ * - 필드 리스트가 없으면 첫 번째 객체의 필드로 헤더를 생성
+ * - flush 건수 단위로 출력 스트림에 flush
+ * </pre>
+ */
+public class CsvStreamWriter
+		implements Consumer<Object>, Flushable {
+	private static final String SEP = ",";
+
+	private final Writer writer;
+	private final Class<? extends CommonModel.None> jsonView;
+	private final int flushSize;
+	private SequenceWriter csvWriter;
+
+	/**
+	 * 출력 건수
+	 */
+	@Getter
+	private long count;
+
+	/**
+	 * @param out        출력 스트림
+	 * @param charset    문자 인코딩
+	 * @param fieldNames 필드 리스트 (없으면 첫 번째 객체의 필드)
+	 * @param header     헤더 리스트 (필드 리스트가 있는 경우만 사용)
+	 * @param jsonView   JSON View
+	 * @param flushSize  flush 건수
+	 */
+	public CsvStreamWriter(OutputStream out, Charset charset, String fieldNames, String header,
+						   Class<? extends CommonModel.None> jsonView, int flushSize) {
+		this.writer = new BufferedWriter(new OutputStreamWriter(out, charset));
+		this.jsonView = jsonView;
+		this.flushSize = flushSize;
+
+		if (StringUtils.isNotEmpty(fieldNames)) {
+			if (StringUtils.isNotEmpty(header)) {
+				write(header + '\n');
+			}
+			csvWriter = JsonUtil.getCsvWriter(writer, JsonUtil.getCvsScheme(fieldNames, SEP, false));
+		}
+	}
+
+	@Override
+	public void accept(Object value) {
+		Map<String, Object> row = JsonUtil.flattenAsMap(value, jsonView);
+		if (csvWriter == null) {
+			csvWriter = JsonUtil.getCsvWriter(writer,
+					JsonUtil.getCvsScheme(String.join(SEP, row.keySet()), SEP, true));
+		}
+		try {
+			csvWriter.write(row);
+			if (++count % flushSize == 0) {
+				flush();
+			}
+		} catch (IOException e) {
+			throw new CommonException(CommonError.COM_JSON_ERROR, "count: " + count, e);
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (csvWriter != null) {
+			csvWriter.flush();
+		}
+		writer.flush();
+	}
+
+	private void write(String value) {
+		try {
+			writer.write(value);
+		} catch (IOException e) {
+			throw new CommonException(CommonError.COM_JSON_ERROR, "value: " + value, e);
+		}
+	}
+}
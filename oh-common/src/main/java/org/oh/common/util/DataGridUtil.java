@@ -16,10 +16,13 @@
 
 package org.oh.common.util;
 
+import com.hazelcast.config.IndexType;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.oh.common.annotation.DataGridIndex;
 import org.oh.common.config.DataGridConfig;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.annotation.AnnotationUtils;
@@ -27,9 +30,13 @@ import org.springframework.data.keyvalue.annotation.KeySpace;
 import org.springframework.session.Session;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
@@ -51,6 +58,37 @@ public final class DataGridUtil {
 
 	private final HazelcastInstance hazelcast;
 
+	/**
+	 * 모델의 {@link DataGridIndex} 필드로 맵(@KeySpace)에 인덱스를 추가
+	 * <pre>
+	 * - 같은 맵에 저장되는 모든 모델에 있는 필드만 추가 (필드가 없는 객체는 인덱스 추가시 저장 오류 발생)
+	 * </pre>
+	 *
+	 * @param types 모델 클래스 목록
+	 */
+	public void addIndexes(Collection<Class<?>> types) {
+		Map<String, List<Class<?>>> keySpaces = types.stream()
+				.collect(Collectors.groupingBy(a -> getKeySpaceValue(a).orElse(a.getName()), LinkedHashMap::new,
+						Collectors.toList()));
+		keySpaces.forEach((mapName, models) -> {
+			Map<String, IndexType> indexes = new LinkedHashMap<>();
+			models.forEach(t -> ClassMetadata.of(t).getFields(DataGridIndex.class)
+					.forEach(f -> indexes.putIfAbsent(f.getName(),
+							f.getField().getAnnotation(DataGridIndex.class).value())));
+
+			IMap<Object, Object> map = hazelcast.getMap(mapName);
+			indexes.forEach((name, indexType) -> {
+				if (models.stream().allMatch(t -> ClassMetadata.of(t).getField(name).isPresent())) {
+					map.addIndex(indexType, name);
+					log.debug("index: {}.{} ({})", mapName, name, indexType);
+				} else {
+					log.warn("index skipped, not all models of the map have the field: {}.{} {}",
+							mapName, name, models);
+				}
+			});
+		});
+	}
+
 	/**
 	 * 데이터 그리드에서 전체 맵 이름과 크기를 출력
 	 */
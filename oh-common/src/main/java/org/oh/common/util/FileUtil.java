@@ -19,6 +19,8 @@ package org.oh.common.util;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.filefilter.WildcardFileFilter;
@@ -29,9 +31,17 @@ import org.oh.common.exception.CommonException;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.Optional;
 
@@ -41,6 +51,8 @@ import java.util.Optional;
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public final class FileUtil {
+	private static final int BUFFER_SIZE = 64 * 1024;
+
 	// 정규화 예외 파일 경로 (로컬 테스트용)
 	private static final String[] NORMALIZE_EXCLUDE_STARTS_WITH_PATHS = {
 			"../files-test"
@@ -107,6 +119,47 @@ public final class FileUtil {
 		}
 	}
 
+	/**
+	 * 입력 스트림을 버퍼 단위로 파일에 저장하면서 SHA-256 해시를 계산 (내용 전체를 메모리에 적재하지 않음)
+	 *
+	 * @param in   입력 스트림
+	 * @param file 파일
+	 * @return 해시 (16진수)
+	 */
+	public static String write(InputStream in, File file) {
+		MessageDigest digest = DigestUtils.getSha256Digest();
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		try (ReadableByteChannel src = Channels.newChannel(in);
+			 FileChannel dest = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+					 StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (src.read(buffer) != -1) {
+				buffer.flip();
+				digest.update(buffer.array(), 0, buffer.limit());
+				while (buffer.hasRemaining()) {
+					dest.write(buffer);
+				}
+				buffer.clear();
+			}
+		} catch (IOException e) {
+			throw new CommonException(CommonError.COM_FILES_ERROR, "file: " + file.getAbsolutePath(), e);
+		}
+		return Hex.encodeHexString(digest.digest());
+	}
+
+	/**
+	 * 파일 내용의 SHA-256 해시를 반환 (버퍼 단위로 읽음)
+	 *
+	 * @param file 파일
+	 * @return 해시 (16진수)
+	 */
+	public static String hash(File file) {
+		try (InputStream in = Files.newInputStream(file.toPath())) {
+			return DigestUtils.sha256Hex(in);
+		} catch (IOException e) {
+			throw new CommonException(CommonError.COM_FILES_ERROR, "file: " + file.getAbsolutePath(), e);
+		}
+	}
+
 	/**
 	 * 파일을 읽어 데이터를 반환
 	 *
@@ -16,35 +16,80 @@
 
 package org.oh.common.util;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
+import okhttp3.Response;
 import org.oh.common.exception.CommonError;
 import org.oh.common.exception.CommonException;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.web.client.HttpMessageConverterExtractor;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * HTTP 클라이언트
+ * <pre>
+ * - 동기 요청: RestTemplate
+ * - 비동기 요청: 비동기 클라이언트(OkHttp)가 있으면 디스패처 대기열 사용 (호출 쓰레드가 직접 실행하지 않음),
+ *   없으면 쓰레드 풀에서 RestTemplate 실행
+ * - 지연 요청(hedge): 멱등 GET 요청이 지연 시간 안에 응답하지 않으면 한번 더 요청하고 먼저 온 응답을 사용
+ * - 지표: oh.http.client.queued (대기 요청 수), oh.http.client.in-flight (실행 중인 요청 수)
+ * </pre>
  */
 @Slf4j
 public class HttpClient
 		implements Closeable {
+	public static final String METRIC_QUEUED = "oh.http.client.queued";
+	public static final String METRIC_IN_FLIGHT = "oh.http.client.in-flight";
+
 	protected final RestTemplate restTemplate;
 	protected final String namePrefix;
 	protected final ThreadPoolExecutor threadPool;
+	protected final OkHttpClient asyncClient;
+	protected final long hedgeDelayMs;
+	private final ScheduledExecutorService hedgeScheduler;
 
 	/**
 	 * 조건에 맞는 HTTP 클라이언트를 샌성
@@ -56,17 +101,74 @@ public class HttpClient
 	 */
 	public HttpClient(RestTemplate restTemplate, int coreThreadPoolSize,
 					  int maxThreadPoolSize, String threadNamePrefix) {
+		this(restTemplate, null, 0, coreThreadPoolSize, maxThreadPoolSize, threadNamePrefix);
+	}
+
+	/**
+	 * 조건에 맞는 HTTP 클라이언트를 샌성
+	 *
+	 * @param restTemplate       REST 템플릿
+	 * @param asyncClient        비동기 HTTP 클라이언트 (없으면 쓰레드 풀 사용)
+	 * @param hedgeDelayMs       GET 요청을 한번 더 보내기 전 대기 시간 (밀리초, 0: 미사용)
+	 * @param coreThreadPoolSize 기본 쓰레드 풀 크기
+	 * @param maxThreadPoolSize  최대 쓰레드 풀 크기
+	 * @param threadNamePrefix   시작 쓰레드명
+	 */
+	public HttpClient(RestTemplate restTemplate, OkHttpClient asyncClient, long hedgeDelayMs,
+					  int coreThreadPoolSize, int maxThreadPoolSize, String threadNamePrefix) {
 		this.restTemplate = restTemplate;
 		this.namePrefix = threadNamePrefix;
+		this.asyncClient = asyncClient;
+		this.hedgeDelayMs = asyncClient == null ? 0 : hedgeDelayMs;
 		threadPool = ThreadUtil.createThreadPool(coreThreadPoolSize, maxThreadPoolSize, 60, threadNamePrefix);
+		if (this.hedgeDelayMs > 0) {
+			ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
+					new ThreadFactoryBuilder().setNameFormat(threadNamePrefix + "-hedge-%d").setDaemon(true).build());
+			scheduler.setRemoveOnCancelPolicy(true);
+			hedgeScheduler = scheduler;
+		} else {
+			hedgeScheduler = null;
+		}
 	}
 
 	@Override
 	public void close() {
 		threadPool.shutdown();
+		if (asyncClient != null) {
+			asyncClient.dispatcher().executorService().shutdown();
+			asyncClient.connectionPool().evictAll();
+		}
+		if (hedgeScheduler != null) {
+			hedgeScheduler.shutdownNow();
+		}
 		log.info("Shutdown threadPool: {}", namePrefix);
 	}
 
+	/**
+	 * 대기/실행 중인 요청 수 지표를 등록
+	 *
+	 * @param registry 지표 저장소
+	 */
+	public void bindTo(MeterRegistry registry) {
+		Tags tags = Tags.of("name", namePrefix);
+		if (asyncClient == null) {
+			Gauge.builder(METRIC_QUEUED, threadPool, a -> a.getQueue().size())
+					.tags(tags)
+					.register(registry);
+			Gauge.builder(METRIC_IN_FLIGHT, threadPool, ThreadPoolExecutor::getActiveCount)
+					.tags(tags)
+					.register(registry);
+		} else {
+			Dispatcher dispatcher = asyncClient.dispatcher();
+			Gauge.builder(METRIC_QUEUED, dispatcher, Dispatcher::queuedCallsCount)
+					.tags(tags)
+					.register(registry);
+			Gauge.builder(METRIC_IN_FLIGHT, dispatcher, Dispatcher::runningCallsCount)
+					.tags(tags)
+					.register(registry);
+		}
+	}
+
 	/**
 	 * HTTP 통신으로 요청문을 전송
 	 *
@@ -136,7 +238,7 @@ public class HttpClient
 	}
 
 	/**
-	 * HTTP 통신으로 요청문을 비동기(쓰레드 생성) 전송
+	 * HTTP 통신으로 요청문을 비동기(쓰레드 생성) 전송 (쓰레드 로컬 값 전파)
 	 *
 	 * @param request HTTP 요청문
 	 * @param type    파라미터 타입 레퍼런스
@@ -148,12 +250,302 @@ public class HttpClient
 																 ParameterizedTypeReference<T> type,
 																 Consumer<? super ResponseEntity<T>> success,
 																 BiConsumer<Throwable, String> fail) {
-		CompletableFuture<ResponseEntity<T>> result = CompletableFuture
-				.supplyAsync(() -> request(request, type), threadPool);
+		CompletableFuture<ResponseEntity<T>> result = requestAsync(request, type);
 		result.thenAccept(success);
 		return result.exceptionally(CommonUtil.toFunction(fail, request.toString(), null));
 	}
 
+	/**
+	 * HTTP 통신으로 요청문을 비동기 전송 (쓰레드 로컬 값 전파)
+	 *
+	 * @param request HTTP 요청문
+	 * @param type    파라미터 타입 레퍼런스
+	 * @return 미래 HTTP 응답 정보 (실패시 CommonException 으로 완료)
+	 */
+	public <T> CompletableFuture<ResponseEntity<T>> requestAsync(Request request,
+																 ParameterizedTypeReference<T> type) {
+		if (asyncClient == null) {
+			return CompletableFuture.supplyAsync(() -> request(request, type), ThreadLocalUtil.wrap(threadPool));
+		}
+		return enqueue(request, type);
+	}
+
+	/**
+	 * 다수의 HTTP 요청문을 동시 요청 수를 제한하여 비동기 전송
+	 *
+	 * @param requests HTTP 요청문 리스트
+	 * @param type     클래스 타입
+	 * @return 미래 HTTP 응답 정보 리스트 (요청 순서, 하나라도 실패하면 모두 완료 후 실패)
+	 */
+	public <T> CompletableFuture<List<ResponseEntity<T>>> requestAll(List<? extends Request> requests,
+																	 Class<T> type) {
+		return requestAll(requests, ParameterizedTypeReference.forType(type));
+	}
+
+	/**
+	 * 다수의 HTTP 요청문을 동시 요청 수를 제한하여 비동기 전송
+	 * (최대 동시 요청 수: 호스트 당 최대 요청 수 또는 최대 쓰레드 풀 크기)
+	 *
+	 * @param requests HTTP 요청문 리스트
+	 * @param type     파라미터 타입 레퍼런스
+	 * @return 미래 HTTP 응답 정보 리스트 (요청 순서, 하나라도 실패하면 모두 완료 후 실패)
+	 */
+	public <T> CompletableFuture<List<ResponseEntity<T>>> requestAll(List<? extends Request> requests,
+																	 ParameterizedTypeReference<T> type) {
+		int maxConcurrency = asyncClient == null ? threadPool.getMaximumPoolSize()
+				: asyncClient.dispatcher().getMaxRequestsPerHost();
+		return requestAll(requests, type, maxConcurrency);
+	}
+
+	/**
+	 * 다수의 HTTP 요청문을 동시 요청 수를 제한하여 비동기 전송
+	 *
+	 * @param requests       HTTP 요청문 리스트
+	 * @param type           파라미터 타입 레퍼런스
+	 * @param maxConcurrency 최대 동시 요청 수
+	 * @return 미래 HTTP 응답 정보 리스트 (요청 순서, 하나라도 실패하면 모두 완료 후 실패)
+	 */
+	public <T> CompletableFuture<List<ResponseEntity<T>>> requestAll(List<? extends Request> requests,
+																	 ParameterizedTypeReference<T> type,
+																	 int maxConcurrency) {
+		List<CompletableFuture<ResponseEntity<T>>> results = new ArrayList<>(requests.size());
+		requests.forEach(a -> results.add(new CompletableFuture<>()));
+		AtomicInteger next = new AtomicInteger();
+		Runnable[] startNext = new Runnable[1];
+		startNext[0] = () -> {
+			int i = next.getAndIncrement();
+			if (i < requests.size()) {
+				requestAsync(requests.get(i), type)
+						.whenComplete((r, e) -> {
+							if (e == null) {
+								results.get(i).complete(r);
+							} else {
+								results.get(i).completeExceptionally(e);
+							}
+							startNext[0].run();
+						});
+			}
+		};
+		for (int i = 0; i < Math.min(Math.max(maxConcurrency, 1), requests.size()); i++) {
+			startNext[0].run();
+		}
+
+		return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]))
+				.thenApply(a -> results.stream()
+						.map(CompletableFuture::join)
+						.collect(Collectors.toList()));
+	}
+
+	/**
+	 * 비동기 클라이언트의 디스패처 대기열에 요청 (GET 요청은 지연시 한번 더 요청)
+	 */
+	protected <T> CompletableFuture<ResponseEntity<T>> enqueue(Request request, ParameterizedTypeReference<T> type) {
+		CompletableFuture<ResponseEntity<T>> result = new CompletableFuture<>();
+		BiConsumer<ResponseEntity<T>, Throwable> complete = ThreadLocalUtil.wrap((r, e) -> {
+			if (e == null) {
+				result.complete(r);
+			} else {
+				result.completeExceptionally(e);
+			}
+		});
+
+		okhttp3.Request httpRequest = toHttpRequest(request);
+		List<Call> calls = new CopyOnWriteArrayList<>();
+		AtomicInteger pending = new AtomicInteger(1);
+		Callback callback = new Callback() {
+			@Override
+			public void onResponse(@NonNull Call call, @NonNull Response response) {
+				try (Response r = response) {
+					complete.accept(toResponseEntity(request, r, type), null);
+				} catch (RuntimeException | IOException e) {
+					onFailure(call, e);
+				}
+			}
+
+			@Override
+			public void onFailure(@NonNull Call call, @NonNull IOException e) {
+				onFailure(call, (Exception) e);
+			}
+
+			private void onFailure(Call call, Exception e) {
+				if (pending.decrementAndGet() == 0) {
+					complete.accept(null, e instanceof CommonException ? e
+							: new CommonException(CommonError.COM_HTTP_CLIENT_ERROR,
+							String.format("request: %s message: %s", request, e.getMessage()), e));
+				}
+			}
+		};
+
+		Call call = asyncClient.newCall(httpRequest);
+		calls.add(call);
+		call.enqueue(callback);
+
+		ScheduledFuture<?> hedge = null;
+		if (hedgeScheduler != null && HttpMethod.GET == request.getMethod()) {
+			hedge = hedgeScheduler.schedule(() -> {
+				if (!result.isDone()) {
+					pending.incrementAndGet();
+					Call hedgeCall = call.clone();
+					calls.add(hedgeCall);
+					log.debug("hedge request: {}", request);
+					hedgeCall.enqueue(callback);
+				}
+			}, hedgeDelayMs, TimeUnit.MILLISECONDS);
+		}
+
+		Optional<ScheduledFuture<?>> hedgeTemp = Optional.ofNullable(hedge);
+		result.whenComplete((r, e) -> {
+			hedgeTemp.ifPresent(a -> a.cancel(false));
+			calls.forEach(Call::cancel);
+		});
+		return result;
+	}
+
+	private okhttp3.Request toHttpRequest(Request request) {
+		HttpMethod method = Optional.ofNullable(request.getMethod()).orElse(HttpMethod.GET);
+		Object body = request.getBody();
+		String uri = request.getUrl();
+		if (method == HttpMethod.GET && body != null) {
+			uri = request.getUri();
+			body = null;
+		}
+		log.debug("request async uri: {} {}", uri, request);
+
+		okhttp3.Request.Builder builder = new okhttp3.Request.Builder().url(uri);
+		MediaType contentType = null;
+		if (request.getHeaders() != null) {
+			request.getHeaders().forEach((k, v) -> v.forEach(e -> builder.addHeader(k, e)));
+			contentType = request.getHeaders().getContentType();
+		}
+
+		RequestBody requestBody = null;
+		if (body != null) {
+			requestBody = toRequestBody(request, body, contentType);
+		} else if (method == HttpMethod.POST || method == HttpMethod.PUT || method == HttpMethod.PATCH) {
+			requestBody = RequestBody.create(new byte[0], null);
+		}
+		return builder.method(method.name(), requestBody).build();
+	}
+
+	/**
+	 * 요청 바디를 REST 템플릿의 메세지 컨버터로 변환 (동기 요청과 같이 Content-Type 으로 컨버터 선택)
+	 * <pre>
+	 * - Content-Type 이 없으면 컨버터의 기본값 사용 (예: MultiValueMap 은 form, byte[] 는 octet-stream)
+	 * </pre>
+	 */
+	@SuppressWarnings("unchecked")
+	private RequestBody toRequestBody(Request request, Object body, MediaType contentType) {
+		for (HttpMessageConverter<?> converter : restTemplate.getMessageConverters()) {
+			if (converter.canWrite(body.getClass(), contentType)) {
+				BufferedOutputMessage message = new BufferedOutputMessage();
+				try {
+					((HttpMessageConverter<Object>) converter).write(body, contentType, message);
+				} catch (IOException e) {
+					throw new CommonException(CommonError.COM_HTTP_CLIENT_ERROR,
+							String.format("request: %s message: %s", request, e.getMessage()), e);
+				}
+				MediaType messageType = message.getHeaders().getContentType();
+				return RequestBody.create(message.body.toByteArray(),
+						messageType == null ? null : okhttp3.MediaType.get(messageType.toString()));
+			}
+		}
+		throw new CommonException(CommonError.COM_HTTP_CLIENT_ERROR,
+				String.format("request: %s message: no converter for %s [%s]",
+						request, body.getClass().getName(), contentType));
+	}
+
+	private <T> ResponseEntity<T> toResponseEntity(Request request, Response response,
+												   ParameterizedTypeReference<T> type) throws IOException {
+		ClientHttpResponse clientResponse = new OkHttpClientResponse(response);
+		if (!response.isSuccessful()) {
+			String body = response.body() == null ? "" : response.body().string();
+			throw new CommonException(CommonError.COM_HTTP_CLIENT_ERROR,
+					String.format("request: %s response: %s",
+							request, StringUtil.toCodeString(response.code(), body)));
+		}
+
+		T body = new HttpMessageConverterExtractor<T>(type.getType(), restTemplate.getMessageConverters())
+				.extractData(clientResponse);
+		log.debug("response: {}", StringUtil.toCodeString(response.code(), body));
+		return ResponseEntity.status(response.code())
+				.headers(clientResponse.getHeaders())
+				.body(body);
+	}
+
+	/**
+	 * 메세지 컨버터가 출력한 요청 바디와 헤더를 보관
+	 */
+	private static class BufferedOutputMessage
+			implements HttpOutputMessage {
+		private final HttpHeaders headers = new HttpHeaders();
+		private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+		@NonNull
+		@Override
+		public OutputStream getBody() {
+			return body;
+		}
+
+		@NonNull
+		@Override
+		public HttpHeaders getHeaders() {
+			return headers;
+		}
+	}
+
+	/**
+	 * OkHttp 응답을 스프링 응답으로 변환 (메세지 컨버터 사용)
+	 */
+	private static class OkHttpClientResponse
+			implements ClientHttpResponse {
+		private final Response response;
+		private HttpHeaders headers;
+
+		private OkHttpClientResponse(Response response) {
+			this.response = response;
+		}
+
+		@NonNull
+		@Override
+		public HttpStatus getStatusCode() {
+			return HttpStatus.valueOf(response.code());
+		}
+
+		@Override
+		public int getRawStatusCode() {
+			return response.code();
+		}
+
+		@NonNull
+		@Override
+		public String getStatusText() {
+			return response.message();
+		}
+
+		@NonNull
+		@Override
+		public InputStream getBody() {
+			return response.body() == null ? new ByteArrayInputStream(new byte[0])
+					: response.body().byteStream();
+		}
+
+		@NonNull
+		@Override
+		public HttpHeaders getHeaders() {
+			if (headers == null) {
+				headers = new HttpHeaders();
+				response.headers().names()
+						.forEach(a -> headers.put(a, response.headers(a)));
+			}
+			return headers;
+		}
+
+		@Override
+		public void close() {
+			response.close();
+		}
+	}
+
 	/**
 	 * HTTP 요청문
 	 */
@@ -17,7 +17,11 @@
 package org.oh.common.util;
 
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.imaging.ImageReadException;
 import org.apache.commons.imaging.Imaging;
 import org.apache.commons.imaging.ImagingException;
@@ -25,30 +29,43 @@ import org.apache.commons.imaging.common.ImageMetadata;
 import org.apache.commons.imaging.formats.jpeg.JpegImageMetadata;
 import org.apache.commons.imaging.formats.jpeg.exif.ExifRewriter;
 import org.apache.commons.imaging.formats.tiff.TiffImageMetadata;
-import org.apache.commons.io.IOUtils;
 import org.imgscalr.Scalr;
 import org.oh.common.exception.CommonError;
 import org.oh.common.exception.CommonException;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
 import javax.imageio.ImageReader;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.FileImageInputStream;
 import javax.imageio.stream.ImageInputStream;
-import javax.swing.ImageIcon;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
 
 import java.awt.Dimension;
+import java.awt.Graphics2D;
 import java.awt.Image;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
-import java.awt.image.PixelGrabber;
+import java.awt.image.DataBuffer;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 이미지 유틸리티
  */
+@Slf4j
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public final class ImageUtil {
 	public static final String THUMB_EXTENSION = "jpg";
@@ -57,6 +74,8 @@ public final class ImageUtil {
 	public static final int THUMB_WIDTH = 400;
 	public static final int THUMB_HEIGHT = 500;
 
+	private static final String FORMAT_JPEG = "JPEG";
+
 	/**
 	 * 썸네일 이미지를 생성
 	 *
@@ -73,6 +92,9 @@ public final class ImageUtil {
 
 	/**
 	 * 썸네일 이미지를 생성
+	 * <pre>
+	 * - 대상 크기에 맞게 서브샘플링하여 읽고 Graphics2D 로 축소 (픽셀 배열을 따로 생성하지 않음)
+	 * </pre>
 	 *
 	 * @param src    원본 이미지 파일
 	 * @param dest   대상 이미지 파일
@@ -80,21 +102,23 @@ public final class ImageUtil {
 	 * @param height 세로 크기
 	 */
 	public static void createImageIOThumb(File src, File dest, int width, int height) {
-		Image img = getImage(src);
+		BufferedImage img = read(src, width, height);
 		Dimension dim = getSize(img, width, height);
 		int destWidth = (int) dim.getWidth();
 		int destHeight = (int) dim.getHeight();
 
-		Image imgTarget = img.getScaledInstance(destWidth, destHeight, Image.SCALE_SMOOTH);
-		int[] pixels = new int[destWidth * destHeight];
-		PixelGrabber pg = new PixelGrabber(imgTarget, 0, 0, destWidth, destHeight, pixels, 0, destWidth);
 		BufferedImage destImg = new BufferedImage(destWidth, destHeight, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = destImg.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.drawImage(img, 0, 0, destWidth, destHeight, null);
+		} finally {
+			graphics.dispose();
+		}
+
 		try {
-			pg.grabPixels();
-			destImg.setRGB(0, 0, destWidth, destHeight, pixels, 0, destWidth);
 			ImageIO.write(destImg, "jpg", dest);
-		} catch (InterruptedException | IOException e) {
-			Thread.currentThread().interrupt();
+		} catch (IOException e) {
 			throw new CommonException(CommonError.COM_IMAGING_ERROR,
 					"srcFile: " + src.getAbsolutePath() + " destFile: " + dest.getAbsolutePath(), e);
 		}
@@ -123,55 +147,130 @@ public final class ImageUtil {
 	 * @param height 세로 크기
 	 */
 	public static void createScalrThumb(File src, File dest, int width, int height) {
-		try {
-			try (OutputStream os = new FileOutputStream(dest)) {
-				String extension = getExtension(src);
-				byte[] resizedImg = resize(ImageIO.read(src), extension, width, height);
-				if (resizedImg == null) {
-					throw new CommonException(CommonError.COM_IMAGING_ERROR,
-							String.format("Resized image is null. srcFile: %s destFile: %s",
-									src.getAbsolutePath(), dest.getAbsolutePath()));
-				}
+		createScalrThumbs(src, Collections.singletonMap(dest, new Dimension(width, height)));
+	}
+
+	/**
+	 * 원본 이미지를 한 번만 읽어서 여러 크기의 스칼라 썸네일 이미지를 생성
+	 * <pre>
+	 * - 파일을 한 번 열어서 가장 큰 대상 크기 기준으로 서브샘플링하여 읽고, 같은 파일에서 EXIF 를 읽음 (JPEG 만)
+	 * - 이미지 라이터는 모든 대상 크기에 재사용
+	 * </pre>
+	 *
+	 * @param src   원본 이미지 파일
+	 * @param dests 대상 이미지 파일과 크기 (가로 또는 세로 크기가 RATIO 면 비율 유지)
+	 * @return 생성 결과 (소요시간, 메모리)
+	 */
+	public static ThumbResult createScalrThumbs(File src, Map<File, Dimension> dests) {
+		long start = System.nanoTime();
+		int maxWidth = dests.values().stream()
+				.mapToInt(a -> (int) a.getWidth())
+				.max()
+				.orElse(RATIO);
+		int maxHeight = dests.values().stream()
+				.mapToInt(a -> (int) a.getHeight())
+				.max()
+				.orElse(RATIO);
+
+		try (RandomAccessFile raf = new RandomAccessFile(src, "r");
+			 ImageInputStream imgInput = new FileImageInputStream(raf)) {
+			ImageReader imgReader = getReader(imgInput, src);
+			String extension;
+			int srcWidth;
+			int srcHeight;
+			BufferedImage img;
+			try {
+				imgReader.setInput(imgInput, true, true);
+				extension = imgReader.getFormatName();
+				srcWidth = imgReader.getWidth(0);
+				srcHeight = imgReader.getHeight(0);
+				img = imgReader.read(0, getReadParam(imgReader, maxWidth, maxHeight));
+			} finally {
+				imgReader.dispose();
+			}
+			long decodeTime = System.nanoTime() - start;
 
-				TiffImageMetadata exif = getExif(src);
-				write(resizedImg, extension, exif, os);
+			TiffImageMetadata exif = null;
+			if (FORMAT_JPEG.equalsIgnoreCase(extension)) {
+				raf.seek(0);
+				exif = getExif(Channels.newInputStream(raf.getChannel()), src);
 			}
+			write(img, extension, exif, dests);
+
+			ThumbResult result = new ThumbResult(extension, srcWidth, srcHeight, img.getWidth(), img.getHeight(),
+					getMemory(img), TimeUnit.NANOSECONDS.toMillis(decodeTime),
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+			log.debug("src: {} result: {}", src.getName(), result);
+			return result;
 		} catch (IOException e) {
-			throw new CommonException(CommonError.COM_IMAGING_ERROR,
-					String.format("srcFile: %s destFile: %s", src.getAbsolutePath(), dest.getAbsolutePath()), e);
+			throw new CommonException(CommonError.COM_IMAGING_ERROR, "file: " + src.getAbsolutePath(), e);
 		}
 	}
 
-	private static String getExtension(File img) {
-		ImageReader imgReader = null;
-		String extension = "";
-		try {
-			try (ImageInputStream imgInput = ImageIO.createImageInputStream(img)) {
-				Iterator<ImageReader> iter = ImageIO.getImageReaders(imgInput);
-				if (!iter.hasNext()) {
-					throw new CommonException(CommonError.COM_IMAGING_ERROR,
-							"No image readers found. file: " + img.getAbsolutePath());
-				}
-
-				imgReader = iter.next();
-				extension = imgReader.getFormatName();
+	/**
+	 * 대상 크기에 맞게 서브샘플링하여 이미지를 읽음 (전체 해상도로 디코딩하지 않음)
+	 * <pre>
+	 * - 리사이즈 품질을 위해 대상 크기의 2배 이상이 되도록 서브샘플링
+	 * </pre>
+	 *
+	 * @param src    원본 이미지 파일
+	 * @param width  가로 크기 (RATIO 면 세로 크기 기준)
+	 * @param height 세로 크기 (RATIO 면 가로 크기 기준)
+	 * @return 이미지
+	 */
+	public static BufferedImage read(File src, int width, int height) {
+		try (ImageInputStream imgInput = ImageIO.createImageInputStream(src)) {
+			ImageReader imgReader = getReader(imgInput, src);
+			try {
+				imgReader.setInput(imgInput, true, true);
+				return imgReader.read(0, getReadParam(imgReader, width, height));
 			} finally {
-				if (imgReader != null) {
-					imgReader.dispose();
-				}
+				imgReader.dispose();
 			}
-			return extension;
 		} catch (IOException e) {
-			throw new CommonException(CommonError.COM_IMAGING_ERROR, "file: " + img.getAbsolutePath(), e);
+			throw new CommonException(CommonError.COM_IMAGING_ERROR, "file: " + src.getAbsolutePath(), e);
 		}
 	}
 
-	private static TiffImageMetadata getExif(File src) {
+	private static ImageReader getReader(ImageInputStream imgInput, File src) {
+		Iterator<ImageReader> iter = ImageIO.getImageReaders(imgInput);
+		if (!iter.hasNext()) {
+			throw new CommonException(CommonError.COM_IMAGING_ERROR,
+					"No image readers found. file: " + src.getAbsolutePath());
+		}
+		return iter.next();
+	}
+
+	private static ImageReadParam getReadParam(ImageReader imgReader, int width, int height) throws IOException {
+		ImageReadParam param = imgReader.getDefaultReadParam();
+		int subsampling = getSubsampling(imgReader.getWidth(0), imgReader.getHeight(0), width, height);
+		if (subsampling > 1) {
+			param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+		}
+		return param;
+	}
+
+	private static int getSubsampling(int srcWidth, int srcHeight, int width, int height) {
+		int byWidth = width == RATIO ? Integer.MAX_VALUE : srcWidth / (width * 2);
+		int byHeight = height == RATIO ? Integer.MAX_VALUE : srcHeight / (height * 2);
+		int subsampling = Math.min(byWidth, byHeight);
+		return subsampling == Integer.MAX_VALUE ? 1 : Math.max(1, subsampling);
+	}
+
+	private static ImageWriter getWriter(String extension) {
+		Iterator<ImageWriter> iter = ImageIO.getImageWritersByFormatName(extension);
+		if (!iter.hasNext()) {
+			throw new CommonException(CommonError.COM_IMAGING_ERROR, "No image writers found. extension: " + extension);
+		}
+		return iter.next();
+	}
+
+	private static TiffImageMetadata getExif(InputStream src, File file) {
 		ImageMetadata meta;
 		try {
-			meta = Imaging.getMetadata(src);
+			meta = Imaging.getMetadata(src, file.getName());
 		} catch (ImageReadException | IOException e) {
-			throw new CommonException(CommonError.COM_IMAGING_ERROR, "file: " + src.getAbsolutePath(), e);
+			throw new CommonException(CommonError.COM_IMAGING_ERROR, "file: " + file.getAbsolutePath(), e);
 		}
 		if (!(meta instanceof JpegImageMetadata)) {
 			return null;
@@ -181,71 +280,61 @@ public final class ImageUtil {
 		return jpegMeta.getExif();
 	}
 
-	private static byte[] resize(BufferedImage img, String extension, int width, int height) {
-		try {
-			try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-				int srcWidth = img.getWidth(null);
-				int destWidth = Math.min(width, srcWidth);
-
-				int srcHeight = img.getHeight(null);
-				int destHeight = Math.min(height, srcHeight);
-
-				BufferedImage resized;
-				if (width == RATIO) {
-//					if (extension.equals("JPEG")) {
-//						resized = Scalr.resize(img, Scalr.Method.AUTOMATIC, Scalr.Mode.FIT_TO_WIDTH, destHeight);
-//					} else {
-					resized = Scalr.resize(img, Scalr.Method.AUTOMATIC, Scalr.Mode.FIT_TO_HEIGHT, destHeight);
-//					}
-				} else if (height == RATIO) {
-//					if (extension.equals("JPEG")) {
-//						resized = Scalr.resize(img, Scalr.Method.AUTOMATIC, Scalr.Mode.FIT_TO_HEIGHT, destWidth);
-//					} else {
-					resized = Scalr.resize(img, Scalr.Method.AUTOMATIC, Scalr.Mode.FIT_TO_WIDTH, destWidth);
-//					}
-				} else {
-					resized = Scalr.resize(img, Scalr.Mode.FIT_EXACT, destWidth, destHeight);
-				}
-				if (resized == null) {
-					return null;
-				}
+	private static BufferedImage resize(BufferedImage img, int width, int height) {
+		int srcWidth = img.getWidth(null);
+		int destWidth = Math.min(width, srcWidth);
 
-				ImageIO.write(resized, extension, bos);
-				return bos.toByteArray();
-			}
-		} catch (IOException e) {
-			throw new CommonException(CommonError.COM_IMAGING_ERROR, "extension: " + extension, e);
+		int srcHeight = img.getHeight(null);
+		int destHeight = Math.min(height, srcHeight);
+
+		if (width == RATIO) {
+			return Scalr.resize(img, Scalr.Method.AUTOMATIC, Scalr.Mode.FIT_TO_HEIGHT, destHeight);
+		} else if (height == RATIO) {
+			return Scalr.resize(img, Scalr.Method.AUTOMATIC, Scalr.Mode.FIT_TO_WIDTH, destWidth);
+		} else {
+			return Scalr.resize(img, Scalr.Mode.FIT_EXACT, destWidth, destHeight);
 		}
 	}
 
-	private static void write(byte[] imgData, String extension, TiffImageMetadata exif, OutputStream dest) {
+	private static void write(BufferedImage img, String extension, TiffImageMetadata exif, Map<File, Dimension> dests) {
+		ImageWriter imgWriter = getWriter(extension);
 		try {
-			if (exif != null) {
-				try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
-					new ExifRewriter().updateExifMetadataLossless(imgData, os, exif.getOutputSet());
-					imgData = os.toByteArray();
+			for (Map.Entry<File, Dimension> dest : dests.entrySet()) {
+				File destFile = dest.getKey();
+				BufferedImage resized = resize(img, (int) dest.getValue().getWidth(), (int) dest.getValue().getHeight());
+				try (OutputStream os = new BufferedOutputStream(new FileOutputStream(destFile))) {
+					if (exif == null) {
+						encode(imgWriter, resized, os);
+					} else {
+						try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
+							encode(imgWriter, resized, bos);
+							new ExifRewriter().updateExifMetadataLossless(bos.toByteArray(), os, exif.getOutputSet());
+						}
+					}
+				} catch (ImagingException | IOException e) {
+					throw new CommonException(CommonError.COM_IMAGING_ERROR,
+							"extension: " + extension + " destFile: " + destFile.getAbsolutePath(), e);
+				} finally {
+					resized.flush();
 				}
 			}
-
-			IOUtils.write(imgData, dest);
-		} catch (ImagingException | IOException e) {
-			throw new CommonException(CommonError.COM_IMAGING_ERROR, "extension: " + extension, e);
+		} finally {
+			imgWriter.dispose();
 		}
 	}
 
-	private static Image getImage(File file) {
-		String suffix = file.getName().substring(file.getName().lastIndexOf('.') + 1).toLowerCase();
-		Image srcImg;
-		if ("bmp".equals(suffix) || "png".equals(suffix) || "gif".equals(suffix)) {
-			try {
-				srcImg = ImageIO.read(file);
-			} catch (IOException e) {
-				throw new CommonException(CommonError.COM_IMAGING_ERROR, "srcFile: " + file.getAbsolutePath(), e);
-			}
-		} else {
-			srcImg = new ImageIcon(file.toString()).getImage();
+	private static void encode(ImageWriter imgWriter, BufferedImage img, OutputStream os) throws IOException {
+		try (ImageOutputStream imgOutput = new MemoryCacheImageOutputStream(os)) {
+			imgWriter.setOutput(imgOutput);
+			imgWriter.write(img);
+		} finally {
+			imgWriter.reset();
 		}
-		return srcImg;
+	}
+
+	private static long getMemory(BufferedImage img) {
+		DataBuffer buffer = img.getRaster().getDataBuffer();
+		return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
 	}
 
 	private static Dimension getSize(Image img, int width, int height) {
@@ -267,4 +356,52 @@ public final class ImageUtil {
 		}
 		return new Dimension(destWidth, destHeight);
 	}
+
+	/**
+	 * 썸네일 이미지 생성 결과
+	 */
+	@Getter
+	@ToString
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	public static class ThumbResult {
+		/**
+		 * 이미지 형식
+		 */
+		private final String format;
+
+		/**
+		 * 원본 가로 크기
+		 */
+		private final int srcWidth;
+
+		/**
+		 * 원본 세로 크기
+		 */
+		private final int srcHeight;
+
+		/**
+		 * 디코딩된 (서브샘플링) 가로 크기
+		 */
+		private final int decodedWidth;
+
+		/**
+		 * 디코딩된 (서브샘플링) 세로 크기
+		 */
+		private final int decodedHeight;
+
+		/**
+		 * 디코딩된 이미지 메모리 크기 (바이트)
+		 */
+		private final long decodedBytes;
+
+		/**
+		 * 디코딩 소요시간 (밀리초)
+		 */
+		private final long decodeTime;
+
+		/**
+		 * 전체 소요시간 (밀리초)
+		 */
+		private final long totalTime;
+	}
 }
@@ -27,6 +27,7 @@ import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -54,6 +55,7 @@ import org.oh.common.model.CommonModel;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -534,6 +536,22 @@ public final class JsonUtil {
 				.toString();
 	}
 
+	/**
+	 * CVS 스키마로 객체를 한 건씩 출력하는 CVS 작성기를 반환
+	 *
+	 * @param writer    출력 대상
+	 * @param csvSchema CVS 스키마
+	 * @return CVS 작성기
+	 */
+	public static SequenceWriter getCsvWriter(Writer writer, CsvSchema csvSchema) {
+		try {
+			return CSV_MAPPER.writer(csvSchema)
+					.writeValues(writer);
+		} catch (IOException e) {
+			throw new CommonException(CommonError.COM_JSON_ERROR, "csvSchema: " + csvSchema, e);
+		}
+	}
+
 	/**
 	 * 조건에 만족하는 CVS 스키마를 반환
 	 *
@@ -586,6 +604,19 @@ public final class JsonUtil {
 				.flatten();
 	}
 
+	/**
+	 * 해당 객체를 JSON View 로 변환 후 flatten된 맵으로 반환
+	 *
+	 * @param value    객체
+	 * @param jsonView JSON View
+	 * @return flatten된 맵
+	 */
+	public static Map<String, Object> flattenAsMap(Object value, Class<? extends CommonModel.None> jsonView) {
+		return new JsonFlattener(toString(value, jsonView))
+				.withFlattenMode(FlattenMode.KEEP_ARRAYS)
+				.flattenAsMap();
+	}
+
 	/**
 	 * unflatten된 JSON 문자열을 반환
 	 *
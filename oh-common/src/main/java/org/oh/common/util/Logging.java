@@ -16,10 +16,31 @@
 
 package org.oh.common.util;
 
+import java.util.function.Supplier;
+
 /**
  * 로깅 인터페이스
  */
 @FunctionalInterface
 public interface Logging {
+	/**
+	 * 로그를 출력할 때만 문자열로 변환하는 인자를 반환 (로그 레벨이 꺼져 있으면 변환하지 않음)
+	 *
+	 * @param supplier 인자값 공급자
+	 * @return 로그 인자
+	 */
+	static Object lazy(Supplier<?> supplier) {
+		return new Object() {
+			@Override
+			public String toString() {
+				try {
+					return String.valueOf(supplier.get());
+				} catch (RuntimeException e) {
+					return ExceptionUtil.getMessageAndType(e);
+				}
+			}
+		};
+	}
+
 	void log(String message, Object... arguments);
 }
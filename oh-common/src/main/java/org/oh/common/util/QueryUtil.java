@@ -16,6 +16,7 @@
 
 package org.oh.common.util;
 
+import com.google.common.base.CaseFormat;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,14 +29,18 @@ import org.oh.common.model.AbstractModel;
 import org.oh.common.model.Model;
 import org.oh.common.model.data.Condition;
 import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Sort;
 
 import javax.persistence.Query;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
 import javax.sql.DataSource;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +54,7 @@ import java.util.stream.Collectors;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public final class QueryUtil {
 	public static final String KEY_ORDER_BY = "order_by";
+	public static final String KEY_SEEK = "seek";
 
 	/**
 	 * 커넥션의 유효성을 체크
@@ -98,30 +104,19 @@ public final class QueryUtil {
 				"Obj must not be null", null);
 
 		Map<String, Object> map = new HashMap<>();
-		Class<?> clazz = obj.getClass();
-		while (clazz != null) {
-			for (Field field : clazz.getDeclaredFields()) {
-				String key = field.getName();
-				if (Modifier.isStatic(field.getModifiers())
-						|| ArrayUtils.contains(excludeFields, key)) {
-					continue;
-				}
-				field.setAccessible(true);
-				Object value;
-				try {
-					value = field.get(obj);
-				} catch (IllegalAccessException e) {
-					throw new CommonException(e);
-				}
-				if (defaultValue != null && value == null) {
-					map.put(key, defaultValue);
-				} else {
-					if (value != null) {
-						map.put(key, value);
-					}
+		for (ClassMetadata.Accessor field : ClassMetadata.of(obj.getClass()).getFields()) {
+			String key = field.getName();
+			if (ArrayUtils.contains(excludeFields, key)) {
+				continue;
+			}
+			Object value = field.get(obj);
+			if (defaultValue != null && value == null) {
+				map.put(key, defaultValue);
+			} else {
+				if (value != null) {
+					map.put(key, value);
 				}
 			}
-			clazz = clazz.getSuperclass();
 		}
 		return map;
 	}
@@ -205,6 +200,110 @@ public final class QueryUtil {
 		return matcher;
 	}
 
+	/**
+	 * 커서(키셋) 페이징용 JPQL 조건을 만들어 반환 (정렬 기준 순서대로 마지막 값 이후)
+	 * <pre>
+	 * 예) (a.state > :seek0) OR (a.state = :seek0 AND a.id < :seek1)
+	 * </pre>
+	 *
+	 * @param params 파라미터 (seek0 ~ N 추가)
+	 * @param alias  엔티티 별칭
+	 * @param sort   조회용 정렬 기준
+	 * @param values 정렬 기준 컬럼 값
+	 * @return JPQL 조건
+	 */
+	public static String createSeekWhere(Map<String, Object> params, String alias, Sort sort, List<Object> values) {
+		List<Sort.Order> orders = sort.toList();
+		List<String> ors = new ArrayList<>();
+		for (int i = 0; i < orders.size(); i++) {
+			StringBuilder and = new StringBuilder("(");
+			for (int j = 0; j < i; j++) {
+				and.append(String.format("%s.%s = :%s%d AND ", alias, orders.get(j).getProperty(), KEY_SEEK, j));
+			}
+			and.append(String.format("%s.%s %s :%s%d)", alias, orders.get(i).getProperty(),
+					orders.get(i).isAscending() ? ">" : "<", KEY_SEEK, i));
+			ors.add(and.toString());
+			params.put(KEY_SEEK + i, values.get(i));
+		}
+		return String.join(" OR ", ors);
+	}
+
+	/**
+	 * 커서(키셋) 페이징용 JPA 조건을 만들어 반환 (정렬 기준 순서대로 마지막 값 이후)
+	 *
+	 * @param root   조회 루트
+	 * @param cb     조건 빌더
+	 * @param sort   조회용 정렬 기준
+	 * @param values 정렬 기준 컬럼 값
+	 * @return JPA 조건
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static Predicate createSeekPredicate(Root<?> root, CriteriaBuilder cb, Sort sort, List<Object> values) {
+		List<Sort.Order> orders = sort.toList();
+		List<Predicate> ors = new ArrayList<>();
+		for (int i = 0; i < orders.size(); i++) {
+			List<Predicate> ands = new ArrayList<>();
+			for (int j = 0; j < i; j++) {
+				ands.add(cb.equal(root.get(orders.get(j).getProperty()), values.get(j)));
+			}
+			Expression<Comparable> path = root.get(orders.get(i).getProperty());
+			Comparable value = (Comparable) values.get(i);
+			ands.add(orders.get(i).isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value));
+			ors.add(cb.and(ands.toArray(new Predicate[0])));
+		}
+		return cb.or(ors.toArray(new Predicate[0]));
+	}
+
+	/**
+	 * 커서(키셋) 페이징용 SQL 매퍼 파라미터를 만들어 반환 (CommonMapper.seek 에서 사용)
+	 * <pre>
+	 * - 컬럼명은 필드명을 스네이크 케이스로 변환
+	 * - 예) [{"column":"state","op":">","value":"ACTIVE","equals":[]}, ...]
+	 * </pre>
+	 *
+	 * @param sort   조회용 정렬 기준
+	 * @param values 정렬 기준 컬럼 값
+	 * @return SQL 매퍼 파라미터
+	 */
+	public static List<Map<String, Object>> createSeekParams(Sort sort, List<Object> values) {
+		List<Sort.Order> orders = sort.toList();
+		List<Map<String, Object>> result = new ArrayList<>();
+		for (int i = 0; i < orders.size(); i++) {
+			List<Map<String, Object>> equals = new ArrayList<>();
+			for (int j = 0; j < i; j++) {
+				Map<String, Object> equal = new HashMap<>();
+				equal.put("column", toColumnName(orders.get(j).getProperty()));
+				equal.put("value", values.get(j));
+				equals.add(equal);
+			}
+			Map<String, Object> map = new HashMap<>();
+			map.put("column", toColumnName(orders.get(i).getProperty()));
+			map.put("op", orders.get(i).isAscending() ? ">" : "<");
+			map.put("value", values.get(i));
+			map.put("equals", equals);
+			result.add(map);
+		}
+		return result;
+	}
+
+	/**
+	 * 정렬 기준을 SQL ORDER BY 문자열로 변환 (컬럼명은 필드명을 스네이크 케이스로 변환)
+	 *
+	 * @param sort 정렬 기준
+	 * @return ORDER BY 문자열
+	 */
+	public static String toOrderBy(Sort sort) {
+		return sort.stream()
+				.map(e -> toColumnName(e.getProperty()) + " " + e.getDirection())
+				.collect(Collectors.joining(", "));
+	}
+
+	private static String toColumnName(String property) {
+		DefaultException.assertTrue(property.matches("\\w+"), CommonError.COM_INVALID_ARGUMENT,
+				"Invalid sort property: " + property, null);
+		return CaseFormat.LOWER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, property);
+	}
+
 	/**
 	 * 스키마 명과  테이블 명을 조합하여 반환
 	 *
@@ -54,9 +54,12 @@ import java.util.stream.Collectors;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public final class SecurityUtil {
 	public static final String BEARER = "Bearer ";
-	public static final PasswordEncoder PASSWORD_ENCODER = new BCryptPasswordEncoder();
 	public static final String ROLE = "role";
 	public static final SecureRandom RANDOM = new SecureRandom();
+	/**
+	 * 비밀번호 해시 (솔트 생성 시 매번 SecureRandom 을 만들지 않도록 공유 난수 생성기 사용)
+	 */
+	public static final PasswordEncoder PASSWORD_ENCODER = new BCryptPasswordEncoder(-1, RANDOM);
 
 	/**
 	 * 다수의 문자열을 기반으로 해시값(SHA256)을 반환
@@ -211,10 +214,19 @@ public final class SecurityUtil {
 	 * @return 토큰 정보
 	 */
 	public static Jws<Claims> getJws(Key key, String token) {
-		JwtParser parser = Jwts.parserBuilder()
+		return createParser(key).parseClaimsJws(token);
+	}
+
+	/**
+	 * 서명 키를 설정한 토큰 파서를 반환 (스레드에 안전하므로 재사용)
+	 *
+	 * @param key 서명 키
+	 * @return 토큰 파서
+	 */
+	public static JwtParser createParser(Key key) {
+		return Jwts.parserBuilder()
 				.setSigningKey(key)
 				.build();
-		return parser.parseClaimsJws(token);
 	}
 
 	/**
@@ -6,5 +6,12 @@ package org.oh.common.util;
 public enum ThreadLocalKey
 		implements ThreadLocalUtil.LocalKey {
 	//	FILTER_EXCEPTION, // 필터용 예외
-	FILTER_START_TIME // 필터용 시작 시간
+	FILTER_START_TIME; // 필터용 시작 시간
+
+	private final int slot = ThreadLocalUtil.slot(name());
+
+	@Override
+	public int slot() {
+		return slot;
+	}
 }
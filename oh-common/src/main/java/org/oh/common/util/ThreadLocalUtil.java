@@ -20,21 +20,30 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 
-import javax.validation.constraints.NotNull;
-
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 /**
  * 쓰레드 로컬 유틸리티 (쓰레드 내에서만 유효한 속성)
+ * <pre>
+ * - 키 별로 미리 정한 슬롯(배열 인덱스)에 값을 저장 (조회/설정 시 맵, 문자열 생성 없음)
+ * - {@link #wrap(Executor)} 로 감싼 실행기에 제출한 작업에 현재 쓰레드의 값을 전파 (ThreadUtil.async, HttpClient.requestAsync)
+ * - 요청 종료 시 {@link org.oh.common.filter.ThreadLocalFilter} 에서 모든 값을 삭제
+ * </pre>
  */
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public final class ThreadLocalUtil {
-	private static final ThreadLocal<Map<String, Object>> LOCAL = new ThreadLocal<>();
+	private static final int INITIAL_SIZE = 8;
+	private static final ThreadLocal<Object[]> LOCAL = new ThreadLocal<>();
+	private static final Map<String, Integer> SLOTS = new ConcurrentHashMap<>();
+	private static final AtomicInteger SLOT_COUNT = new AtomicInteger();
 
 	/**
 	 * 쓰레드 로컬 맵에서 키에 해당하는 값을 반환
@@ -67,8 +76,10 @@ public final class ThreadLocalUtil {
 	 * @param defaultValue 없을 경우 기본값
 	 * @return 속성 값
 	 */
+	@SuppressWarnings("unchecked")
 	public static <T> T get(LocalKey key, T defaultValue) {
-		return getInternal(key.name(), defaultValue);
+		Object value = getInternal(key.slot());
+		return ((Class<T>) defaultValue.getClass()).isInstance(value) ? (T) value : defaultValue;
 	}
 
 	/**
@@ -79,7 +90,8 @@ public final class ThreadLocalUtil {
 	 * @return 속성 값
 	 */
 	public static <T> Optional<T> get(LocalKey key, Class<T> resultType) {
-		return getInternal(key.name(), resultType);
+		Object value = getInternal(key.slot());
+		return resultType.isInstance(value) ? Optional.of(resultType.cast(value)) : Optional.empty();
 	}
 
 	/**
@@ -89,7 +101,14 @@ public final class ThreadLocalUtil {
 	 * @param value 속성 값
 	 */
 	public static <T> void set(LocalKey key, T value) {
-		setInternal(key.name(), value);
+		int slot = key.slot();
+		Object[] values = LOCAL.get();
+		if (values == null || values.length <= slot) {
+			values = values == null ? new Object[Math.max(INITIAL_SIZE, slot + 1)]
+					: Arrays.copyOf(values, Math.max(values.length * 2, slot + 1));
+			LOCAL.set(values);
+		}
+		values[slot] = value;
 	}
 
 	/**
@@ -98,23 +117,76 @@ public final class ThreadLocalUtil {
 	 * @param key 속성 키
 	 */
 	public static void remove(LocalKey key) {
-		Optional.ofNullable(getInternal())
-				.filter(a -> a.containsKey(key.name()))
-				.ifPresent(a -> {
-					a.remove(key.name());
-					log.debug("Removed local key: {}", key);
-				});
+		int slot = key.slot();
+		Object[] values = LOCAL.get();
+		if (values != null && slot < values.length) {
+			values[slot] = null;
+		}
 	}
 
 	/**
 	 * 쓰레드 로컬 맵에서 모든 키와 값을 삭제
 	 */
 	public static void remove() {
-		Optional.ofNullable(LOCAL.get())
-				.ifPresent(a -> {
-					LOCAL.remove();
-					log.debug("Removed local");
-				});
+		LOCAL.remove();
+	}
+
+	/**
+	 * 현재 쓰레드의 모든 값을 복사하여 반환 (다른 쓰레드로 전파할 때 사용)
+	 *
+	 * @return 복사한 값 (없으면 null)
+	 */
+	public static Object[] capture() {
+		Object[] values = LOCAL.get();
+		return values == null ? null : values.clone();
+	}
+
+	/**
+	 * 작업을 생성한 쓰레드의 값으로 실행하는 작업을 반환 (실행 후 이전 값으로 복원)
+	 *
+	 * @param task 작업
+	 * @return 값을 전파하는 작업
+	 */
+	public static Runnable wrap(Runnable task) {
+		Object[] captured = capture();
+		return () -> {
+			Object[] previous = LOCAL.get();
+			set(captured);
+			try {
+				task.run();
+			} finally {
+				set(previous);
+			}
+		};
+	}
+
+	/**
+	 * 작업을 생성한 쓰레드의 값으로 실행하는 작업을 반환 (실행 후 이전 값으로 복원)
+	 *
+	 * @param task 작업
+	 * @return 값을 전파하는 작업
+	 */
+	public static <T, U> BiConsumer<T, U> wrap(BiConsumer<T, U> task) {
+		Object[] captured = capture();
+		return (t, u) -> {
+			Object[] previous = LOCAL.get();
+			set(captured);
+			try {
+				task.accept(t, u);
+			} finally {
+				set(previous);
+			}
+		};
+	}
+
+	/**
+	 * 제출한 쓰레드의 값을 작업에 전파하는 실행기를 반환
+	 *
+	 * @param executor 실행기
+	 * @return 값을 전파하는 실행기
+	 */
+	public static Executor wrap(Executor executor) {
+		return task -> executor.execute(wrap(task));
 	}
 
 	public static String getCaller(int depth) {
@@ -128,33 +200,27 @@ public final class ThreadLocalUtil {
 				stackTrace[depth].getLineNumber());
 	}
 
-	@SuppressWarnings("unchecked")
-	private static <T> T getInternal(String key, T defaultValue) {
-		return getInternal(key, (Class<T>) defaultValue.getClass())
-				.orElse(defaultValue);
-	}
-
-	@SuppressWarnings("unchecked")
-	private static <T> Optional<T> getInternal(String key, Class<T> resultType) {
-		Object value = getInternal().get(key);
-//		log.debug("Local key: {}, value: {}", key, StringUtils.abbreviate(value.toString(), 128));
-		return Optional.ofNullable(value)
-				.filter(resultType::isInstance)
-				.map(a -> (T) a);
+	/**
+	 * 키 이름에 해당하는 슬롯을 반환 (없으면 새로 할당)
+	 *
+	 * @param name 키 이름
+	 * @return 슬롯
+	 */
+	public static int slot(String name) {
+		return SLOTS.computeIfAbsent(name, a -> SLOT_COUNT.getAndIncrement());
 	}
 
-	@NotNull
-	private static Map<String, Object> getInternal() {
-		return Optional.ofNullable(LOCAL.get())
-				.orElseGet(() -> {
-					LOCAL.set(new HashMap<>());
-					return LOCAL.get();
-				});
+	private static Object getInternal(int slot) {
+		Object[] values = LOCAL.get();
+		return values == null || values.length <= slot ? null : values[slot];
 	}
 
-	private static <T> void setInternal(String key, T value) {
-		getInternal().put(key, value);
-		log.debug("Local key: {}, value: {}", key, StringUtils.abbreviate(value.toString(), 128));
+	private static void set(Object[] values) {
+		if (values == null) {
+			LOCAL.remove();
+		} else {
+			LOCAL.set(values);
+		}
 	}
 
 	/**
@@ -163,5 +229,14 @@ public final class ThreadLocalUtil {
 	@FunctionalInterface
 	public interface LocalKey {
 		String name();
+
+		/**
+		 * 값을 저장할 슬롯 (열거형은 생성 시 미리 계산하여 재정의)
+		 *
+		 * @return 슬롯
+		 */
+		default int slot() {
+			return ThreadLocalUtil.slot(name());
+		}
 	}
 }
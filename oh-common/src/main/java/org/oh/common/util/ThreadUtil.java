@@ -23,8 +23,10 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
@@ -58,6 +60,27 @@ public final class ThreadUtil {
 				new SynchronousQueue<>(), factory, new ThreadPoolExecutor.CallerRunsPolicy());
 	}
 
+	/**
+	 * 조건에 해당하는 대기 큐 크기가 제한된 쓰레드 풀을 생성
+	 * <pre>
+	 * - 대기 큐가 가득 차면 요청한 쓰레드에서 직접 실행 (back-pressure)
+	 * </pre>
+	 *
+	 * @param corePoolSize    기본 크기
+	 * @param maximumPoolSize 최대 크기
+	 * @param keepAliveTime   쓰레드를 유지하는 시간 (초)
+	 * @param queueCapacity   대기 큐 크기
+	 * @param namePrefix      쓰레드명
+	 * @return 쓰레드 풀
+	 */
+	public static ThreadPoolExecutor createThreadPool(int corePoolSize, int maximumPoolSize,
+													  long keepAliveTime, int queueCapacity, String namePrefix) {
+		ThreadFactory factory = new ThreadFactoryBuilder().setNameFormat(namePrefix + "-%d").build();
+		return new ThreadPoolExecutor(corePoolSize, maximumPoolSize,
+				keepAliveTime, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), factory, new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
 	/**
 	 * 모든 쓰레드의 결과값을 반환
 	 *
@@ -111,7 +134,7 @@ public final class ThreadUtil {
 	///////////////////////////////////////////////////////////////////////////
 
 	/**
-	 * 해당 메소드를 비동기로 실행
+	 * 해당 메소드를 비동기로 실행 (쓰레드 로컬 값 전파)
 	 *
 	 * @param method  비동기로 실행할 메소드
 	 * @param params  실행 파라미터
@@ -123,7 +146,7 @@ public final class ThreadUtil {
 											 Consumer<R> success,
 											 BiConsumer<Throwable, T> fail) {
 		CompletableFuture<R> result = CompletableFuture
-				.supplyAsync(() -> method.apply(params), executor);
+				.supplyAsync(() -> method.apply(params), contextExecutor);
 		result.thenAccept(success);
 		return result.exceptionally(CommonUtil.toFunction(fail, params, null));
 	}
@@ -131,6 +154,7 @@ public final class ThreadUtil {
 	///////////////////////////////////////////////////////////////////////////
 
 	private final ThreadPoolExecutor executor;
+	private final Executor contextExecutor;
 
 	//	private ThreadUtil(SchedulingConfig config) {
 //		executor = (ThreadPoolExecutor) config.getAsyncExecutor();
@@ -139,5 +163,6 @@ public final class ThreadUtil {
 		this.executor = createThreadPool(
 				executor.getCorePoolSize(), executor.getMaxPoolSize(),
 				executor.getKeepAliveSeconds(), executor.getThreadNamePrefix());
+		this.contextExecutor = ThreadLocalUtil.wrap(this.executor);
 	}
 }
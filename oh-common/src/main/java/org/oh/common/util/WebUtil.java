@@ -24,21 +24,40 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.oh.common.exception.CommonError;
 import org.oh.common.exception.CommonException;
 import org.oh.common.filter.ExceptionHandlerFilter;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.util.ContentCachingRequestWrapper;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.ServletOutputStream;
 import javax.servlet.ServletRequestWrapper;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -49,6 +68,12 @@ import java.util.Optional;
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public final class WebUtil {
+	// Tomcat sendfile 요청 속성 (org.apache.tomcat.util.net.Constants 참고)
+	private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
 	@Getter
 	@Setter
 	private static String templatesName = "templates/";
@@ -234,4 +259,134 @@ public final class WebUtil {
 	public static String getServerInfo(HttpServletRequest request) {
 		return String.format("%s:%s", request.getServerName(), request.getServerPort());
 	}
+
+	/**
+	 * 해당 파일을 HTTP 응답으로 출력 (Range, 조건부 GET 지원)
+	 * <pre>
+	 * - If-None-Match/If-Modified-Since 가 일치하면 304 응답
+	 * - Range 가 있으면 206 응답 (여러 구간이면 multipart/byteranges), 잘못된 Range 면 416 응답
+	 * - If-Range 가 ETag/수정일시와 다르면 Range 를 무시하고 전체를 출력
+	 * - 본문은 sendfile(Tomcat) 또는 FileChannel.transferTo 로 출력
+	 * </pre>
+	 *
+	 * @param request      HTTP 요청 정보
+	 * @param response     HTTP 응답 정보
+	 * @param file         파일
+	 * @param mediaType    미디어 타입
+	 * @param fileName     파일명
+	 * @param etag         ETag
+	 * @param lastModified 수정일시 (밀리초)
+	 * @param cacheControl 캐시 설정
+	 */
+	public static void writeFile(HttpServletRequest request, HttpServletResponse response, File file,
+								 MediaType mediaType, String fileName, String etag, long lastModified,
+								 CacheControl cacheControl) {
+		response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+			return;
+		}
+
+		long length = file.length();
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "filename=" + fileName);
+		List<ResourceRegion> regions;
+		try {
+			regions = isRangeApplicable(request, etag, lastModified) ?
+					HttpRange.toResourceRegions(HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE)),
+							new FileSystemResource(file)) :
+					Collections.emptyList();
+		} catch (IllegalArgumentException e) {
+			log.debug("range: {}, {}", request.getHeader(HttpHeaders.RANGE), e.getMessage());
+			response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+			response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+			return;
+		}
+
+		boolean body = !HttpMethod.HEAD.matches(request.getMethod());
+		try {
+			if (regions.isEmpty()) {
+				response.setContentType(mediaType.toString());
+				response.setContentLengthLong(length);
+				if (body) {
+					transfer(request, response, file, 0, length, true);
+				}
+			} else if (regions.size() == 1) {
+				ResourceRegion region = regions.get(0);
+				response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+				response.setContentType(mediaType.toString());
+				response.setHeader(HttpHeaders.CONTENT_RANGE, getContentRange(region, length));
+				response.setContentLengthLong(region.getCount());
+				if (body) {
+					transfer(request, response, file, region.getPosition(), region.getCount(), true);
+				}
+			} else {
+				String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+				response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+				response.setContentType("multipart/byteranges; boundary=" + boundary);
+				if (body) {
+					ServletOutputStream out = response.getOutputStream();
+					for (ResourceRegion region : regions) {
+						out.write(("\r\n--" + boundary + "\r\n" +
+								HttpHeaders.CONTENT_TYPE + ": " + mediaType + "\r\n" +
+								HttpHeaders.CONTENT_RANGE + ": " + getContentRange(region, length) + "\r\n\r\n")
+								.getBytes(StandardCharsets.US_ASCII));
+						transfer(request, response, file, region.getPosition(), region.getCount(), false);
+					}
+					out.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+				}
+			}
+		} catch (IOException e) {
+			throw new CommonException(CommonError.COM_FILES_ERROR, "file: " + file.getAbsolutePath(), e);
+		}
+	}
+
+	/**
+	 * Range 적용 여부 (If-Range 가 없거나 ETag/수정일시가 일치하는 경우)
+	 */
+	private static boolean isRangeApplicable(HttpServletRequest request, String etag, long lastModified) {
+		if (request.getHeader(HttpHeaders.RANGE) == null) {
+			return false;
+		}
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		if (ifRange == null) {
+			return true;
+		}
+		if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+			return ifRange.equals(etag);
+		}
+		try {
+			return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	private static String getContentRange(ResourceRegion region, long length) {
+		return "bytes " + region.getPosition() + "-" + (region.getPosition() + region.getCount() - 1) + "/" + length;
+	}
+
+	/**
+	 * 파일의 해당 구간을 응답으로 출력 (sendfile 지원시 Tomcat 에 위임, 아니면 FileChannel.transferTo 사용)
+	 */
+	private static void transfer(HttpServletRequest request, HttpServletResponse response, File file,
+								 long position, long count, boolean sendfile) throws IOException {
+		if (sendfile && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+			request.setAttribute(SENDFILE_FILENAME, file.getAbsolutePath());
+			request.setAttribute(SENDFILE_START, position);
+			request.setAttribute(SENDFILE_END, position + count);
+			return;
+		}
+
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+			long done = 0;
+			while (done < count) {
+				long transferred = channel.transferTo(position + done, count - done, target);
+				if (transferred <= 0) {
+					break;
+				}
+				done += transferred;
+			}
+		}
+	}
 }
@@ -16,9 +16,11 @@
 
 package org.oh.sample.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.oh.common.config.httpclient.AbstractHttpClientConfig;
 import org.oh.common.util.HttpClient;
 import org.oh.sample.model.Sample;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -46,9 +48,9 @@ public class HttpClientSampleConfig
 	@Bean
 	public HttpClient httpClientSample(
 			@Qualifier("restTemplateSample") RestTemplate restTemplate,
-			@Value("${" + PROPERTY_FULL_PREFIX + ".max-conn-total}") int threadPoolSize) {
-		return new HttpClient(restTemplate, DEFAULT_CORE_THREAD_POOL_SIZE, threadPoolSize,
-				DEFAULT_THREAD_POOL_NAME_PREFIX + Sample.NAME_SPACE);
+			@Value("${" + PROPERTY_FULL_PREFIX + ".max-conn-total}") int threadPoolSize,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+		return httpClient(restTemplate, threadPoolSize, DEFAULT_THREAD_POOL_NAME_PREFIX + Sample.NAME_SPACE, meterRegistry);
 	}
 
 	@Bean
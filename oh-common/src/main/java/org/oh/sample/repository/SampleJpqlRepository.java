@@ -16,6 +16,8 @@
 
 package org.oh.sample.repository;
 
+import org.oh.common.model.data.SeekPage;
+import org.oh.common.model.data.Seeking;
 import org.oh.common.model.data.Sorting;
 import org.oh.sample.model.Sample;
 import org.oh.sample.model.StatsParams;
@@ -49,6 +51,16 @@ public interface SampleJpqlRepository {
 	 */
 	Page<Sample> search(Sample entity, StatsParams params, Pageable pageable);
 
+	/**
+	 * 해당 조건으로 샘플 커서 페이징 목록을 조회
+	 *
+	 * @param entity 검색 조건
+	 * @param params 일자 조건
+	 * @param page   커서 페이징 조건
+	 * @return 샘플 커서 페이징 목록
+	 */
+	SeekPage<Sample> search(Sample entity, StatsParams params, Seeking page);
+
 	/**
 	 * 해당 조건으로 샘플 현황을 조회
 	 *
@@ -22,6 +22,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.message.BasicNameValuePair;
 import org.oh.common.model.data.Query;
+import org.oh.common.model.data.SeekPage;
+import org.oh.common.model.data.Seeking;
 import org.oh.common.model.data.Sorting;
 import org.oh.common.repository.AbstractDbRepository;
 import org.oh.sample.model.Sample;
@@ -138,6 +140,13 @@ public class SampleDbRepositoryImpl
 //		return findPage(jpql, parameters, pageable, Sample.class);
 	}
 
+	@Override
+	public SeekPage<Sample> search(Sample entity, StatsParams params, Seeking page) {
+		Query query = createQuery(entity, params);
+		query.setSelect("a");
+		return findPage(query, page, Sample.class);
+	}
+
 	@Override
 	public List<StatsResult> stats(Sample entity, StatsParams params, Sorting sort) {
 		// Query
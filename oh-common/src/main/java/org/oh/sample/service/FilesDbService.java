@@ -94,4 +94,12 @@ public class FilesDbService
 		}
 		return result;
 	}
+
+	/**
+	 * 생성된 썸네일 이미지를 다른 노드에 복사
+	 */
+	@Override
+	protected void thumbsCreated(Long id, File mediumFile, File smallFile) {
+		filesService.copyThumbs(id, mediumFile, smallFile);
+	}
 }
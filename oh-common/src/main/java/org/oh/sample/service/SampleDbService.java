@@ -21,6 +21,8 @@ import org.oh.common.annotation.CacheEvictKey;
 import org.oh.common.annotation.CacheGet;
 import org.oh.common.annotation.SqlTransaction;
 import org.oh.common.config.DataGridConfig;
+import org.oh.common.model.data.SeekPage;
+import org.oh.common.model.data.Seeking;
 import org.oh.common.model.data.Sorting;
 import org.oh.common.service.AbstractCrudDbService;
 import org.oh.sample.model.Sample;
@@ -61,6 +63,10 @@ public class SampleDbService
 		return repository.search(entity, params, pageable);
 	}
 
+	public SeekPage<Sample> search(Sample entity, StatsParams params, Seeking page) {
+		return repository.search(entity, params, page);
+	}
+
 	public List<StatsResult> stats(Sample entity, StatsParams params, Sorting sort) {
 		return repository.stats(entity, params, sort);
 	}
@@ -0,0 +1,193 @@
+package org.oh.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.oh.common.exception.CommonException;
+import org.oh.sample.model.Sample;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//@Disabled
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class TieredCacheTest {
+	private static final String NAME = "cache.test";
+
+	private final List<Object> invalidations = new ArrayList<>();
+	private ConcurrentMapCache remote;
+	private SimpleMeterRegistry registry;
+	private TieredCache cache;
+
+	@BeforeEach
+	void before() {
+		remote = new ConcurrentMapCache(NAME);
+		registry = new SimpleMeterRegistry();
+		cache = new TieredCache(NAME, Caffeine.newBuilder().maximumSize(100).<Object, Cache.ValueWrapper>build(),
+				remote, invalidations::add, registry);
+	}
+
+	@Test
+	void t01key() {
+		Sample sample1 = Sample.builder().name("name").build();
+		Sample sample2 = Sample.builder().name("name").build();
+		Sort sort = Sort.by("id");
+
+		UUID key = CacheKeyGenerator.generate(TieredCacheTest.class, sample1, sort);
+		log.debug("key: {}", key);
+		Assertions.assertEquals(key, CacheKeyGenerator.generate(TieredCacheTest.class, sample2, Sort.by("id")));
+		Assertions.assertNotEquals(key, CacheKeyGenerator.generate(Object.class, sample1, sort));
+		Assertions.assertNotEquals(key, CacheKeyGenerator.generate(TieredCacheTest.class, sample1, Sort.by("name")));
+		sample2.setName("other");
+		Assertions.assertNotEquals(key, CacheKeyGenerator.generate(TieredCacheTest.class, sample2, sort));
+		Assertions.assertNotEquals(CacheKeyGenerator.generate(TieredCacheTest.class, "ab", "c"),
+				CacheKeyGenerator.generate(TieredCacheTest.class, "a", "bc"));
+	}
+
+	@Test
+	void t01keyDateTime() {
+		// 같은 초 안의 다른 시각은 다른 키, 기본 시간대가 달라도 같은 키
+		Date date = new Date(1_700_000_000_123L);
+		UUID key = CacheKeyGenerator.generate(TieredCacheTest.class, date);
+		Assertions.assertNotEquals(key, CacheKeyGenerator.generate(TieredCacheTest.class, new Date(date.getTime() + 1)));
+		TimeZone timeZone = TimeZone.getDefault();
+		try {
+			TimeZone.setDefault(TimeZone.getTimeZone(timeZone.getID().equals("UTC") ? "Asia/Seoul" : "UTC"));
+			Assertions.assertEquals(key, CacheKeyGenerator.generate(TieredCacheTest.class, new Date(date.getTime())));
+		} finally {
+			TimeZone.setDefault(timeZone);
+		}
+
+		Instant instant = date.toInstant();
+		Assertions.assertEquals(CacheKeyGenerator.generate(TieredCacheTest.class, instant),
+				CacheKeyGenerator.generate(TieredCacheTest.class, Instant.ofEpochMilli(date.getTime())));
+		Assertions.assertNotEquals(CacheKeyGenerator.generate(TieredCacheTest.class, instant),
+				CacheKeyGenerator.generate(TieredCacheTest.class, instant.plusNanos(1)));
+		Assertions.assertNotEquals(CacheKeyGenerator.generate(TieredCacheTest.class, LocalDate.of(2024, 1, 1)),
+				CacheKeyGenerator.generate(TieredCacheTest.class, LocalDate.of(2024, 1, 2)));
+	}
+
+	@Test
+	void t02load() {
+		AtomicInteger loads = new AtomicInteger();
+		for (int i = 0; i < 3; i++) {
+			Assertions.assertEquals("value", cache.get("key", () -> {
+				loads.incrementAndGet();
+				return "value";
+			}));
+		}
+		Assertions.assertEquals(1, loads.get());
+		Assertions.assertEquals("value", remote.get("key").get());
+		Assertions.assertEquals(1, registry.get(TieredCache.METRIC_LOAD).timer().count());
+		Assertions.assertEquals(2, registry.get(TieredCache.METRIC_GETS).tags("tier", "l1", "result", "hit")
+				.counter().count());
+		Assertions.assertEquals(1, registry.get(TieredCache.METRIC_GETS).tags("result", "miss")
+				.counter().count());
+	}
+
+	@Test
+	void t03remoteHit() {
+		remote.put("key", "remote");
+		Assertions.assertEquals("remote", cache.get("key", String.class));
+		Assertions.assertEquals(1, registry.get(TieredCache.METRIC_GETS).tags("tier", "l2", "result", "hit")
+				.counter().count());
+
+		// 다른 서버에서 변경되어도 L1 삭제 전까지는 L1 값 사용
+		remote.put("key", "changed");
+		Assertions.assertEquals("remote", cache.get("key", String.class));
+		cache.invalidateLocal("key");
+		Assertions.assertEquals("changed", cache.get("key", String.class));
+	}
+
+	@Test
+	void t04evict() {
+		cache.put("key1", "value1");
+		cache.put("key2", null);
+		Assertions.assertNull(cache.get("key2").get());
+
+		cache.evict("key1");
+		Assertions.assertNull(cache.get("key1"));
+		Assertions.assertNull(remote.get("key1"));
+
+		cache.clear();
+		Assertions.assertNull(cache.get("key2"));
+		Assertions.assertEquals(4, invalidations.size());
+		Assertions.assertNull(invalidations.get(3));
+	}
+
+	@Test
+	void t05keyDepth() {
+		// 순환 참조는 같은 키
+		List<Object> cycle = new ArrayList<>();
+		cycle.add("a");
+		cycle.add(cycle);
+		Assertions.assertEquals(CacheKeyGenerator.generate(TieredCacheTest.class, cycle),
+				CacheKeyGenerator.generate(TieredCacheTest.class, cycle));
+
+		// 최대 깊이를 넘으면 값이 달라도 같은 키가 되므로 예외
+		Object deep = "value";
+		for (int i = 0; i < 10; i++) {
+			deep = Collections.singletonList(deep);
+		}
+		Object value = deep;
+		Assertions.assertThrows(CommonException.class, () -> CacheKeyGenerator.generate(TieredCacheTest.class, value));
+	}
+
+	@Test
+	void t06loadConcurrent() throws InterruptedException {
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Object>> results = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				results.add(executor.submit(() -> cache.get("key", () -> {
+					loads.incrementAndGet();
+					started.countDown();
+					release.await();
+					// 원본 조회 중에 다른 키를 조회해도 막히지 않음
+					return cache.get("nested", () -> "nested") + "-value";
+				})));
+			}
+			Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+			release.countDown();
+			for (Future<Object> result : results) {
+				Assertions.assertEquals("nested-value", result.get(5, TimeUnit.SECONDS));
+			}
+			Assertions.assertEquals(1, loads.get());
+		} catch (ExecutionException | TimeoutException e) {
+			Assertions.fail(e);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		Assertions.assertThrows(Cache.ValueRetrievalException.class, () -> cache.get("error", () -> {
+			throw new IllegalStateException("error");
+		}));
+		Assertions.assertNull(cache.get("error"));
+	}
+}
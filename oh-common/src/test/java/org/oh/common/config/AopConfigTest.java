@@ -1,10 +1,17 @@
 package org.oh.common.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.oh.common.annotation.ExceptionHandling;
 import org.oh.common.annotation.ResultLogging;
+import org.oh.common.annotation.ResultMetrics;
+import org.oh.common.exception.CommonError;
 import org.oh.common.exception.CommonException;
+import org.oh.common.exception.DefaultException;
 import org.oh.common.util.CheckedFuncIf;
 import org.oh.common.util.ExceptionUtil;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,6 +36,8 @@ public class AopConfigTest {
 
 	@Autowired
 	private AopTest test;
+	@Autowired
+	private MeterRegistry registry;
 
 	@Test
 	public void t01Logging() {
@@ -36,6 +45,46 @@ public class AopConfigTest {
 		apply(a -> test.test02(a), 1);
 	}
 
+	@Test
+	public void t02Metrics() {
+		double count = count(timer("test03", "none"));
+		double errors = count(counter("test03", CommonError.COM_INVALID_ARGUMENT.getCode()));
+		test.test03(1);
+		apply(a -> test.test03(a), 0);
+		Assertions.assertEquals(count + 1, count(timer("test03", "none")));
+		Assertions.assertEquals(errors + 1, count(counter("test03", CommonError.COM_INVALID_ARGUMENT.getCode())));
+	}
+
+	@Test
+	public void t03MetricsError() {
+		String error = AssertionError.class.getSimpleName();
+		double count = count(timer("test04", error));
+		double errors = count(counter("test04", error));
+		Assertions.assertThrows(AssertionError.class, () -> test.test04());
+		Assertions.assertEquals(count + 1, count(timer("test04", error)));
+		Assertions.assertEquals(errors + 1, count(counter("test04", error)));
+	}
+
+	private Timer timer(String method, String error) {
+		return registry.find(AopConfig.METRIC_METHOD)
+				.tags("class", AopTest.class.getSimpleName(), "method", method, "error", error)
+				.timer();
+	}
+
+	private Counter counter(String method, String error) {
+		return registry.find(AopConfig.METRIC_METHOD + ".errors")
+				.tags("class", AopTest.class.getSimpleName(), "method", method, "error", error)
+				.counter();
+	}
+
+	private double count(Timer timer) {
+		return timer == null ? 0 : timer.count();
+	}
+
+	private double count(Counter counter) {
+		return counter == null ? 0 : counter.count();
+	}
+
 	@Component
 	static class AopTest {
 		@ResultLogging(value = "test", indexesOfArgs = 1, result = true)
@@ -52,5 +101,16 @@ public class AopConfigTest {
 			throw new RuntimeException("1", new CommonException("2",
 					new CommonException("3", new ArithmeticException("4"))));
 		}
+
+		@ResultMetrics
+		public int test03(int i) {
+			DefaultException.assertTrue(i > 0, CommonError.COM_INVALID_ARGUMENT, "i: " + i, null);
+			return i;
+		}
+
+		@ResultMetrics
+		public void test04() {
+			throw new AssertionError("test");
+		}
 	}
 }
\ No newline at end of file
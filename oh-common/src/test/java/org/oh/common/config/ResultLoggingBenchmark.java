@@ -0,0 +1,109 @@
+package org.oh.common.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.oh.common.annotation.ResultLogging;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그 레벨별 {@link ResultLogging} 어드바이스 비용 측정
+ * <pre>
+ * - 실행: ResultLoggingBenchmark.main (테스트 클래스패스)
+ * - 로그는 출력하지 않고 메세지 포맷팅까지만 수행하는 Appender 사용
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultLoggingBenchmark {
+	@Param({"OFF", "INFO", "DEBUG"})
+	private String level;
+
+	private Target target;
+	private Target proxy;
+	private Logger logger;
+	private Level oldLevel;
+	private boolean oldAdditive;
+	private FormatAppender appender;
+
+	@Setup
+	public void setup() {
+		logger = (Logger) LoggerFactory.getLogger(AopConfig.class);
+		oldLevel = logger.getLevel();
+		oldAdditive = logger.isAdditive();
+		appender = new FormatAppender();
+		appender.setContext(logger.getLoggerContext());
+		appender.start();
+		logger.addAppender(appender);
+		logger.setAdditive(false);
+		logger.setLevel(Level.toLevel(level));
+
+		target = new Target();
+		AspectJProxyFactory factory = new AspectJProxyFactory(target);
+		factory.setProxyTargetClass(true);
+		factory.addAspect(new AopConfig.ResultLoggingConfig());
+		proxy = factory.getProxy();
+	}
+
+	@TearDown
+	public void tearDown() {
+		logger.detachAppender(appender);
+		logger.setAdditive(oldAdditive);
+		logger.setLevel(oldLevel);
+	}
+
+	@Benchmark
+	public Object direct() {
+		return target.sum(1, "test");
+	}
+
+	@Benchmark
+	public Object advised() {
+		return proxy.sum(1, "test");
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(ResultLoggingBenchmark.class.getSimpleName())
+				.build())
+				.run();
+	}
+
+	public static class Target {
+		@ResultLogging(value = "bench", result = true)
+		public int sum(int i, String s) {
+			return i + s.length();
+		}
+	}
+
+	private static class FormatAppender
+			extends AppenderBase<ILoggingEvent> {
+		@Override
+		protected void append(ILoggingEvent event) {
+			event.getFormattedMessage();
+		}
+	}
+}
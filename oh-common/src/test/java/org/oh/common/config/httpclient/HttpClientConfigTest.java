@@ -0,0 +1,132 @@
+package org.oh.common.config.httpclient;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+//@Disabled
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class HttpClientConfigTest {
+	private static final String NAME = "test";
+	private static final int MAX_CONN_TOTAL = 4;
+	private static final int COUNT = 3;
+
+	private MockWebServer server;
+	private SimpleMeterRegistry registry;
+
+	@BeforeEach
+	void before() throws IOException {
+		server = new MockWebServer();
+		server.start();
+		registry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void after() throws IOException {
+		server.shutdown();
+	}
+
+	@Test
+	void t01httpComponentsPool() throws InterruptedException {
+		RestTemplate restTemplate = createRestTemplate("httpComponents");
+		assertKeepAlive(restTemplate);
+
+		Assertions.assertEquals(0, registry.get(AbstractHttpClientConfig.METRIC_POOL_LEASED).gauge().value());
+		Assertions.assertEquals(1, registry.get(AbstractHttpClientConfig.METRIC_POOL_AVAILABLE).gauge().value());
+		Assertions.assertEquals(0, registry.get(AbstractHttpClientConfig.METRIC_POOL_PENDING).gauge().value());
+		Assertions.assertEquals(MAX_CONN_TOTAL, registry.get(AbstractHttpClientConfig.METRIC_POOL_MAX).gauge().value());
+		Assertions.assertEquals(COUNT, registry.get(AbstractHttpClientConfig.METRIC_POOL_LEASE).timer().count());
+	}
+
+	@Test
+	void t02okHttpPool() throws InterruptedException {
+		RestTemplate restTemplate = createRestTemplate("okHttp");
+		assertKeepAlive(restTemplate);
+
+		Assertions.assertEquals(0, registry.get(AbstractHttpClientConfig.METRIC_POOL_LEASED).gauge().value());
+		Assertions.assertEquals(1, registry.get(AbstractHttpClientConfig.METRIC_POOL_AVAILABLE).gauge().value());
+	}
+
+	@Test
+	void t03compression() throws IOException, InterruptedException {
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		try (GZIPOutputStream gos = new GZIPOutputStream(bos)) {
+			gos.write("compressed".getBytes(StandardCharsets.UTF_8));
+		}
+
+		for (String vendor : new String[]{"httpComponents", "okHttp"}) {
+			server.enqueue(new MockResponse().setBody(new Buffer().write(bos.toByteArray()))
+					.setHeader("Content-Encoding", "gzip"));
+			String result = createRestTemplate(vendor).getForObject(server.url("/").toString(), String.class);
+			log.debug("{}: {}", vendor, result);
+			Assertions.assertEquals("compressed", result);
+
+			RecordedRequest recorded = server.takeRequest();
+			Assertions.assertTrue(recorded.getHeader("Accept-Encoding").contains("gzip"));
+		}
+	}
+
+	@Test
+	void t04simple() {
+		server.enqueue(new MockResponse().setBody("simple"));
+		Assertions.assertEquals("simple", createRestTemplate("simple")
+				.getForObject(server.url("/").toString(), String.class));
+	}
+
+	@Test
+	void t05cookie() throws InterruptedException {
+		for (String vendor : new String[]{"simple", "okHttp"}) {
+			server.enqueue(new MockResponse().setBody("login").setHeader("Set-Cookie", "SESSION=" + vendor));
+			server.enqueue(new MockResponse().setBody("ok"));
+			RestTemplate restTemplate = createRestTemplate(vendor);
+			restTemplate.getForObject(server.url("/login").toString(), String.class);
+			restTemplate.getForObject(server.url("/").toString(), String.class);
+
+			Assertions.assertNull(server.takeRequest().getHeader("Cookie"));
+			Assertions.assertEquals("SESSION=" + vendor, server.takeRequest().getHeader("Cookie"));
+		}
+	}
+
+	private void assertKeepAlive(RestTemplate restTemplate) throws InterruptedException {
+		for (int i = 0; i < COUNT; i++) {
+			server.enqueue(new MockResponse().setBody(String.valueOf(i)));
+			Assertions.assertEquals(String.valueOf(i), restTemplate.getForObject(server.url("/").toString(),
+					String.class));
+		}
+		for (int i = 0; i < COUNT; i++) {
+			// 같은 커넥션을 재사용하면 커넥션 내 요청 순번이 증가
+			Assertions.assertEquals(i, server.takeRequest().getSequenceNumber());
+		}
+	}
+
+	private RestTemplate createRestTemplate(String vendor) {
+		AbstractHttpClientConfig config = new AbstractHttpClientConfig() {
+		};
+		config.setVendor(vendor);
+		config.setConnectTimeoutSec(2);
+		config.setReadTimeoutSec(2);
+		config.setMaxConnTotal(MAX_CONN_TOTAL);
+		config.setMaxConnPerRoute(MAX_CONN_TOTAL);
+
+		RestTemplate restTemplate = config.restTemplate(new RestTemplateBuilder());
+		config.bindPoolMetrics(registry, NAME + '-' + vendor);
+		return restTemplate;
+	}
+}
@@ -1,13 +1,19 @@
 package org.oh.common.controller;
 
+import com.hazelcast.core.HazelcastInstance;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.oh.common.config.ControllerTest;
+import org.oh.common.config.DataGridConfig;
 import org.oh.common.config.LoggingConfig;
+import org.oh.common.filter.SecurityFilter;
 import org.oh.common.model.user.AbstractUser;
 import org.oh.common.model.user.Login;
 import org.oh.common.util.JsonUtil;
+import org.oh.common.util.SecurityUtil;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -28,6 +34,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 public class CommonRestControllerTest {
 	@Autowired
 	public MockMvc mvc;
+	@Autowired
+	private SecurityFilter securityFilter;
+	@Autowired
+	private MeterRegistry meterRegistry;
+	@Autowired
+	private ObjectProvider<HazelcastInstance> hazelcast;
 
 	private static final Login entity = Login.builder()
 			.id("user")
@@ -108,6 +120,30 @@ public class CommonRestControllerTest {
 		admin(status().isOk());
 	}
 
+	@Test
+	void t35cache() {
+		double hit = meterRegistry.get("cache.gets")
+				.tag("cache", SecurityFilter.METRIC_TOKEN + ".jwt")
+				.tag("result", "hit")
+				.functionCounter()
+				.count();
+		log.debug("hit: {}", hit);
+		AssertionErrors.assertTrue("hit", hit > 0);
+	}
+
+	@Test
+	void t41revoke() throws Exception {
+		securityFilter.revokeToken(token);
+		user(status().isUnauthorized());
+	}
+
+	@Test
+	void t42revokeShared() {
+		String hash = SecurityUtil.getHex(SecurityUtil.substringAfterBearer(token));
+		hazelcast.ifAvailable(a -> AssertionErrors.assertTrue("revoked token must be shared",
+				a.getMap(DataGridConfig.MAP_NAME_REVOKED_TOKEN).containsKey(hash)));
+	}
+
 	///////////////////////////////////////////////////////////////////////////
 
 	void login(Login entity) throws Exception {
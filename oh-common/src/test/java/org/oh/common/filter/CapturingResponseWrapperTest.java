@@ -0,0 +1,56 @@
+package org.oh.common.filter;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+//@Disabled
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class CapturingResponseWrapperTest {
+	private static final String CONTENT = "0123456789abcdefghij";
+	private static final int MAX_SIZE = 5;
+
+	@Test
+	void t01outputStream() throws IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		CapturingResponseWrapper wrapper = new CapturingResponseWrapper(response, MAX_SIZE);
+		wrapper.getOutputStream().write(CONTENT.charAt(0));
+		wrapper.getOutputStream().write(CONTENT.substring(1).getBytes(StandardCharsets.US_ASCII));
+
+		Assertions.assertEquals(CONTENT, response.getContentAsString());
+		Assertions.assertEquals(CONTENT.substring(0, MAX_SIZE), wrapper.getContent());
+		Assertions.assertEquals(CONTENT.length(), wrapper.getTotal());
+	}
+
+	@Test
+	void t02writer() throws IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		CapturingResponseWrapper wrapper = new CapturingResponseWrapper(response, MAX_SIZE * 100);
+		PrintWriter writer = wrapper.getWriter();
+		writer.write("가나다");
+		writer.write(CONTENT);
+		wrapper.flush();
+		log.debug("content: {}", wrapper.getContent());
+
+		Assertions.assertEquals("가나다" + CONTENT, response.getContentAsString());
+		Assertions.assertEquals("가나다" + CONTENT, wrapper.getContent());
+		Assertions.assertEquals(9 + CONTENT.length(), wrapper.getTotal());
+		Assertions.assertThrows(IllegalStateException.class, wrapper::getOutputStream);
+	}
+
+	@Test
+	void t03empty() {
+		CapturingResponseWrapper wrapper = new CapturingResponseWrapper(new MockHttpServletResponse(), MAX_SIZE);
+		Assertions.assertNull(wrapper.getContent());
+		Assertions.assertEquals(0, wrapper.getTotal());
+	}
+}
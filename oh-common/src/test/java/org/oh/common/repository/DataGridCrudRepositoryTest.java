@@ -0,0 +1,176 @@
+package org.oh.common.repository;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.oh.common.config.DataGridConfig;
+import org.oh.common.model.AbstractCommon;
+import org.oh.common.model.data.Data;
+import org.oh.common.model.enume.State;
+import org.oh.common.model.schedule.Schedule;
+import org.oh.common.repository.data.DataRepository;
+import org.oh.common.repository.schedule.ScheduleRepository;
+import org.oh.common.util.DataGridUtil;
+import org.oh.sample.model.Sample;
+import org.oh.sample.repository.SampleRepository;
+import org.springframework.beans.BeanUtils;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.hazelcast.HazelcastKeyValueAdapter;
+import org.springframework.data.hazelcast.repository.support.HazelcastRepositoryFactory;
+import org.springframework.data.keyvalue.core.KeyValueTemplate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+//@Disabled
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class DataGridCrudRepositoryTest {
+	private static HazelcastInstance hazelcast;
+	private static ScheduleRepository scheduleRepository;
+	private static DataRepository dataRepository;
+	private static SampleRepository sampleRepository;
+
+	@BeforeAll
+	static void beforeAll() {
+		Config config = new Config();
+		config.setClusterName(DataGridCrudRepositoryTest.class.getSimpleName());
+		config.getNetworkConfig().setPort(25701);
+		config.getNetworkConfig().getJoin().getAutoDetectionConfig().setEnabled(false);
+		hazelcast = Hazelcast.newHazelcastInstance(config);
+
+		HazelcastRepositoryFactory factory = new HazelcastRepositoryFactory(
+				new KeyValueTemplate(new HazelcastKeyValueAdapter(hazelcast)), hazelcast);
+		factory.setRepositoryBaseClass(DataGridCrudRepository.class);
+		scheduleRepository = factory.getRepository(ScheduleRepository.class);
+		dataRepository = factory.getRepository(DataRepository.class);
+		sampleRepository = factory.getRepository(SampleRepository.class);
+	}
+
+	@AfterAll
+	static void afterAll() {
+		hazelcast.shutdown();
+	}
+
+	@BeforeEach
+	void before() {
+		hazelcast.getMap(DataGridConfig.MAP_NAME_SCHEDULE).clear();
+		hazelcast.getMap(DataGridConfig.MAP_NAME_DEFAULT).clear();
+		for (int i = 0; i < 6; i++) {
+			scheduleRepository.save(Schedule.builder()
+					.id("schedule-" + i)
+					.type(i % 2 == 0 ? "even" : "odd")
+					.pid("pid-" + i)
+					.state(State.ACTIVE)
+					.regDate(new Date(i))
+					.build());
+		}
+	}
+
+	@Test
+	void t01example() {
+		Example<Schedule> example = Example.of(Schedule.builder().type("even").build());
+		List<Schedule> result = scheduleRepository.findAll(example, Sort.by(Sort.Direction.DESC, "id"));
+		Assertions.assertEquals(Arrays.asList("schedule-4", "schedule-2", "schedule-0"), toIds(result));
+		Assertions.assertEquals(3, scheduleRepository.count(example));
+		Assertions.assertTrue(scheduleRepository.exists(example));
+		Assertions.assertFalse(scheduleRepository.exists(Example.of(Schedule.builder().type("none").build())));
+		Assertions.assertEquals("schedule-1", scheduleRepository.findOne(Example.of(Schedule.builder()
+				.pid("pid-1").build())).map(Schedule::getId).orElse(null));
+		Assertions.assertThrows(IncorrectResultSizeDataAccessException.class,
+				() -> scheduleRepository.findOne(example));
+
+		// OR 조건
+		ExampleMatcher any = ExampleMatcher.matchingAny();
+		Assertions.assertEquals(2, scheduleRepository.count(Example.of(Schedule.builder()
+				.pid("pid-1").type("none").id("schedule-2").build(), any)));
+	}
+
+	@Test
+	void t02stringMatcher() {
+		Schedule schedule = Schedule.builder().id("like").type("A%b_c").pid("pid").build();
+		scheduleRepository.save(schedule);
+
+		ExampleMatcher matcher = ExampleMatcher.matching()
+				.withMatcher("type", ExampleMatcher.GenericPropertyMatchers.startsWith().ignoreCase());
+		// LIKE 특수 문자는 문자 그대로 비교
+		Assertions.assertEquals(Collections.singletonList("like"), toIds(scheduleRepository.findAll(
+				Example.of(Schedule.builder().type("a%B").build(), matcher))));
+		Assertions.assertEquals(0, scheduleRepository.count(Example.of(Schedule.builder().type("A_").build(),
+				matcher)));
+		Assertions.assertEquals(6, scheduleRepository.count(Example.of(Schedule.builder().id("e-").build(),
+				ExampleMatcher.matching().withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING))));
+	}
+
+	@Test
+	void t03page() {
+		Predicate<String, Schedule> predicate = DataGridPredicateBuilder.getPredicate(Schedule.class,
+				Example.of(Schedule.builder().state(State.ACTIVE).build()));
+		Page<Schedule> page = scheduleRepository.findAll(predicate, PageRequest.of(1, 4, Sort.by("regDate")));
+		Assertions.assertEquals(Arrays.asList("schedule-4", "schedule-5"), toIds(page.getContent()));
+		Assertions.assertEquals(6, page.getTotalElements());
+		Assertions.assertEquals(2, scheduleRepository.findAll(predicate, Sort.by("id"), 2).size());
+	}
+
+	@Test
+	void t04seek() {
+		Sort sort = Sort.by(Sort.Order.asc("type"), Sort.Order.desc("id"));
+		List<Object> values = Arrays.asList("even", "schedule-2");
+		List<Schedule> result = scheduleRepository.findAll(
+				DataGridPredicateBuilder.getSeekPredicate(Schedule.class, sort, values), sort, 3);
+		Assertions.assertEquals(Arrays.asList("schedule-0", "schedule-5", "schedule-3"), toIds(result));
+	}
+
+	@Test
+	void t05sharedMap() {
+		// 같은 맵에 다른 모델이 있어도 조회 대상 타입만 조건 적용
+		sampleRepository.save(Sample.builder().id(1L).name("sample").build());
+		dataRepository.save(Data.builder().id("data").type("type").build());
+
+		Assertions.assertEquals(Collections.singletonList("data"),
+				toIds(dataRepository.findAll(Example.of(Data.builder().type("type").build()))));
+		Assertions.assertEquals(1, sampleRepository.count(Example.of(Sample.builder().name("sample").build())));
+	}
+
+	@Test
+	void t06index() {
+		DataGridUtil dataGridUtil = BeanUtils.instantiateClass(
+				BeanUtils.getResolvableConstructor(DataGridUtil.class), hazelcast);
+		dataGridUtil.addIndexes(Arrays.asList(Schedule.class, Data.class, Sample.class));
+
+		IMap<Object, Object> schedule = hazelcast.getMap(DataGridConfig.MAP_NAME_SCHEDULE);
+		log.debug("schedule: {}", schedule.getLocalMapStats().getIndexStats().keySet());
+		Assertions.assertEquals(3, schedule.getLocalMapStats().getIndexStats().size());
+
+		// Sample 에 없는 type 필드는 인덱스 추가하지 않으므로 저장 가능
+		IMap<Object, Object> data = hazelcast.getMap(DataGridConfig.MAP_NAME_DEFAULT);
+		log.debug("default: {}", data.getLocalMapStats().getIndexStats().keySet());
+		Assertions.assertTrue(data.getLocalMapStats().getIndexStats().keySet().stream()
+				.noneMatch(a -> a.contains("type")));
+		sampleRepository.save(Sample.builder().id(2L).name("sample").build());
+
+		Assertions.assertEquals(3, scheduleRepository.count(Example.of(Schedule.builder().type("odd").build())));
+	}
+
+	private static List<String> toIds(List<? extends AbstractCommon> list) {
+		return list.stream().map(AbstractCommon::getId).collect(Collectors.toList());
+	}
+}
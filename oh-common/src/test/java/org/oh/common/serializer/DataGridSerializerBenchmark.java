@@ -0,0 +1,70 @@
+package org.oh.common.serializer;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import org.apache.commons.lang3.SerializationUtils;
+import org.oh.common.model.data.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 방식(Java 직렬화)과 {@link DataSerializer} 의 크기/직렬화+역직렬화 시간 비교
+ * <pre>
+ * - 실행: DataGridSerializerBenchmark.main (테스트 클래스패스, 크기를 먼저 출력)
+ * - 두 방식 모두 Hazelcast 직렬화 서비스를 사용하고 직렬화 등록 여부만 다름
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataGridSerializerBenchmark {
+	private final SerializationService javaSerialization = new DefaultSerializationServiceBuilder().build();
+
+	private Data data;
+
+	@Setup
+	public void setup() {
+		data = DataGridSerializerTest.createData();
+	}
+
+	@Benchmark
+	public Object javaSerializer() {
+		return javaSerialization.toObject(javaSerialization.toData(data));
+	}
+
+	@Benchmark
+	public Object dataSerializer() {
+		return DataGridSerializerTest.SERIALIZATION.toObject(DataGridSerializerTest.SERIALIZATION.toData(data));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Data data = DataGridSerializerTest.createData();
+		System.out.printf("java: %d bytes, hazelcast(java): %d bytes, dataSerializer: %d bytes%n", // NOSONAR
+				SerializationUtils.serialize(data).length,
+				new DefaultSerializationServiceBuilder().setConfig(new SerializationConfig()).build()
+						.toData(data).totalSize(),
+				DataGridSerializerTest.SERIALIZATION.toData(data).totalSize());
+
+		new Runner(new OptionsBuilder()
+				.include(DataGridSerializerBenchmark.class.getSimpleName())
+				.build())
+				.run();
+	}
+}
@@ -0,0 +1,103 @@
+package org.oh.common.serializer;
+
+import com.hazelcast.config.YamlConfigBuilder;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.oh.common.model.data.Data;
+import org.oh.common.model.data.DataDb;
+import org.oh.common.model.enume.State;
+import org.oh.common.model.schedule.Schedule;
+import org.oh.common.util.JsonUtil;
+import org.springframework.session.MapSession;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Date;
+
+//@Disabled
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class DataGridSerializerTest {
+	static final SerializationService SERIALIZATION = new DefaultSerializationServiceBuilder()
+			.setConfig(new YamlConfigBuilder(DataGridSerializerTest.class.getResourceAsStream("/hazelcast-test.yaml"))
+					.build().getSerializationConfig())
+			.build();
+
+	static Data createData() {
+		Data data = Data.builder()
+				.id("data-1")
+				.type("type")
+				.state(State.ACTIVE)
+				.regDate(new Date())
+				.attributes(JsonUtil.readTree("{\"name\":\"이름\",\"count\":10,\"values\":[1.5,2.5],\"child\":{\"flag\":true}}"))
+				.build();
+		data.setModDate(data.getRegDate());
+		return data;
+	}
+
+	@Test
+	void t01data() {
+		Data data = createData();
+		com.hazelcast.internal.serialization.Data binary = SERIALIZATION.toData(data);
+		log.debug("hazelcast: {}, java: {}", binary.totalSize(), SerializationUtils.serialize(data).length);
+		Assertions.assertEquals(AbstractModelSerializer.TYPE_ID_DATA, binary.getType());
+		Assertions.assertTrue(binary.totalSize() < SerializationUtils.serialize(data).length / 2);
+
+		Data result = SERIALIZATION.toObject(binary);
+		Assertions.assertEquals(data, result);
+		Assertions.assertEquals(data.getAttributes(), result.getAttributes());
+		Assertions.assertEquals(data.getRegDate(), result.getRegDate());
+
+		Data empty = SERIALIZATION.toObject(SERIALIZATION.toData(new Data()));
+		Assertions.assertNull(empty.getAttributes());
+		Assertions.assertNull(empty.getState());
+		Assertions.assertNull(empty.getRegDate());
+	}
+
+	@Test
+	void t02schedule() {
+		Schedule schedule = Schedule.builder()
+				.id("schedule-1")
+				.type("type")
+				.pid("pid")
+				.state(State.START)
+				.modDate(new Date())
+				.build();
+		com.hazelcast.internal.serialization.Data binary = SERIALIZATION.toData(schedule);
+		Assertions.assertEquals(AbstractModelSerializer.TYPE_ID_SCHEDULE, binary.getType());
+		Assertions.assertEquals(schedule, SERIALIZATION.toObject(binary));
+	}
+
+	@Test
+	void t03subclass() {
+		// 하위 클래스는 Java 직렬화로 저장하여 타입과 필드를 유지
+		DataDb data = DataDb.builder()
+				.id("data-db")
+				.type("type")
+				.build();
+		Object result = SERIALIZATION.toObject(SERIALIZATION.toData(data));
+		Assertions.assertEquals(DataDb.class, result.getClass());
+		Assertions.assertEquals(data, result);
+	}
+
+	@Test
+	void t04session() {
+		MapSession session = new MapSession("session-1");
+		session.setAttribute("data", createData());
+		session.setAttribute("values", (Serializable) Arrays.asList("a", "b"));
+		com.hazelcast.internal.serialization.Data binary = SERIALIZATION.toData(session);
+		log.debug("hazelcast: {}, java: {}", binary.totalSize(), SerializationUtils.serialize(session).length);
+
+		MapSession result = SERIALIZATION.toObject(binary);
+		Assertions.assertEquals(session.getId(), result.getId());
+		Assertions.assertEquals(session.getCreationTime(), result.getCreationTime());
+		Assertions.assertEquals(session.<Object>getAttribute("data"), result.getAttribute("data"));
+		Assertions.assertEquals(session.<Object>getAttribute("values"), result.getAttribute("values"));
+	}
+}
@@ -0,0 +1,180 @@
+package org.oh.common.service.schedule;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.oh.common.model.schedule.Schedule;
+import org.oh.common.model.schedule.ScheduleLease;
+import org.oh.common.util.SpringUtil;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+//@Disabled
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class PartitionScheduleTest {
+	private static final long TOTAL = 2_500;
+	private static final int PAGE_SIZE = 1_000;
+
+	private final LeaseService leaseService = new LeaseService();
+	private AnnotationConfigApplicationContext context;
+	private SampleService sample;
+
+	@BeforeEach
+	void before() {
+		context = new AnnotationConfigApplicationContext();
+		context.registerBean(ServerProperties.class);
+		context.registerBean(SimpleMeterRegistry.class);
+		context.registerBean(SpringUtil.class);
+		context.registerBean(LeaseService.class, () -> leaseService);
+		context.registerBean(SampleService.class);
+		context.refresh();
+		sample = context.getBean(SampleService.class);
+	}
+
+	@AfterEach
+	void after() {
+		context.close();
+	}
+
+	@Test
+	void t01process() {
+		sample.process(Schedule.builder().build());
+
+		Assertions.assertEquals(3, sample.pages.size());
+		Assertions.assertNull(leaseService.checkpoint.get());
+		MeterRegistry registry = context.getBean(MeterRegistry.class);
+		Assertions.assertEquals(TOTAL, registry.get(AbstractPartitionScheduleService.METRIC_ITEMS).counter().count());
+		Assertions.assertEquals(3, registry.get(AbstractPartitionScheduleService.METRIC_PAGE).timer().count());
+		Assertions.assertEquals(1, registry.get(AbstractPartitionScheduleService.METRIC_THROUGHPUT).summary().count());
+	}
+
+	@Test
+	void t02resume() {
+		sample.failures.put(1L, new AtomicInteger(1));
+		sample.process(Schedule.builder().build());
+		log.debug("checkpoints: {}", leaseService.saved);
+		// 실패한 페이지가 있어도 나머지 페이지는 처리하고 체크포인트는 실패한 페이지 앞까지만 저장
+		Assertions.assertEquals(1, sample.pages.get(2L).get());
+		Assertions.assertEquals(1L, leaseService.checkpoint.get());
+
+		// 다음 실행은 체크포인트부터 이어서 처리
+		sample.pages.clear();
+		sample.process(Schedule.builder().build());
+		Assertions.assertFalse(sample.pages.containsKey(0L));
+		Assertions.assertEquals(1, sample.pages.get(1L).get());
+		Assertions.assertNull(leaseService.checkpoint.get());
+	}
+
+	@Test
+	void t03lost() {
+		sample.getProperties().setThreadSize(1);
+		leaseService.checkpointEnabled = false;
+		sample.process(Schedule.builder().build());
+
+		// 체크포인트 저장에 실패하면 새 페이지를 시작하지 않음
+		Assertions.assertEquals(Collections.singleton(0L), sample.pages.keySet());
+	}
+
+	public static class SampleService
+			extends AbstractPartitionScheduleService<Schedule> {
+		private final Properties properties = Properties.builder()
+				.enabled(true)
+				.healthCheckTimeSec(10)
+				.pageSize(PAGE_SIZE)
+				.threadSize(2)
+				.build();
+		private final Map<Long, AtomicInteger> pages = new ConcurrentHashMap<>();
+		private final Map<Long, AtomicInteger> failures = new ConcurrentHashMap<>();
+
+		public SampleService(SpringUtil springUtil, IScheduleService<Schedule> service) {
+			super(springUtil, service);
+		}
+
+		@Override
+		protected Properties getProperties() {
+			return properties;
+		}
+
+		@Override
+		protected long count(Schedule active) {
+			return TOTAL;
+		}
+
+		@Override
+		protected int processPage(Schedule active, long page, int pageSize) {
+			AtomicInteger failure = failures.get(page);
+			if (failure != null && failure.getAndDecrement() > 0) {
+				throw new IllegalStateException("page " + page);
+			}
+			pages.computeIfAbsent(page, a -> new AtomicInteger()).incrementAndGet();
+			return (int) Math.min(pageSize, TOTAL - page * pageSize);
+		}
+	}
+
+	private static class LeaseService
+			implements IScheduleService<Schedule> {
+		private final AtomicReference<Long> checkpoint = new AtomicReference<>();
+		private final List<Long> saved = new CopyOnWriteArrayList<>();
+		private volatile boolean checkpointEnabled = true;
+
+		@Override
+		public Optional<Schedule> findByIdOrEmpty(String id) {
+			return Optional.empty();
+		}
+
+		@Override
+		public List<Schedule> findAllOrEmpty(Schedule entity) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public Schedule insertSchedule(Schedule entity) {
+			return entity;
+		}
+
+		@Override
+		public Schedule updateSchedule(Schedule entity) {
+			return entity;
+		}
+
+		@Override
+		public void deleteByIdOrIgnore(String id) {
+		}
+
+		@Override
+		public Optional<ScheduleLease> acquireLease(String type, String owner, long leaseMs) {
+			return Optional.of(new ScheduleLease(type, owner, 1, System.currentTimeMillis() + leaseMs,
+					checkpoint.get()));
+		}
+
+		@Override
+		public void releaseLease(String type, String owner) {
+		}
+
+		@Override
+		public boolean saveCheckpoint(String type, String owner, long token, Long checkpoint) {
+			if (!checkpointEnabled) {
+				return false;
+			}
+			this.checkpoint.set(checkpoint);
+			saved.add(checkpoint);
+			return true;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package org.oh.common.service.schedule;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.oh.common.model.schedule.ScheduleLease;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+//@Disabled
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class ScheduleLeaseTest {
+	private static final long LEASE_MS = 10_000;
+
+	private static HazelcastInstance hazelcast;
+	private static ScheduleService service;
+
+	@BeforeAll
+	static void beforeAll() {
+		Config config = new Config();
+		config.setClusterName(ScheduleLeaseTest.class.getSimpleName());
+		config.getNetworkConfig().setPort(25711);
+		config.getNetworkConfig().getJoin().getAutoDetectionConfig().setEnabled(false);
+		hazelcast = Hazelcast.newHazelcastInstance(config);
+		service = new ScheduleService(null, null, hazelcast);
+	}
+
+	@AfterAll
+	static void afterAll() {
+		hazelcast.shutdown();
+	}
+
+	@Test
+	void t01acquire() {
+		ScheduleLease lease = service.acquireLease("acquire", "a", LEASE_MS).orElseThrow(AssertionError::new);
+		log.debug("lease: {}", lease);
+		Assertions.assertEquals(1, lease.getToken());
+		Assertions.assertFalse(service.acquireLease("acquire", "b", LEASE_MS).isPresent());
+
+		// 갱신하면 토큰 유지
+		Assertions.assertEquals(1, service.acquireLease("acquire", "a", LEASE_MS)
+				.map(ScheduleLease::getToken)
+				.orElse(0L));
+
+		// 반납하면 다른 소유자가 새 토큰으로 획득
+		service.releaseLease("acquire", "b");
+		Assertions.assertFalse(service.acquireLease("acquire", "b", LEASE_MS).isPresent());
+		service.releaseLease("acquire", "a");
+		Assertions.assertEquals(2, service.acquireLease("acquire", "b", LEASE_MS)
+				.map(ScheduleLease::getToken)
+				.orElse(0L));
+		Assertions.assertFalse(service.acquireLease("acquire", "a", LEASE_MS).isPresent());
+	}
+
+	@Test
+	void t02expire() throws InterruptedException {
+		Assertions.assertTrue(service.acquireLease("expire", "a", 100).isPresent());
+		Thread.sleep(200);
+
+		Optional<ScheduleLease> lease = service.acquireLease("expire", "b", 100);
+		Assertions.assertEquals(2, lease.map(ScheduleLease::getToken).orElse(0L));
+		Assertions.assertFalse(service.acquireLease("expire", "a", 100).isPresent());
+	}
+
+	@Test
+	void t03race() {
+		List<CompletableFuture<Optional<ScheduleLease>>> futures = new ArrayList<>();
+		IntStream.range(0, 10)
+				.forEach(i -> futures.add(CompletableFuture.supplyAsync(
+						() -> service.acquireLease("race", "owner-" + i, LEASE_MS))));
+		List<ScheduleLease> leases = futures.stream()
+				.map(CompletableFuture::join)
+				.filter(Optional::isPresent)
+				.map(Optional::get)
+				.collect(Collectors.toList());
+		log.debug("leases: {}", leases);
+		Assertions.assertEquals(1, leases.size());
+	}
+
+	@Test
+	void t04checkpoint() throws InterruptedException {
+		ScheduleLease lease = service.acquireLease("checkpoint", "a", 100).orElseThrow(AssertionError::new);
+		Assertions.assertTrue(service.saveCheckpoint("checkpoint", "a", lease.getToken(), 3L));
+		Assertions.assertFalse(service.saveCheckpoint("checkpoint", "b", lease.getToken(), 4L));
+		Thread.sleep(200);
+
+		// 소유자가 바뀌어도 체크포인트 유지, 이전 소유자는 저장 불가
+		ScheduleLease next = service.acquireLease("checkpoint", "b", LEASE_MS).orElseThrow(AssertionError::new);
+		Assertions.assertEquals(3L, next.getCheckpoint());
+		Assertions.assertFalse(service.saveCheckpoint("checkpoint", "a", lease.getToken(), 5L));
+		Assertions.assertTrue(service.saveCheckpoint("checkpoint", "b", next.getToken(), null));
+		Assertions.assertNull(service.acquireLease("checkpoint", "b", LEASE_MS)
+				.orElseThrow(AssertionError::new)
+				.getCheckpoint());
+	}
+}
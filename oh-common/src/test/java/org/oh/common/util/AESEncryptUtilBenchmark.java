@@ -0,0 +1,81 @@
+package org.oh.common.util;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 방식(공유 Cipher + synchronized)과 {@link AESEncryptUtil}(스레드별 Cipher) 의 스레드 수별 처리량 비교
+ * <pre>
+ * - 실행: AESEncryptUtilBenchmark.main (테스트 클래스패스, 스레드 1/2/4/8 순서로 실행)
+ * - 기존 방식은 매번 같은 IV 로 초기화할 수 없으므로(GCM) 메세지 마다 IV 를 바꿔 비교
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AESEncryptUtilBenchmark {
+	private static final int[] THREADS = {1, 2, 4, 8};
+
+	private byte[] value;
+	private SecretKeySpec keySpec;
+	private Cipher cipher;
+	private long counter;
+
+	@Setup
+	public void setup() throws GeneralSecurityException {
+		value = StringUtils.repeat("0123456789", 100).getBytes(StandardCharsets.UTF_8);
+		keySpec = new SecretKeySpec("6543210987654321".getBytes(), "AES");
+		cipher = Cipher.getInstance("AES/GCM/NoPadding");
+	}
+
+	@Benchmark
+	public byte[] synchronizedCipher() throws GeneralSecurityException {
+		synchronized (this) {
+			byte[] iv = new byte[12];
+			long count = ++counter;
+			for (int i = 0; i < Long.BYTES; i++) {
+				iv[i] = (byte) (count >>> (i * 8));
+			}
+			cipher.init(Cipher.ENCRYPT_MODE, keySpec, new GCMParameterSpec(128, iv));
+			return cipher.doFinal(value);
+		}
+	}
+
+	@Benchmark
+	public byte[] threadLocalCipher() {
+		return AESEncryptUtil.encrypt(value);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		for (int threads : THREADS) {
+			new Runner(new OptionsBuilder()
+					.include(AESEncryptUtilBenchmark.class.getSimpleName())
+					.threads(threads)
+					.build())
+					.run();
+		}
+	}
+}
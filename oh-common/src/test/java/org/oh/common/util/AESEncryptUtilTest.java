@@ -1,16 +1,31 @@
 package org.oh.common.util;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Assertions;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-@Disabled
+//@Disabled
 @Slf4j
 @TestMethodOrder(MethodOrderer.MethodName.class)
 public class AESEncryptUtilTest {
@@ -48,4 +63,102 @@ public class AESEncryptUtilTest {
 	void t04decryptFile() {
 		AESEncryptUtil.decrypt(encryptFile, new File(PATH + BASE_NAME + "_decrypt." + EXTENSION));
 	}
+
+	@Test
+	void t05encryptStream() throws IOException {
+		byte[] bytes = StringUtils.repeat(TEXT, 10_000).getBytes(StandardCharsets.UTF_8);
+		ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+		AESEncryptUtil.encrypt(new ByteArrayInputStream(bytes), encrypted);
+		ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+		AESEncryptUtil.decrypt(new ByteArrayInputStream(encrypted.toByteArray()), decrypted);
+		Assertions.assertArrayEquals(bytes, decrypted.toByteArray());
+	}
+
+	@Test
+	void t06encryptRandomIv() {
+		Assertions.assertNotEquals(AESEncryptUtil.encrypt(TEXT), AESEncryptUtil.encrypt(TEXT));
+
+		List<String> values = IntStream.range(0, 1_000)
+				.parallel()
+				.mapToObj(i -> AESEncryptUtil.decrypt(AESEncryptUtil.encrypt(TEXT + i)))
+				.collect(Collectors.toList());
+		IntStream.range(0, values.size())
+				.forEach(i -> Assertions.assertEquals(TEXT + i, values.get(i)));
+	}
+
+	@Test
+	void t07decryptLegacy() throws GeneralSecurityException {
+		byte[] key = "6543210987654321".getBytes();
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+		cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new GCMParameterSpec(128, key));
+		String legacy = Base64.encodeBase64String(cipher.doFinal(TEXT.getBytes()));
+		Assertions.assertEquals(TEXT, AESEncryptUtil.decrypt(legacy));
+		Assertions.assertEquals(TEXT, AESEncryptUtil.decrypt(AESEncryptUtil.encrypt(TEXT)));
+	}
+
+	@Test
+	void t08decryptLegacyFile() throws GeneralSecurityException, IOException {
+		byte[] key = "6543210987654321".getBytes();
+		File legacy = File.createTempFile("legacy", ".enc");
+		File decrypted = File.createTempFile("legacy", ".dec");
+		try {
+			for (String text : new String[]{TEXT, StringUtils.repeat(TEXT, 100)}) {
+				Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+				cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new GCMParameterSpec(128, key));
+				FileUtil.write(legacy, cipher.doFinal(text.getBytes()));
+				Assertions.assertEquals(text, new String(AESEncryptUtil.decrypt(legacy)));
+
+				AESEncryptUtil.decrypt(legacy, decrypted);
+				Assertions.assertEquals(text, new String(FileUtil.read(decrypted)));
+			}
+		} finally {
+			Assertions.assertTrue(legacy.delete());
+			Assertions.assertTrue(decrypted.delete());
+		}
+	}
+
+	@Test
+	void t09encryptSegment() throws GeneralSecurityException, IOException {
+		int segment = 64 * 1024 + 12 + 16;
+		for (int size : new int[]{0, 64 * 1024, 128 * 1024, 200_007}) {
+			byte[] bytes = new byte[size];
+			SecurityUtil.RANDOM.nextBytes(bytes);
+			ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+			AESEncryptUtil.encrypt(new ByteArrayInputStream(bytes), encrypted);
+			ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+			AESEncryptUtil.decrypt(new ByteArrayInputStream(encrypted.toByteArray()), decrypted);
+			Assertions.assertArrayEquals(bytes, decrypted.toByteArray());
+		}
+
+		byte[] bytes = StringUtils.repeat(TEXT, 50_000).getBytes(StandardCharsets.UTF_8);
+		ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+		AESEncryptUtil.encrypt(new ByteArrayInputStream(bytes), encrypted);
+		byte[] value = encrypted.toByteArray();
+		Assertions.assertEquals(4, (value.length + segment - 1) / segment);
+
+		// 세그먼트 경계에서 잘림
+		byte[] truncated = Arrays.copyOf(value, segment * 2);
+		Assertions.assertThrows(IOException.class,
+				() -> AESEncryptUtil.decrypt(new ByteArrayInputStream(truncated), new ByteArrayOutputStream()));
+
+		// 세그먼트 순서 변경
+		byte[] reordered = value.clone();
+		System.arraycopy(value, segment, reordered, 0, segment);
+		System.arraycopy(value, 0, reordered, segment, segment);
+		Assertions.assertThrows(IOException.class,
+				() -> AESEncryptUtil.decrypt(new ByteArrayInputStream(reordered), new ByteArrayOutputStream()));
+
+		// 이전 형식 (단일 IV) 파일
+		byte[] iv = Arrays.copyOf(value, 12);
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+		cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec("6543210987654321".getBytes(), "AES"),
+				new GCMParameterSpec(128, iv));
+		File single = File.createTempFile("single", ".enc");
+		try {
+			FileUtil.write(single, ArrayUtils.addAll(iv, cipher.doFinal(bytes)));
+			Assertions.assertArrayEquals(bytes, AESEncryptUtil.decrypt(single));
+		} finally {
+			Assertions.assertTrue(single.delete());
+		}
+	}
 }
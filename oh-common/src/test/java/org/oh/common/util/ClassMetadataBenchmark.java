@@ -0,0 +1,102 @@
+package org.oh.common.util;
+
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.oh.common.model.enume.State;
+import org.oh.sample.model.Sample;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.persistence.Id;
+import javax.persistence.Transient;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리플렉션 필드 접근과 {@link ClassMetadata} 필드 접근 성능 비교
+ * <pre>
+ * - 실행: ClassMetadataBenchmark.main (테스트 클래스패스)
+ * </pre>
+ */
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassMetadataBenchmark {
+	private Sample src;
+	private Sample des;
+
+	@Setup
+	public void setup() {
+		src = Sample.builder()
+				.id(1L)
+				.name("테스트")
+				.descp("테스트2")
+				.state(State.ACTIVE)
+				.build();
+		des = new Sample();
+	}
+
+	@Benchmark
+	public Object idReflection() throws IllegalAccessException {
+		List<Field> fields = FieldUtils.getFieldsListWithAnnotation(src.getClass(), Id.class);
+		return FieldUtils.readField(fields.get(0), src, true);
+	}
+
+	@Benchmark
+	public Object idMetadata() {
+		return src.id();
+	}
+
+	@Benchmark
+	public Object copyReflection() throws IllegalAccessException {
+		for (Field e : FieldUtils.getAllFieldsList(src.getClass())) {
+			if (Modifier.isStatic(e.getModifiers()) || CommonUtil.existAnnotation(e, Transient.class)) {
+				continue;
+			}
+			e.setAccessible(true);
+			Object value = e.get(src);
+			if (value != null) {
+				e.set(des, value);
+			}
+		}
+		return des;
+	}
+
+	@Benchmark
+	public Object copyMetadata() {
+		for (ClassMetadata.Accessor e : ClassMetadata.of(src.getClass()).getPersistentFields()) {
+			Object value = e.get(src);
+			if (value != null) {
+				e.set(des, value);
+			}
+		}
+		return des;
+	}
+
+	@Benchmark
+	public Object toMapMetadata() {
+		return QueryUtil.convertObjectToMapWithDefault(src, null);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(ClassMetadataBenchmark.class.getSimpleName())
+				.build())
+				.run();
+	}
+}
@@ -1,9 +1,13 @@
 package org.oh.common.util;
 
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.oh.sample.model.Sample;
+
+import java.util.Map;
 
 //@Disabled기본 테스트
 @Slf4j
@@ -26,6 +30,28 @@ public class CommonUtilTest {
 		log.debug(CommonUtil.getPid());
 	}
 
+	@Test
+	void t03classMetadata() {
+		Sample entity = Sample.builder()
+				.id(1L)
+				.name("테스트")
+				.build();
+		Assertions.assertEquals(1L, entity.id());
+
+		ClassMetadata metadata = ClassMetadata.of(Sample.class);
+		Assertions.assertSame(metadata, ClassMetadata.of(Sample.class));
+		Assertions.assertTrue(metadata.getNulls().isPresent());
+		Sample des = new Sample();
+		metadata.getField("name")
+				.ifPresent(e -> e.set(des, e.get(entity)));
+		Assertions.assertEquals(entity.getName(), des.getName());
+
+		Map<String, Object> map = QueryUtil.convertObjectToMap(entity, "name");
+		log.debug("map: {}", map);
+		Assertions.assertEquals(1L, map.get("id"));
+		Assertions.assertFalse(map.containsKey("name"));
+	}
+
 	private void loop(CommonUtil.Locking locking) {
 		for (int i = 0; i < 100; i++) {
 			new Thread(new LockRunnable(locking)).start();
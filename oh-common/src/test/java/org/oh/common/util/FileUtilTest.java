@@ -1,13 +1,18 @@
 package org.oh.common.util;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.oh.common.exception.CommonException;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 //@Disabled
 @Slf4j
@@ -28,6 +33,18 @@ public class FileUtilTest {
 		Assertions.assertThrows(CommonException.class, () -> createFile("../files"));
 	}
 
+	@Test
+	void t02write() throws IOException {
+		byte[] data = StringUtils.repeat("테스트", 100_000).getBytes(StandardCharsets.UTF_8);
+		File file = File.createTempFile("file-util", ".txt");
+		String hash = FileUtil.write(new ByteArrayInputStream(data), file);
+		log.debug("hash: {}", hash);
+		Assertions.assertEquals(DigestUtils.sha256Hex(data), hash);
+		Assertions.assertEquals(hash, FileUtil.hash(file));
+		Assertions.assertArrayEquals(data, FileUtil.read(file));
+		file.delete();
+	}
+
 	private void createFile(String filePath) {
 		File file = FileUtil.createFile(filePath);
 		Assertions.assertNotNull(file);
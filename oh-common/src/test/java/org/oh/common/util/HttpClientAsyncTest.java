@@ -0,0 +1,181 @@
+package org.oh.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.oh.common.exception.CommonException;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+//@Disabled
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class HttpClientAsyncTest {
+	private static final int MAX_PER_ROUTE = 2;
+
+	private MockWebServer server;
+	private HttpClient httpClient;
+
+	@BeforeEach
+	void before() throws IOException {
+		server = new MockWebServer();
+		server.start();
+		httpClient = createHttpClient(0);
+	}
+
+	@AfterEach
+	void after() throws IOException {
+		httpClient.close();
+		server.shutdown();
+	}
+
+	@Test
+	void t01requestAsync() throws InterruptedException {
+		server.enqueue(new MockResponse().setBody("{\"id\":1,\"name\":\"test\"}")
+				.setHeader("Content-Type", "application/json"));
+
+		ResponseEntity<Map<String, Object>> result = httpClient.requestAsync(HttpClient.Request.builder()
+						.url(server.url("/v1/sample").toString())
+						.method(HttpMethod.POST)
+						.body(Collections.singletonMap("name", "test"))
+						.build(), new ParameterizedTypeReference<Map<String, Object>>() {
+				})
+				.join();
+		log.debug("result: {}", result);
+		Assertions.assertEquals(HttpStatus.OK, result.getStatusCode());
+		Assertions.assertEquals("test", result.getBody().get("name"));
+
+		RecordedRequest recorded = server.takeRequest();
+		Assertions.assertEquals("POST", recorded.getMethod());
+		Assertions.assertEquals("{\"name\":\"test\"}", recorded.getBody().readUtf8());
+	}
+
+	@Test
+	void t02requestAsyncError() {
+		server.enqueue(new MockResponse().setResponseCode(500).setBody("error"));
+
+		CompletionException e = Assertions.assertThrows(CompletionException.class,
+				() -> httpClient.requestAsync(get("/error"), ParameterizedTypeReference.<String>forType(String.class))
+						.join());
+		Assertions.assertTrue(e.getCause() instanceof CommonException);
+		Assertions.assertTrue(e.getCause().getMessage().contains("[500]error"));
+	}
+
+	@Test
+	void t03requestAll() {
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		server.setDispatcher(new okhttp3.mockwebserver.Dispatcher() {
+			@Override
+			public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				TimeUnit.MILLISECONDS.sleep(50);
+				running.decrementAndGet();
+				return new MockResponse().setBody(request.getPath());
+			}
+		});
+
+		List<HttpClient.Request> requests = IntStream.range(0, 10)
+				.mapToObj(i -> get("/" + i))
+				.collect(Collectors.toList());
+		List<ResponseEntity<String>> results = httpClient.requestAll(requests, String.class).join();
+		log.debug("maxRunning: {}", maxRunning);
+		Assertions.assertEquals(IntStream.range(0, 10).mapToObj(i -> "/" + i).collect(Collectors.toList()),
+				results.stream().map(ResponseEntity::getBody).collect(Collectors.toList()));
+		Assertions.assertTrue(maxRunning.get() <= MAX_PER_ROUTE);
+	}
+
+	@Test
+	void t04hedge() {
+		httpClient.close();
+		httpClient = createHttpClient(100);
+		server.enqueue(new MockResponse().setBody("slow").setHeadersDelay(3, TimeUnit.SECONDS));
+		server.enqueue(new MockResponse().setBody("fast"));
+
+		long start = System.nanoTime();
+		ResponseEntity<String> result = httpClient.requestAsync(get("/hedge"),
+				ParameterizedTypeReference.<String>forType(String.class)).join();
+		long time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		log.debug("result: {} time: {}", result.getBody(), time);
+		Assertions.assertEquals("fast", result.getBody());
+		Assertions.assertTrue(time < 3_000);
+		Assertions.assertEquals(2, server.getRequestCount());
+	}
+
+	@Test
+	void t05metrics() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		httpClient.bindTo(registry);
+		Assertions.assertEquals(0, registry.get(HttpClient.METRIC_QUEUED).gauge().value());
+		Assertions.assertEquals(0, registry.get(HttpClient.METRIC_IN_FLIGHT).gauge().value());
+	}
+
+	@Test
+	void t06requestBodyConverter() throws InterruptedException {
+		server.enqueue(new MockResponse().setBody("ok"));
+		server.enqueue(new MockResponse().setBody("ok"));
+
+		MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+		form.add("name", "test");
+		form.add("id", "1");
+		httpClient.requestAsync(HttpClient.Request.builder()
+				.url(server.url("/form").toString())
+				.method(HttpMethod.POST)
+				.body(form)
+				.build(), ParameterizedTypeReference.<String>forType(String.class)).join();
+		RecordedRequest recorded = server.takeRequest();
+		Assertions.assertTrue(recorded.getHeader("Content-Type").startsWith("application/x-www-form-urlencoded"));
+		Assertions.assertEquals("name=test&id=1", recorded.getBody().readUtf8());
+
+		byte[] bytes = {0, 1, 2, (byte) 0xff};
+		httpClient.requestAsync(HttpClient.Request.builder()
+				.url(server.url("/bytes").toString())
+				.method(HttpMethod.PUT)
+				.body(bytes)
+				.build(), ParameterizedTypeReference.<String>forType(String.class)).join();
+		recorded = server.takeRequest();
+		Assertions.assertEquals("application/octet-stream", recorded.getHeader("Content-Type"));
+		Assertions.assertArrayEquals(bytes, recorded.getBody().readByteArray());
+	}
+
+	private HttpClient.Request get(String path) {
+		return HttpClient.Request.builder()
+				.url(server.url(path).toString())
+				.method(HttpMethod.GET)
+				.build();
+	}
+
+	private HttpClient createHttpClient(long hedgeDelayMs) {
+		Dispatcher dispatcher = new Dispatcher();
+		dispatcher.setMaxRequestsPerHost(MAX_PER_ROUTE);
+		OkHttpClient asyncClient = new OkHttpClient.Builder()
+				.dispatcher(dispatcher)
+				.build();
+		return new HttpClient(new RestTemplate(), asyncClient, hedgeDelayMs, 1, 2, "hc-test");
+	}
+}
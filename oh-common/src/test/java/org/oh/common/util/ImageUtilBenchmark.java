@@ -0,0 +1,141 @@
+package org.oh.common.util;
+
+import org.apache.commons.imaging.Imaging;
+import org.apache.commons.imaging.common.ImageMetadata;
+import org.apache.commons.imaging.formats.jpeg.JpegImageMetadata;
+import org.apache.commons.imaging.formats.jpeg.exif.ExifRewriter;
+import org.apache.commons.imaging.formats.tiff.TiffImageMetadata;
+import org.imgscalr.Scalr;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+
+import java.awt.Dimension;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.PixelGrabber;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 썸네일 생성 방식(ImageIcon + PixelGrabber, 전체 해상도 ImageIO + Scalr)과
+ * {@link ImageUtil#createScalrThumbs(File, Map)} 성능 비교 (중/소 크기 2개 생성)
+ * <pre>
+ * - 실행: ImageUtilBenchmark.main (테스트 클래스패스, oh-common 디렉토리에서 실행)
+ * - 메모리 비교: OptionsBuilder.addProfiler(GCProfiler.class)
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImageUtilBenchmark {
+	private static final String SRC = "img/photo.jpg";
+	private static final int WIDTH_MEDIUM = ImageUtil.THUMB_WIDTH * 2;
+	private static final int WIDTH_SMALL = ImageUtil.THUMB_WIDTH;
+
+	private File src;
+	private File dir;
+	private File medium;
+	private File small;
+
+	@Setup
+	public void setup() throws IOException {
+		src = new File(SRC);
+		dir = Files.createTempDirectory("image-util").toFile();
+		medium = new File(dir, "m.jpg");
+		small = new File(dir, "s.jpg");
+	}
+
+	@TearDown
+	public void tearDown() {
+		FileUtil.deleteQuietly(dir, "*");
+		dir.delete();
+	}
+
+	@Benchmark
+	public void imageIOLegacy() throws InterruptedException, IOException {
+		imageIOLegacy(medium, WIDTH_MEDIUM);
+		imageIOLegacy(small, WIDTH_SMALL);
+	}
+
+	@Benchmark
+	public void scalrLegacy() throws Exception {
+		scalrLegacy(medium, WIDTH_MEDIUM);
+		scalrLegacy(small, WIDTH_SMALL);
+	}
+
+	@Benchmark
+	public Object scalrSubsampled() {
+		Map<File, Dimension> dests = new LinkedHashMap<>();
+		dests.put(medium, new Dimension(WIDTH_MEDIUM, ImageUtil.RATIO));
+		dests.put(small, new Dimension(WIDTH_SMALL, ImageUtil.RATIO));
+		return ImageUtil.createScalrThumbs(src, dests);
+	}
+
+	private void imageIOLegacy(File dest, int width) throws InterruptedException, IOException {
+		Image img = new ImageIcon(src.toString()).getImage();
+		int destWidth = Math.min(width, img.getWidth(null));
+		int destHeight = (int) (img.getHeight(null) * ((double) destWidth / img.getWidth(null)));
+
+		Image imgTarget = img.getScaledInstance(destWidth, destHeight, Image.SCALE_SMOOTH);
+		int[] pixels = new int[destWidth * destHeight];
+		PixelGrabber pg = new PixelGrabber(imgTarget, 0, 0, destWidth, destHeight, pixels, 0, destWidth);
+		BufferedImage destImg = new BufferedImage(destWidth, destHeight, BufferedImage.TYPE_INT_RGB);
+		pg.grabPixels();
+		destImg.setRGB(0, 0, destWidth, destHeight, pixels, 0, destWidth);
+		ImageIO.write(destImg, "jpg", dest);
+		img.flush();
+	}
+
+	private void scalrLegacy(File dest, int width) throws Exception {
+		BufferedImage img = ImageIO.read(src);
+		BufferedImage resized = Scalr.resize(img, Scalr.Method.AUTOMATIC, Scalr.Mode.FIT_TO_WIDTH,
+				Math.min(width, img.getWidth()));
+		byte[] imgData;
+		try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
+			ImageIO.write(resized, "JPEG", bos);
+			imgData = bos.toByteArray();
+		}
+
+		ImageMetadata meta = Imaging.getMetadata(src);
+		TiffImageMetadata exif = meta instanceof JpegImageMetadata ? ((JpegImageMetadata) meta).getExif() : null;
+		try (OutputStream os = new FileOutputStream(dest)) {
+			if (exif == null) {
+				os.write(imgData);
+			} else {
+				new ExifRewriter().updateExifMetadataLossless(imgData, os, exif.getOutputSet());
+			}
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(ImageUtilBenchmark.class.getSimpleName())
+				.build())
+				.run();
+	}
+}
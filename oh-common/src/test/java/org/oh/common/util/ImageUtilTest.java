@@ -1,10 +1,18 @@
 package org.oh.common.util;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import javax.imageio.ImageIO;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 //@Disabled
 @TestMethodOrder(MethodOrderer.MethodName.class)
@@ -33,6 +41,26 @@ public class ImageUtilTest {
 		ImageUtil.createScalrThumb(PATH + FILE_JPG, PATH + FILE_JPG + "_scalr.jpg", WIDTH_1, HEIGHT_1);
 	}
 
+	@Test
+	void t003jpgRead() throws IOException {
+		BufferedImage origin = ImageIO.read(new File(PATH + FILE_JPG));
+		BufferedImage result = ImageUtil.read(new File(PATH + FILE_JPG), WIDTH_1, HEIGHT_1);
+		Assertions.assertTrue(result.getWidth() <= origin.getWidth());
+		Assertions.assertTrue(result.getWidth() >= Math.min(origin.getWidth(), WIDTH_1 * 2));
+	}
+
+	@Test
+	void t004jpgScalrThumbs() throws IOException {
+		File medium = new File(PATH + FILE_JPG + "_scalrM.jpg");
+		File small = new File(PATH + FILE_JPG + "_scalrS.jpg");
+		Map<File, Dimension> dests = new LinkedHashMap<>();
+		dests.put(medium, new Dimension(WIDTH_1 * 2, HEIGHT_1));
+		dests.put(small, new Dimension(WIDTH_1, HEIGHT_1));
+		ImageUtil.createScalrThumbs(new File(PATH + FILE_JPG), dests);
+		Assertions.assertTrue(ImageIO.read(medium).getWidth() > ImageIO.read(small).getWidth());
+		Assertions.assertTrue(ImageIO.read(small).getWidth() <= WIDTH_1);
+	}
+
 	//	@Test
 	void t011pngImageIO() {
 		ImageUtil.createImageIOThumb(PATH + FILE_PNG, PATH + FILE_PNG + "_imageIO.jpg", WIDTH_1, HEIGHT_1);
@@ -0,0 +1,71 @@
+package org.oh.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+//@Disabled
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class ThreadLocalUtilTest {
+	private static final ThreadLocalUtil.LocalKey KEY = () -> "TEST_KEY";
+
+	@AfterEach
+	void afterEach() {
+		ThreadLocalUtil.remove();
+	}
+
+	@Test
+	void t01set() {
+		ThreadLocalUtil.set(ThreadLocalKey.FILTER_START_TIME, 1L);
+		ThreadLocalUtil.set(KEY, "value");
+		Assertions.assertEquals(Optional.of(1L), ThreadLocalUtil.get(ThreadLocalKey.FILTER_START_TIME, Long.class));
+		Assertions.assertEquals("value", ThreadLocalUtil.get(KEY, "default"));
+		Assertions.assertEquals(Optional.empty(), ThreadLocalUtil.get(KEY, Long.class));
+
+		ThreadLocalUtil.remove(KEY);
+		Assertions.assertEquals("default", ThreadLocalUtil.get(KEY, "default"));
+		Assertions.assertEquals(Optional.of(1L), ThreadLocalUtil.get(ThreadLocalKey.FILTER_START_TIME, Long.class));
+	}
+
+	@Test
+	void t02slots() {
+		for (int i = 0; i < 20; i++) {
+			String name = "SLOT_" + i;
+			ThreadLocalUtil.set(() -> name, i);
+		}
+		for (int i = 0; i < 20; i++) {
+			String name = "SLOT_" + i;
+			Assertions.assertEquals(i, ThreadLocalUtil.get(() -> name, -1));
+		}
+	}
+
+	@Test
+	void t03propagate() {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Executor contextExecutor = ThreadLocalUtil.wrap(executor);
+			ThreadLocalUtil.set(KEY, "request");
+			String value = CompletableFuture
+					.supplyAsync(() -> ThreadLocalUtil.get(KEY, "none"), contextExecutor)
+					.join();
+			Assertions.assertEquals("request", value);
+
+			String leaked = CompletableFuture
+					.supplyAsync(() -> ThreadLocalUtil.get(KEY, "none"), executor)
+					.join();
+			Assertions.assertEquals("none", leaked);
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
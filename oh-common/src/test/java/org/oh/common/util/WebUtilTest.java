@@ -0,0 +1,106 @@
+package org.oh.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.oh.common.config.LoggingConfig;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+//@Disabled
+@Slf4j
+@TestMethodOrder(MethodOrderer.MethodName.class)
+public class WebUtilTest {
+	private static final String CONTENT = "0123456789abcdefghij";
+	private static final String ETAG = "\"1-20-1000\"";
+	private static final long LAST_MODIFIED = 1_000_000L;
+
+	private static File file;
+
+	@BeforeAll
+	static void beforeAll() throws IOException {
+		file = File.createTempFile("web-util", ".txt");
+		Files.write(file.toPath(), CONTENT.getBytes(StandardCharsets.US_ASCII));
+	}
+
+	@AfterAll
+	static void afterAll() {
+		file.delete();
+	}
+
+	@Test
+	void t01writeFile() throws IOException {
+		MockHttpServletResponse response = writeFile(new MockHttpServletRequest("GET", "/"));
+		Assertions.assertEquals(HttpStatus.OK.value(), response.getStatus());
+		Assertions.assertEquals(CONTENT, response.getContentAsString());
+		Assertions.assertEquals(ETAG, response.getHeader(HttpHeaders.ETAG));
+		Assertions.assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+		Assertions.assertEquals(CONTENT.length(), response.getContentLengthLong());
+	}
+
+	@Test
+	void t02writeFileNotModified() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+		MockHttpServletResponse response = writeFile(request);
+		Assertions.assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+		Assertions.assertEquals("", response.getContentAsString());
+	}
+
+	@Test
+	void t03writeFileRange() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.RANGE, "bytes=5-9");
+		MockHttpServletResponse response = writeFile(request);
+		Assertions.assertEquals(HttpStatus.PARTIAL_CONTENT.value(), response.getStatus());
+		Assertions.assertEquals("56789", response.getContentAsString());
+		Assertions.assertEquals("bytes 5-9/20", response.getHeader(HttpHeaders.CONTENT_RANGE));
+
+		log.debug(LoggingConfig.ONE_LINE_100);
+		request.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+		response = writeFile(request);
+		Assertions.assertEquals(HttpStatus.OK.value(), response.getStatus());
+		Assertions.assertEquals(CONTENT, response.getContentAsString());
+	}
+
+	@Test
+	void t04writeFileMultiRange() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.RANGE, "bytes=0-1,-2");
+		MockHttpServletResponse response = writeFile(request);
+		log.debug("result: {}", response.getContentAsString());
+		Assertions.assertEquals(HttpStatus.PARTIAL_CONTENT.value(), response.getStatus());
+		Assertions.assertTrue(response.getContentType().startsWith("multipart/byteranges"));
+		Assertions.assertTrue(response.getContentAsString().contains("bytes 0-1/20\r\n\r\n01"));
+		Assertions.assertTrue(response.getContentAsString().contains("bytes 18-19/20\r\n\r\nij"));
+	}
+
+	@Test
+	void t05writeFileInvalidRange() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.RANGE, "bytes=30-40");
+		MockHttpServletResponse response = writeFile(request);
+		Assertions.assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value(), response.getStatus());
+		Assertions.assertEquals("bytes */20", response.getHeader(HttpHeaders.CONTENT_RANGE));
+	}
+
+	private MockHttpServletResponse writeFile(MockHttpServletRequest request) {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		WebUtil.writeFile(request, response, file, MediaType.TEXT_PLAIN, file.getName(), ETAG, LAST_MODIFIED,
+				CacheControl.noCache());
+		return response;
+	}
+}
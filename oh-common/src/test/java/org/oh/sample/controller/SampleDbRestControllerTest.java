@@ -17,17 +17,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.test.util.AssertionErrors;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
 import static org.oh.sample.controller.SampleDbRestController.PATH;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 //@Disabled
@@ -168,6 +172,38 @@ public class SampleDbRestControllerTest {
 				});
 	}
 
+	@Test
+	void t09cvs() throws Exception {
+		String expected = mvc.perform(get(PATH + "/cvs")
+						.param("fieldNames", "id,state")
+						.param("header", "아이디,상태")
+						.param("sort", "id")
+						.param("charsetName", "UTF-8"))
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse()
+				.getContentAsString(StandardCharsets.UTF_8);
+
+		log.debug(LoggingConfig.ONE_LINE_100);
+		MvcResult result = mvc.perform(get(PATH + "/cvs")
+						.param("stream", "true")
+						.param("fieldNames", "id,state")
+						.param("header", "아이디,상태")
+						.param("sort", "id")
+						.param("charsetName", "UTF-8"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		String actual = mvc.perform(asyncDispatch(result))
+				.andDo(print())
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse()
+				.getContentAsString(StandardCharsets.UTF_8);
+		log.debug("result: {}", actual);
+		AssertionErrors.assertTrue("", actual.startsWith("아이디,상태\n"));
+		AssertionErrors.assertEquals("", expected, actual);
+	}
+
 	///////////////////////////////////////////////////////////////////////////
 
 	@Test
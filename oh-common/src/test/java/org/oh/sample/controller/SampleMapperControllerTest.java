@@ -4,10 +4,13 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.collect.ImmutableList;
 import lombok.extern.slf4j.Slf4j;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.oh.common.config.ControllerTest;
 import org.oh.common.config.LoggingConfig;
+import org.oh.common.exception.CommonError;
+import org.oh.common.exception.CommonException;
 import org.oh.common.model.enume.State;
 import org.oh.common.util.JsonUtil;
 import org.oh.sample.model.Sample;
@@ -17,17 +20,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.test.util.AssertionErrors;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 //@Disabled
@@ -156,6 +164,38 @@ public class SampleMapperControllerTest {
 				});
 	}
 
+	@Test
+	void t09cvs() throws Exception {
+		String expected = mvc.perform(get(SampleMapperRestController.PATH + "/cvs")
+						.param("fieldNames", "id,state")
+						.param("header", "아이디,상태")
+						.param("sort", "id")
+						.param("charsetName", "UTF-8"))
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse()
+				.getContentAsString(StandardCharsets.UTF_8);
+
+		log.debug(LoggingConfig.ONE_LINE_100);
+		MvcResult result = mvc.perform(get(SampleMapperRestController.PATH + "/cvs")
+						.param("stream", "true")
+						.param("fieldNames", "id,state")
+						.param("header", "아이디,상태")
+						.param("sort", "id")
+						.param("charsetName", "UTF-8"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		String actual = mvc.perform(asyncDispatch(result))
+				.andDo(print())
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse()
+				.getContentAsString(StandardCharsets.UTF_8);
+		log.debug("result: {}", actual);
+		AssertionErrors.assertTrue("", actual.startsWith("아이디,상태\n"));
+		AssertionErrors.assertEquals("", expected, actual);
+	}
+
 	///////////////////////////////////////////////////////////////////////////
 
 	@Test
@@ -239,6 +279,109 @@ public class SampleMapperControllerTest {
 				.andExpect(status().isOk());
 	}
 
+	@Test
+	void t14insertBatch() throws Exception {
+		String mapper = service.mapper();
+		Assertions.assertTrue(mapper.contains("\"insertAll\"") && mapper.contains("\"updateAll\"")
+				&& mapper.contains("\"deleteAll\"") && mapper.contains("\"findIds\""));
+
+		List<Sample> entities = ImmutableList.of(JsonUtil.copy(SampleDbServiceTest.ENTITY, Sample.class),
+				Sample.builder()
+						.name(SampleDbServiceTest.ENTITY.getName())
+						.build(),
+				JsonUtil.copy(SampleDbServiceTest.ENTITY, Sample.class));
+		List<Sample> result = ImmutableList.copyOf(service.insertBatch(entities, 2));
+		log.debug("result: {}", JsonUtil.toPrettyString(result.toString()));
+		result.forEach(e -> Assertions.assertNotNull(e.getId()));
+		Assertions.assertNull(service.findById(result.get(1).getId()).getDescp());
+		Assertions.assertEquals(State.ACTIVE, service.findById(result.get(1).getId()).getState());
+
+		log.debug(LoggingConfig.ONE_LINE_100);
+		State state = State.DELETED;
+		List<Sample> updates = result.stream()
+				.map(e -> Sample.builder()
+						.id(e.getId())
+						.state(state)
+						.build())
+				.collect(Collectors.toList());
+		service.updateBatch(updates, 2);
+		result.forEach(e -> {
+			Sample temp = service.findById(e.getId());
+			Assertions.assertEquals(state, temp.getState());
+			Assertions.assertEquals(SampleDbServiceTest.ENTITY.getName(), temp.getName());
+		});
+
+		log.debug(LoggingConfig.ONE_LINE_100);
+		List<Sample> notFounds = ImmutableList.of(updates.get(0), Sample.builder()
+				.id(-1L)
+				.state(state)
+				.build());
+		CommonException e = Assertions.assertThrows(CommonException.class, () -> service.updateBatch(notFounds));
+		log.debug(e.getMessage());
+		Assertions.assertEquals(CommonError.COM_NOT_FOUND, e.getError());
+		Assertions.assertTrue(e.getMessage().contains("[-1]"));
+		Assertions.assertEquals(notFounds.size(), service.update(notFounds).size());
+
+		log.debug(LoggingConfig.ONE_LINE_100);
+		List<Sample> duplicates = ImmutableList.of(Sample.builder()
+						.id(result.get(0).getId())
+						.name("name")
+						.build(),
+				Sample.builder()
+						.id(result.get(0).getId())
+						.descp("descp")
+						.build());
+		service.updateBatch(duplicates);
+		Sample duplicate = service.findById(result.get(0).getId());
+		Assertions.assertEquals("name", duplicate.getName());
+		Assertions.assertEquals("descp", duplicate.getDescp());
+
+		log.debug(LoggingConfig.ONE_LINE_100);
+		service.deleteAll(ImmutableList.of(Sample.builder()
+				.id(result.get(0).getId())
+				.state(State.ACTIVE)
+				.build()));
+		Assertions.assertTrue(service.exists(result.get(0).getId()));
+		service.deleteAll(result.stream()
+				.map(a -> Sample.builder()
+						.id(a.getId())
+						.build())
+				.collect(Collectors.toList()));
+		result.forEach(a -> Assertions.assertFalse(service.exists(a.getId())));
+	}
+
+	@Test
+	void t15findSeekPage() throws Exception {
+		String next = JsonUtil.readTree(mvc.perform(get(SampleMapperRestController.PATH + "/page")
+								.param("cursor", "")
+								.param("psize", "1")
+								.param("count", "true")
+								.param("sort", "state")
+								.param("sort", "id,DESC"))
+						.andDo(print())
+						.andExpect(status().isOk())
+						.andExpect(jsonPath("$.content.length()").value(1))
+						.andExpect(jsonPath("$.total", Matchers.greaterThan(1)))
+						.andExpect(jsonPath("$.prev").doesNotExist())
+						.andReturn()
+						.getResponse()
+						.getContentAsString())
+				.get("next")
+				.asText();
+
+		log.debug(LoggingConfig.ONE_LINE_100);
+		mvc.perform(get(SampleMapperRestController.PATH + "/page")
+						.param("cursor", next)
+						.param("psize", "1")
+						.param("sort", "state")
+						.param("sort", "id,DESC"))
+				.andDo(print())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content.length()").value(1))
+				.andExpect(jsonPath("$.total").doesNotExist())
+				.andExpect(jsonPath("$.prev").exists());
+	}
+
 	///////////////////////////////////////////////////////////////////////////
 
 	@Test
@@ -1,16 +1,22 @@
 package org.oh.sample.service;
 
 import com.google.common.collect.ImmutableList;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.oh.common.config.AopConfig;
 import org.oh.common.config.LoggingConfig;
 import org.oh.common.config.ServiceTest;
 import org.oh.common.exception.CommonError;
 import org.oh.common.exception.CommonException;
 import org.oh.common.model.data.Condition;
 import org.oh.common.model.data.Paging;
+import org.oh.common.model.data.SeekPage;
+import org.oh.common.model.data.Seeking;
 import org.oh.common.model.data.Sorting;
 import org.oh.common.model.enume.State;
 import org.oh.common.util.JsonUtil;
@@ -53,6 +59,8 @@ public class SampleDbServiceTest {
 
 	@Autowired
 	private SampleDbService service;
+	@Autowired
+	private MeterRegistry registry;
 
 	@BeforeEach
 	void before() {
@@ -202,6 +210,153 @@ public class SampleDbServiceTest {
 		service.delete(entityResult2);
 	}
 
+	@Test
+	void t14insertBatch() {
+		List<Sample> entities = ImmutableList.of(JsonUtil.copy(ENTITY, Sample.class),
+				JsonUtil.copy(ENTITY, Sample.class), JsonUtil.copy(ENTITY, Sample.class));
+		List<Sample> result = ImmutableList.copyOf(service.insertBatch(entities, 2));
+		log.debug("result: {}", JsonUtil.toPrettyString(result.toString()));
+		Assertions.assertEquals(entities.size(), result.size());
+		result.forEach(e -> Assertions.assertTrue(e.getId() > 0));
+
+		log.debug(LoggingConfig.ONE_LINE_100);
+		Sample entityTemp = JsonUtil.copy(ENTITY, Sample.class);
+		entityTemp.setId(result.get(0).getId());
+		CommonException e = Assertions.assertThrows(CommonException.class, () ->
+				service.insertBatch(ImmutableList.of(entityTemp, JsonUtil.copy(ENTITY, Sample.class))));
+		log.debug(e.getMessage());
+		Assertions.assertEquals(CommonError.COM_ALREADY_EXISTS, e.getError());
+
+		service.deleteAll(result);
+	}
+
+	@Test
+	void t15updateBatch() {
+		List<Sample> entities = ImmutableList.copyOf(service.insertBatch(ImmutableList.of(
+				JsonUtil.copy(ENTITY, Sample.class), JsonUtil.copy(ENTITY, Sample.class))));
+		State state = State.DELETED;
+		List<Sample> updates = ImmutableList.of(
+				Sample.builder()
+						.id(entities.get(0).getId())
+						.state(state)
+						.build(),
+				Sample.builder()
+						.id(entities.get(1).getId())
+						.nulls(ImmutableList.of("descp"))
+						.build());
+		log.debug("entities: {}", JsonUtil.toPrettyString(updates.toString()));
+		List<Sample> result = service.updateBatch(updates, 1);
+		log.debug("result: {}", JsonUtil.toPrettyString(result.toString()));
+		Assertions.assertEquals(state, service.findById(entities.get(0).getId()).getState());
+		Assertions.assertEquals(ENTITY.getDescp(), service.findById(entities.get(0).getId()).getDescp());
+		Assertions.assertNull(service.findById(entities.get(1).getId()).getDescp());
+
+		log.debug(LoggingConfig.ONE_LINE_100);
+		List<Sample> notFounds = ImmutableList.of(
+				Sample.builder()
+						.id(entities.get(0).getId())
+						.build(),
+				Sample.builder()
+						.id(-1L)
+						.build());
+		CommonException e = Assertions.assertThrows(CommonException.class, () ->
+				service.updateBatch(notFounds));
+		log.debug(e.getMessage());
+		Assertions.assertEquals(CommonError.COM_NOT_FOUND, e.getError());
+
+		service.deleteAll(entities);
+	}
+
+	@Test
+	void t16findSeekPage() {
+		Sample search = Sample.builder()
+				.name("커서" + System.currentTimeMillis())
+				.build();
+		List<Sample> entities = ImmutableList.copyOf(service.insertBatch(ImmutableList.of(
+				JsonUtil.copy(search, Sample.class), JsonUtil.copy(search, Sample.class),
+				JsonUtil.copy(search, Sample.class))));
+		Seeking page = Seeking.builder()
+				.psize(2)
+				.count(true)
+				.sort(new String[]{"state", "id," + Sort.Direction.DESC})
+				.build();
+		SeekPage<Sample> result = service.findPageOrEmpty(search, page);
+		log.debug("result: {}", JsonUtil.toPrettyString(result));
+		Assertions.assertEquals(2, result.getContent().size());
+		Assertions.assertEquals(entities.get(2).getId(), result.getContent().get(0).getId());
+		Assertions.assertEquals(Long.valueOf(entities.size()), result.getTotal());
+		Assertions.assertNull(result.getPrev());
+
+		log.debug(LoggingConfig.ONE_LINE_100);
+		page.setCursor(result.getNext());
+		page.setCount(false);
+		result = service.findPageOrEmpty(search, page);
+		log.debug("result: {}", JsonUtil.toPrettyString(result));
+		Assertions.assertEquals(1, result.getContent().size());
+		Assertions.assertEquals(entities.get(0).getId(), result.getContent().get(0).getId());
+		Assertions.assertNull(result.getNext());
+
+		log.debug(LoggingConfig.ONE_LINE_100);
+		page.setCursor(result.getPrev());
+		result = service.findPageOrEmpty(search, page);
+		log.debug("result: {}", JsonUtil.toPrettyString(result));
+		Assertions.assertEquals(2, result.getContent().size());
+		Assertions.assertEquals(entities.get(2).getId(), result.getContent().get(0).getId());
+		Assertions.assertNull(result.getPrev());
+
+		log.debug(LoggingConfig.ONE_LINE_100);
+		page.setCursor("invalid");
+		CommonException e = Assertions.assertThrows(CommonException.class, () ->
+				service.findPageOrEmpty(search, page));
+		log.debug(e.getMessage());
+		Assertions.assertEquals(CommonError.COM_INVALID_ARGUMENT, e.getError());
+
+		log.debug(LoggingConfig.ONE_LINE_100);
+		page.setCursor(result.getNext());
+		page.setSort(new String[]{"state", "id"});
+		e = Assertions.assertThrows(CommonException.class, () -> service.findPageOrEmpty(search, page));
+		log.debug(e.getMessage());
+		Assertions.assertEquals(CommonError.COM_INVALID_ARGUMENT, e.getError());
+
+		service.deleteAll(entities);
+	}
+
+	@Test
+	void t17metrics() {
+		double count = count("count");
+		service.count(entity2);
+		Assertions.assertEquals(count + 1, count("count"));
+
+		log.debug(LoggingConfig.ONE_LINE_100);
+		// 내부(self) 호출은 바깥 메소드만 기록
+		double findAll = count("findAllOrEmpty");
+		service.findAllOrEmpty(entity2);
+		Assertions.assertEquals(findAll + 1, count("findAllOrEmpty"));
+
+		log.debug(LoggingConfig.ONE_LINE_100);
+		DistributionSummary summary = registry.find(AopConfig.METRIC_CRUD + ".batch.size")
+				.tags("class", SampleDbService.class.getSimpleName(), "method", "insertBatch")
+				.summary();
+		long batches = summary == null ? 0 : summary.count();
+		double total = summary == null ? 0 : summary.totalAmount();
+		List<Sample> entities = ImmutableList.copyOf(service.insertBatch(ImmutableList.of(
+				JsonUtil.copy(ENTITY, Sample.class), JsonUtil.copy(ENTITY, Sample.class))));
+		service.deleteAll(entities);
+		summary = registry.find(AopConfig.METRIC_CRUD + ".batch.size")
+				.tags("class", SampleDbService.class.getSimpleName(), "method", "insertBatch")
+				.summary();
+		Assertions.assertNotNull(summary);
+		Assertions.assertEquals(batches + 1, summary.count());
+		Assertions.assertEquals(total + 2, summary.totalAmount());
+	}
+
+	private double count(String method) {
+		Timer timer = registry.find(AopConfig.METRIC_CRUD)
+				.tags("class", SampleDbService.class.getSimpleName(), "method", method, "error", "none")
+				.timer();
+		return timer == null ? 0 : timer.count();
+	}
+
 	///////////////////////////////////////////////////////////////////////////
 
 	@Test